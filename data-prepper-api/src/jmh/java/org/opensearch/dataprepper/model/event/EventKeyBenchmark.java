@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads and writes a field of an event as a processor does for every event, comparing the {@link String} accessors,
+ * which validate and parse the key on each call, with the {@link EventKey} accessors, which use a key parsed once.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class EventKeyBenchmark {
+    @Param({"message", "/request/http/status"})
+    private String key;
+
+    private EventKey eventKey;
+    private Event event;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        eventKey = EventKeyFactory.create(key);
+        final Map<String, Object> data = new HashMap<>();
+        data.put("message", "127.0.0.1 GET /index.html 200");
+        data.put("request", Map.of("http", Map.of("status", 200)));
+        event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(data)
+                .build();
+    }
+
+    @Benchmark
+    public Object get_with_string_key() {
+        return event.get(key, Object.class);
+    }
+
+    @Benchmark
+    public Object get_with_event_key() {
+        return event.get(eventKey, Object.class);
+    }
+
+    @Benchmark
+    public Event put_with_string_key() {
+        event.put(key, "value");
+        return event;
+    }
+
+    @Benchmark
+    public Event put_with_event_key() {
+        event.put(eventKey, "value");
+        return event;
+    }
+
+    @Benchmark
+    public boolean containsKey_with_string_key() {
+        return event.containsKey(key);
+    }
+
+    @Benchmark
+    public boolean containsKey_with_event_key() {
+        return event.containsKey(eventKey);
+    }
+}
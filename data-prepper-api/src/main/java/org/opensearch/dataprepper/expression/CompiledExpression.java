@@ -0,0 +1,42 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * @since 2.4
+ * A statement which an {@link ExpressionEvaluator} has parsed once so that it can be evaluated against many events
+ * without parsing it again. Implementations must be safe to evaluate from multiple threads at the same time.
+ */
+public interface CompiledExpression {
+
+    /**
+     * @since 2.4
+     * Evaluate the compiled statement, resolving external references with the provided context.
+     *
+     * @param context event used to resolve external references in the statement
+     * @return result of statement evaluation
+     */
+    Object evaluate(final Event context);
+
+    /**
+     * @since 2.4
+     * Evaluate the compiled statement as a condition.
+     *
+     * @param context event used to resolve external references in the statement
+     * @return result of statement evaluation
+     * @throws ClassCastException if the statement does not evaluate to a {@link Boolean}
+     */
+    default Boolean evaluateConditional(final Event context) {
+        final Object result = evaluate(context);
+        if (result instanceof Boolean) {
+            return (Boolean) result;
+        } else {
+            throw new ClassCastException("Unexpected expression return type of " + result.getClass());
+        }
+    }
+}
@@ -24,6 +24,19 @@ public interface ExpressionEvaluator {
      */
     Object evaluate(final String statement, final Event context);
 
+    /**
+     * @since 2.4
+     * Parse the statement string once so that it can be evaluated against many events. Callers which evaluate the same
+     * statement for every event should compile it once and keep the {@link CompiledExpression}. Implementations may
+     * defer reporting an invalid statement until the compiled expression is evaluated.
+     *
+     * @param statement string to be parsed
+     * @return a thread-safe expression which evaluates the statement
+     */
+    default CompiledExpression compile(final String statement) {
+        return context -> evaluate(statement, context);
+    }
+
     default Boolean evaluateConditional(final String statement, final Event context) {
         final Object result = evaluate(statement, context);
         if (result instanceof Boolean) {
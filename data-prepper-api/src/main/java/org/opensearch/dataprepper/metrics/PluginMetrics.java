@@ -8,6 +8,7 @@ package org.opensearch.dataprepper.metrics;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 
@@ -78,6 +79,10 @@ public class PluginMetrics {
         return Metrics.gauge(getMeterName(name), obj, valueFunction);
     }
 
+    public <T> T gaugeWithTags(final String name, final T obj, final ToDoubleFunction<T> valueFunction, final String... tags) {
+        return Metrics.gauge(getMeterName(name), Tags.of(tags), obj, valueFunction);
+    }
+
     private String getMeterName(final String name) {
         return new StringJoiner(MetricNames.DELIMITER).add(metricsPrefix).add(name).toString();
     }
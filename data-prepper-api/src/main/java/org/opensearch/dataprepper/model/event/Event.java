@@ -31,6 +31,17 @@ public interface Event extends Serializable {
      */
     void put(String key, Object value);
 
+    /**
+     * Adds or updates the key with a given value in the Event
+     *
+     * @param key where the value will be set
+     * @param value value to set the key to
+     * @since 2.4
+     */
+    default void put(EventKey key, Object value) {
+        put(key.getKey(), value);
+    }
+
     /**
      * Retrieves the given key from the Event
      *
@@ -42,6 +53,19 @@ public interface Event extends Serializable {
      */
     <T> T get(String key, Class<T> clazz);
 
+    /**
+     * Retrieves the given key from the Event
+     *
+     * @param key the value to retrieve from
+     * @param clazz the return type of the value
+     * @param <T> The type
+     * @return T a clazz object from the key
+     * @since 2.4
+     */
+    default <T> T get(EventKey key, Class<T> clazz) {
+        return get(key.getKey(), clazz);
+    }
+
     /**
      * Retrieves the given key from the Event as a List
      *
@@ -53,6 +77,19 @@ public interface Event extends Serializable {
      */
     <T> List<T> getList(String key, Class<T> clazz);
 
+    /**
+     * Retrieves the given key from the Event as a List
+     *
+     * @param key the value to retrieve from
+     * @param clazz the return type of elements in the list
+     * @param <T> The type
+     * @return {@literal List<T>} a list of clazz elements
+     * @since 2.4
+     */
+    default <T> List<T> getList(EventKey key, Class<T> clazz) {
+        return getList(key.getKey(), clazz);
+    }
+
     /**
      * Deletes the given key from the Event
      * @param key the field to be deleted
@@ -60,6 +97,15 @@ public interface Event extends Serializable {
      */
     void delete(String key);
 
+    /**
+     * Deletes the given key from the Event
+     * @param key the field to be deleted
+     * @since 2.4
+     */
+    default void delete(EventKey key) {
+        delete(key.getKey());
+    }
+
     /**
      * Generates a serialized Json string of the entire Event
      * @return Json string of the event
@@ -90,6 +136,16 @@ public interface Event extends Serializable {
      */
     boolean containsKey(String key);
 
+    /**
+     * Checks if the key exists.
+     * @param key the key to look for
+     * @return returns true if the key exists, otherwise false
+     * @since 2.4
+     */
+    default boolean containsKey(EventKey key) {
+        return containsKey(key.getKey());
+    }
+
     /**
      * Checks if the value stored for the key is list
      * @param key name of the key to look for
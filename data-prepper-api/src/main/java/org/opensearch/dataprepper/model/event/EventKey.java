@@ -0,0 +1,145 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.core.JsonPointer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A key into an {@link Event} which has been validated and parsed once, so that it can be used to access many events
+ * without validating and parsing the key again. Plugins which access the same keys for every event should create them
+ * with {@link EventKeyFactory#create(String)} when they are constructed.
+ *
+ * @since 2.4
+ */
+public final class EventKey {
+    static final String SEPARATOR = "/";
+
+    static final int MAX_KEY_LENGTH = 2048;
+
+    private final String key;
+    private final JsonPointer jsonPointer;
+    private final String[] keyPath;
+    private final JsonPointer parentJsonPointer;
+    private final String leafKey;
+
+    EventKey(final String key) {
+        final String trimmedKey = checkAndTrimKey(key);
+        this.key = key;
+        jsonPointer = toJsonPointer(trimmedKey);
+        keyPath = trimmedKey.split(SEPARATOR);
+
+        final int index = trimmedKey.lastIndexOf(SEPARATOR);
+        parentJsonPointer = index != -1 ? toJsonPointer(trimmedKey.substring(0, index)) : null;
+        leafKey = trimmedKey.substring(index + 1);
+    }
+
+    /**
+     * @return the key this was created from
+     * @since 2.4
+     */
+    public String getKey() {
+        return key;
+    }
+
+    JsonPointer getJsonPointer() {
+        return jsonPointer;
+    }
+
+    String[] getKeyPath() {
+        return keyPath;
+    }
+
+    /**
+     * @return the pointer to the node which holds the leaf key, or null if the leaf key is at the root of the event
+     */
+    JsonPointer getParentJsonPointer() {
+        return parentJsonPointer;
+    }
+
+    String getLeafKey() {
+        return leafKey;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        return key.equals(((EventKey) other).key);
+    }
+
+    @Override
+    public int hashCode() {
+        return key.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+
+    static JsonPointer toJsonPointer(final String trimmedKey) {
+        return JsonPointer.compile(SEPARATOR + trimmedKey);
+    }
+
+    static String checkAndTrimKey(final String key) {
+        checkKey(key);
+        return trimKey(key);
+    }
+
+    private static void checkKey(final String key) {
+        checkNotNull(key, "key cannot be null");
+        checkArgument(!key.isEmpty(), "key cannot be an empty string");
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("key cannot be longer than " + MAX_KEY_LENGTH + " characters");
+        }
+        if (!isValidKey(key)) {
+            throw new IllegalArgumentException("key " + key + " must contain only alphanumeric chars with .-_ and must follow JsonPointer (ie. 'field/to/key')");
+        }
+    }
+
+    private static String trimKey(final String key) {
+
+        final String trimmedLeadingSlash = key.startsWith(SEPARATOR) ? key.substring(1) : key;
+        return trimmedLeadingSlash.endsWith(SEPARATOR) ? trimmedLeadingSlash.substring(0, trimmedLeadingSlash.length() - 1) : trimmedLeadingSlash;
+    }
+
+    private static boolean isValidKey(final String key) {
+        char previous = ' ';
+        char next = ' ';
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+
+            if (i < key.length() - 1) {
+                next = key.charAt(i + 1);
+            }
+
+            if ((i == 0 || i == key.length() - 1 || previous == '/' || next == '/') && (c == '_' || c == '.' || c == '-')) {
+                return false;
+            }
+
+            if (!(c >= 48 && c <= 57
+                    || c >= 65 && c <= 90
+                    || c >= 97 && c <= 122
+                    || c == '.'
+                    || c == '-'
+                    || c == '_'
+                    || c == '@'
+                    || c == '/')) {
+
+                return false;
+            }
+            previous = c;
+        }
+        return true;
+    }
+}
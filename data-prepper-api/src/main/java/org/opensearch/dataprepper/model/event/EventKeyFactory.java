@@ -0,0 +1,30 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+/**
+ * Creates {@link EventKey} instances.
+ *
+ * @since 2.4
+ */
+public final class EventKeyFactory {
+    private EventKeyFactory() {
+    }
+
+    /**
+     * Validates and parses a key into an {@link Event}. The key follows the same rules as the keys given to
+     * {@link Event#get(String, Class)}.
+     *
+     * @param key the key, for example "/fizz/buzz"
+     * @return the parsed key
+     * @throws IllegalArgumentException if the key is not a valid event key
+     * @throws NullPointerException if the key is null
+     * @since 2.4
+     */
+    public static EventKey create(final String key) {
+        return new EventKey(key);
+    }
+}
@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.model.event;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -12,6 +13,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
@@ -23,14 +25,13 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.time.Instant;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
-import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -46,6 +47,11 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * "buzz": 42
  * }
  * }
+ * <p>
+ * Copies made with {@link #fromEvent(Event)} share the underlying JsonNode tree with the event they were copied from.
+ * After a copy, neither event modifies a container node in place unless it created that node itself; a shared
+ * container is first copied, together with the containers above it, so a copy costs only the parts of the tree which
+ * are later changed.
  *
  * @since 1.2
  */
@@ -66,9 +72,18 @@ public class JacksonEvent implements Event {
 
     private EventHandle eventHandle;
 
-    private final JsonNode jsonNode;
+    /**
+     * Volatile so that a tree created by {@link #createJsonNode()} on one thread is fully visible to the others.
+     */
+    private volatile JsonNode jsonNode;
+
+    /**
+     * The container nodes of {@link #jsonNode} which only this event references. Null when the event has never been
+     * copied, in which case it owns the whole tree. Transient, as a deserialized event has a tree of its own.
+     */
+    private transient Set<JsonNode> ownedNodes;
 
-    static final int MAX_KEY_LENGTH = 2048;
+    static final int MAX_KEY_LENGTH = EventKey.MAX_KEY_LENGTH;
 
     static final String MESSAGE_KEY = "message";
 
@@ -90,10 +105,22 @@ public class JacksonEvent implements Event {
     }
 
     protected JacksonEvent(final JacksonEvent otherEvent) {
-        this.jsonNode = otherEvent.jsonNode.deepCopy();
+        otherEvent.ownedNodes = newIdentitySet();
+        this.jsonNode = otherEvent.getJsonNode();
+        this.ownedNodes = newIdentitySet();
         this.eventMetadata = DefaultEventMetadata.fromEventMetadata(otherEvent.eventMetadata);
     }
 
+    /**
+     * Constructs an event whose tree is created by {@link #createJsonNode()} when the event data is first accessed.
+     *
+     * @param eventMetadata the metadata of the event
+     * @since 2.4
+     */
+    protected JacksonEvent(final EventMetadata eventMetadata) {
+        this.eventMetadata = checkNotNull(eventMetadata, "eventMetadata cannot be null");
+    }
+
     public static Event fromMessage(String message) {
         return JacksonEvent.builder()
                 .withEventType(EVENT_TYPE)
@@ -111,14 +138,99 @@ public class JacksonEvent implements Event {
             } catch (final JsonProcessingException e) {
                 throw new IllegalArgumentException("Unable to convert data into an event");
             }
+        } else if (data instanceof JsonNode) {
+            return (JsonNode) data;
         }
         return mapper.valueToTree(data);
     }
 
+    private static Set<JsonNode> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
     protected JsonNode getJsonNode() {
+        final JsonNode node = jsonNode;
+        return node != null ? node : createJsonNodeOnce();
+    }
+
+    private synchronized JsonNode createJsonNodeOnce() {
+        if (jsonNode == null) {
+            jsonNode = createJsonNode();
+        }
         return jsonNode;
     }
 
+    /**
+     * Creates the tree of an event constructed with {@link #JacksonEvent(EventMetadata)}. It is called once, when the
+     * event data is first accessed, while holding the lock of the event, even if several threads read the event.
+     *
+     * @return the tree of the event
+     * @since 2.4
+     */
+    protected JsonNode createJsonNode() {
+        return mapper.createObjectNode();
+    }
+
+    /**
+     * Returns the root node, replacing it with a shallow copy first if it is shared with another event.
+     */
+    private JsonNode getWritableRoot() {
+        final JsonNode root = getJsonNode();
+        final JsonNode writableRoot = toWritableNode(root);
+        if (writableRoot != root) {
+            jsonNode = writableRoot;
+        }
+        return writableRoot;
+    }
+
+    /**
+     * Returns the node at the pointer, copying every shared container on the way to it so that the returned node
+     * can be modified.
+     *
+     * @return the node, or a missing node if there is none at the pointer
+     */
+    private JsonNode getWritableNode(final JsonPointer jsonPointer) {
+        JsonNode node = getWritableRoot();
+        for (JsonPointer pointer = jsonPointer; !pointer.matches(); pointer = pointer.tail()) {
+            final JsonNode childNode;
+            if (node.isObject()) {
+                childNode = node.get(pointer.getMatchingProperty());
+            } else if (node.isArray()) {
+                childNode = node.get(pointer.getMatchingIndex());
+            } else {
+                childNode = null;
+            }
+            if (childNode == null) {
+                return MissingNode.getInstance();
+            }
+            node = toWritableChildNode(node, pointer, childNode);
+        }
+        return node;
+    }
+
+    private JsonNode toWritableChildNode(final JsonNode parentNode, final JsonPointer pointer, final JsonNode childNode) {
+        final JsonNode writableNode = toWritableNode(childNode);
+        if (writableNode != childNode) {
+            if (parentNode.isObject()) {
+                ((ObjectNode) parentNode).set(pointer.getMatchingProperty(), writableNode);
+            } else {
+                ((ArrayNode) parentNode).set(pointer.getMatchingIndex(), writableNode);
+            }
+        }
+        return writableNode;
+    }
+
+    private JsonNode toWritableNode(final JsonNode node) {
+        if (ownedNodes == null || !node.isContainerNode() || ownedNodes.contains(node)) {
+            return node;
+        }
+        final JsonNode copy = node.isObject()
+                ? mapper.createObjectNode().setAll((ObjectNode) node)
+                : mapper.createArrayNode().addAll((ArrayNode) node);
+        ownedNodes.add(copy);
+        return copy;
+    }
+
     /**
      * Adds or updates the key with a given value in the Event.
      *
@@ -129,22 +241,34 @@ public class JacksonEvent implements Event {
     @Override
     public void put(final String key, final Object value) {
 
-        final String trimmedKey = checkAndTrimKey(key);
+        final String trimmedKey = EventKey.checkAndTrimKey(key);
+
+        putAtPath(trimmedKey.split(SEPARATOR), value);
+    }
 
-        final LinkedList<String> keys = new LinkedList<>(Arrays.asList(trimmedKey.split(SEPARATOR)));
+    /**
+     * Adds or updates the key with a given value in the Event.
+     *
+     * @param key   where the value will be set
+     * @param value value to set the key to
+     * @since 2.4
+     */
+    @Override
+    public void put(final EventKey key, final Object value) {
+        putAtPath(key.getKeyPath(), value);
+    }
 
-        JsonNode parentNode = jsonNode;
+    private void putAtPath(final String[] keyPath, final Object value) {
+        JsonNode parentNode = getWritableRoot();
 
-        while (!keys.isEmpty()) {
-            if (keys.size() == 1) {
-                setNode(parentNode, keys.removeFirst(), value);
-            } else {
-                final String childKey = keys.removeFirst();
-                if (!childKey.isEmpty()) {
-                    parentNode = getOrCreateNode(parentNode, childKey);
-                }
+        final int leafIndex = keyPath.length - 1;
+        for (int i = 0; i < leafIndex; i++) {
+            final String childKey = keyPath[i];
+            if (!childKey.isEmpty()) {
+                parentNode = getOrCreateNode(parentNode, childKey);
             }
         }
+        setNode(parentNode, keyPath[leafIndex], value);
     }
 
     public void setEventHandle(EventHandle handle) {
@@ -170,6 +294,15 @@ public class JacksonEvent implements Event {
         if (childNode == null) {
             childNode = mapper.createObjectNode();
             ((ObjectNode) node).set(key, childNode);
+            if (ownedNodes != null) {
+                ownedNodes.add(childNode);
+            }
+        } else {
+            final JsonNode writableNode = toWritableNode(childNode);
+            if (writableNode != childNode) {
+                ((ObjectNode) node).set(key, writableNode);
+                childNode = writableNode;
+            }
         }
         return childNode;
     }
@@ -186,7 +319,7 @@ public class JacksonEvent implements Event {
     @Override
     public <T> T get(final String key, final Class<T> clazz) {
 
-        final String trimmedKey = checkAndTrimKey(key);
+        final String trimmedKey = EventKey.checkAndTrimKey(key);
 
         final JsonNode node = getNode(trimmedKey);
         if (node.isMissingNode()) {
@@ -196,9 +329,28 @@ public class JacksonEvent implements Event {
         return mapNodeToObject(key, node, clazz);
     }
 
+    /**
+     * Retrieves the value of type clazz from the key.
+     *
+     * @param key   the value to retrieve from
+     * @param clazz the return type of the value
+     * @return the value
+     * @throws RuntimeException if it is unable to map the value to the provided clazz
+     * @since 2.4
+     */
+    @Override
+    public <T> T get(final EventKey key, final Class<T> clazz) {
+        final JsonNode node = getJsonNode().at(key.getJsonPointer());
+        if (node.isMissingNode()) {
+            return null;
+        }
+
+        return mapNodeToObject(key.getKey(), node, clazz);
+    }
+
     private JsonNode getNode(final String key) {
-        final JsonPointer jsonPointer = toJsonPointer(key);
-        return jsonNode.at(jsonPointer);
+        final JsonPointer jsonPointer = EventKey.toJsonPointer(key);
+        return getJsonNode().at(jsonPointer);
     }
 
     private <T> T mapNodeToObject(final String key, final JsonNode node, final Class<T> clazz) {
@@ -222,7 +374,7 @@ public class JacksonEvent implements Event {
     @Override
     public <T> List<T> getList(final String key, final Class<T> clazz) {
 
-        final String trimmedKey = checkAndTrimKey(key);
+        final String trimmedKey = EventKey.checkAndTrimKey(key);
 
         final JsonNode node = getNode(trimmedKey);
         if (node.isMissingNode()) {
@@ -232,6 +384,25 @@ public class JacksonEvent implements Event {
         return mapNodeToList(key, node, clazz);
     }
 
+    /**
+     * Retrieves the given key from the Event as a List
+     *
+     * @param key   the value to retrieve from
+     * @param clazz the return type of elements in the list
+     * @return a List of clazz
+     * @throws RuntimeException if it is unable to map the elements in the list to the provided clazz
+     * @since 2.4
+     */
+    @Override
+    public <T> List<T> getList(final EventKey key, final Class<T> clazz) {
+        final JsonNode node = getJsonNode().at(key.getJsonPointer());
+        if (node.isMissingNode()) {
+            return null;
+        }
+
+        return mapNodeToList(key.getKey(), node, clazz);
+    }
+
     private <T> List<T> mapNodeToList(final String key, final JsonNode node, final Class<T> clazz) {
         try {
             final ObjectReader reader = mapper.readerFor(TypeFactory.defaultInstance().constructCollectionType(List.class, clazz));
@@ -242,11 +413,6 @@ public class JacksonEvent implements Event {
         }
     }
 
-    private JsonPointer toJsonPointer(final String key) {
-        String jsonPointerExpression = SEPARATOR + key;
-        return JsonPointer.compile(jsonPointerExpression);
-    }
-
     /**
      * Deletes the key from the event.
      *
@@ -255,18 +421,38 @@ public class JacksonEvent implements Event {
     @Override
     public void delete(final String key) {
 
-        final String trimmedKey = checkAndTrimKey(key);
+        final String trimmedKey = EventKey.checkAndTrimKey(key);
         final int index = trimmedKey.lastIndexOf(SEPARATOR);
 
-        JsonNode baseNode = jsonNode;
+        JsonNode baseNode;
         String leafKey = trimmedKey;
 
         if (index != -1) {
-            final JsonPointer jsonPointer = toJsonPointer(trimmedKey.substring(0, index));
-            baseNode = jsonNode.at(jsonPointer);
+            final JsonPointer jsonPointer = EventKey.toJsonPointer(trimmedKey.substring(0, index));
+            baseNode = getWritableNode(jsonPointer);
             leafKey = trimmedKey.substring(index + 1);
+        } else {
+            baseNode = getWritableRoot();
         }
 
+        deleteFromNode(baseNode, leafKey);
+    }
+
+    /**
+     * Deletes the key from the event.
+     *
+     * @param key the field to be deleted
+     * @since 2.4
+     */
+    @Override
+    public void delete(final EventKey key) {
+        final JsonPointer parentJsonPointer = key.getParentJsonPointer();
+        final JsonNode baseNode = parentJsonPointer != null ? getWritableNode(parentJsonPointer) : getWritableRoot();
+
+        deleteFromNode(baseNode, key.getLeafKey());
+    }
+
+    private void deleteFromNode(final JsonNode baseNode, final String leafKey) {
         if (!baseNode.isMissingNode()) {
             ((ObjectNode) baseNode).remove(leafKey);
         }
@@ -274,12 +460,24 @@ public class JacksonEvent implements Event {
 
     @Override
     public String toJsonString() {
-        return jsonNode.toString();
+        return getJsonNode().toString();
+    }
+
+    /**
+     * Writes the data of the event to a generator of any Jackson data format, without first converting it into a
+     * string or a map.
+     *
+     * @param generator the generator to write the data to
+     * @throws IOException if the data could not be written
+     * @since 2.4
+     */
+    public void writeData(final JsonGenerator generator) throws IOException {
+        mapper.writeTree(generator, getJsonNode());
     }
 
     @Override
     public String getAsJsonString(final String key) {
-        final String trimmedKey = checkAndTrimKey(key);
+        final String trimmedKey = EventKey.checkAndTrimKey(key);
 
         final JsonNode node = getNode(trimmedKey);
         if (node.isMissingNode()) {
@@ -329,16 +527,21 @@ public class JacksonEvent implements Event {
     @Override
     public boolean containsKey(final String key) {
 
-        final String trimmedKey = checkAndTrimKey(key);
+        final String trimmedKey = EventKey.checkAndTrimKey(key);
 
         final JsonNode node = getNode(trimmedKey);
 
         return !node.isMissingNode();
     }
 
+    @Override
+    public boolean containsKey(final EventKey key) {
+        return !getJsonNode().at(key.getJsonPointer()).isMissingNode();
+    }
+
     @Override
     public boolean isValueAList(final String key) {
-        final String trimmedKey = checkAndTrimKey(key);
+        final String trimmedKey = EventKey.checkAndTrimKey(key);
 
         final JsonNode node = getNode(trimmedKey);
 
@@ -347,59 +550,7 @@ public class JacksonEvent implements Event {
 
     @Override
     public Map<String, Object> toMap() {
-        return mapper.convertValue(jsonNode, MAP_TYPE_REFERENCE);
-    }
-
-    private String checkAndTrimKey(final String key) {
-        checkKey(key);
-        return trimKey(key);
-    }
-
-    private void checkKey(final String key) {
-        checkNotNull(key, "key cannot be null");
-        checkArgument(!key.isEmpty(), "key cannot be an empty string");
-        if (key.length() > MAX_KEY_LENGTH) {
-            throw new IllegalArgumentException("key cannot be longer than " + MAX_KEY_LENGTH + " characters");
-        }
-        if (!isValidKey(key)) {
-            throw new IllegalArgumentException("key " + key + " must contain only alphanumeric chars with .-_ and must follow JsonPointer (ie. 'field/to/key')");
-        }
-    }
-
-    private String trimKey(final String key) {
-
-        final String trimmedLeadingSlash = key.startsWith(SEPARATOR) ? key.substring(1) : key;
-        return trimmedLeadingSlash.endsWith(SEPARATOR) ? trimmedLeadingSlash.substring(0, trimmedLeadingSlash.length() - 2) : trimmedLeadingSlash;
-    }
-
-    private boolean isValidKey(final String key) {
-        char previous = ' ';
-        char next = ' ';
-        for (int i = 0; i < key.length(); i++) {
-            char c = key.charAt(i);
-
-            if (i < key.length() - 1) {
-                next = key.charAt(i + 1);
-            }
-
-            if ((i == 0 || i == key.length() - 1 || previous == '/' || next == '/') && (c == '_' || c == '.' || c == '-')) {
-                return false;
-            }
-
-            if (!(c >= 48 && c <= 57
-                    || c >= 65 && c <= 90
-                    || c >= 97 && c <= 122
-                    || c == '.'
-                    || c == '-'
-                    || c == '_'
-                    || c == '@'
-                    || c == '/')) {
-
-                return false;
-            }
-            previous = c;
-        }
-        return true;
+        return mapper.convertValue(getJsonNode(), MAP_TYPE_REFERENCE);
     }
 
     /**
@@ -496,7 +647,8 @@ public class JacksonEvent implements Event {
         }
 
         /**
-         * Sets the data of the event.
+         * Sets the data of the event. A {@link JsonNode} becomes the tree of the event as it is, without a copy, so
+         * it must not be modified by the caller afterwards.
          *
          * @param data the data
          * @return returns the builder
@@ -6,7 +6,6 @@
 package org.opensearch.dataprepper.model.trace;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -16,14 +15,11 @@ import org.opensearch.dataprepper.model.event.EventType;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkArgument;
-import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
 /**
@@ -59,8 +55,6 @@ public class JacksonSpan extends JacksonEvent implements Span {
 
     private static final ObjectMapper mapper = new ObjectMapper()
             .registerModule(new JavaTimeModule());
-    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<>() {
-    };
 
     protected JacksonSpan(final Builder builder) {
         super(builder);
@@ -68,6 +62,19 @@ public class JacksonSpan extends JacksonEvent implements Span {
         checkArgument(this.getMetadata().getEventType().equals("TRACE"), "eventType must be of type Trace");
     }
 
+    /**
+     * Constructs a span whose tree is created by {@link #createJsonNode()} when the span data is first accessed. The
+     * created tree must contain the keys which the {@link Builder} requires.
+     *
+     * @param eventMetadata the metadata of the span
+     * @since 2.4
+     */
+    protected JacksonSpan(final EventMetadata eventMetadata) {
+        super(eventMetadata);
+
+        checkArgument(this.getMetadata().getEventType().equals("TRACE"), "eventType must be of type Trace");
+    }
+
     private JacksonSpan(final JacksonSpan otherSpan) {
         super(otherSpan);
     }
@@ -211,10 +218,10 @@ public class JacksonSpan extends JacksonEvent implements Span {
      */
     public static class Builder extends JacksonEvent.Builder<Builder> {
 
-        private final Map<String, Object> data;
+        private final ObjectNode data;
 
         public Builder() {
-            data = new HashMap();
+            data = mapper.createObjectNode();
         }
 
         @Override
@@ -231,7 +238,7 @@ public class JacksonSpan extends JacksonEvent implements Span {
          */
         public Builder withJsonData(final String data) {
             try {
-                this.data.putAll(mapper.readValue(data, MAP_TYPE_REFERENCE));
+                this.data.setAll(mapper.readValue(data, ObjectNode.class));
             } catch (final JsonProcessingException e) {
                 throw new RuntimeException("An exception occurred due to invalid JSON while converting data to event");
             }
@@ -239,7 +246,8 @@ public class JacksonSpan extends JacksonEvent implements Span {
         }
 
         /**
-         * Sets the data of the event.
+         * Sets the data of the event. The fields of an {@link ObjectNode} are used without a copy, so the node should
+         * not be modified afterwards.
          *
          * @param data the data
          * @return returns the builder
@@ -247,7 +255,11 @@ public class JacksonSpan extends JacksonEvent implements Span {
          */
         @Override
         public Builder withData(final Object data) {
-            this.data.putAll(mapper.convertValue(data, Map.class));
+            if (data instanceof ObjectNode) {
+                this.data.setAll((ObjectNode) data);
+            } else {
+                this.data.setAll(mapper.convertValue(data, ObjectNode.class));
+            }
             return this;
         }
 
@@ -368,7 +380,7 @@ public class JacksonSpan extends JacksonEvent implements Span {
          * @since 1.2
          */
         public Builder withAttributes(final Map<String, Object> attributes) {
-            data.put(ATTRIBUTES_KEY, attributes);
+            data.set(ATTRIBUTES_KEY, mapper.valueToTree(attributes));
             return this;
         }
 
@@ -392,7 +404,7 @@ public class JacksonSpan extends JacksonEvent implements Span {
          * @since 1.2
          */
         public Builder withEvents(final List<? extends SpanEvent> events) {
-            data.put(EVENTS_KEY, events);
+            data.set(EVENTS_KEY, mapper.valueToTree(events));
             return this;
         }
 
@@ -416,7 +428,7 @@ public class JacksonSpan extends JacksonEvent implements Span {
          * @since 1.2
          */
         public Builder withLinks(final List<? extends Link> links) {
-            data.put(LINKS_KEY, links);
+            data.set(LINKS_KEY, mapper.valueToTree(links));
             return this;
         }
 
@@ -464,7 +476,7 @@ public class JacksonSpan extends JacksonEvent implements Span {
          * @since 1.2
          */
         public Builder withTraceGroupFields(final TraceGroupFields traceGroupFields) {
-            data.put(TRACE_GROUP_FIELDS_KEY, traceGroupFields);
+            data.set(TRACE_GROUP_FIELDS_KEY, mapper.valueToTree(traceGroupFields));
             return this;
         }
 
@@ -497,28 +509,47 @@ public class JacksonSpan extends JacksonEvent implements Span {
 
         private void validateParameters() {
             REQUIRED_KEYS.forEach(key -> {
-                checkState(data.containsKey(key), key + " need to be assigned");
+                checkState(data.has(key), key + " need to be assigned");
             });
 
             REQUIRED_NON_EMPTY_KEYS.forEach(key -> {
-                final String value = (String) data.get(key);
-                checkNotNull(value, key + " cannot be null");
-                checkArgument(!value.isEmpty(), key + " cannot be an empty string");
+                final JsonNode value = data.get(key);
+                if (isNull(value)) {
+                    throw new NullPointerException(key + " cannot be null");
+                }
+                checkArgument(!value.asText().isEmpty(), key + " cannot be an empty string");
             });
 
             REQUIRED_NON_NULL_KEYS.forEach(key -> {
-                final Object value = data.get(key);
-                checkNotNull(value, key + " cannot be null");
+                if (isNull(data.get(key))) {
+                    throw new NullPointerException(key + " cannot be null");
+                }
             });
         }
 
         private void checkAndSetDefaultValues() {
-            data.computeIfAbsent(ATTRIBUTES_KEY, k -> new HashMap<>());
-            data.putIfAbsent(DROPPED_ATTRIBUTES_COUNT_KEY, 0);
-            data.computeIfAbsent(LINKS_KEY, k -> new LinkedList<>());
-            data.putIfAbsent(DROPPED_LINKS_COUNT_KEY, 0);
-            data.computeIfAbsent(EVENTS_KEY, k -> new LinkedList<>());
-            data.putIfAbsent(DROPPED_EVENTS_COUNT_KEY, 0);
+            if (isNull(data.get(ATTRIBUTES_KEY))) {
+                data.putObject(ATTRIBUTES_KEY);
+            }
+            if (isNull(data.get(DROPPED_ATTRIBUTES_COUNT_KEY))) {
+                data.put(DROPPED_ATTRIBUTES_COUNT_KEY, 0);
+            }
+            if (isNull(data.get(LINKS_KEY))) {
+                data.putArray(LINKS_KEY);
+            }
+            if (isNull(data.get(DROPPED_LINKS_COUNT_KEY))) {
+                data.put(DROPPED_LINKS_COUNT_KEY, 0);
+            }
+            if (isNull(data.get(EVENTS_KEY))) {
+                data.putArray(EVENTS_KEY);
+            }
+            if (isNull(data.get(DROPPED_EVENTS_COUNT_KEY))) {
+                data.put(DROPPED_EVENTS_COUNT_KEY, 0);
+            }
+        }
+
+        private static boolean isNull(final JsonNode value) {
+            return value == null || value.isNull();
         }
 
     }
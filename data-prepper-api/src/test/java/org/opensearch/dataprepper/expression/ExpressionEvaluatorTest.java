@@ -33,6 +33,22 @@ public class ExpressionEvaluatorTest {
         assertThrows(ClassCastException.class, () -> expressionEvaluator.evaluateConditional("/status", event("{\"status\":200}")));
     }
 
+    @Test
+    public void testDefaultCompileEvaluatesTheStatement() {
+        expressionEvaluator = new TestExpressionEvaluator();
+        final CompiledExpression compiledExpression = expressionEvaluator.compile("/status");
+        assertThat(compiledExpression.evaluate(event("{\"status\":200}")), equalTo(200));
+        assertThat(compiledExpression.evaluateConditional(event("{\"status\":true}")), equalTo(true));
+        assertThat(compiledExpression.evaluateConditional(event("{\"status\":false}")), equalTo(false));
+    }
+
+    @Test
+    public void testCompiledExpressionEvaluateConditionalThrows() {
+        expressionEvaluator = new TestExpressionEvaluator();
+        final CompiledExpression compiledExpression = expressionEvaluator.compile("/status");
+        assertThrows(ClassCastException.class, () -> compiledExpression.evaluateConditional(event("{\"status\":200}")));
+    }
+
     private static Event event(final String data) {
         return JacksonEvent.builder().withEventType("event").withData(data).build();
     }
@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.metrics;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
@@ -125,6 +126,19 @@ public class PluginMetricsTest {
         assertEquals(3, gauge.length());
     }
 
+    @Test
+    public void testReferenceGaugeWithTags() {
+        final AtomicInteger atomicInteger = new AtomicInteger(5);
+        final AtomicInteger gauge = objectUnderTest.gaugeWithTags("gaugeWithTags", atomicInteger, AtomicInteger::get, TAG_KEY, TAG_VALUE);
+        final Gauge registeredGauge = Metrics.globalRegistry.get(new StringJoiner(MetricNames.DELIMITER)
+                        .add(PIPELINE_NAME).add(PLUGIN_NAME)
+                        .add("gaugeWithTags").toString())
+                .tag(TAG_KEY, TAG_VALUE)
+                .gauge();
+        assertNotNull(registeredGauge);
+        assertEquals(atomicInteger, gauge);
+    }
+
     @Test
     public void testEmptyPipelineName() {
         assertThrows(
@@ -16,6 +16,7 @@ import java.util.Random;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -63,6 +64,26 @@ class PipelineModelTest {
         assertThat(originalSinks.get(0).getPluginSettings(), is(equalTo(TEST_VALID_SINKS_PLUGIN_MODEL.getPluginSettings())));
         assertThat(pipelineModel.getWorkers(), is(TEST_WORKERS));
         assertThat(pipelineModel.getReadBatchDelay(), is(TEST_READ_BATCH_DELAY));
+        assertThat(pipelineModel.getMaxInFlightBatches(), nullValue());
+    }
+
+    @Test
+    void testPipelineModelCreationWithMaxInFlightBatches() {
+        final Integer maxInFlightBatches = random.nextInt(10) + 1;
+        final PipelineModel pipelineModel = new PipelineModel(
+                validSourcePluginModel(),
+                validBufferPluginModel(),
+                validPreppersPluginModel(),
+                validPipelineRouter(),
+                validSinksPluginModel(),
+                TEST_WORKERS,
+                TEST_READ_BATCH_DELAY,
+                maxInFlightBatches
+        );
+
+        assertThat(pipelineModel.getWorkers(), is(TEST_WORKERS));
+        assertThat(pipelineModel.getReadBatchDelay(), is(TEST_READ_BATCH_DELAY));
+        assertThat(pipelineModel.getMaxInFlightBatches(), is(maxInFlightBatches));
     }
 
     static Map<String, Object> validPluginSettings() {
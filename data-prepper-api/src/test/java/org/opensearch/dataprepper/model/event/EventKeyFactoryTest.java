@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventKeyFactoryTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"foo", "/foo", "foo/bar", "/foo/bar/", "a1K.k3-01_02"})
+    void create_returns_key_with_the_given_key(final String key) {
+        final EventKey eventKey = EventKeyFactory.create(key);
+
+        assertThat(eventKey.getKey(), equalTo(key));
+        assertThat(eventKey.toString(), equalTo(key));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"foo, /foo, foo", "/foo, /foo, foo", "/foo/, /foo, foo", "foo/bar, /foo/bar, bar",
+            "/foo/bar/, /foo/bar, bar", "/foo/bar/baz, /foo/bar/baz, baz"})
+    void create_resolves_the_key_without_leading_and_trailing_slashes(final String key, final String jsonPointer, final String leafKey) {
+        final EventKey eventKey = EventKeyFactory.create(key);
+
+        assertThat(eventKey.getJsonPointer().toString(), equalTo(jsonPointer));
+        assertThat(eventKey.getLeafKey(), equalTo(leafKey));
+    }
+
+    @Test
+    void create_with_trailing_slash_finds_the_value_of_the_key() {
+        final UUID value = UUID.randomUUID();
+        final Event event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of("foo", Map.of("bar", value.toString())))
+                .build();
+
+        final EventKey eventKey = EventKeyFactory.create("/foo/bar/");
+
+        assertThat(event.get(eventKey, String.class), equalTo(value.toString()));
+        assertThat(event.get("/foo/bar/", String.class), equalTo(value.toString()));
+        assertThat(eventKey.getParentJsonPointer().toString(), equalTo("/foo"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "withSpecialChars*$%", "-withPrefixDash", "withDashSuffix-", "withDashPrefix/-nestedKey",
+            "_withUnderscorePrefix", ".withDotPrefix", "with,Comma", "with:Colon", "with[Bracket", "with|Brace"})
+    void create_with_invalid_key_throws(final String invalidKey) {
+        assertThrows(IllegalArgumentException.class, () -> EventKeyFactory.create(invalidKey));
+    }
+
+    @Test
+    void create_with_key_longer_than_max_length_throws() {
+        final String invalidLengthKey = RandomStringUtils.randomAlphabetic(EventKey.MAX_KEY_LENGTH + 1);
+        assertThrows(IllegalArgumentException.class, () -> EventKeyFactory.create(invalidLengthKey));
+    }
+
+    @Test
+    void create_with_null_key_throws() {
+        assertThrows(NullPointerException.class, () -> EventKeyFactory.create(null));
+    }
+
+    @Test
+    void keys_created_from_the_same_key_are_equal() {
+        final EventKey eventKey = EventKeyFactory.create("foo/bar");
+
+        assertThat(eventKey, equalTo(eventKey));
+        assertThat(eventKey, equalTo(EventKeyFactory.create("foo/bar")));
+        assertThat(eventKey.hashCode(), equalTo(EventKeyFactory.create("foo/bar").hashCode()));
+        assertThat(eventKey, not(equalTo(EventKeyFactory.create("foo/baz"))));
+        assertThat(eventKey, not(equalTo(null)));
+        assertThat(eventKey, not(equalTo((Object) "foo/bar")));
+    }
+
+    @Test
+    void default_event_methods_delegate_to_the_string_key_methods() {
+        final Event event = mock(Event.class, CALLS_REAL_METHODS);
+        final EventKey eventKey = EventKeyFactory.create("foo/bar");
+        final Object value = UUID.randomUUID();
+        final List<String> list = List.of(UUID.randomUUID().toString());
+        when(event.get("foo/bar", Object.class)).thenReturn(value);
+        when(event.getList("foo/bar", String.class)).thenReturn(list);
+        when(event.containsKey("foo/bar")).thenReturn(true);
+
+        event.put(eventKey, value);
+        event.delete(eventKey);
+
+        assertThat(event.get(eventKey, Object.class), sameInstance(value));
+        assertThat(event.getList(eventKey, String.class), sameInstance(list));
+        assertThat(event.containsKey(eventKey), equalTo(true));
+        verify(event).put("foo/bar", value);
+        verify(event).delete("foo/bar");
+    }
+}
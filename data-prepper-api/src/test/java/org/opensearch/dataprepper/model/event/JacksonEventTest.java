@@ -5,6 +5,11 @@
 
 package org.opensearch.dataprepper.model.event;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +18,8 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
@@ -21,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
@@ -322,6 +330,63 @@ public class JacksonEventTest {
         assertThat(event.isValueAList(key), is(false));
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"foo", "foo-bar", "foo_bar", "foo.bar", "/foo", "/foo/", "a1K.k3-01_02", "foo/bar", "/foo/bar/baz"})
+    void testPutAndGet_withEventKey(final String key) {
+        final EventKey eventKey = EventKeyFactory.create(key);
+        final UUID value = UUID.randomUUID();
+
+        event.put(eventKey, value);
+
+        assertThat(event.get(eventKey, UUID.class), is(equalTo(value)));
+        assertThat(event.get(key, UUID.class), is(equalTo(value)));
+        assertThat(event.containsKey(eventKey), is(true));
+    }
+
+    @Test
+    public void testPutAndGetList_withEventKey() {
+        final EventKey eventKey = EventKeyFactory.create("foo/list");
+        final List<Integer> numbers = Arrays.asList(1, 2, 3);
+
+        event.put(eventKey, numbers);
+
+        assertThat(event.getList(eventKey, Integer.class), is(equalTo(numbers)));
+        assertThat(event.getList(EventKeyFactory.create("foo/missing"), Integer.class), is(nullValue()));
+    }
+
+    @Test
+    public void testPut_withEventKeyIntoArray() {
+        event.put("list", Arrays.asList(1, 2, 3));
+
+        event.put(EventKeyFactory.create("list/1"), 5);
+
+        assertThat(event.getList("list", Integer.class), is(equalTo(Arrays.asList(1, 5, 3))));
+    }
+
+    @Test
+    public void testGet_withEventKeyAndIncorrectPojo() {
+        final EventKey eventKey = EventKeyFactory.create("foo/bar");
+        event.put(eventKey, new TestObject(UUID.randomUUID().toString()));
+
+        assertThrows(RuntimeException.class, () -> event.get(eventKey, UUID.class));
+        assertThat(event.get(EventKeyFactory.create("foo/missing"), String.class), is(nullValue()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"foo", "foo/bar", "/foo/bar/baz", "missing", "missing/key"})
+    void testDelete_withEventKey(final String key) {
+        final EventKey eventKey = EventKeyFactory.create(key);
+        event.put("foo/bar/baz", UUID.randomUUID());
+        if (!key.startsWith("missing")) {
+            assertThat(event.containsKey(eventKey), is(true));
+        }
+
+        event.delete(eventKey);
+
+        assertThat(event.containsKey(eventKey), is(false));
+        assertThat(event.get(eventKey, Object.class), is(nullValue()));
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"", "withSpecialChars*$%", "-withPrefixDash", "\\-withEscapeChars", "\\\\/withMultipleEscapeChars",
             "withDashSuffix-", "withDashSuffix-/nestedKey", "withDashPrefix/-nestedKey", "_withUnderscorePrefix", "withUnderscoreSuffix_",
@@ -365,6 +430,19 @@ public class JacksonEventTest {
         assertThat(result, is(equalTo(String.format("{\"foo\":\"bar\",\"testObject\":{\"field1\":\"%s\"},\"list\":[1,4,5]}", value))));
     }
 
+    @Test
+    public void testWriteData_writes_the_same_data_as_toJsonString() throws IOException {
+        event.put("foo", "bar");
+        event.put("nested", Map.of("list", Arrays.asList(1, 4, 5)));
+
+        final StringWriter writer = new StringWriter();
+        try (final JsonGenerator generator = new JsonFactory().createGenerator(writer)) {
+            ((JacksonEvent) event).writeData(generator);
+        }
+
+        assertThat(writer.toString(), equalTo(event.toJsonString()));
+    }
+
     @Test
     public void testGetAsMap_with_EmptyData() {
         final Map<String, Object> eventAsMap = event.toMap();
@@ -502,6 +580,21 @@ public class JacksonEventTest {
         assertThat(event.get("foo", String.class), is(equalTo("bar")));
     }
 
+    @Test
+    public void testBuild_withJsonNodeData() {
+
+        final ObjectNode jsonNode = new ObjectMapper().createObjectNode().put("foo", "bar");
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(jsonNode)
+                .getThis()
+                .build();
+
+        assertThat(event.get("foo", String.class), is(equalTo("bar")));
+        assertThat(((JacksonEvent) event).getJsonNode(), sameInstance(jsonNode));
+    }
+
     @ParameterizedTest
     @CsvSource({
             "test-string, test-string",
@@ -599,13 +692,153 @@ public class JacksonEventTest {
         assertThat(createdEvent, not(sameInstance(originalEvent)));
 
         assertThat(createdEvent.toMap(), equalTo(dataObject));
-        assertThat(createdEvent.getJsonNode(), not(sameInstance(originalEvent.getJsonNode())));
+        assertThat(createdEvent.getJsonNode(), sameInstance(originalEvent.getJsonNode()));
 
         assertThat(createdEvent.getMetadata(), notNullValue());
         assertThat(createdEvent.getMetadata(), not(sameInstance(originalEvent.getMetadata())));
         assertThat(createdEvent.getMetadata(), equalTo(originalEvent.getMetadata()));
     }
 
+    @Test
+    void fromEvent_copy_can_be_modified_without_changing_the_original_event() {
+        final JacksonEvent originalEvent = createEventForCopying();
+        final Map<String, Object> originalData = originalEvent.toMap();
+
+        final JacksonEvent createdEvent = JacksonEvent.fromEvent(originalEvent);
+        createdEvent.put("foo/bar", "changed");
+        createdEvent.put("foo/new/key", "value");
+        createdEvent.put("foo/new/other", "value");
+        createdEvent.put("list/1", 5);
+        createdEvent.put(EventKeyFactory.create("top"), "changed");
+
+        assertThat(originalEvent.toMap(), equalTo(originalData));
+        assertThat(createdEvent.get("foo/bar", String.class), equalTo("changed"));
+        assertThat(createdEvent.get("foo/new/key", String.class), equalTo("value"));
+        assertThat(createdEvent.get("foo/new/other", String.class), equalTo("value"));
+        assertThat(createdEvent.get("foo/baz", String.class), equalTo("baz-value"));
+        assertThat(createdEvent.getList("list", Object.class).get(1), equalTo(5));
+        assertThat(createdEvent.get("top", String.class), equalTo("changed"));
+    }
+
+    @Test
+    void fromEvent_original_event_can_be_modified_without_changing_the_copy() {
+        final JacksonEvent originalEvent = createEventForCopying();
+        final JacksonEvent createdEvent = JacksonEvent.fromEvent(originalEvent);
+        final Map<String, Object> copiedData = createdEvent.toMap();
+
+        originalEvent.put("foo/bar", "changed");
+        originalEvent.delete("top");
+        originalEvent.delete(EventKeyFactory.create("foo/baz"));
+
+        assertThat(createdEvent.toMap(), equalTo(copiedData));
+        assertThat(originalEvent.get("foo/bar", String.class), equalTo("changed"));
+        assertThat(originalEvent.containsKey("top"), equalTo(false));
+        assertThat(originalEvent.containsKey("foo/baz"), equalTo(false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"top", "foo/bar", "list/0/inner", "foo/bar/missing/key", "missing/key", "list/5/inner"})
+    void fromEvent_copy_can_delete_keys_without_changing_the_original_event(final String key) {
+        final JacksonEvent originalEvent = createEventForCopying();
+        final Map<String, Object> originalData = originalEvent.toMap();
+
+        final JacksonEvent createdEvent = JacksonEvent.fromEvent(originalEvent);
+        createdEvent.delete(key);
+        final JacksonEvent createdWithEventKey = JacksonEvent.fromEvent(originalEvent);
+        createdWithEventKey.delete(EventKeyFactory.create(key));
+
+        assertThat(originalEvent.toMap(), equalTo(originalData));
+        assertThat(createdEvent.containsKey(key), equalTo(false));
+        assertThat(createdWithEventKey.containsKey(key), equalTo(false));
+        assertThat(createdEvent.toMap(), equalTo(createdWithEventKey.toMap()));
+    }
+
+    @Test
+    void fromEvent_copies_of_copies_are_independent() {
+        final JacksonEvent originalEvent = createEventForCopying();
+        final JacksonEvent firstCopy = JacksonEvent.fromEvent(originalEvent);
+        firstCopy.put("foo/bar", "first");
+        final JacksonEvent secondCopy = JacksonEvent.fromEvent(firstCopy);
+
+        firstCopy.put("foo/bar", "changed");
+        secondCopy.put("foo/bar", "second");
+        secondCopy.delete("list/0/inner");
+
+        assertThat(originalEvent.get("foo/bar", String.class), equalTo("bar-value"));
+        assertThat(firstCopy.get("foo/bar", String.class), equalTo("changed"));
+        assertThat(secondCopy.get("foo/bar", String.class), equalTo("second"));
+        assertThat(originalEvent.get("list/0/inner", String.class), equalTo("inner-value"));
+        assertThat(firstCopy.get("list/0/inner", String.class), equalTo("inner-value"));
+        assertThat(secondCopy.containsKey("list/0/inner"), equalTo(false));
+    }
+
+    @Test
+    void event_with_deferred_tree_creates_the_tree_once_when_the_data_is_accessed() {
+        final EventMetadata eventMetadata = DefaultEventMetadata.builder().withEventType(eventType).build();
+        final AtomicInteger createdTrees = new AtomicInteger();
+        final JacksonEvent deferredEvent = new JacksonEvent(eventMetadata) {
+            @Override
+            protected JsonNode createJsonNode() {
+                createdTrees.incrementAndGet();
+                return new ObjectMapper().createObjectNode().put("key", "value");
+            }
+        };
+
+        assertThat(deferredEvent.getMetadata(), sameInstance(eventMetadata));
+        assertThat(createdTrees.get(), equalTo(0));
+
+        assertThat(deferredEvent.get("key", String.class), equalTo("value"));
+        deferredEvent.put("other", 1);
+        assertThat(deferredEvent.containsKey(EventKeyFactory.create("other")), equalTo(true));
+        assertThat(deferredEvent.toJsonString(), equalTo("{\"key\":\"value\",\"other\":1}"));
+        assertThat(createdTrees.get(), equalTo(1));
+    }
+
+    @Test
+    void event_with_deferred_tree_is_empty_by_default() {
+        final JacksonEvent deferredEvent = new JacksonEvent(DefaultEventMetadata.builder().withEventType(eventType).build()) {
+        };
+
+        assertThat(deferredEvent.toMap(), equalTo(Collections.emptyMap()));
+    }
+
+    @Test
+    void event_with_deferred_tree_throws_for_null_metadata() {
+        assertThrows(NullPointerException.class, () -> new JacksonEvent((EventMetadata) null) {
+        });
+    }
+
+    @Test
+    void fromEvent_with_an_event_with_deferred_tree_copies_the_created_tree() {
+        final JacksonEvent deferredEvent = new JacksonEvent(DefaultEventMetadata.builder().withEventType(eventType).build()) {
+            @Override
+            protected JsonNode createJsonNode() {
+                return new ObjectMapper().createObjectNode().put("key", "value");
+            }
+        };
+
+        final JacksonEvent createdEvent = JacksonEvent.fromEvent(deferredEvent);
+        createdEvent.put("key", "changed");
+
+        assertThat(deferredEvent.get("key", String.class), equalTo("value"));
+        assertThat(createdEvent.get("key", String.class), equalTo("changed"));
+    }
+
+    private JacksonEvent createEventForCopying() {
+        final Map<String, Object> foo = new HashMap<>();
+        foo.put("bar", "bar-value");
+        foo.put("baz", "baz-value");
+        final Map<String, Object> data = new HashMap<>();
+        data.put("top", "top-value");
+        data.put("foo", foo);
+        data.put("list", Arrays.asList(Collections.singletonMap("inner", "inner-value"), 2, 3));
+
+        return JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(data)
+                .build();
+    }
+
     @Test
     void fromEvent_with_a_non_JacksonEvent() {
         final Map<String, Object> dataObject = createComplexDataMap();
@@ -7,11 +7,14 @@ package org.opensearch.dataprepper.model.trace;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
 import org.opensearch.dataprepper.model.event.EventMetadata;
 import org.opensearch.dataprepper.model.event.EventType;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
@@ -482,6 +485,27 @@ public class JacksonSpanTest {
         assertThrows(NullPointerException.class, builder::build);
     }
 
+    @Test
+    void testDeferredTree_creates_the_span_data_when_accessed() {
+        final JacksonSpan deferredSpan = new JacksonSpan(DefaultEventMetadata.builder().withEventType(EventType.TRACE.toString()).build()) {
+            @Override
+            protected JsonNode createJsonNode() {
+                return new ObjectMapper().valueToTree(jacksonSpan.toMap());
+            }
+        };
+
+        assertThat(deferredSpan.getTraceId(), equalTo(TEST_TRACE_ID));
+        assertThat(deferredSpan.toMap(), equalTo(jacksonSpan.toMap()));
+    }
+
+    @Test
+    void testDeferredTree_with_invalid_event_type_should_throw() {
+        final EventMetadata eventMetadata = DefaultEventMetadata.builder().withEventType(EventType.LOG.toString()).build();
+
+        assertThrows(IllegalArgumentException.class, () -> new JacksonSpan(eventMetadata) {
+        });
+    }
+
     @Nested
     class JacksonSpanBuilder {
         @Test
@@ -688,6 +712,33 @@ public class JacksonSpanTest {
             assertThat(jacksonSpan.toMap().get("endTime"), equalTo(endTime));
             assertThat(jacksonSpan.toMap().get("durationInNanos"), equalTo(durationInNanos));
         }
+
+        @Test
+        void testBuilder_withData_with_object_node_uses_the_fields_without_copying() {
+            final ObjectNode data = mapper.createObjectNode();
+            data.put("traceId", "414243");
+            data.put("kind", "SPAN_KIND_INTERNAL");
+            data.put("traceGroup", "FRUITS");
+            data.put("spanId", "313030");
+            data.put("name", "FRUITS");
+            data.put("startTime", "1970-01-01T00:00:00Z");
+            data.put("endTime", "1970-01-02T00:00:00Z");
+            data.put("durationInNanos", 100L);
+            data.putObject("traceGroupFields").put("statusCode", 0);
+            final ObjectNode attributes = data.putObject("attributes");
+            attributes.put("span.attributes.http@method", "GET");
+
+            final JacksonSpan jacksonSpan = JacksonSpan.builder()
+                    .withData(data)
+                    .build();
+
+            assertThat(jacksonSpan.getTraceId(), equalTo("414243"));
+            assertThat(jacksonSpan.getDurationInNanos(), equalTo(100L));
+            assertThat(jacksonSpan.getAttributes(), equalTo(Map.of("span.attributes.http@method", "GET")));
+
+            attributes.put("span.attributes.http@status_code", 200);
+            assertThat(jacksonSpan.getAttributes(), hasKey("span.attributes.http@status_code"));
+        }
     }
 
     @Test
@@ -0,0 +1,92 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import com.linecorp.armeria.client.Endpoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.peerforwarder.discovery.PeerListProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Looks up the server IP of a batch of identification keys, as {@link RemotePeerForwarder} does for every record,
+ * with each {@link HashRingAlgorithm}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class HashRingBenchmark {
+    private static final int KEY_COUNT = 1000;
+
+    @Param({"MD5", "XXHASH64"})
+    private HashRingAlgorithm hashRingAlgorithm;
+
+    @Param({"3", "30"})
+    private int peerCount;
+
+    private HashRing hashRing;
+    private List<List<String>> identificationKeyValues;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final List<String> peers = new ArrayList<>(peerCount);
+        for (int i = 0; i < peerCount; i++) {
+            peers.add("10.0." + (i / 256) + "." + (i % 256));
+        }
+        final PluginMetrics pluginMetrics = PluginMetrics.fromNames("peer_forwarder", "benchmark");
+        hashRing = new HashRing(new FixedPeerListProvider(peers), PeerForwarderClientFactory.NUM_VIRTUAL_NODES, hashRingAlgorithm,
+                new PeerLoadTracker(new PeerForwarderConfiguration(), pluginMetrics), pluginMetrics);
+
+        identificationKeyValues = new ArrayList<>(KEY_COUNT);
+        for (int i = 0; i < KEY_COUNT; i++) {
+            identificationKeyValues.add(List.of(UUID.randomUUID().toString(), "frontend-service-" + (i % 20)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEY_COUNT)
+    public void getServerIp(final Blackhole blackhole) {
+        for (final List<String> keyValues : identificationKeyValues) {
+            blackhole.consume(hashRing.getServerIp(keyValues));
+        }
+    }
+
+    private static class FixedPeerListProvider implements PeerListProvider {
+        private final List<String> peers;
+
+        private FixedPeerListProvider(final List<String> peers) {
+            this.peers = peers;
+        }
+
+        @Override
+        public List<String> getPeerList() {
+            return peers;
+        }
+
+        @Override
+        public void addListener(final Consumer<? super List<Endpoint>> listener) {
+        }
+
+        @Override
+        public void removeListener(final Consumer<?> listener) {
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.peerforwarder.model.PeerForwardingEvents;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ObjectInputFilter;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes and deserializes a batch of spans with each {@link PeerForwarderCodec}, as the peer forwarder client and
+ * server do for every forwarded request. The size of the serialized batch is logged during setup.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class PeerForwarderCodecBenchmark {
+    private static final Logger LOG = LoggerFactory.getLogger(PeerForwarderCodecBenchmark.class);
+
+    @Param({"java", "json", "smile"})
+    private String codec;
+
+    @Param({"100"})
+    private int batchSize;
+
+    private PeerForwarderCodec peerForwarderCodec;
+    private PeerForwardingEvents peerForwardingEvents;
+    private byte[] serializedEvents;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        if ("java".equals(codec)) {
+            peerForwarderCodec = new JavaPeerForwarderCodec(ObjectInputFilter.Config.createFilter("*"));
+        } else if ("json".equals(codec)) {
+            peerForwarderCodec = new JacksonPeerForwarderCodec(new ObjectMapper().registerModule(new JavaTimeModule()));
+        } else {
+            peerForwarderCodec = new SmilePeerForwarderCodec();
+        }
+
+        final List<Event> events = new ArrayList<>(batchSize);
+        final String traceId = UUID.randomUUID().toString();
+        for (int i = 0; i < batchSize; i++) {
+            events.add(JacksonSpan.builder()
+                    .withTraceId(traceId)
+                    .withSpanId(UUID.randomUUID().toString())
+                    .withParentSpanId(UUID.randomUUID().toString())
+                    .withTraceGroup("GET /checkout")
+                    .withName("HTTP GET")
+                    .withKind("SPAN_KIND_SERVER")
+                    .withServiceName("frontend")
+                    .withStartTime(Instant.now().toString())
+                    .withEndTime(Instant.now().toString())
+                    .withDurationInNanos(1_000_000L + i)
+                    .withAttributes(Map.of(
+                            "http.method", "GET",
+                            "http.status_code", 200,
+                            "http.url", "https://example.com/checkout?item=" + i))
+                    .withTraceGroupFields(DefaultTraceGroupFields.builder()
+                            .withEndTime(Instant.now().toString())
+                            .withDurationInNanos(5_000_000L)
+                            .withStatusCode(0)
+                            .build())
+                    .build());
+        }
+        peerForwardingEvents = new PeerForwardingEvents(events, "aggregate", "trace-pipeline");
+        serializedEvents = peerForwarderCodec.serialize(peerForwardingEvents);
+        LOG.info("The {} codec serialized {} events in {} bytes.", codec, batchSize, serializedEvents.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return peerForwarderCodec.serialize(peerForwardingEvents);
+    }
+
+    @Benchmark
+    public PeerForwardingEvents deserialize() throws Exception {
+        return peerForwarderCodec.deserialize(serializedEvents);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.dataprepper.acknowledgements.DefaultAcknowledgementSetManager;
+import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
+import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.processor.Processor;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Runs batches through five processors with end-to-end acknowledgements enabled, as a pipeline with an S3 source does:
+ * every batch belongs to an acknowledgement set, one processor drops a tenth of the events, and the remaining events
+ * are released as a sink would after the processors have run. Compares the {@link DroppedEventReleaser} used by
+ * {@link ProcessWorker} with the previous approach, which copied the input events into a list and the output events
+ * into a hash set for every processor.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class ProcessorAcknowledgementsBenchmark {
+    private static final int NUMBER_OF_PROCESSORS = 5;
+    private static final int DROP_EVERY = 10;
+
+    @Param({"200", "2000"})
+    private int batchSize;
+
+    @Param({"dropped_event_releaser", "hash_set"})
+    private String tracking;
+
+    private ExecutorService callbackExecutor;
+    private DefaultAcknowledgementSetManager acknowledgementSetManager;
+    private List<Processor> processors;
+    private DroppedEventReleaser droppedEventReleaser;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        callbackExecutor = Executors.newSingleThreadExecutor();
+        acknowledgementSetManager = new DefaultAcknowledgementSetManager(callbackExecutor, Duration.ofSeconds(1));
+        processors = new ArrayList<>(NUMBER_OF_PROCESSORS);
+        for (int i = 0; i < NUMBER_OF_PROCESSORS - 1; i++) {
+            processors.add(new AddEntryProcessor("key" + i));
+        }
+        processors.add(new DropEventsProcessor());
+        droppedEventReleaser = new DroppedEventReleaser();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        acknowledgementSetManager.shutdown();
+        callbackExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public void processBatch(final Blackhole blackhole) {
+        final AcknowledgementSet acknowledgementSet = acknowledgementSetManager.create(blackhole::consume, Duration.ofMinutes(1));
+        Collection<Record> records = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            final Event event = JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData("{\"message\":\"line " + i + "\"}")
+                    .build();
+            acknowledgementSet.add(event);
+            records.add(new Record<>(event));
+        }
+
+        for (final Processor processor : processors) {
+            if ("hash_set".equals(tracking)) {
+                final List<Event> inputEvents = ((Collection<Record<Event>>) (Collection) records).stream()
+                        .map(Record::getData).collect(Collectors.toList());
+                records = processor.execute(records);
+                releaseWithHashSet(inputEvents, records, acknowledgementSetManager);
+            } else {
+                droppedEventReleaser.recordInput(records);
+                records = processor.execute(records);
+                droppedEventReleaser.releaseDropped(records, acknowledgementSetManager);
+            }
+        }
+
+        for (final Record record : records) {
+            acknowledgementSetManager.releaseEventReference(((Event) record.getData()).getEventHandle(), true);
+        }
+        blackhole.consume(records);
+    }
+
+    private static void releaseWithHashSet(final List<Event> inputEvents, final Collection outputRecords,
+                                           final AcknowledgementSetManager acknowledgementSetManager) {
+        final Set<Event> outputEventsSet = ((ArrayList<Record<Event>>) outputRecords).stream()
+                .map(Record::getData).collect(Collectors.toSet());
+        inputEvents.forEach(event -> {
+            if (event.getEventHandle() != null && !outputEventsSet.contains(event)) {
+                acknowledgementSetManager.releaseEventReference(event.getEventHandle(), true);
+            }
+        });
+    }
+
+    private abstract static class BenchmarkProcessor implements Processor<Record<Event>, Record<Event>> {
+        @Override
+        public void prepareForShutdown() {
+        }
+
+        @Override
+        public boolean isReadyForShutdown() {
+            return true;
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+
+    private static class AddEntryProcessor extends BenchmarkProcessor {
+        private final String key;
+
+        private AddEntryProcessor(final String key) {
+            this.key = key;
+        }
+
+        @Override
+        public Collection<Record<Event>> execute(final Collection<Record<Event>> records) {
+            for (final Record<Event> record : records) {
+                record.getData().put(key, "value");
+            }
+            return records;
+        }
+    }
+
+    private static class DropEventsProcessor extends BenchmarkProcessor {
+        @Override
+        public Collection<Record<Event>> execute(final Collection<Record<Event>> records) {
+            final List<Record<Event>> output = new ArrayList<>(records.size());
+            int index = 0;
+            for (final Record<Event> record : records) {
+                if (index++ % DROP_EVERY != 0) {
+                    output.add(record);
+                }
+            }
+            return output;
+        }
+    }
+}
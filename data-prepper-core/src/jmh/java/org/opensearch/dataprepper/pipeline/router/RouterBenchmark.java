@@ -0,0 +1,159 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline.router;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.dataprepper.expression.CompiledExpression;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.configuration.ConditionalRoute;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.parser.DataFlowComponent;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Routes a batch of events over ten conditional routes to five sinks, each sink having two of the routes. Compares the
+ * {@link Router}, which keeps the matched routes of a batch as a bitmap and a route mask per sink, with the previous
+ * approach, which built a map from each record to a set of route names and checked each sink's routes against that
+ * set. The route conditions are cheap so that the routing itself dominates. The build runs the benchmarks with the
+ * GC profiler, which reports the allocation rate per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class RouterBenchmark {
+    private static final int NUMBER_OF_ROUTES = 10;
+    private static final int NUMBER_OF_SINKS = 5;
+    private static final EventKey CODE_KEY = EventKeyFactory.create("code");
+
+    @Param({"100", "1000"})
+    private int batchSize;
+
+    @Param({"route_mask", "route_set"})
+    private String routing;
+
+    private List<Record> records;
+    private Map<String, CompiledExpression> routeConditions;
+    private List<DataFlowComponent<Object>> dataFlowComponents;
+    private Router router;
+    private RouterGetRecordStrategy getRecordStrategy;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        final Random random = new Random(1);
+        records = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            final Event event = JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Collections.singletonMap("code", random.nextInt(100)))
+                    .build();
+            records.add(new Record<>(event));
+        }
+
+        routeConditions = new HashMap<>();
+        final Set<ConditionalRoute> routes = new HashSet<>();
+        for (int i = 0; i < NUMBER_OF_ROUTES; i++) {
+            final int routeIndex = i;
+            routeConditions.put("route" + i, event -> {
+                final int code = event.get(CODE_KEY, Integer.class);
+                return code % NUMBER_OF_ROUTES == routeIndex || code % 7 == routeIndex;
+            });
+            routes.add(new ConditionalRoute("route" + i, "condition" + i));
+        }
+
+        final Constructor<DataFlowComponent> dataFlowComponentConstructor =
+                DataFlowComponent.class.getDeclaredConstructor(Object.class, Collection.class);
+        dataFlowComponentConstructor.setAccessible(true);
+        dataFlowComponents = new ArrayList<>(NUMBER_OF_SINKS);
+        for (int i = 0; i < NUMBER_OF_SINKS; i++) {
+            final List<String> sinkRoutes = List.of("route" + (2 * i), "route" + (2 * i + 1));
+            dataFlowComponents.add(dataFlowComponentConstructor.newInstance(new Object(), sinkRoutes));
+        }
+
+        final ExpressionEvaluator expressionEvaluator = new ExpressionEvaluator() {
+            @Override
+            public Object evaluate(final String statement, final Event context) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public CompiledExpression compile(final String statement) {
+                return routeConditions.get("route" + statement.substring("condition".length()));
+            }
+        };
+        router = new Router(new RouteEventEvaluator(expressionEvaluator, routes), new DataFlowComponentRouter());
+
+        getRecordStrategy = new RouterGetRecordStrategy() {
+            @Override
+            public Record getRecord(final Record record) {
+                return record;
+            }
+
+            @Override
+            public Collection<Record> getAllRecords(final Collection<Record> allRecords) {
+                return allRecords;
+            }
+        };
+    }
+
+    @Benchmark
+    public void route(final Blackhole blackhole) {
+        if ("route_set".equals(routing)) {
+            routeWithRouteSets(blackhole);
+        } else {
+            router.route(records, dataFlowComponents, getRecordStrategy, (component, componentRecords) -> blackhole.consume(componentRecords));
+        }
+    }
+
+    private void routeWithRouteSets(final Blackhole blackhole) {
+        final Map<Record, Set<String>> recordsToRoutes = new HashMap<>();
+        for (final Record record : records) {
+            final Set<String> matchedRoutes = new HashSet<>();
+            for (final Map.Entry<String, CompiledExpression> routeCondition : routeConditions.entrySet()) {
+                if (routeCondition.getValue().evaluateConditional((Event) record.getData())) {
+                    matchedRoutes.add(routeCondition.getKey());
+                }
+            }
+            recordsToRoutes.put(record, matchedRoutes);
+        }
+
+        for (final DataFlowComponent<Object> dataFlowComponent : dataFlowComponents) {
+            final Set<String> dataFlowComponentRoutes = dataFlowComponent.getRoutes();
+            final Collection<Record> recordsForComponent = new ArrayList<>();
+            for (final Record record : records) {
+                final Set<String> routesForEvent = recordsToRoutes.getOrDefault(record, Collections.emptySet());
+                if (routesForEvent.stream().anyMatch(dataFlowComponentRoutes::contains)) {
+                    recordsForComponent.add(getRecordStrategy.getRecord(record));
+                }
+            }
+            blackhole.consume(recordsForComponent);
+        }
+    }
+}
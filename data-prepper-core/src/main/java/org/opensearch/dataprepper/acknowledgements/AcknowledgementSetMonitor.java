@@ -9,10 +9,9 @@ import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.event.DefaultEventHandle;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.Set;
-import java.util.HashSet;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,11 +22,13 @@ import org.slf4j.LoggerFactory;
  * by a specified time. If it is not completed, then it is considered 'expired' and it is
  * cleaned up. The 'run' method is invoked periodically to cleanup the acknowledgement sets
  * that are either completed or expired.
+ * <p>
+ * The acknowledgement sets are kept in a concurrent set, so acquiring and releasing event
+ * handles from processor and sink threads never takes a lock shared by all acknowledgement sets.
  */
 class AcknowledgementSetMonitor implements Runnable {
     private static final Logger LOG = LoggerFactory.getLogger(AcknowledgementSetMonitor.class);
     private final Set<AcknowledgementSet> acknowledgementSets;
-    private final ReentrantLock lock;
     private final AtomicInteger numInvalidAcquires;
     private final AtomicInteger numInvalidReleases;
     private final AtomicInteger numNullHandles;
@@ -37,8 +38,7 @@ class AcknowledgementSetMonitor implements Runnable {
     }
 
     public AcknowledgementSetMonitor() {
-        this.acknowledgementSets = new HashSet<>();
-        this.lock = new ReentrantLock(true);
+        this.acknowledgementSets = ConcurrentHashMap.newKeySet();
         this.numInvalidAcquires = new AtomicInteger(0);
         this.numInvalidReleases = new AtomicInteger(0);
         this.numNullHandles = new AtomicInteger(0);
@@ -53,12 +53,7 @@ class AcknowledgementSetMonitor implements Runnable {
     }
 
     public void add(final AcknowledgementSet acknowledgementSet) {
-        lock.lock();
-        try {
-            acknowledgementSets.add(acknowledgementSet);
-        } finally {
-            lock.unlock();
-        }
+        acknowledgementSets.add(acknowledgementSet);
     }
 
     public void acquire(final EventHandle eventHandle) {
@@ -68,13 +63,7 @@ class AcknowledgementSetMonitor implements Runnable {
         }
 
         DefaultAcknowledgementSet acknowledgementSet = getAcknowledgementSet(eventHandle);
-        lock.lock();
-        boolean exists = false;
-        try {
-            exists = acknowledgementSets.contains(acknowledgementSet);
-        } finally {
-            lock.unlock();
-        }
+        final boolean exists = acknowledgementSet != null && acknowledgementSets.contains(acknowledgementSet);
         // if acknowledgementSet doesn't exist then it means that the
         // event still active even after the acknowledgement set is
         // cleaned up.
@@ -92,13 +81,7 @@ class AcknowledgementSetMonitor implements Runnable {
             return;
         }
         DefaultAcknowledgementSet acknowledgementSet = getAcknowledgementSet(eventHandle);
-        lock.lock();
-        boolean exists = false;
-        try {
-            exists = acknowledgementSets.contains(acknowledgementSet);
-        } finally {
-            lock.unlock();
-        }
+        final boolean exists = acknowledgementSet != null && acknowledgementSets.contains(acknowledgementSet);
         // if acknowledgementSet doesn't exist then it means some late
         // arrival of event handle release after the acknowledgement set
         // is cleaned up.
@@ -111,8 +94,7 @@ class AcknowledgementSetMonitor implements Runnable {
     }
 
     /**
-     * for testing
-     * @return the size
+     * @return the number of acknowledgement sets which have not been cleaned up yet
      */
     int getSize() {
         return acknowledgementSets.size();
@@ -120,13 +102,6 @@ class AcknowledgementSetMonitor implements Runnable {
 
     @Override
     public void run() {
-        lock.lock();
-        try {
-            if (acknowledgementSets.size() > 0) {
-                acknowledgementSets.removeIf((ackSet) -> ((DefaultAcknowledgementSet) ackSet).isDone());
-            }
-        } finally {
-            lock.unlock();
-        }
+        acknowledgementSets.removeIf((ackSet) -> ((DefaultAcknowledgementSet) ackSet).isDone());
     }
 }
@@ -15,81 +15,73 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
+/**
+ * An {@link AcknowledgementSet} which counts the references to each of its event handles with atomic counters, so
+ * acquiring and releasing event handles from many threads does not take a lock. The callback is submitted by the
+ * thread which releases the last reference to the last pending event handle.
+ */
 public class DefaultAcknowledgementSet implements AcknowledgementSet {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultAcknowledgementSet.class);
     private final Consumer<Boolean> callback;
+    private final Instant creationTime;
     private final Instant expiryTime;
     private final ExecutorService executor;
-    // This lock protects all the non-final members
-    private final ReentrantLock lock;
-    private boolean result;
+    private final AtomicBoolean result;
     private final Map<EventHandle, AtomicInteger> pendingAcknowledgments;
-    private Future<?> callbackFuture;
+    private final AtomicInteger numberOfPendingEventHandles;
+    private volatile Future<?> callbackFuture;
     private final DefaultAcknowledgementSetMetrics metrics;
 
     public DefaultAcknowledgementSet(final ExecutorService executor, final Consumer<Boolean> callback, final Duration expiryTime, final DefaultAcknowledgementSetMetrics metrics) {
         this.callback = callback;
-        this.result = true;
+        this.result = new AtomicBoolean(true);
         this.executor = executor;
-        this.expiryTime = Instant.now().plusMillis(expiryTime.toMillis());
+        this.creationTime = Instant.now();
+        this.expiryTime = creationTime.plusMillis(expiryTime.toMillis());
         this.callbackFuture = null;
         this.metrics = metrics;
-        pendingAcknowledgments = new HashMap<>();
-        lock = new ReentrantLock(true);
+        pendingAcknowledgments = new ConcurrentHashMap<>();
+        numberOfPendingEventHandles = new AtomicInteger(0);
     }
 
     @Override
     public void add(Event event) {
-        lock.lock();
-        try {
-            if (event instanceof JacksonEvent) {
-                EventHandle eventHandle = new DefaultEventHandle(this);
-                ((JacksonEvent) event).setEventHandle(eventHandle);
-                pendingAcknowledgments.put(eventHandle, new AtomicInteger(1));
-            }
-        } finally {
-            lock.unlock();
+        if (event instanceof JacksonEvent) {
+            EventHandle eventHandle = new DefaultEventHandle(this);
+            ((JacksonEvent) event).setEventHandle(eventHandle);
+            numberOfPendingEventHandles.incrementAndGet();
+            pendingAcknowledgments.put(eventHandle, new AtomicInteger(1));
         }
     }
 
     public void acquire(final EventHandle eventHandle) {
-        lock.lock();
-        try {
-            if (!pendingAcknowledgments.containsKey(eventHandle)) {
-                LOG.warn("Unexpected event handle acquire");
-                metrics.increment(DefaultAcknowledgementSetMetrics.INVALID_ACQUIRES_METRIC_NAME);
-                return;
-            }
-            pendingAcknowledgments.get(eventHandle).incrementAndGet();
-        } finally {
-            lock.unlock();
+        final AtomicInteger references = pendingAcknowledgments.get(eventHandle);
+        if (references == null || updateReferences(references, 1) < 0) {
+            LOG.warn("Unexpected event handle acquire");
+            metrics.increment(DefaultAcknowledgementSetMetrics.INVALID_ACQUIRES_METRIC_NAME);
         }
     }
 
     public boolean isDone() {
-        lock.lock();
-        try {
-            if (callbackFuture != null && callbackFuture.isDone()) {
-                metrics.increment(DefaultAcknowledgementSetMetrics.COMPLETED_METRIC_NAME);
-                return true;
-            }
-            if (Instant.now().isAfter(expiryTime)) {
-                if (callbackFuture != null) {
-                    callbackFuture.cancel(true);
-                }
-                metrics.increment(DefaultAcknowledgementSetMetrics.EXPIRED_METRIC_NAME);
-                return true;
+        final Future<?> future = callbackFuture;
+        if (future != null && future.isDone()) {
+            metrics.increment(DefaultAcknowledgementSetMetrics.COMPLETED_METRIC_NAME);
+            return true;
+        }
+        if (Instant.now().isAfter(expiryTime)) {
+            if (future != null) {
+                future.cancel(true);
             }
-        } finally {
-            lock.unlock();
+            metrics.increment(DefaultAcknowledgementSetMetrics.EXPIRED_METRIC_NAME);
+            return true;
         }
         return false;
     }
@@ -100,28 +92,45 @@ public class DefaultAcknowledgementSet implements AcknowledgementSet {
 
     @Override
     public boolean release(final EventHandle eventHandle, final boolean result) {
-        lock.lock();
         // Result indicates negative or positive acknowledgement. Even if one of the
         // events in the set report negative acknowledgement, then the end result
         // is negative acknowledgement
-        this.result = this.result && result;
-        try {
-            if (!pendingAcknowledgments.containsKey(eventHandle) ||
-                pendingAcknowledgments.get(eventHandle).get() == 0) {
-                LOG.warn("Unexpected event handle release");
-                metrics.increment(DefaultAcknowledgementSetMetrics.INVALID_RELEASES_METRIC_NAME);
-                return false;
-            }
-            if (pendingAcknowledgments.get(eventHandle).decrementAndGet() == 0) {
-                pendingAcknowledgments.remove(eventHandle);
-                if (pendingAcknowledgments.size() == 0) {
-                    callbackFuture = executor.submit(() -> callback.accept(this.result));
-                    return true;
-                }
+        if (!result) {
+            this.result.set(false);
+        }
+        final AtomicInteger references = pendingAcknowledgments.get(eventHandle);
+        final int remainingReferences = references == null ? -1 : updateReferences(references, -1);
+        if (remainingReferences < 0) {
+            LOG.warn("Unexpected event handle release");
+            metrics.increment(DefaultAcknowledgementSetMetrics.INVALID_RELEASES_METRIC_NAME);
+            return false;
+        }
+        if (remainingReferences == 0) {
+            pendingAcknowledgments.remove(eventHandle);
+            if (numberOfPendingEventHandles.decrementAndGet() == 0) {
+                metrics.recordLifetime(Duration.between(creationTime, Instant.now()));
+                callbackFuture = executor.submit(() -> callback.accept(this.result.get()));
+                return true;
             }
-        } finally {
-            lock.unlock();
         }
         return false;
     }
+
+    /**
+     * Adds delta to the references of an event handle unless all of its references have already been released.
+     *
+     * @return the updated number of references, or -1 if all references had already been released
+     */
+    private int updateReferences(final AtomicInteger references, final int delta) {
+        while (true) {
+            final int current = references.get();
+            if (current == 0) {
+                return -1;
+            }
+            if (references.compareAndSet(current, current + delta)) {
+                return current + delta;
+            }
+            metrics.increment(DefaultAcknowledgementSetMetrics.CONTENDED_UPDATES_METRIC_NAME);
+        }
+    }
 }
@@ -20,6 +20,7 @@ import java.util.function.Consumer;
 
 @Named
 public class DefaultAcknowledgementSetManager implements AcknowledgementSetManager {
+    static final String ACTIVE_METRIC_NAME = "numberOfActiveAcknowledgementSets";
     private static final int DEFAULT_WAIT_TIME_MS = 15 * 1000;
     private final AcknowledgementSetMonitor acknowledgementSetMonitor;
     private final ExecutorService executor;
@@ -40,6 +41,7 @@ public class DefaultAcknowledgementSetManager implements AcknowledgementSetManag
         acknowledgementSetMonitorThread.start();
         pluginMetrics = PluginMetrics.fromNames("acknowledgementSetManager", "acknowledgements");
         metrics = new DefaultAcknowledgementSetMetrics(pluginMetrics);
+        pluginMetrics.gauge(ACTIVE_METRIC_NAME, acknowledgementSetMonitor, AcknowledgementSetMonitor::getSize);
     }
 
     public AcknowledgementSet create(final Consumer<Boolean> callback, final Duration timeout) {
@@ -7,6 +7,9 @@ package org.opensearch.dataprepper.acknowledgements;
 
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
 
 public class DefaultAcknowledgementSetMetrics {
     static final String CREATED_METRIC_NAME = "numberOfAcknowledgementSetsCreated";
@@ -14,11 +17,15 @@ public class DefaultAcknowledgementSetMetrics {
     static final String EXPIRED_METRIC_NAME = "numberOfAcknowledgementSetsExpired";
     static final String INVALID_ACQUIRES_METRIC_NAME = "numberOfInvalidAcknowledgementAcquires";
     static final String INVALID_RELEASES_METRIC_NAME = "numberOfInvalidAcknowledgementReleases";
+    static final String CONTENDED_UPDATES_METRIC_NAME = "numberOfContendedAcknowledgementUpdates";
+    static final String LIFETIME_METRIC_NAME = "acknowledgementSetLifetime";
     private final Counter numberOfAcknowledgementSetsCreated;
     private final Counter numberOfAcknowledgementSetsCompleted;
     private final Counter numberOfAcknowledgementSetsExpired;
     private final Counter numberOfInvalidAcknowledgementAcquires;
     private final Counter numberOfInvalidAcknowledgementReleases;
+    private final Counter numberOfContendedAcknowledgementUpdates;
+    private final Timer acknowledgementSetLifetime;
 
     public DefaultAcknowledgementSetMetrics(PluginMetrics pluginMetrics) {
         numberOfAcknowledgementSetsCreated = pluginMetrics.counter(CREATED_METRIC_NAME);
@@ -26,6 +33,8 @@ public class DefaultAcknowledgementSetMetrics {
         numberOfAcknowledgementSetsExpired = pluginMetrics.counter(EXPIRED_METRIC_NAME);
         numberOfInvalidAcknowledgementAcquires = pluginMetrics.counter(INVALID_ACQUIRES_METRIC_NAME);
         numberOfInvalidAcknowledgementReleases = pluginMetrics.counter(INVALID_RELEASES_METRIC_NAME);
+        numberOfContendedAcknowledgementUpdates = pluginMetrics.counter(CONTENDED_UPDATES_METRIC_NAME);
+        acknowledgementSetLifetime = pluginMetrics.timer(LIFETIME_METRIC_NAME);
     }
     
     public void increment(String metricName) throws IllegalArgumentException {
@@ -45,10 +54,20 @@ public class DefaultAcknowledgementSetMetrics {
             case INVALID_RELEASES_METRIC_NAME:
                 numberOfInvalidAcknowledgementReleases.increment();
                 break;
+            case CONTENDED_UPDATES_METRIC_NAME:
+                numberOfContendedAcknowledgementUpdates.increment();
+                break;
             default:
                 throw new IllegalArgumentException("Invalid metric name");
         }
     }
 
+    /**
+     * Records the time from the creation of an acknowledgement set until all of its events were released.
+     *
+     * @param lifetime the lifetime of a completed acknowledgement set
+     */
+    public void recordLifetime(final Duration lifetime) {
+        acknowledgementSetLifetime.record(lifetime);
+    }
 }
-
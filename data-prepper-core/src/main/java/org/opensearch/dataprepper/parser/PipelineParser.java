@@ -209,6 +209,7 @@ public class PipelineParser {
                     }).collect(Collectors.toList());
 
             final int readBatchDelay = pipelineConfiguration.getReadBatchDelay();
+            final int maxInFlightBatches = pipelineConfiguration.getMaxInFlightBatches();
 
             LOG.info("Building sinks for the pipeline [{}]", pipelineName);
             final List<DataFlowComponent<Sink>> sinks = pipelineConfiguration.getSinkPluginSettings().stream()
@@ -235,7 +236,7 @@ public class PipelineParser {
             final Pipeline pipeline = new Pipeline(pipelineName, source, buffer, decoratedProcessorSets, sinks, router,
                     eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, processorThreads, readBatchDelay,
                     dataPrepperConfiguration.getProcessorShutdownTimeout(), dataPrepperConfiguration.getSinkShutdownTimeout(),
-                    getPeerForwarderDrainTimeout(dataPrepperConfiguration));
+                    getPeerForwarderDrainTimeout(dataPrepperConfiguration), maxInFlightBatches);
             pipelineMap.put(pipelineName, pipeline);
         } catch (Exception ex) {
             //If pipeline construction errors out, we will skip that pipeline and proceed
@@ -6,74 +6,183 @@
 package org.opensearch.dataprepper.peerforwarder;
 
 import com.linecorp.armeria.client.Endpoint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import net.jpountz.xxhash.XXHash64;
+import net.jpountz.xxhash.XXHashFactory;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.peerforwarder.discovery.PeerListProvider;
+import org.opensearch.dataprepper.peerforwarder.discovery.StaticPeerListProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
 import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.UnknownHostException;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 /**
  * Consistent hashing implementation used to map identification keys to Data Prepper hosts.
  * See https://en.wikipedia.org/wiki/Consistent_hashing for more information.
+ * <p>
+ * The ring is immutable once built. When the peers change, a new ring is built and then replaced in a single write,
+ * so lookups running concurrently always see either the previous or the new ring. Whether each peer address belongs
+ * to this host is resolved while building the ring, so that {@link #isLocalAddress(String)} does not need to query DNS
+ * or the network interfaces when forwarding records. With a refresh interval, the ring is also rebuilt periodically, so
+ * that changes to the network interfaces of this host are picked up even when the peer list does not change.
+ * <p>
+ * With load aware forwarding, identification keys which map to a peer that the {@link PeerLoadTracker} considers
+ * overloaded are mapped to the next peer on the ring which is not overloaded instead, as in consistent hashing with
+ * bounded loads.
  */
-@NotThreadSafe
+@ThreadSafe
 public class HashRing implements Consumer<List<Endpoint>> {
     private static final Logger LOG = LoggerFactory.getLogger(HashRing.class);
     private static final String MD5 = "MD5";
     private static final String DELIMITER = ",";
+    static final String LOCAL_ADDRESS_RESOLUTION_LATENCY = "localAddressResolutionLatency";
+    static final String RECORDS_REASSIGNED = "recordsReassigned";
+    private static final String REFRESH_THREAD_NAME = "hash-ring-refresh";
 
     /* Number of virtual nodes per Data Prepper host to be present on the hash ring */
     private final int numVirtualNodes;
 
     private final PeerListProvider peerListProvider;
 
-    private TreeMap<BigInteger, String> hashServerMap = new TreeMap<>();
+    private final HashRingAlgorithm hashRingAlgorithm;
 
-    public HashRing(final PeerListProvider peerListProvider, final int numVirtualNodes) {
+    private final Timer localAddressResolutionTimer;
+
+    private final PeerLoadTracker peerLoadTracker;
+
+    private final Counter recordsReassignedCounter;
+
+    private final ScheduledExecutorService refreshExecutor;
+
+    private volatile Ring ring;
+
+    public HashRing(final PeerListProvider peerListProvider,
+                    final int numVirtualNodes,
+                    final HashRingAlgorithm hashRingAlgorithm,
+                    final PeerLoadTracker peerLoadTracker,
+                    final PluginMetrics pluginMetrics) {
+        this(peerListProvider, numVirtualNodes, hashRingAlgorithm, peerLoadTracker, pluginMetrics, null);
+    }
+
+    /**
+     * @param refreshInterval the interval at which the ring is rebuilt on a daemon thread, or null to only rebuild it
+     *                        when the peer list changes
+     */
+    public HashRing(final PeerListProvider peerListProvider,
+                    final int numVirtualNodes,
+                    final HashRingAlgorithm hashRingAlgorithm,
+                    final PeerLoadTracker peerLoadTracker,
+                    final PluginMetrics pluginMetrics,
+                    final Duration refreshInterval) {
         Objects.requireNonNull(peerListProvider);
+        Objects.requireNonNull(hashRingAlgorithm);
+        Objects.requireNonNull(peerLoadTracker);
         this.peerListProvider = peerListProvider;
         this.numVirtualNodes = numVirtualNodes;
+        this.hashRingAlgorithm = hashRingAlgorithm;
+        this.peerLoadTracker = peerLoadTracker;
+        this.localAddressResolutionTimer = pluginMetrics.timer(LOCAL_ADDRESS_RESOLUTION_LATENCY);
+        this.recordsReassignedCounter = peerLoadTracker.isLoadAwareForwarding() ? pluginMetrics.counter(RECORDS_REASSIGNED) : null;
 
         buildHashServerMap();
 
         peerListProvider.addListener(this);
+
+        if (refreshInterval != null) {
+            refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, REFRESH_THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+            refreshExecutor.scheduleWithFixedDelay(this::scheduledRefresh,
+                    refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        } else {
+            refreshExecutor = null;
+        }
     }
 
     public Optional<String> getServerIp(final List<String> identificationKeyValues) {
-        if (hashServerMap.isEmpty()) {
-            return Optional.empty();
+        final Ring currentRing = ring;
+        final String serverIp = currentRing.getServerIp(identificationKeyValues);
+        if (recordsReassignedCounter == null || serverIp == null) {
+            return Optional.ofNullable(serverIp);
         }
 
-        final byte[] identificationKeysInBytes = String.join(DELIMITER, identificationKeyValues).getBytes();
+        final Set<String> overloadedPeers = peerLoadTracker.getOverloadedPeers();
+        if (overloadedPeers.isEmpty() || !overloadedPeers.contains(serverIp)) {
+            return Optional.of(serverIp);
+        }
+        final String reassignedServerIp = currentRing.getServerIp(identificationKeyValues, overloadedPeers);
+        if (reassignedServerIp == null) {
+            return Optional.of(serverIp);
+        }
+        recordsReassignedCounter.increment();
+        return Optional.of(reassignedServerIp);
+    }
 
-        final MessageDigest md;
-        try {
-            md = MessageDigest.getInstance(MD5);
-        } catch (NoSuchAlgorithmException e) {
-            throw new AssertionError("unreachable", e);
+    /**
+     * Determines whether an address returned by {@link #getServerIp(List)} belongs to this host. The addresses of the
+     * peers are resolved when the ring is built, so this only resolves addresses which are not on the ring.
+     *
+     * @param address the server IP
+     * @return true if the address is a local address of this host
+     */
+    public boolean isLocalAddress(final String address) {
+        final Boolean isLocalAddress = ring.localAddresses.get(address);
+        if (isLocalAddress != null) {
+            return isLocalAddress;
         }
+        return resolveIsLocalAddress(address);
+    }
 
-        md.update(identificationKeysInBytes);
-        final BigInteger hashcode = new BigInteger(md.digest());
+    /**
+     * Rebuilds the ring from the current peer list and resolves the local addresses again, for instance after the
+     * network interfaces of this host have changed. This runs at the refresh interval when one is configured.
+     */
+    public void refresh() {
+        buildHashServerMap();
+    }
 
-        // obtain Map.Entry with key greater than the hashcode
-        final Map.Entry<BigInteger, String> entry = hashServerMap.higherEntry(hashcode);
+    /**
+     * Stops the periodic refreshes, if any. The ring is still rebuilt when the peer list changes.
+     */
+    public void close() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
 
-        if (entry == null) {
-            // return first node if no key is greater than the hashcode
-            return Optional.of(hashServerMap.firstEntry().getValue());
-        } else {
-            return Optional.of(entry.getValue());
+    private void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (final RuntimeException e) {
+            // an exception would cancel the following refreshes, so the current ring is kept until the next one
+            LOG.error("Failed to refresh the hash ring.", e);
         }
     }
 
@@ -82,37 +191,306 @@ public class HashRing implements Consumer<List<Endpoint>> {
         buildHashServerMap();
     }
 
-    private void buildHashServerMap() {
-        final TreeMap<BigInteger, String> newHashValueMap = new TreeMap<>();
+    /**
+     * Synchronized as the peer list listener and the refresh thread may both rebuild the ring, and the ring built from
+     * the latest peer list must be the one which is kept.
+     */
+    private synchronized void buildHashServerMap() {
         final List<String> endpoints = peerListProvider.getPeerList();
 
-        LOG.info("Building hash ring with endpoints: {}", endpoints);
-        for (final String serverIp : endpoints) {
-            addServerIpToHashMap(serverIp, newHashValueMap);
+        LOG.info("Building {} hash ring with endpoints: {}", hashRingAlgorithm, endpoints);
+        final Map<String, Boolean> localAddresses = localAddressResolutionTimer.record(() -> resolveLocalAddresses(endpoints));
+        if (hashRingAlgorithm == HashRingAlgorithm.XXHASH64) {
+            this.ring = new XxHash64Ring(endpoints, numVirtualNodes, localAddresses);
+        } else {
+            this.ring = new Md5Ring(endpoints, numVirtualNodes, localAddresses);
         }
-
-        this.hashServerMap = newHashValueMap;
     }
 
-    private void addServerIpToHashMap(final String serverIp, final Map<BigInteger, String> targetMap) {
-        final byte[] serverIpInBytes = serverIp.getBytes();
-        final MessageDigest md;
+    private static Map<String, Boolean> resolveLocalAddresses(final List<String> endpoints) {
+        final Map<String, Boolean> localAddresses = new HashMap<>();
+        localAddresses.put(StaticPeerListProvider.LOCAL_ENDPOINT, resolveIsLocalAddress(StaticPeerListProvider.LOCAL_ENDPOINT));
+        for (final String endpoint : endpoints) {
+            localAddresses.computeIfAbsent(endpoint, HashRing::resolveIsLocalAddress);
+        }
+        return localAddresses;
+    }
 
+    private static boolean resolveIsLocalAddress(final String address) {
+        final InetAddress inetAddress;
         try {
-            md = MessageDigest.getInstance(MD5);
-        } catch (NoSuchAlgorithmException e) {
-            throw new AssertionError("unreachable", e);
-        }
-
-        final ByteBuffer intBuffer = ByteBuffer.allocate(4);
-        for (int i = 0; i < numVirtualNodes; i++) {
-            md.update(serverIpInBytes);
-            intBuffer.putInt(i);
-            md.update(intBuffer.array());
-            final BigInteger hashcode = new BigInteger(md.digest());
-            targetMap.putIfAbsent(hashcode, serverIp);
-            md.reset();
-            intBuffer.clear();
+            inetAddress = InetAddress.getByName(address);
+        } catch (final UnknownHostException e) {
+            return false;
+        }
+        if (inetAddress.isAnyLocalAddress() || inetAddress.isLoopbackAddress()) {
+            return true;
+        } else {
+            try {
+                return NetworkInterface.getByInetAddress(inetAddress) != null;
+            } catch (final SocketException e) {
+                return false;
+            }
+        }
+    }
+
+    private abstract static class Ring {
+        private final Map<String, Boolean> localAddresses;
+
+        private Ring(final Map<String, Boolean> localAddresses) {
+            this.localAddresses = localAddresses;
+        }
+
+        /**
+         * @return the server IP for the identification key values, or null if the ring is empty
+         */
+        abstract String getServerIp(List<String> identificationKeyValues);
+
+        /**
+         * @return the first server IP on the ring from the identification key values which is not excluded, or null
+         * if every server IP is excluded
+         */
+        abstract String getServerIp(List<String> identificationKeyValues, Set<String> excludedServerIps);
+    }
+
+    private static class Md5Ring extends Ring {
+        private final TreeMap<BigInteger, String> hashServerMap = new TreeMap<>();
+
+        private Md5Ring(final List<String> endpoints, final int numVirtualNodes, final Map<String, Boolean> localAddresses) {
+            super(localAddresses);
+            for (final String serverIp : endpoints) {
+                addServerIpToHashMap(serverIp, numVirtualNodes);
+            }
+        }
+
+        @Override
+        String getServerIp(final List<String> identificationKeyValues) {
+            if (hashServerMap.isEmpty()) {
+                return null;
+            }
+
+            final BigInteger hashcode = hashIdentificationKeyValues(identificationKeyValues);
+
+            // obtain Map.Entry with key greater than the hashcode
+            final Map.Entry<BigInteger, String> entry = hashServerMap.higherEntry(hashcode);
+
+            if (entry == null) {
+                // return first node if no key is greater than the hashcode
+                return hashServerMap.firstEntry().getValue();
+            } else {
+                return entry.getValue();
+            }
+        }
+
+        @Override
+        String getServerIp(final List<String> identificationKeyValues, final Set<String> excludedServerIps) {
+            final BigInteger hashcode = hashIdentificationKeyValues(identificationKeyValues);
+
+            for (final String serverIp : hashServerMap.tailMap(hashcode, false).values()) {
+                if (!excludedServerIps.contains(serverIp)) {
+                    return serverIp;
+                }
+            }
+            for (final String serverIp : hashServerMap.headMap(hashcode, true).values()) {
+                if (!excludedServerIps.contains(serverIp)) {
+                    return serverIp;
+                }
+            }
+            return null;
+        }
+
+        private static BigInteger hashIdentificationKeyValues(final List<String> identificationKeyValues) {
+            final byte[] identificationKeysInBytes = String.join(DELIMITER, identificationKeyValues).getBytes();
+
+            final MessageDigest md = createMessageDigest();
+            md.update(identificationKeysInBytes);
+            return new BigInteger(md.digest());
+        }
+
+        private void addServerIpToHashMap(final String serverIp, final int numVirtualNodes) {
+            final byte[] serverIpInBytes = serverIp.getBytes();
+            final MessageDigest md = createMessageDigest();
+
+            final ByteBuffer intBuffer = ByteBuffer.allocate(4);
+            for (int i = 0; i < numVirtualNodes; i++) {
+                md.update(serverIpInBytes);
+                intBuffer.putInt(i);
+                md.update(intBuffer.array());
+                final BigInteger hashcode = new BigInteger(md.digest());
+                hashServerMap.putIfAbsent(hashcode, serverIp);
+                md.reset();
+                intBuffer.clear();
+            }
+        }
+
+        private static MessageDigest createMessageDigest() {
+            try {
+                return MessageDigest.getInstance(MD5);
+            } catch (NoSuchAlgorithmException e) {
+                throw new AssertionError("unreachable", e);
+            }
+        }
+    }
+
+    /**
+     * A ring of 64-bit xxHash values held in a sorted primitive array, with the server IP of each virtual node at the
+     * same index of a parallel array. The identification key values are encoded as UTF-8 into a per-thread buffer, so
+     * a lookup hashes the raw key bytes and binary searches the array without allocating.
+     */
+    private static class XxHash64Ring extends Ring {
+        private static final XXHash64 XX_HASH_64 = XXHashFactory.fastestInstance().hash64();
+        private static final long SEED = 0;
+        private static final byte DELIMITER_BYTE = (byte) ',';
+        private static final String NULL_VALUE = "null";
+        private static final ThreadLocal<byte[]> KEY_BUFFER = ThreadLocal.withInitial(() -> new byte[256]);
+
+        private final long[] hashes;
+        private final String[] serverIps;
+
+        private XxHash64Ring(final List<String> endpoints, final int numVirtualNodes, final Map<String, Boolean> localAddresses) {
+            super(localAddresses);
+            final VirtualNode[] virtualNodes = new VirtualNode[endpoints.size() * numVirtualNodes];
+            int count = 0;
+            for (final String serverIp : endpoints) {
+                final byte[] serverIpInBytes = serverIp.getBytes(StandardCharsets.UTF_8);
+                final ByteBuffer virtualNodeBuffer = ByteBuffer.allocate(serverIpInBytes.length + Integer.BYTES);
+                virtualNodeBuffer.put(serverIpInBytes);
+                for (int i = 0; i < numVirtualNodes; i++) {
+                    virtualNodeBuffer.putInt(serverIpInBytes.length, i);
+                    final long hash = XX_HASH_64.hash(virtualNodeBuffer.array(), 0, virtualNodeBuffer.capacity(), SEED);
+                    virtualNodes[count++] = new VirtualNode(hash, serverIp);
+                }
+            }
+
+            // Ties are broken by the server IP so that every node builds the same ring regardless of the peer order.
+            Arrays.sort(virtualNodes, 0, count, Comparator.comparingLong((VirtualNode virtualNode) -> virtualNode.hash)
+                    .thenComparing(virtualNode -> virtualNode.serverIp));
+
+            final long[] sortedHashes = new long[count];
+            final String[] sortedServerIps = new String[count];
+            int size = 0;
+            for (int i = 0; i < count; i++) {
+                if (size > 0 && sortedHashes[size - 1] == virtualNodes[i].hash) {
+                    continue;
+                }
+                sortedHashes[size] = virtualNodes[i].hash;
+                sortedServerIps[size] = virtualNodes[i].serverIp;
+                size++;
+            }
+            hashes = Arrays.copyOf(sortedHashes, size);
+            serverIps = Arrays.copyOf(sortedServerIps, size);
+        }
+
+        @Override
+        String getServerIp(final List<String> identificationKeyValues) {
+            if (hashes.length == 0) {
+                return null;
+            }
+
+            return serverIps[findVirtualNode(identificationKeyValues)];
+        }
+
+        @Override
+        String getServerIp(final List<String> identificationKeyValues, final Set<String> excludedServerIps) {
+            if (hashes.length == 0) {
+                return null;
+            }
+
+            final int firstVirtualNode = findVirtualNode(identificationKeyValues);
+            for (int i = 0; i < serverIps.length; i++) {
+                final String serverIp = serverIps[(firstVirtualNode + i) % serverIps.length];
+                if (!excludedServerIps.contains(serverIp)) {
+                    return serverIp;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @return the index of the first virtual node with a hash greater than the hash of the identification key
+         * values, wrapping around to the first node
+         */
+        private int findVirtualNode(final List<String> identificationKeyValues) {
+            final long hashcode = hashIdentificationKeyValues(identificationKeyValues);
+
+            int low = 0;
+            int high = hashes.length;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (hashes[middle] <= hashcode) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low == hashes.length ? 0 : low;
+        }
+
+        private static long hashIdentificationKeyValues(final List<String> identificationKeyValues) {
+            final int size = identificationKeyValues.size();
+            int maxLength = size;
+            for (int i = 0; i < size; i++) {
+                final String value = identificationKeyValues.get(i);
+                maxLength += value == null ? NULL_VALUE.length() : value.length() * 3;
+            }
+
+            byte[] buffer = KEY_BUFFER.get();
+            if (buffer.length < maxLength) {
+                buffer = new byte[Math.max(maxLength, buffer.length * 2)];
+                KEY_BUFFER.set(buffer);
+            }
+
+            int length = 0;
+            for (int i = 0; i < size; i++) {
+                if (i > 0) {
+                    buffer[length++] = DELIMITER_BYTE;
+                }
+                final String value = identificationKeyValues.get(i);
+                length = encodeUtf8(value == null ? NULL_VALUE : value, buffer, length);
+            }
+            return XX_HASH_64.hash(buffer, 0, length, SEED);
+        }
+
+        /**
+         * Encodes the value as UTF-8 into the buffer, which must have room for three bytes per char.
+         *
+         * @return the position in the buffer after the encoded value
+         */
+        private static int encodeUtf8(final String value, final byte[] buffer, int position) {
+            final int length = value.length();
+            for (int i = 0; i < length; i++) {
+                final char c = value.charAt(i);
+                if (c < 0x80) {
+                    buffer[position++] = (byte) c;
+                } else if (c < 0x800) {
+                    buffer[position++] = (byte) (0xC0 | (c >> 6));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    // unpaired surrogates are replaced the same way as String.getBytes
+                    buffer[position++] = (byte) '?';
+                } else {
+                    buffer[position++] = (byte) (0xE0 | (c >> 12));
+                    buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            return position;
+        }
+    }
+
+    private static class VirtualNode {
+        private final long hash;
+        private final String serverIp;
+
+        private VirtualNode(final long hash, final String serverIp) {
+            this.hash = hash;
+            this.serverIp = serverIp;
         }
     }
 }
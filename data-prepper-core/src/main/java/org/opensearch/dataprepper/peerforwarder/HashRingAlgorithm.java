@@ -0,0 +1,24 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+/**
+ * The hash function used by the {@link HashRing} to place Data Prepper hosts and identification keys on the ring.
+ * All the nodes of a cluster must use the same algorithm, since each algorithm places keys differently.
+ *
+ * @since 2.4
+ */
+public enum HashRingAlgorithm {
+    /**
+     * MD5 digests of the joined identification key values, looked up in a sorted map.
+     */
+    MD5,
+    /**
+     * 64-bit xxHash of the UTF-8 bytes of the identification key values, looked up with a binary search
+     * in a sorted array. This does not allocate per lookup.
+     */
+    XXHASH64
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded queue of the records batched for forwarding to one peer. Any number of pipeline workers add records
+ * without locking, while draining is serialized, as in a multi-producer single-consumer array queue.
+ * <p>
+ * Producers reserve a range of slots with a single compare-and-set of the producer index, bounded by the capacity, and
+ * then publish their records into the slots. A slot which has been reserved but not yet published ends a drain, so the
+ * records are drained in the order of their slots. The consumer clears each slot before advancing the consumer index,
+ * so producers only reserve slots which are empty.
+ *
+ * @param <T> the type of the elements
+ */
+class PeerBatchingQueue<T> {
+    private final int capacity;
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLong producerIndex;
+    private volatile long consumerIndex;
+    private volatile long lastFlushTimeMillis;
+
+    PeerBatchingQueue(final int capacity, final long currentTimeMillis) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be a positive integer.");
+        }
+        this.capacity = capacity;
+        slots = new AtomicReferenceArray<>(capacity);
+        producerIndex = new AtomicLong();
+        lastFlushTimeMillis = currentTimeMillis;
+    }
+
+    /**
+     * Adds as many of the elements as there is space for, in order.
+     *
+     * @param elements the elements to add
+     * @return the number of elements added from the start of the list. The remaining elements did not fit in the queue.
+     */
+    int addAll(final List<T> elements) {
+        final int size = elements.size();
+        if (size == 0) {
+            return 0;
+        }
+
+        long startIndex;
+        int reserved;
+        do {
+            startIndex = producerIndex.get();
+            final long available = capacity - (startIndex - consumerIndex);
+            if (available <= 0) {
+                return 0;
+            }
+            reserved = (int) Math.min(size, available);
+        } while (!producerIndex.compareAndSet(startIndex, startIndex + reserved));
+
+        for (int i = 0; i < reserved; i++) {
+            slots.lazySet(slotOf(startIndex + i), elements.get(i));
+        }
+        return reserved;
+    }
+
+    /**
+     * Moves up to maxElements published elements to the collection.
+     *
+     * @return the number of elements moved
+     */
+    synchronized int drainTo(final Collection<? super T> collection, final int maxElements) {
+        long index = consumerIndex;
+        int drained = 0;
+        while (drained < maxElements) {
+            final int slot = slotOf(index);
+            final T element = slots.get(slot);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(slot, null);
+            collection.add(element);
+            index++;
+            drained++;
+        }
+        consumerIndex = index;
+        return drained;
+    }
+
+    /**
+     * @return the number of elements in the queue, including elements which are being added
+     */
+    int size() {
+        // the consumer index is read first, so that it cannot have moved past the producer index which is read
+        final long currentConsumerIndex = consumerIndex;
+        return (int) (producerIndex.get() - currentConsumerIndex);
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    long getLastFlushTimeMillis() {
+        return lastFlushTimeMillis;
+    }
+
+    void setLastFlushTimeMillis(final long lastFlushTimeMillis) {
+        this.lastFlushTimeMillis = lastFlushTimeMillis;
+    }
+
+    private int slotOf(final long index) {
+        return (int) (index % capacity);
+    }
+}
@@ -51,24 +51,32 @@ class PeerForwarderAppConfig {
         return new CertificateProviderFactory(peerForwarderConfiguration);
     }
 
+    @Bean
+    public PeerLoadTracker peerLoadTracker(final PeerForwarderConfiguration peerForwarderConfiguration,
+                                           @Qualifier("peerForwarderMetrics") final PluginMetrics pluginMetrics) {
+        return new PeerLoadTracker(peerForwarderConfiguration, pluginMetrics);
+    }
+
     @Bean
     public PeerForwarderClientFactory peerForwarderClientFactory(
             final PeerForwarderConfiguration peerForwarderConfiguration,
             final PeerClientPool peerClientPool,
             final CertificateProviderFactory certificateProviderFactory,
+            final PeerLoadTracker peerLoadTracker,
             @Qualifier("peerForwarderMetrics") final PluginMetrics pluginMetrics
     ) {
-        return new PeerForwarderClientFactory(peerForwarderConfiguration, peerClientPool, certificateProviderFactory, pluginMetrics);
+        return new PeerForwarderClientFactory(peerForwarderConfiguration, peerClientPool, certificateProviderFactory, peerLoadTracker, pluginMetrics);
     }
 
     @Bean
     public PeerForwarderClient peerForwarderClient(final PeerForwarderConfiguration peerForwarderConfiguration,
                                                    final PeerForwarderClientFactory peerForwarderClientFactory,
                                                    final PeerForwarderCodec peerForwarderCodec,
+                                                   final PeerLoadTracker peerLoadTracker,
                                                    @Qualifier("peerForwarderMetrics") final PluginMetrics pluginMetrics
     ) {
         return new PeerForwarderClient(
-                peerForwarderConfiguration, peerForwarderClientFactory, peerForwarderCodec, pluginMetrics);
+                peerForwarderConfiguration, peerForwarderClientFactory, peerForwarderCodec, peerLoadTracker, pluginMetrics);
     }
 
     @Bean
@@ -17,22 +17,26 @@ public class PeerForwarderClientFactory {
     private final PeerForwarderConfiguration peerForwarderConfiguration;
     private final PeerClientPool peerClientPool;
     private final CertificateProviderFactory certificateProviderFactory;
+    private final PeerLoadTracker peerLoadTracker;
     private final PluginMetrics pluginMetrics;
 
     public PeerForwarderClientFactory(final PeerForwarderConfiguration peerForwarderConfiguration,
                                       final PeerClientPool peerClientPool,
                                       final CertificateProviderFactory certificateProviderFactory,
+                                      final PeerLoadTracker peerLoadTracker,
                                       final PluginMetrics pluginMetrics) {
         this.peerForwarderConfiguration = peerForwarderConfiguration;
         this.peerClientPool = peerClientPool;
         this.certificateProviderFactory = certificateProviderFactory;
+        this.peerLoadTracker = peerLoadTracker;
         this.pluginMetrics = pluginMetrics;
     }
 
     public HashRing createHashRing() {
         final DiscoveryMode discoveryMode = peerForwarderConfiguration.getDiscoveryMode();
         final PeerListProvider peerListProvider = discoveryMode.create(peerForwarderConfiguration, pluginMetrics);
-        return new HashRing(peerListProvider, NUM_VIRTUAL_NODES);
+        return new HashRing(peerListProvider, NUM_VIRTUAL_NODES, peerForwarderConfiguration.getHashAlgorithm(),
+                peerLoadTracker, pluginMetrics, peerForwarderConfiguration.getHashRingRefreshInterval());
     }
 
     public PeerClientPool setPeerClientPool() {
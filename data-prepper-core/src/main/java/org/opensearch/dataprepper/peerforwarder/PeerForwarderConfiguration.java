@@ -8,6 +8,8 @@ package org.opensearch.dataprepper.peerforwarder;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.apache.commons.lang3.StringUtils;
+import org.opensearch.dataprepper.peerforwarder.codec.BinaryCodecFormat;
+import org.opensearch.dataprepper.peerforwarder.codec.PeerForwarderCompression;
 import org.opensearch.dataprepper.peerforwarder.discovery.DiscoveryMode;
 
 import java.time.Duration;
@@ -25,6 +27,7 @@ public class PeerForwarderConfiguration {
     public static final String DEFAULT_PEER_FORWARDING_URI = "/event/forward";
     public static final Duration DEFAULT_DRAIN_TIMEOUT = Duration.ofSeconds(10L);
     public static final Duration DEFAULT_FORWARDING_BATCH_TIMEOUT = Duration.ofSeconds(3L);
+    public static final Duration DEFAULT_LOAD_AWARE_AFFINITY_WINDOW = Duration.ofSeconds(30L);
     public static final String DEFAULT_CERTIFICATE_FILE_PATH = "config/default_certificate.pem";
     public static final String DEFAULT_PRIVATE_KEY_FILE_PATH = "config/default_private_key.pem";
     private static final String S3_PREFIX = "s3://";
@@ -64,6 +67,15 @@ public class PeerForwarderConfiguration {
     private Integer forwardingBatchQueueDepth = 1;
     private Duration forwardingBatchTimeout = DEFAULT_FORWARDING_BATCH_TIMEOUT;
     private boolean binaryCodec = true;
+    private BinaryCodecFormat binaryCodecFormat = BinaryCodecFormat.JAVA;
+    private PeerForwarderCompression compression = PeerForwarderCompression.NONE;
+    private HashRingAlgorithm hashAlgorithm = HashRingAlgorithm.MD5;
+    private boolean asynchronousForwarding = false;
+    private Integer maxInFlightRequestsPerPeer = 4;
+    private boolean loadAwareForwarding = false;
+    private Double loadBalanceFactor = 1.25;
+    private Duration loadAwareAffinityWindow = DEFAULT_LOAD_AWARE_AFFINITY_WINDOW;
+    private Duration hashRingRefreshInterval;
 
     public PeerForwarderConfiguration() {}
 
@@ -101,7 +113,16 @@ public class PeerForwarderConfiguration {
             @JsonProperty("forwarding_batch_size") final Integer forwardingBatchSize,
             @JsonProperty("forwarding_batch_queue_depth") final Integer forwardingBatchQueueDepth,
             @JsonProperty("forwarding_batch_timeout") final Duration forwardingBatchTimeout,
-            @JsonProperty("binary_codec") final Boolean binaryCodec
+            @JsonProperty("binary_codec") final Boolean binaryCodec,
+            @JsonProperty("binary_codec_format") final String binaryCodecFormat,
+            @JsonProperty("compression") final String compression,
+            @JsonProperty("hash_algorithm") final String hashAlgorithm,
+            @JsonProperty("asynchronous_forwarding") final Boolean asynchronousForwarding,
+            @JsonProperty("max_in_flight_requests_per_peer") final Integer maxInFlightRequestsPerPeer,
+            @JsonProperty("load_aware_forwarding") final Boolean loadAwareForwarding,
+            @JsonProperty("load_balance_factor") final Double loadBalanceFactor,
+            @JsonProperty("load_aware_affinity_window") final Duration loadAwareAffinityWindow,
+            @JsonProperty("hash_ring_refresh_interval") final Duration hashRingRefreshInterval
     ) {
         setServerPort(serverPort);
         setRequestTimeout(requestTimeout);
@@ -136,6 +157,15 @@ public class PeerForwarderConfiguration {
         setForwardingBatchQueueDepth(forwardingBatchQueueDepth);
         setForwardingBatchTimeout(forwardingBatchTimeout);
         setBinaryCodec(binaryCodec == null || binaryCodec);
+        setBinaryCodecFormat(binaryCodecFormat);
+        setCompression(compression);
+        setHashAlgorithm(hashAlgorithm);
+        setAsynchronousForwarding(asynchronousForwarding != null && asynchronousForwarding);
+        setMaxInFlightRequestsPerPeer(maxInFlightRequestsPerPeer);
+        setLoadAwareForwarding(loadAwareForwarding != null && loadAwareForwarding);
+        setLoadBalanceFactor(loadBalanceFactor);
+        setLoadAwareAffinityWindow(loadAwareAffinityWindow);
+        setHashRingRefreshInterval(hashRingRefreshInterval);
         checkForCertAndKeyFileInS3();
         validateSslAndAuthentication();
     }
@@ -260,6 +290,42 @@ public class PeerForwarderConfiguration {
         return binaryCodec;
     }
 
+    public BinaryCodecFormat getBinaryCodecFormat() {
+        return binaryCodecFormat;
+    }
+
+    public PeerForwarderCompression getCompression() {
+        return compression;
+    }
+
+    public HashRingAlgorithm getHashAlgorithm() {
+        return hashAlgorithm;
+    }
+
+    public boolean isAsynchronousForwarding() {
+        return asynchronousForwarding;
+    }
+
+    public Integer getMaxInFlightRequestsPerPeer() {
+        return maxInFlightRequestsPerPeer;
+    }
+
+    public boolean isLoadAwareForwarding() {
+        return loadAwareForwarding;
+    }
+
+    public Double getLoadBalanceFactor() {
+        return loadBalanceFactor;
+    }
+
+    public Duration getLoadAwareAffinityWindow() {
+        return loadAwareAffinityWindow;
+    }
+
+    public Duration getHashRingRefreshInterval() {
+        return hashRingRefreshInterval;
+    }
+
     private void setServerPort(final Integer serverPort) {
         if (serverPort != null) {
             if (serverPort < 0 || serverPort > 65535) {
@@ -553,4 +619,70 @@ public class PeerForwarderConfiguration {
     private void setBinaryCodec(final boolean binaryCodec) {
         this.binaryCodec = binaryCodec;
     }
+
+    private void setBinaryCodecFormat(final String binaryCodecFormat) {
+        if (binaryCodecFormat != null) {
+            this.binaryCodecFormat = BinaryCodecFormat.valueOf(binaryCodecFormat.toUpperCase());
+        }
+    }
+
+    private void setCompression(final String compression) {
+        if (compression != null) {
+            final PeerForwarderCompression peerForwarderCompression = PeerForwarderCompression.getByName(compression.toLowerCase());
+            if (peerForwarderCompression == null) {
+                throw new IllegalArgumentException("Compression must be one of none, gzip, zstd or lz4.");
+            }
+            this.compression = peerForwarderCompression;
+        }
+    }
+
+    private void setHashAlgorithm(final String hashAlgorithm) {
+        if (hashAlgorithm != null) {
+            this.hashAlgorithm = HashRingAlgorithm.valueOf(hashAlgorithm.toUpperCase());
+        }
+    }
+
+    private void setAsynchronousForwarding(final boolean asynchronousForwarding) {
+        this.asynchronousForwarding = asynchronousForwarding;
+    }
+
+    private void setMaxInFlightRequestsPerPeer(final Integer maxInFlightRequestsPerPeer) {
+        if (maxInFlightRequestsPerPeer != null) {
+            if (maxInFlightRequestsPerPeer <= 0) {
+                throw new IllegalArgumentException("Max in-flight requests per peer must be a positive integer.");
+            }
+            this.maxInFlightRequestsPerPeer = maxInFlightRequestsPerPeer;
+        }
+    }
+
+    private void setLoadAwareForwarding(final boolean loadAwareForwarding) {
+        this.loadAwareForwarding = loadAwareForwarding;
+    }
+
+    private void setLoadBalanceFactor(final Double loadBalanceFactor) {
+        if (loadBalanceFactor != null) {
+            if (loadBalanceFactor < 1.0) {
+                throw new IllegalArgumentException("Load balance factor must be at least 1.0.");
+            }
+            this.loadBalanceFactor = loadBalanceFactor;
+        }
+    }
+
+    private void setLoadAwareAffinityWindow(final Duration loadAwareAffinityWindow) {
+        if (loadAwareAffinityWindow != null) {
+            if (loadAwareAffinityWindow.isNegative() || loadAwareAffinityWindow.isZero()) {
+                throw new IllegalArgumentException("Load aware affinity window must be positive.");
+            }
+            this.loadAwareAffinityWindow = loadAwareAffinityWindow;
+        }
+    }
+
+    private void setHashRingRefreshInterval(final Duration hashRingRefreshInterval) {
+        if (hashRingRefreshInterval != null) {
+            if (hashRingRefreshInterval.isNegative() || hashRingRefreshInterval.isZero()) {
+                throw new IllegalArgumentException("Hash ring refresh interval must be positive.");
+            }
+            this.hashRingRefreshInterval = hashRingRefreshInterval;
+        }
+    }
 }
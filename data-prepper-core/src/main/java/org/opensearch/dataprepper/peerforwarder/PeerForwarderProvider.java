@@ -60,7 +60,9 @@ public class PeerForwarderProvider {
                     peerForwarderConfiguration.getForwardingBatchSize(),
                     peerForwarderConfiguration.getForwardingBatchQueueDepth(),
                     peerForwarderConfiguration.getForwardingBatchTimeout(),
-                    pipelineWorkerThreads
+                    pipelineWorkerThreads,
+                    peerForwarderConfiguration.isAsynchronousForwarding(),
+                    peerForwarderConfiguration.getMaxInFlightRequestsPerPeer()
             );
         }
         else {
@@ -98,4 +100,13 @@ public class PeerForwarderProvider {
     public Map<String, Map<String, PeerForwarderReceiveBuffer<Record<Event>>>> getPipelinePeerForwarderReceiveBufferMap() {
         return pipelinePeerForwarderReceiveBufferMap;
     }
+
+    /**
+     * Stops the periodic refreshes of the {@link HashRing}, if one was created.
+     */
+    public void close() {
+        if (hashRing != null) {
+            hashRing.close();
+        }
+    }
 }
@@ -145,6 +145,14 @@ public class PeerForwarderReceiveBuffer<T extends Record<?>> extends AbstractBuf
         bufferUsage.set(usage);
     }
 
+    /**
+     * @return the percentage of the buffer capacity which is used by records waiting to be read
+     * @since 2.4
+     */
+    public double getBufferUsage() {
+        return bufferUsage.get();
+    }
+
     @Override
     public void doCheckpoint(final CheckpointState checkpointState) {
         final int numCheckedRecords = checkpointState.getNumRecordsToBeChecked();
@@ -0,0 +1,164 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import com.google.common.util.concurrent.AtomicDouble;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the buffer usage which peers report in their responses to forwarded requests, and decides which peers are
+ * overloaded when load aware forwarding is enabled.
+ * <p>
+ * A peer is overloaded when its buffer usage is at least {@link #MINIMUM_OVERLOADED_BUFFER_USAGE} percent and above
+ * the mean usage of the peers multiplied by the load balance factor. The {@link HashRing} skips overloaded peers and
+ * maps their identification keys to the next peer on the ring. The overloaded peers are only evaluated once per
+ * affinity window, so that the identification keys keep going to the same peer within a window. Reports which are
+ * older than the affinity window are discarded, so that an overloaded peer, which no longer receives requests and
+ * hence no longer reports its usage, gets its share back after one window.
+ *
+ * @since 2.4
+ */
+public class PeerLoadTracker {
+    private static final Logger LOG = LoggerFactory.getLogger(PeerLoadTracker.class);
+    public static final String BUFFER_USAGE_HEADER = "x-data-prepper-buffer-usage";
+    static final double MINIMUM_OVERLOADED_BUFFER_USAGE = 50.0;
+    static final String PEER_LOAD_IMBALANCE = "peerLoadImbalance";
+    static final String OVERLOADED_PEERS = "overloadedPeers";
+
+    private final boolean loadAwareForwarding;
+    private final double loadBalanceFactor;
+    private final long affinityWindowMillis;
+    private final Clock clock;
+    private final Map<String, BufferUsageReport> bufferUsageReports;
+    private final AtomicLong nextEvaluationMillis;
+    private final AtomicDouble peerLoadImbalance;
+    private final AtomicInteger overloadedPeersCount;
+
+    private volatile Set<String> overloadedPeers;
+
+    public PeerLoadTracker(final PeerForwarderConfiguration peerForwarderConfiguration, final PluginMetrics pluginMetrics) {
+        this(peerForwarderConfiguration.isLoadAwareForwarding(), peerForwarderConfiguration.getLoadBalanceFactor(),
+                peerForwarderConfiguration.getLoadAwareAffinityWindow(), pluginMetrics, Clock.systemUTC());
+    }
+
+    PeerLoadTracker(final boolean loadAwareForwarding,
+                    final double loadBalanceFactor,
+                    final Duration affinityWindow,
+                    final PluginMetrics pluginMetrics,
+                    final Clock clock) {
+        this.loadAwareForwarding = loadAwareForwarding;
+        this.loadBalanceFactor = loadBalanceFactor;
+        this.affinityWindowMillis = affinityWindow.toMillis();
+        this.clock = clock;
+        bufferUsageReports = new ConcurrentHashMap<>();
+        nextEvaluationMillis = new AtomicLong(clock.millis() + affinityWindowMillis);
+        overloadedPeers = Collections.emptySet();
+
+        if (loadAwareForwarding) {
+            peerLoadImbalance = pluginMetrics.gauge(PEER_LOAD_IMBALANCE, new AtomicDouble(1.0));
+            overloadedPeersCount = pluginMetrics.gauge(OVERLOADED_PEERS, new AtomicInteger());
+        } else {
+            peerLoadImbalance = new AtomicDouble(1.0);
+            overloadedPeersCount = new AtomicInteger();
+        }
+    }
+
+    public boolean isLoadAwareForwarding() {
+        return loadAwareForwarding;
+    }
+
+    /**
+     * Records the buffer usage reported by a peer in the {@link #BUFFER_USAGE_HEADER} response header.
+     *
+     * @param peer the address of the peer
+     * @param bufferUsageHeader the value of the header, or null if the peer did not report its usage
+     */
+    public void recordBufferUsage(final String peer, final String bufferUsageHeader) {
+        if (!loadAwareForwarding || bufferUsageHeader == null) {
+            return;
+        }
+        final double bufferUsage;
+        try {
+            bufferUsage = Double.parseDouble(bufferUsageHeader);
+        } catch (final NumberFormatException e) {
+            LOG.warn("Peer {} reported an invalid buffer usage {}.", peer, bufferUsageHeader);
+            return;
+        }
+        bufferUsageReports.put(peer, new BufferUsageReport(bufferUsage, clock.millis()));
+    }
+
+    /**
+     * @return the peers which are overloaded in the current affinity window
+     */
+    public Set<String> getOverloadedPeers() {
+        if (!loadAwareForwarding) {
+            return Collections.emptySet();
+        }
+        final long now = clock.millis();
+        final long nextEvaluation = nextEvaluationMillis.get();
+        if (now >= nextEvaluation && nextEvaluationMillis.compareAndSet(nextEvaluation, now + affinityWindowMillis)) {
+            overloadedPeers = evaluateOverloadedPeers(now);
+        }
+        return overloadedPeers;
+    }
+
+    double getPeerLoadImbalance() {
+        return peerLoadImbalance.get();
+    }
+
+    private Set<String> evaluateOverloadedPeers(final long now) {
+        bufferUsageReports.values().removeIf(report -> now - report.reportTimeMillis > affinityWindowMillis);
+        if (bufferUsageReports.isEmpty()) {
+            peerLoadImbalance.set(1.0);
+            overloadedPeersCount.set(0);
+            return Collections.emptySet();
+        }
+
+        double totalUsage = 0;
+        double maxUsage = 0;
+        for (final BufferUsageReport report : bufferUsageReports.values()) {
+            totalUsage += report.bufferUsage;
+            maxUsage = Math.max(maxUsage, report.bufferUsage);
+        }
+        final double meanUsage = totalUsage / bufferUsageReports.size();
+        peerLoadImbalance.set(meanUsage > 0 ? maxUsage / meanUsage : 1.0);
+
+        final double balancedUsage = meanUsage * loadBalanceFactor;
+        final Set<String> evaluatedOverloadedPeers = new HashSet<>();
+        bufferUsageReports.forEach((peer, report) -> {
+            if (report.bufferUsage >= MINIMUM_OVERLOADED_BUFFER_USAGE && report.bufferUsage > balancedUsage) {
+                evaluatedOverloadedPeers.add(peer);
+            }
+        });
+        overloadedPeersCount.set(evaluatedOverloadedPeers.size());
+        if (!evaluatedOverloadedPeers.isEmpty()) {
+            LOG.info("Forwarding records away from overloaded peers {} for the next {} ms.", evaluatedOverloadedPeers, affinityWindowMillis);
+        }
+        return Collections.unmodifiableSet(evaluatedOverloadedPeers);
+    }
+
+    private static class BufferUsageReport {
+        private final double bufferUsage;
+        private final long reportTimeMillis;
+
+        private BufferUsageReport(final double bufferUsage, final long reportTimeMillis) {
+            this.bufferUsage = bufferUsage;
+            this.reportTimeMillis = reportTimeMillis;
+        }
+    }
+}
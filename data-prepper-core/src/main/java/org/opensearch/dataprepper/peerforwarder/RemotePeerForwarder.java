@@ -12,29 +12,25 @@ import org.opensearch.dataprepper.model.CheckpointState;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import org.opensearch.dataprepper.peerforwarder.discovery.StaticPeerListProvider;
 import org.opensearch.dataprepper.peerforwarder.client.PeerForwarderClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.net.InetAddress;
-import java.net.NetworkInterface;
-import java.net.SocketException;
-import java.net.UnknownHostException;
 import java.time.Duration;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 class RemotePeerForwarder implements PeerForwarder {
     private static final Logger LOG = LoggerFactory.getLogger(RemotePeerForwarder.class);
@@ -47,6 +43,10 @@ class RemotePeerForwarder implements PeerForwarder {
     static final String RECORDS_MISSING_IDENTIFICATION_KEYS = "recordsMissingIdentificationKeys";
     static final String REQUESTS_FAILED = "requestsFailed";
     static final String REQUESTS_SUCCESSFUL = "requestsSuccessful";
+    static final String FORWARDING_REQUEST_LATENCY = "forwardingRequestLatency";
+    static final String FORWARDING_REQUESTS_IN_FLIGHT = "forwardingRequestsInFlight";
+    static final String PEER_TAG = "peer";
+    static final String PIPELINE_TAG = "pipeline";
 
     private final PeerForwarderClient peerForwarderClient;
     private final HashRing hashRing;
@@ -54,8 +54,8 @@ class RemotePeerForwarder implements PeerForwarder {
     private final String pipelineName;
     private final String pluginId;
     private final Set<String> identificationKeys;
-    final ConcurrentHashMap<String, LinkedBlockingQueue<Record<Event>>> peerBatchingQueueMap;
-    private final ConcurrentHashMap<String, Long> peerBatchingLastFlushTimeMap;
+    final ConcurrentHashMap<String, PeerBatchingQueue<Record<Event>>> peerBatchingQueueMap;
+    final ConcurrentHashMap<String, PeerForwardingWindow> peerForwardingWindowMap;
 
     private final Counter recordsActuallyProcessedLocallyCounter;
     private final Counter recordsToBeProcessedLocallyCounter;
@@ -69,8 +69,11 @@ class RemotePeerForwarder implements PeerForwarder {
     private final Integer failedForwardingRequestLocalWriteTimeout;
     private final Integer forwardingBatchSize;
     private final Integer forwardingBatchQueueDepth;
-    private final Duration forwardingBatchTimeout;
+    private final long forwardingBatchTimeoutMillis;
     private final Integer pipelineWorkerThreads;
+    private final boolean asynchronousForwarding;
+    private final Integer maxInFlightRequestsPerPeer;
+    private final PluginMetrics pluginMetrics;
 
     RemotePeerForwarder(final PeerForwarderClient peerForwarderClient,
                         final HashRing hashRing,
@@ -84,7 +87,9 @@ class RemotePeerForwarder implements PeerForwarder {
                         final Integer forwardingBatchSize,
                         final Integer forwardingBatchQueueDepth,
                         final Duration forwardingBatchTimeout,
-                        final Integer pipelineWorkerThreads) {
+                        final Integer pipelineWorkerThreads,
+                        final boolean asynchronousForwarding,
+                        final Integer maxInFlightRequestsPerPeer) {
         this.peerForwarderClient = peerForwarderClient;
         this.hashRing = hashRing;
         this.peerForwarderReceiveBuffer = peerForwarderReceiveBuffer;
@@ -95,11 +100,14 @@ class RemotePeerForwarder implements PeerForwarder {
         this.failedForwardingRequestLocalWriteTimeout = failedForwardingRequestLocalWriteTimeout;
         this.forwardingBatchSize = forwardingBatchSize;
         this.forwardingBatchQueueDepth = forwardingBatchQueueDepth;
-        this.forwardingBatchTimeout = forwardingBatchTimeout;
         this.pipelineWorkerThreads = pipelineWorkerThreads;
+        this.asynchronousForwarding = asynchronousForwarding;
+        this.maxInFlightRequestsPerPeer = maxInFlightRequestsPerPeer;
+        this.pluginMetrics = pluginMetrics;
+        this.forwardingBatchTimeoutMillis = forwardingBatchTimeout.toMillis();
         peerBatchingQueueMap = new ConcurrentHashMap<>();
-        peerBatchingLastFlushTimeMap = new ConcurrentHashMap<>();
-        
+        peerForwardingWindowMap = new ConcurrentHashMap<>();
+
         recordsActuallyProcessedLocallyCounter = pluginMetrics.counter(RECORDS_ACTUALLY_PROCESSED_LOCALLY);
         recordsToBeProcessedLocallyCounter = pluginMetrics.counter(RECORDS_TO_BE_PROCESSED_LOCALLY);
         recordsToBeForwardedCounter = pluginMetrics.counter(RECORDS_TO_BE_FORWARDED);
@@ -117,7 +125,7 @@ class RemotePeerForwarder implements PeerForwarder {
         for (final Map.Entry<String, List<Record<Event>>> entry : groupedRecords.entrySet()) {
             final String destinationIp = entry.getKey();
 
-            if (isAddressDefinedLocally(destinationIp)) {
+            if (hashRing.isLocalAddress(destinationIp)) {
                 recordsToProcessLocally.addAll(entry.getValue());
                 recordsToBeProcessedLocallyCounter.increment(entry.getValue().size());
             } else {
@@ -150,12 +158,13 @@ class RemotePeerForwarder implements PeerForwarder {
             final Set<String> identificationKeys
     ) {
         final Map<String, List<Record<Event>>> groupedRecords = new HashMap<>();
+        final List<String> identificationKeyValues = new ArrayList<>(identificationKeys.size());
 
         // group records based on IP address calculated by HashRing
         for (final Record<Event> record : records) {
             final Event event = record.getData();
 
-            final List<String> identificationKeyValues = new LinkedList<>();
+            identificationKeyValues.clear();
             int numMissingIdentificationKeys = 0;
             for (final String identificationKey : identificationKeys) {
                 final Object identificationKeyValue = event.get(identificationKey, Object.class);
@@ -177,24 +186,6 @@ class RemotePeerForwarder implements PeerForwarder {
         return groupedRecords;
     }
 
-    private boolean isAddressDefinedLocally(final String address) {
-        final InetAddress inetAddress;
-        try {
-            inetAddress = InetAddress.getByName(address);
-        } catch (final UnknownHostException e) {
-            return false;
-        }
-        if (inetAddress.isAnyLocalAddress() || inetAddress.isLoopbackAddress()) {
-            return true;
-        } else {
-            try {
-                return NetworkInterface.getByInetAddress(inetAddress) != null;
-            } catch (final SocketException e) {
-                return false;
-            }
-        }
-    }
-
     private List<Record<Event>> batchRecordsForForwarding(final String destinationIp, final List<Record<Event>> records) {
         try {
             final List<Record<Event>> recordsFailedToBatch = populateBatchingQueue(destinationIp, records);
@@ -211,27 +202,32 @@ class RemotePeerForwarder implements PeerForwarder {
     }
 
     private List<Record<Event>> populateBatchingQueue(final String destinationIp, final List<Record<Event>> records) {
-        peerBatchingQueueMap.putIfAbsent(destinationIp, new LinkedBlockingQueue<>(forwardingBatchSize * pipelineWorkerThreads * forwardingBatchQueueDepth));
-        peerBatchingLastFlushTimeMap.putIfAbsent(destinationIp, System.currentTimeMillis());
+        final PeerBatchingQueue<Record<Event>> peerBatchingQueue = getPeerBatchingQueue(destinationIp);
 
-        final List<Record<Event>> recordsFailedToBatch = new ArrayList<>();
-        final LinkedBlockingQueue<Record<Event>> peerBatchingQueue = peerBatchingQueueMap.get(destinationIp);
-        for (final Record<Event> record: records) {
-            try {
-                peerBatchingQueue.add(record);
-            } catch (final IllegalStateException e) {
-                recordsFailedToBatch.add(record);
-            }
+        final int numberOfRecordsBatched = peerBatchingQueue.addAll(records);
+        if (numberOfRecordsBatched == records.size()) {
+            return Collections.emptyList();
         }
 
-        final int numberOfRecordsFailedToBatch = recordsFailedToBatch.size();
-        if (numberOfRecordsFailedToBatch > 0) {
-            LOG.warn("Failed to add {} records to the batching queue, processing locally.", numberOfRecordsFailedToBatch);
+        LOG.warn("Failed to add {} records to the batching queue, processing locally.", records.size() - numberOfRecordsBatched);
+        return records.subList(numberOfRecordsBatched, records.size());
+    }
+
+    private PeerBatchingQueue<Record<Event>> getPeerBatchingQueue(final String destinationIp) {
+        final PeerBatchingQueue<Record<Event>> peerBatchingQueue = peerBatchingQueueMap.get(destinationIp);
+        if (peerBatchingQueue != null) {
+            return peerBatchingQueue;
         }
-        return recordsFailedToBatch;
+        return peerBatchingQueueMap.computeIfAbsent(destinationIp, ip -> new PeerBatchingQueue<>(
+                forwardingBatchSize * pipelineWorkerThreads * forwardingBatchQueueDepth, System.currentTimeMillis()));
     }
 
     private void forwardBatchedRecords() {
+        if (asynchronousForwarding) {
+            forwardBatchedRecordsAsynchronously();
+            return;
+        }
+
         final Map<CompletableFuture<AggregatedHttpResponse>, List<Record<Event>>> futuresMap = new HashMap<>();
         peerBatchingQueueMap.forEach((ipAddress, records) -> {
             futuresMap.putAll(forwardRecordsForIp(ipAddress));
@@ -257,6 +253,50 @@ class RemotePeerForwarder implements PeerForwarder {
         });
     }
 
+    /**
+     * Sends the batches without waiting for the responses, so that a slow peer does not block the pipeline workers.
+     * Each peer has a window of at most maxInFlightRequestsPerPeer requests. When the window is full, the records stay
+     * in the batching queue until a later call, and once the queue is full as well, new records are processed locally.
+     * The records of failed requests are written to the receive buffer when the request completes.
+     */
+    private void forwardBatchedRecordsAsynchronously() {
+        peerBatchingQueueMap.forEach((destinationIp, records) -> {
+            final PeerForwardingWindow peerForwardingWindow = peerForwardingWindowMap.computeIfAbsent(destinationIp, PeerForwardingWindow::new);
+            while (peerForwardingWindow.tryAcquire()) {
+                final List<Record<Event>> recordsToForward = getRecordsToForward(destinationIp);
+                if (recordsToForward.isEmpty()) {
+                    peerForwardingWindow.release();
+                    break;
+                }
+                forwardRecordsAsynchronously(destinationIp, recordsToForward, peerForwardingWindow);
+            }
+        });
+    }
+
+    private void forwardRecordsAsynchronously(final String destinationIp,
+                                              final List<Record<Event>> recordsToForward,
+                                              final PeerForwardingWindow peerForwardingWindow) {
+        final long startTime = System.nanoTime();
+        final CompletableFuture<AggregatedHttpResponse> responseFuture;
+        try {
+            responseFuture = peerForwarderClient.serializeRecordsAndSendHttpRequest(recordsToForward, destinationIp, pluginId, pipelineName);
+        } catch (final Exception e) {
+            peerForwardingWindow.release();
+            LOG.warn("Unable to submit request for forwarding, processing locally.", e);
+            processFailedRequestsLocally(null, recordsToForward);
+            return;
+        }
+
+        responseFuture.whenComplete((httpResponse, throwable) -> {
+            peerForwardingWindow.release();
+            peerForwardingWindow.forwardingRequestLatencyTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            if (throwable != null) {
+                LOG.warn("Unable to send request to peer, processing locally.", throwable);
+            }
+            processFailedRequestsLocally(throwable == null ? httpResponse : null, recordsToForward);
+        });
+    }
+
     private Map<CompletableFuture<AggregatedHttpResponse>, List<Record<Event>>> forwardRecordsForIp(final String destinationIp) {
         final Map<CompletableFuture<AggregatedHttpResponse>, List<Record<Event>>> forwardingRequestsMap = new HashMap<>();
 
@@ -277,11 +317,13 @@ class RemotePeerForwarder implements PeerForwarder {
     }
 
     private List<Record<Event>> getRecordsToForward(final String destinationIp) {
-        if (shouldFlushBatch(destinationIp)) {
-            peerBatchingLastFlushTimeMap.put(destinationIp, System.currentTimeMillis());
+        final PeerBatchingQueue<Record<Event>> peerBatchingQueue = peerBatchingQueueMap.get(destinationIp);
+        final long currentTimeMillis = System.currentTimeMillis();
+        if (shouldFlushBatch(peerBatchingQueue, currentTimeMillis)) {
+            peerBatchingQueue.setLastFlushTimeMillis(currentTimeMillis);
 
-            final List<Record<Event>> recordsToForward = new ArrayList<>();
-            peerBatchingQueueMap.get(destinationIp).drainTo(recordsToForward, forwardingBatchSize);
+            final List<Record<Event>> recordsToForward = new ArrayList<>(Math.min(peerBatchingQueue.size(), forwardingBatchSize));
+            peerBatchingQueue.drainTo(recordsToForward, forwardingBatchSize);
 
             return recordsToForward;
         }
@@ -289,13 +331,9 @@ class RemotePeerForwarder implements PeerForwarder {
         return Collections.emptyList();
     }
 
-    private boolean shouldFlushBatch(final String destinationIp) {
-        final long currentTime = System.currentTimeMillis();
-        final long millisSinceLastFlush = currentTime - peerBatchingLastFlushTimeMap.getOrDefault(destinationIp, System.currentTimeMillis());
-        final Duration durationSinceLastFlush = Duration.of(millisSinceLastFlush, ChronoUnit.MILLIS);
-
-        final boolean shouldFlushDueToTimeout = durationSinceLastFlush.compareTo(forwardingBatchTimeout) >= 0;
-        return shouldFlushDueToTimeout || peerBatchingQueueMap.get(destinationIp).size() >= forwardingBatchSize;
+    private boolean shouldFlushBatch(final PeerBatchingQueue<Record<Event>> peerBatchingQueue, final long currentTimeMillis) {
+        final boolean shouldFlushDueToTimeout = currentTimeMillis - peerBatchingQueue.getLastFlushTimeMillis() >= forwardingBatchTimeoutMillis;
+        return shouldFlushDueToTimeout || peerBatchingQueue.size() >= forwardingBatchSize;
     }
 
     void processFailedRequestsLocally(final AggregatedHttpResponse httpResponse, final Collection<Record<Event>> records) {
@@ -314,4 +352,39 @@ class RemotePeerForwarder implements PeerForwarder {
             requestsSuccessfulCounter.increment();
         }
     }
+
+    /**
+     * The requests in flight to a peer when forwarding asynchronously.
+     */
+    class PeerForwardingWindow {
+        private final AtomicInteger requestsInFlight;
+        private final Timer forwardingRequestLatencyTimer;
+
+        private PeerForwardingWindow(final String destinationIp) {
+            requestsInFlight = pluginMetrics.gaugeWithTags(FORWARDING_REQUESTS_IN_FLIGHT, new AtomicInteger(), AtomicInteger::get,
+                    PIPELINE_TAG, pipelineName, PEER_TAG, destinationIp);
+            forwardingRequestLatencyTimer = pluginMetrics.timerWithTags(FORWARDING_REQUEST_LATENCY,
+                    PIPELINE_TAG, pipelineName, PEER_TAG, destinationIp);
+        }
+
+        private boolean tryAcquire() {
+            while (true) {
+                final int current = requestsInFlight.get();
+                if (current >= maxInFlightRequestsPerPeer) {
+                    return false;
+                }
+                if (requestsInFlight.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        private void release() {
+            requestsInFlight.decrementAndGet();
+        }
+
+        int getRequestsInFlight() {
+            return requestsInFlight.get();
+        }
+    }
 }
@@ -10,21 +10,33 @@ import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 import com.linecorp.armeria.client.WebClient;
 import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.RequestHeaders;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import org.opensearch.dataprepper.peerforwarder.PeerClientPool;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderClientFactory;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration;
+import org.opensearch.dataprepper.peerforwarder.PeerLoadTracker;
 import org.opensearch.dataprepper.peerforwarder.codec.PeerForwarderCodec;
+import org.opensearch.dataprepper.peerforwarder.codec.PeerForwarderCompression;
 import org.opensearch.dataprepper.peerforwarder.model.PeerForwardingEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration.DEFAULT_PEER_FORWARDING_URI;
@@ -33,6 +45,10 @@ public class PeerForwarderClient {
     private static final Logger LOG = LoggerFactory.getLogger(PeerForwarderClient.class);
     static final String REQUESTS = "requests";
     static final String CLIENT_REQUEST_FORWARDING_LATENCY = "clientRequestForwardingLatency";
+    static final String REQUEST_UNCOMPRESSED_BYTES = "requestUncompressedBytes";
+    static final String REQUEST_COMPRESSED_BYTES = "requestCompressedBytes";
+    static final String REQUEST_COMPRESSION_LATENCY = "requestCompressionLatency";
+    static final String PEER_TAG = "peer";
 
     private final PeerForwarderClientFactory peerForwarderClientFactory;
     private final PeerForwarderConfiguration peerForwarderConfiguration;
@@ -40,19 +56,30 @@ public class PeerForwarderClient {
     private final ExecutorService executorService;
     private final Counter requestsCounter;
     private final Timer clientRequestForwardingLatencyTimer;
+    private final PluginMetrics pluginMetrics;
+    private final PeerForwarderCompression compression;
+    private final Set<String> peersAcceptingCompression;
+    private final Map<String, CompressionMetrics> peerCompressionMetrics;
+    private final PeerLoadTracker peerLoadTracker;
 
     private PeerClientPool peerClientPool;
 
     public PeerForwarderClient(final PeerForwarderConfiguration peerForwarderConfiguration,
                                final PeerForwarderClientFactory peerForwarderClientFactory,
                                final PeerForwarderCodec peerForwarderCodec,
+                               final PeerLoadTracker peerLoadTracker,
                                final PluginMetrics pluginMetrics) {
         this.peerForwarderConfiguration = peerForwarderConfiguration;
         this.peerForwarderClientFactory = peerForwarderClientFactory;
         this.peerForwarderCodec = peerForwarderCodec;
+        this.peerLoadTracker = peerLoadTracker;
         executorService = Executors.newFixedThreadPool(peerForwarderConfiguration.getClientThreadCount());
         requestsCounter = pluginMetrics.counter(REQUESTS);
         clientRequestForwardingLatencyTimer = pluginMetrics.timer(CLIENT_REQUEST_FORWARDING_LATENCY);
+        this.pluginMetrics = pluginMetrics;
+        compression = peerForwarderConfiguration.getCompression();
+        peersAcceptingCompression = ConcurrentHashMap.newKeySet();
+        peerCompressionMetrics = new ConcurrentHashMap<>();
     }
 
     public CompletableFuture<AggregatedHttpResponse> serializeRecordsAndSendHttpRequest(
@@ -70,8 +97,12 @@ public class PeerForwarderClient {
 
         final byte[] serializedJsonBytes = getSerializedJsonBytes(records, pluginId, pipelineName);
 
+        final PeerForwarderCompression requestCompression = getRequestCompression(ipAddress);
+        final byte[] content = requestCompression == PeerForwarderCompression.NONE ?
+                serializedJsonBytes : compress(serializedJsonBytes, requestCompression, ipAddress);
+
         final CompletableFuture<AggregatedHttpResponse> aggregatedHttpResponse = clientRequestForwardingLatencyTimer.record(() ->
-            processHttpRequest(client, serializedJsonBytes)
+            processHttpRequest(client, content, requestCompression, ipAddress)
         );
         requestsCounter.increment();
 
@@ -88,11 +119,84 @@ public class PeerForwarderClient {
         }
     }
 
-    private CompletableFuture<AggregatedHttpResponse> processHttpRequest(final WebClient client, final byte[] content) {
+    /**
+     * Requests to a peer are only compressed once a response from the peer has shown that it can decompress them, so
+     * that peers running an earlier version, or configured differently, keep receiving requests they can read.
+     */
+    private PeerForwarderCompression getRequestCompression(final String ipAddress) {
+        if (compression != PeerForwarderCompression.NONE && peersAcceptingCompression.contains(ipAddress)) {
+            return compression;
+        }
+        return PeerForwarderCompression.NONE;
+    }
+
+    private byte[] compress(final byte[] bytes, final PeerForwarderCompression requestCompression, final String ipAddress) {
+        final CompressionMetrics compressionMetrics = peerCompressionMetrics.computeIfAbsent(ipAddress, CompressionMetrics::new);
+        final long startTime = System.nanoTime();
+        final byte[] compressedBytes;
+        try {
+            compressedBytes = requestCompression.compress(bytes);
+        } catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+        compressionMetrics.compressionLatencyTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        compressionMetrics.uncompressedBytesCounter.increment(bytes.length);
+        compressionMetrics.compressedBytesCounter.increment(compressedBytes.length);
+        return compressedBytes;
+    }
+
+    private CompletableFuture<AggregatedHttpResponse> processHttpRequest(final WebClient client,
+                                                                         final byte[] content,
+                                                                         final PeerForwarderCompression requestCompression,
+                                                                         final String ipAddress) {
         return CompletableFuture.supplyAsync(() ->
         {
-            final CompletableFuture<AggregatedHttpResponse> aggregate = client.post(DEFAULT_PEER_FORWARDING_URI, content).aggregate();
-            return aggregate.join();
+            final HttpResponse httpResponse;
+            if (requestCompression == PeerForwarderCompression.NONE) {
+                httpResponse = client.post(DEFAULT_PEER_FORWARDING_URI, content);
+            } else {
+                final RequestHeaders requestHeaders = RequestHeaders.builder(HttpMethod.POST, DEFAULT_PEER_FORWARDING_URI)
+                        .add(HttpHeaderNames.CONTENT_ENCODING, requestCompression.getName())
+                        .build();
+                httpResponse = client.execute(requestHeaders, content);
+            }
+            final AggregatedHttpResponse aggregatedHttpResponse = httpResponse.aggregate().join();
+            if (compression != PeerForwarderCompression.NONE) {
+                updatePeerAcceptsCompression(ipAddress, aggregatedHttpResponse);
+            }
+            if (peerLoadTracker.isLoadAwareForwarding()) {
+                peerLoadTracker.recordBufferUsage(ipAddress, aggregatedHttpResponse.headers().get(PeerLoadTracker.BUFFER_USAGE_HEADER));
+            }
+            return aggregatedHttpResponse;
         }, executorService);
     }
-}
\ No newline at end of file
+
+    private void updatePeerAcceptsCompression(final String ipAddress, final AggregatedHttpResponse aggregatedHttpResponse) {
+        final String acceptEncoding = aggregatedHttpResponse.headers().get(HttpHeaderNames.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return;
+        }
+        final boolean acceptsCompression = Arrays.stream(acceptEncoding.split(","))
+                .map(String::trim)
+                .anyMatch(compression.getName()::equalsIgnoreCase);
+        if (acceptsCompression) {
+            if (peersAcceptingCompression.add(ipAddress)) {
+                LOG.info("Compressing requests to peer {} with {}.", ipAddress, compression.getName());
+            }
+        } else if (peersAcceptingCompression.remove(ipAddress)) {
+            LOG.warn("Peer {} does not accept {} compressed requests. Sending uncompressed requests.", ipAddress, compression.getName());
+        }
+    }
+
+    private class CompressionMetrics {
+        private final Counter uncompressedBytesCounter;
+        private final Counter compressedBytesCounter;
+        private final Timer compressionLatencyTimer;
+
+        private CompressionMetrics(final String ipAddress) {
+            uncompressedBytesCounter = pluginMetrics.counterWithTags(REQUEST_UNCOMPRESSED_BYTES, PEER_TAG, ipAddress);
+            compressedBytesCounter = pluginMetrics.counterWithTags(REQUEST_COMPRESSED_BYTES, PEER_TAG, ipAddress);
+            compressionLatencyTimer = pluginMetrics.timerWithTags(REQUEST_COMPRESSION_LATENCY, PEER_TAG, ipAddress);
+        }
+    }
+}
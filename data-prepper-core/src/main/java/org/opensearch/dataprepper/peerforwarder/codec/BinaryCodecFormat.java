@@ -0,0 +1,23 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.codec;
+
+import java.io.ObjectInputFilter;
+
+/**
+ * The format of the binary {@link PeerForwarderCodec}, used when <code>binary_codec</code> is enabled. All the nodes
+ * of a cluster must use the same format.
+ */
+public enum BinaryCodecFormat {
+    /**
+     * Java object serialization, restricted by an {@link ObjectInputFilter}.
+     */
+    JAVA,
+    /**
+     * The Smile binary JSON format, see {@link SmilePeerForwarderCodec}.
+     */
+    SMILE
+}
@@ -23,8 +23,11 @@ public class PeerForwarderCodecAppConfig {
             final PeerForwarderConfiguration peerForwarderConfiguration,
             final ObjectInputFilter objectInputFilter,
             @Qualifier("peerForwarderObjectMapper") final ObjectMapper objectMapper) {
-        return peerForwarderConfiguration.getBinaryCodec() ?
-                new JavaPeerForwarderCodec(objectInputFilter) : new JacksonPeerForwarderCodec(objectMapper);
+        if (!peerForwarderConfiguration.getBinaryCodec()) {
+            return new JacksonPeerForwarderCodec(objectMapper);
+        }
+        return peerForwarderConfiguration.getBinaryCodecFormat() == BinaryCodecFormat.SMILE ?
+                new SmilePeerForwarderCodec() : new JavaPeerForwarderCodec(objectInputFilter);
     }
 
     @Bean(name = "peerForwarderObjectMapper")
@@ -0,0 +1,144 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.codec;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The compression of the requests which the peer forwarder sends to its peers. The name of each compression is used
+ * as the <code>Content-Encoding</code> of compressed requests.
+ *
+ * @since 2.4
+ */
+public enum PeerForwarderCompression {
+    NONE("none") {
+        @Override
+        OutputStream createOutputStream(final OutputStream outputStream) {
+            return outputStream;
+        }
+
+        @Override
+        InputStream createInputStream(final InputStream inputStream) {
+            return inputStream;
+        }
+    },
+    GZIP("gzip") {
+        @Override
+        OutputStream createOutputStream(final OutputStream outputStream) throws IOException {
+            return new GZIPOutputStream(outputStream);
+        }
+
+        @Override
+        InputStream createInputStream(final InputStream inputStream) throws IOException {
+            return new GZIPInputStream(inputStream);
+        }
+    },
+    ZSTD("zstd") {
+        @Override
+        OutputStream createOutputStream(final OutputStream outputStream) throws IOException {
+            return new ZstdOutputStream(outputStream);
+        }
+
+        @Override
+        InputStream createInputStream(final InputStream inputStream) throws IOException {
+            return new ZstdInputStream(inputStream);
+        }
+    },
+    LZ4("lz4") {
+        @Override
+        OutputStream createOutputStream(final OutputStream outputStream) throws IOException {
+            return new LZ4FrameOutputStream(outputStream);
+        }
+
+        @Override
+        InputStream createInputStream(final InputStream inputStream) throws IOException {
+            return new LZ4FrameInputStream(inputStream);
+        }
+    };
+
+    /**
+     * The <code>Accept-Encoding</code> which the peer forwarder server returns to tell its clients which request
+     * encodings it can decompress.
+     */
+    public static final String ACCEPTED_CONTENT_ENCODINGS = "gzip, zstd, lz4";
+
+    private static final Map<String, PeerForwarderCompression> NAMES_MAP = Arrays.stream(PeerForwarderCompression.values())
+            .collect(Collectors.toMap(PeerForwarderCompression::getName, Function.identity()));
+
+    private final String name;
+
+    PeerForwarderCompression(final String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @param name the name of the compression, which is also its content encoding
+     * @return the compression, or null if there is none with the name
+     */
+    public static PeerForwarderCompression getByName(final String name) {
+        return NAMES_MAP.get(name);
+    }
+
+    abstract OutputStream createOutputStream(OutputStream outputStream) throws IOException;
+
+    abstract InputStream createInputStream(InputStream inputStream) throws IOException;
+
+    public byte[] compress(final byte[] bytes) throws IOException {
+        if (this == NONE) {
+            return bytes;
+        }
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (final OutputStream outputStream = createOutputStream(byteArrayOutputStream)) {
+            outputStream.write(bytes);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    /**
+     * Decompresses the bytes.
+     *
+     * @param bytes the compressed bytes
+     * @param maxLength the maximum length of the decompressed bytes
+     * @return the decompressed bytes
+     * @throws IOException if the bytes are not valid for this compression or decompress to more than maxLength bytes
+     */
+    public byte[] decompress(final byte[] bytes, final int maxLength) throws IOException {
+        if (this == NONE) {
+            return bytes;
+        }
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream((int) Math.min((long) bytes.length * 4, maxLength));
+        try (final InputStream inputStream = createInputStream(new ByteArrayInputStream(bytes))) {
+            final byte[] buffer = new byte[8192];
+            int length;
+            while ((length = inputStream.read(buffer)) != -1) {
+                if (byteArrayOutputStream.size() + length > maxLength) {
+                    throw new IOException("Request decompresses to more than " + maxLength + " bytes.");
+                }
+                byteArrayOutputStream.write(buffer, 0, length);
+            }
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+}
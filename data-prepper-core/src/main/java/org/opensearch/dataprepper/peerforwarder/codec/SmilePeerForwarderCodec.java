@@ -0,0 +1,229 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventMetadata;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.peerforwarder.model.PeerForwardingEvents;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link PeerForwarderCodec} which writes the events in the Smile binary format, a binary encoding of the JSON data
+ * model. The data of each event is written directly from its tree and read back into the tree of the new event, so
+ * neither side creates an intermediate JSON string or map per event. Field names and short string values are written
+ * once and then referenced, which keeps the repeated keys of similar events small.
+ * <p>
+ * The request is a single object:
+ * <pre>
+ * {
+ *   "destinationPluginId": "...",
+ *   "destinationPipelineName": "...",
+ *   "events": [
+ *     { "eventType": "...", "timeReceived": [epochSecond, nano], "attributes": {...}, "tags": [...], "data": {...} }
+ *   ]
+ * }
+ * </pre>
+ * Unknown fields are skipped when reading.
+ */
+public class SmilePeerForwarderCodec implements PeerForwarderCodec {
+    private static final String TRACE_EVENT_TYPE = "TRACE";
+    private static final String DESTINATION_PLUGIN_ID = "destinationPluginId";
+    private static final String DESTINATION_PIPELINE_NAME = "destinationPipelineName";
+    private static final String EVENTS = "events";
+    private static final String EVENT_TYPE = "eventType";
+    private static final String TIME_RECEIVED = "timeReceived";
+    private static final String ATTRIBUTES = "attributes";
+    private static final String TAGS = "tags";
+    private static final String DATA = "data";
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+
+    public SmilePeerForwarderCodec() {
+        objectMapper = new ObjectMapper(new SmileFactory()).registerModule(new JavaTimeModule());
+    }
+
+    @Override
+    public byte[] serialize(final PeerForwardingEvents peerForwardingEvents) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (final JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeStringField(DESTINATION_PLUGIN_ID, peerForwardingEvents.getDestinationPluginId());
+            generator.writeStringField(DESTINATION_PIPELINE_NAME, peerForwardingEvents.getDestinationPipelineName());
+            if (peerForwardingEvents.getEvents() != null) {
+                generator.writeArrayFieldStart(EVENTS);
+                for (final Event event : peerForwardingEvents.getEvents()) {
+                    writeEvent(generator, event);
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        }
+        return outputStream.toByteArray();
+    }
+
+    private void writeEvent(final JsonGenerator generator, final Event event) throws IOException {
+        final EventMetadata eventMetadata = event.getMetadata();
+        generator.writeStartObject();
+        generator.writeStringField(EVENT_TYPE, eventMetadata.getEventType());
+        final Instant timeReceived = eventMetadata.getTimeReceived();
+        if (timeReceived != null) {
+            generator.writeArrayFieldStart(TIME_RECEIVED);
+            generator.writeNumber(timeReceived.getEpochSecond());
+            generator.writeNumber(timeReceived.getNano());
+            generator.writeEndArray();
+        }
+        if (eventMetadata.getAttributes() != null && !eventMetadata.getAttributes().isEmpty()) {
+            generator.writeFieldName(ATTRIBUTES);
+            objectMapper.writeValue(generator, eventMetadata.getAttributes());
+        }
+        if (eventMetadata.getTags() != null && !eventMetadata.getTags().isEmpty()) {
+            generator.writeArrayFieldStart(TAGS);
+            for (final String tag : eventMetadata.getTags()) {
+                generator.writeString(tag);
+            }
+            generator.writeEndArray();
+        }
+        generator.writeFieldName(DATA);
+        if (event instanceof JacksonEvent) {
+            ((JacksonEvent) event).writeData(generator);
+        } else {
+            objectMapper.writeValue(generator, event.toMap());
+        }
+        generator.writeEndObject();
+    }
+
+    @Override
+    public PeerForwardingEvents deserialize(final byte[] bytes) throws IOException {
+        try (final JsonParser parser = objectMapper.createParser(bytes)) {
+            expectToken(parser, nextToken(parser), JsonToken.START_OBJECT);
+
+            String destinationPluginId = null;
+            String destinationPipelineName = null;
+            List<Event> events = null;
+            while (nextToken(parser) == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.getCurrentName();
+                final JsonToken valueToken = nextToken(parser);
+                switch (fieldName) {
+                    case DESTINATION_PLUGIN_ID:
+                        destinationPluginId = parser.getValueAsString();
+                        break;
+                    case DESTINATION_PIPELINE_NAME:
+                        destinationPipelineName = parser.getValueAsString();
+                        break;
+                    case EVENTS:
+                        expectToken(parser, valueToken, JsonToken.START_ARRAY);
+                        events = new ArrayList<>();
+                        while (nextToken(parser) != JsonToken.END_ARRAY) {
+                            events.add(readEvent(parser));
+                        }
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            expectToken(parser, parser.currentToken(), JsonToken.END_OBJECT);
+
+            return new PeerForwardingEvents(events, destinationPluginId, destinationPipelineName);
+        }
+    }
+
+    private Event readEvent(final JsonParser parser) throws IOException {
+        expectToken(parser, parser.currentToken(), JsonToken.START_OBJECT);
+
+        final DefaultEventMetadata.Builder eventMetadataBuilder = DefaultEventMetadata.builder();
+        String eventType = null;
+        ObjectNode data = null;
+        while (nextToken(parser) == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.getCurrentName();
+            final JsonToken valueToken = nextToken(parser);
+            switch (fieldName) {
+                case EVENT_TYPE:
+                    eventType = parser.getValueAsString();
+                    eventMetadataBuilder.withEventType(eventType);
+                    break;
+                case TIME_RECEIVED:
+                    expectToken(parser, valueToken, JsonToken.START_ARRAY);
+                    expectToken(parser, nextToken(parser), JsonToken.VALUE_NUMBER_INT);
+                    final long epochSecond = parser.getLongValue();
+                    expectToken(parser, nextToken(parser), JsonToken.VALUE_NUMBER_INT);
+                    final long nano = parser.getLongValue();
+                    expectToken(parser, nextToken(parser), JsonToken.END_ARRAY);
+                    eventMetadataBuilder.withTimeReceived(Instant.ofEpochSecond(epochSecond, nano));
+                    break;
+                case ATTRIBUTES:
+                    eventMetadataBuilder.withAttributes(objectMapper.readValue(parser, MAP_TYPE_REFERENCE));
+                    break;
+                case TAGS:
+                    expectToken(parser, valueToken, JsonToken.START_ARRAY);
+                    final Set<String> tags = new HashSet<>();
+                    while (nextToken(parser) != JsonToken.END_ARRAY) {
+                        tags.add(parser.getValueAsString());
+                    }
+                    eventMetadataBuilder.withTags(tags);
+                    break;
+                case DATA:
+                    expectToken(parser, valueToken, JsonToken.START_OBJECT);
+                    data = objectMapper.readTree(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        expectToken(parser, parser.currentToken(), JsonToken.END_OBJECT);
+
+        if (eventType == null || data == null) {
+            throw new JsonParseException(parser, "Peer forwarded event requires the " + EVENT_TYPE + " and " + DATA + " fields.");
+        }
+
+        final DefaultEventMetadata eventMetadata = eventMetadataBuilder.build();
+        if (eventType.equalsIgnoreCase(TRACE_EVENT_TYPE)) {
+            return JacksonSpan.builder()
+                    .withData(data)
+                    .withEventMetadata(eventMetadata)
+                    .build();
+        }
+        return JacksonEvent.builder()
+                .withData(data)
+                .withEventMetadata(eventMetadata)
+                .build();
+    }
+
+    private static JsonToken nextToken(final JsonParser parser) throws IOException {
+        final JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new JsonParseException(parser, "Unexpected end of peer forwarded events.");
+        }
+        return token;
+    }
+
+    private static void expectToken(final JsonParser parser, final JsonToken actualToken, final JsonToken expectedToken)
+            throws JsonParseException {
+        if (actualToken != expectedToken) {
+            throw new JsonParseException(parser, "Expected " + expectedToken + " in peer forwarded events, but found " + actualToken + ".");
+        }
+    }
+}
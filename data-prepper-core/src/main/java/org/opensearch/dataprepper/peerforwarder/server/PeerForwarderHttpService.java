@@ -11,14 +11,20 @@ import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.server.annotation.AdditionalHeader;
 import com.linecorp.armeria.server.annotation.Post;
 import io.micrometer.core.instrument.Timer;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderProvider;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderReceiveBuffer;
+import org.opensearch.dataprepper.peerforwarder.PeerLoadTracker;
 import org.opensearch.dataprepper.peerforwarder.codec.PeerForwarderCodec;
+import org.opensearch.dataprepper.peerforwarder.codec.PeerForwarderCompression;
 import org.opensearch.dataprepper.peerforwarder.model.PeerForwardingEvents;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
 import org.slf4j.Logger;
@@ -40,6 +46,8 @@ public class PeerForwarderHttpService {
     static final String SERVER_REQUEST_PROCESSING_LATENCY = "serverRequestProcessingLatency";
     static final String RECORDS_RECEIVED_FROM_PEERS = "recordsReceivedFromPeers";
     private static final double BUFFER_TIMEOUT_FRACTION = 0.8;
+    private static final String IDENTITY_CONTENT_ENCODING = "identity";
+    static final int MAX_DECOMPRESSED_REQUEST_LENGTH = 256 * 1024 * 1024;
 
     private final ResponseHandler responseHandler;
     private final PeerForwarderProvider peerForwarderProvider;
@@ -65,6 +73,7 @@ public class PeerForwarderHttpService {
     }
 
     @Post
+    @AdditionalHeader(name = "accept-encoding", value = PeerForwarderCompression.ACCEPTED_CONTENT_ENCODINGS)
     public HttpResponse doPost(final AggregatedHttpRequest aggregatedHttpRequest) {
         return serverRequestProcessingLatencyTimer.record(() -> processRequest(aggregatedHttpRequest));
     }
@@ -76,8 +85,18 @@ public class PeerForwarderHttpService {
         final List<Event> events = new ArrayList<>();
         final String destinationPluginId;
         final String destinationPipelineName;
+
+        final PeerForwarderCompression requestCompression = getRequestCompression(aggregatedHttpRequest);
+        if (requestCompression == null) {
+            final String message = String.format("Unsupported request content encoding %s.",
+                    aggregatedHttpRequest.headers().get(HttpHeaderNames.CONTENT_ENCODING));
+            LOG.error(message);
+            return HttpResponse.of(HttpStatus.UNSUPPORTED_MEDIA_TYPE, MediaType.ANY_TYPE, message);
+        }
+
         try {
-            peerForwardingEvents = peerForwarderCodec.deserialize(content.array());
+            final byte[] requestBytes = requestCompression.decompress(content.array(), MAX_DECOMPRESSED_REQUEST_LENGTH);
+            peerForwardingEvents = peerForwarderCodec.deserialize(requestBytes);
             destinationPluginId = peerForwardingEvents.getDestinationPluginId();
             destinationPipelineName = peerForwardingEvents.getDestinationPipelineName();
             if (peerForwardingEvents.getEvents() != null) {
@@ -89,23 +108,34 @@ public class PeerForwarderHttpService {
             return responseHandler.handleException(e, message);
         }
 
+        final PeerForwarderReceiveBuffer<Record<Event>> recordPeerForwarderReceiveBuffer;
         try {
-            writeEventsToBuffer(events, destinationPluginId, destinationPipelineName);
+            recordPeerForwarderReceiveBuffer = getPeerForwarderBuffer(destinationPluginId, destinationPipelineName);
+            writeEventsToBuffer(events, recordPeerForwarderReceiveBuffer);
         } catch (Exception e) {
             final String message = String.format("Failed to write the request of size %d due to:", content.length());
             LOG.error(message, e);
             return responseHandler.handleException(e, message);
         }
 
-        return HttpResponse.of(HttpStatus.OK);
+        // The buffer usage lets peers with load aware forwarding move identification keys away from this node when it
+        // falls behind. Peers without it ignore the header.
+        return HttpResponse.of(ResponseHeaders.builder(HttpStatus.OK)
+                .add(PeerLoadTracker.BUFFER_USAGE_HEADER, Double.toString(recordPeerForwarderReceiveBuffer.getBufferUsage()))
+                .build());
     }
 
-    private void writeEventsToBuffer(final Collection<Event> events,
-                                     final String destinationPluginId,
-                                     final String destinationPipelineName) throws Exception {
-        final PeerForwarderReceiveBuffer<Record<Event>> recordPeerForwarderReceiveBuffer = getPeerForwarderBuffer(
-                destinationPluginId, destinationPipelineName);
+    private PeerForwarderCompression getRequestCompression(final AggregatedHttpRequest aggregatedHttpRequest) {
+        final String contentEncoding = aggregatedHttpRequest.headers().get(HttpHeaderNames.CONTENT_ENCODING);
+        if (contentEncoding == null || contentEncoding.equalsIgnoreCase(IDENTITY_CONTENT_ENCODING)) {
+            return PeerForwarderCompression.NONE;
+        }
+        final PeerForwarderCompression requestCompression = PeerForwarderCompression.getByName(contentEncoding.trim().toLowerCase());
+        return requestCompression == PeerForwarderCompression.NONE ? null : requestCompression;
+    }
 
+    private void writeEventsToBuffer(final Collection<Event> events,
+                                     final PeerForwarderReceiveBuffer<Record<Event>> recordPeerForwarderReceiveBuffer) throws Exception {
         final Collection<Record<Event>> jacksonEvents = events.stream().map(Record::new)
                 .collect(Collectors.toList());
 
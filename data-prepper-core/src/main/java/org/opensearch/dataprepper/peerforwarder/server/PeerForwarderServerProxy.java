@@ -41,5 +41,6 @@ public class PeerForwarderServerProxy implements PeerForwarderServer {
         if (peerForwarderServer != null) {
             peerForwarderServer.stop();
         }
+        peerForwarderProvider.close();
     }
 }
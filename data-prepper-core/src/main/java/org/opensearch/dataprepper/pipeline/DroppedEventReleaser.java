@@ -0,0 +1,136 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Releases the event handles of the events which a {@link org.opensearch.dataprepper.model.processor.Processor}
+ * dropped from a batch, so that acknowledgement sets can complete. Each {@link ProcessWorker} owns one instance and
+ * reuses its buffers for every processor and batch, so no allocation happens once they have grown to the batch size.
+ * <p>
+ * Most processors return the events they were given in the same order, with some of them possibly removed. Those
+ * batches are checked by walking the input and output together with identity comparisons only, and the skipped input
+ * events are released. Batches which were reordered fall back to an identity lookup of the output events.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+class DroppedEventReleaser {
+    private static final int INITIAL_CAPACITY = 256;
+
+    private Event[] inputEvents = new Event[INITIAL_CAPACITY];
+    private int inputEventsCount;
+    private final Map<Event, Boolean> outputEvents = new IdentityHashMap<>(INITIAL_CAPACITY);
+
+    /**
+     * Remembers the events in the records given to a processor which hold an event handle.
+     *
+     * @param records the records passed to the processor
+     */
+    void recordInput(final Collection<Record> records) {
+        inputEventsCount = 0;
+        for (final Record record : records) {
+            final Object data = record.getData();
+            if (data instanceof Event && ((Event) data).getEventHandle() != null) {
+                if (inputEventsCount == inputEvents.length) {
+                    inputEvents = Arrays.copyOf(inputEvents, inputEvents.length * 2);
+                }
+                inputEvents[inputEventsCount++] = (Event) data;
+            }
+        }
+    }
+
+    /**
+     * Releases, with a positive acknowledgement, the handle of every event remembered by {@link #recordInput(Collection)}
+     * which is not in the records returned by the processor.
+     *
+     * @param outputRecords the records returned by the processor
+     * @param acknowledgementSetManager the manager to release event references with
+     * @return the number of events released
+     */
+    int releaseDropped(final Collection<Record> outputRecords, final AcknowledgementSetManager acknowledgementSetManager) {
+        if (inputEventsCount == 0) {
+            return 0;
+        }
+        try {
+            if (isInInputOrder(outputRecords)) {
+                return releaseSkipped(outputRecords, acknowledgementSetManager);
+            }
+            return releaseMissingFromOutput(outputRecords, acknowledgementSetManager);
+        } finally {
+            Arrays.fill(inputEvents, 0, inputEventsCount, null);
+            inputEventsCount = 0;
+        }
+    }
+
+    /**
+     * @return true if the events with an event handle in the output are input events, in their input order.
+     */
+    private boolean isInInputOrder(final Collection<Record> outputRecords) {
+        int next = 0;
+        for (final Record record : outputRecords) {
+            final Object data = record.getData();
+            if (data instanceof Event && ((Event) data).getEventHandle() != null) {
+                while (next < inputEventsCount && inputEvents[next] != data) {
+                    next++;
+                }
+                if (next == inputEventsCount) {
+                    return false;
+                }
+                next++;
+            }
+        }
+        return true;
+    }
+
+    private int releaseSkipped(final Collection<Record> outputRecords, final AcknowledgementSetManager acknowledgementSetManager) {
+        int next = 0;
+        int released = 0;
+        for (final Record record : outputRecords) {
+            final Object data = record.getData();
+            if (data instanceof Event && ((Event) data).getEventHandle() != null) {
+                while (inputEvents[next] != data) {
+                    acknowledgementSetManager.releaseEventReference(inputEvents[next++].getEventHandle(), true);
+                    released++;
+                }
+                next++;
+            }
+        }
+        while (next < inputEventsCount) {
+            acknowledgementSetManager.releaseEventReference(inputEvents[next++].getEventHandle(), true);
+            released++;
+        }
+        return released;
+    }
+
+    private int releaseMissingFromOutput(final Collection<Record> outputRecords,
+                                         final AcknowledgementSetManager acknowledgementSetManager) {
+        try {
+            for (final Record record : outputRecords) {
+                final Object data = record.getData();
+                if (data instanceof Event) {
+                    outputEvents.put((Event) data, Boolean.TRUE);
+                }
+            }
+            int released = 0;
+            for (int i = 0; i < inputEventsCount; i++) {
+                if (!outputEvents.containsKey(inputEvents[i])) {
+                    acknowledgementSetManager.releaseEventReference(inputEvents[i].getEventHandle(), true);
+                    released++;
+                }
+            }
+            return released;
+        } finally {
+            outputEvents.clear();
+        }
+    }
+}
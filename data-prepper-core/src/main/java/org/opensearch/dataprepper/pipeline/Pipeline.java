@@ -64,6 +64,7 @@ public class Pipeline {
     private final Duration processorShutdownTimeout;
     private final Duration sinkShutdownTimeout;
     private final Duration peerForwarderDrainTimeout;
+    private final int maxInFlightBatches;
     private final ExecutorService processorExecutorService;
     private final ExecutorService sinkExecutorService;
     private final EventFactory eventFactory;
@@ -92,6 +93,8 @@ public class Pipeline {
      * @param processorShutdownTimeout configured or default timeout before forcefully terminating the processor workers
      * @param peerForwarderDrainTimeout configured or default timeout before considering the peer forwarder drained and ready for termination
      * @param sinkShutdownTimeout      configured or default timeout before forcefully terminating the sink workers
+     * @param maxInFlightBatches       configured or default number of batches each {@link ProcessWorker} may have
+     *                                 published to the sinks without having been checkpointed
      */
     public Pipeline(
             @Nonnull final String name,
@@ -107,9 +110,11 @@ public class Pipeline {
             final int readBatchTimeoutInMillis,
             final Duration processorShutdownTimeout,
             final Duration sinkShutdownTimeout,
-            final Duration peerForwarderDrainTimeout) {
+            final Duration peerForwarderDrainTimeout,
+            final int maxInFlightBatches) {
         Preconditions.checkArgument(processorSets.stream().allMatch(
                 processorSet -> Objects.nonNull(processorSet) && (processorSet.size() == 1 || processorSet.size() == processorThreads)));
+        Preconditions.checkArgument(maxInFlightBatches > 0, "maxInFlightBatches must be greater than zero");
         this.name = name;
         this.source = source;
         this.buffer = buffer;
@@ -124,6 +129,7 @@ public class Pipeline {
         this.processorShutdownTimeout = processorShutdownTimeout;
         this.sinkShutdownTimeout = sinkShutdownTimeout;
         this.peerForwarderDrainTimeout = peerForwarderDrainTimeout;
+        this.maxInFlightBatches = maxInFlightBatches;
         this.processorExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
                 new PipelineThreadFactory(format("%s-processor-worker", name)), this);
 
@@ -188,6 +194,14 @@ public class Pipeline {
         return readBatchTimeoutInMillis;
     }
 
+    /**
+     * @return the maximum number of batches each {@link ProcessWorker} may have published to the sinks before
+     * it waits for the oldest one to complete.
+     */
+    public int getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
     public boolean isReady() {
         for (final Sink sink: getSinks()) {
             if (!sink.isReady()) {
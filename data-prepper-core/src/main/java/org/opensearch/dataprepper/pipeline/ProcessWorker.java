@@ -9,20 +9,17 @@ import org.opensearch.dataprepper.model.CheckpointState;
 import org.opensearch.dataprepper.model.buffer.Buffer;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
-import org.opensearch.dataprepper.model.event.Event;
-import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
 import org.opensearch.dataprepper.pipeline.common.FutureHelper;
-import org.opensearch.dataprepper.pipeline.common.FutureHelperResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
-import java.util.ArrayList;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.Future;
-import java.util.stream.Collectors;
 
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class ProcessWorker implements Runnable {
@@ -31,6 +28,9 @@ public class ProcessWorker implements Runnable {
     private final Buffer readBuffer;
     private final List<Processor> processors;
     private final Pipeline pipeline;
+    private final int maxInFlightBatches;
+    private final Deque<InFlightBatch> inFlightBatches;
+    private final DroppedEventReleaser droppedEventReleaser;
     private boolean isEmptyRecordsLogged = false;
 
     public ProcessWorker(
@@ -40,6 +40,9 @@ public class ProcessWorker implements Runnable {
         this.readBuffer = readBuffer;
         this.processors = processors;
         this.pipeline = pipeline;
+        this.maxInFlightBatches = Math.max(1, pipeline.getMaxInFlightBatches());
+        this.inFlightBatches = new ArrayDeque<>(maxInFlightBatches);
+        this.droppedEventReleaser = new DroppedEventReleaser();
     }
 
     @Override
@@ -77,28 +80,20 @@ public class ProcessWorker implements Runnable {
                 doRun();
             }
             LOG.info("Processor shutdown phase 5 complete.");
+
+            checkpointInFlightBatches(0);
         } catch (final Exception e) {
             LOG.error("Encountered exception during pipeline {} processing", pipeline.getName(), e);
         }
     }
 
-    private void processAcknowledgements(List<Event> inputEvents, Collection outputRecords) {
-        AcknowledgementSetManager acknowledgementSetManager = pipeline.getAcknowledgementSetManager();
-        Set<Event> outputEventsSet = ((ArrayList<Record<Event>>)outputRecords).stream().map(Record::getData).collect(Collectors.toSet());
-        // For each event in the input events list that is not present in the output events, send positive acknowledgement, if acknowledgements are enabled for it
-        inputEvents.forEach(event -> { 
-            if (event.getEventHandle() != null && !outputEventsSet.contains(event)) {
-                acknowledgementSetManager.releaseEventReference(event.getEventHandle(), true);
-            }
-        });
-    }
-
     private void doRun() {
         final Map.Entry<Collection, CheckpointState> readResult = readBuffer.read(pipeline.getReadBatchTimeoutInMillis());
         Collection records = readResult.getKey();
         final CheckpointState checkpointState = readResult.getValue();
+        final boolean isReadEmpty = records.isEmpty();
         //TODO Hacky way to avoid logging continuously - Will be removed as part of metrics implementation
-        if (records.isEmpty()) {
+        if (isReadEmpty) {
             if(!isEmptyRecordsLogged) {
                 LOG.debug(" {} Worker: No records received from buffer", pipeline.getName());
                 isEmptyRecordsLogged = true;
@@ -107,21 +102,39 @@ public class ProcessWorker implements Runnable {
             LOG.debug(" {} Worker: Processing {} records from buffer", pipeline.getName(), records.size());
         }
         //Should Empty list from buffer should be sent to the processors? For now sending as the Stateful processors expects it.
+        final boolean acknowledgementsEnabled = pipeline.getSource().areAcknowledgementsEnabled();
         for (final Processor processor : processors) {
-            List<Event> inputEvents = null;
-            if (pipeline.getSource().areAcknowledgementsEnabled()) {
-                inputEvents = ((ArrayList<Record<Event>>)records).stream().map(Record::getData).collect(Collectors.toList());   
+            if (acknowledgementsEnabled) {
+                droppedEventReleaser.recordInput(records);
             }
             records = processor.execute(records);
-            if (inputEvents != null) {
-                processAcknowledgements(inputEvents, records);
+            if (acknowledgementsEnabled) {
+                // Send positive acknowledgements for the events with event handles which the processor dropped
+                droppedEventReleaser.releaseDropped(records, pipeline.getAcknowledgementSetManager());
             }
         }
-        if (!records.isEmpty()) {
-            postToSink(records);
+        final List<Future<Void>> sinkFutures = records.isEmpty() ? Collections.emptyList() : postToSink(records);
+        inFlightBatches.addLast(new InFlightBatch(sinkFutures, checkpointState));
+        // Checkpoint batches read from the buffer, in the order they were read, once they have been processed by
+        // processors and sinks. An empty read means the buffer is idle, so wait for every batch still in flight. A batch
+        // whose records were all dropped by the processors does not mean that the buffer is idle.
+        checkpointInFlightBatches(isReadEmpty ? 0 : maxInFlightBatches - 1);
+    }
+
+    /**
+     * Checkpoints the batches at the head of the in-flight queue which the sinks have completed, and waits for the
+     * oldest batches until no more than maxRemaining batches are in flight.
+     */
+    private void checkpointInFlightBatches(final int maxRemaining) {
+        while (!inFlightBatches.isEmpty()) {
+            final InFlightBatch oldestBatch = inFlightBatches.peekFirst();
+            if (inFlightBatches.size() <= maxRemaining && !oldestBatch.isDone()) {
+                return;
+            }
+            FutureHelper.awaitFuturesIndefinitely(oldestBatch.sinkFutures);
+            inFlightBatches.removeFirst();
+            readBuffer.checkpoint(oldestBatch.checkpointState);
         }
-        // Checkpoint the current batch read from the buffer after being processed by processors and sinks.
-        readBuffer.checkpoint(checkpointState);
     }
 
     private boolean areComponentsReadyForShutdown() {
@@ -132,13 +145,25 @@ public class ProcessWorker implements Runnable {
 
     /**
      * TODO Add isolator pattern - Fail if one of the Sink fails [isolator Pattern]
-     * Uses the pipeline method to publish to sinks, waits for each of the sink result to be true before attempting to
-     * process more records from buffer.
+     * Uses the pipeline method to publish to sinks. The returned futures are awaited before the batch is checkpointed,
+     * which happens before more records are read from the buffer unless the pipeline allows more than one batch in flight.
      */
-    private boolean postToSink(final Collection<Record> records) {
+    private List<Future<Void>> postToSink(final Collection<Record> records) {
         LOG.debug("Pipeline Worker: Submitting {} processed records to sinks", records.size());
-        final List<Future<Void>> sinkFutures = pipeline.publishToSinks(records);
-        final FutureHelperResult<Void> futureResults = FutureHelper.awaitFuturesIndefinitely(sinkFutures);
-        return futureResults.getFailedReasons().size() == 0;
+        return pipeline.publishToSinks(records);
+    }
+
+    private static class InFlightBatch {
+        private final List<Future<Void>> sinkFutures;
+        private final CheckpointState checkpointState;
+
+        private InFlightBatch(final List<Future<Void>> sinkFutures, final CheckpointState checkpointState) {
+            this.sinkFutures = sinkFutures;
+            this.checkpointState = checkpointState;
+        }
+
+        private boolean isDone() {
+            return sinkFutures.stream().allMatch(Future::isDone);
+        }
     }
 }
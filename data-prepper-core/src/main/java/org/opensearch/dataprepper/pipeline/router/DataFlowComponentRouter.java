@@ -10,8 +10,6 @@ import org.opensearch.dataprepper.parser.DataFlowComponent;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
 
@@ -22,7 +20,8 @@ import java.util.function.BiConsumer;
 class DataFlowComponentRouter {
     <C> void route(final Collection<Record> allRecords,
                    final DataFlowComponent<C> dataFlowComponent,
-                   final Map<Record, Set<String>> recordsToRoutes,
+                   final RouteMatches routeMatches,
+                   final long[] routeMask,
                    final RouterGetRecordStrategy getRecordStrategy,
                    final BiConsumer<C, Collection<Record>> componentRecordsConsumer) {
 
@@ -33,12 +32,9 @@ class DataFlowComponentRouter {
             recordsForComponent = getRecordStrategy.getAllRecords(allRecords);
         } else {
             recordsForComponent = new ArrayList<>();
-            for (Record record : allRecords) {
-                final Set<String> routesForEvent = recordsToRoutes
-                        .getOrDefault(record, Collections.emptySet());
-
-                if (routesForEvent.stream().anyMatch(dataFlowComponentRoutes::contains)) {
-                    recordsForComponent.add(getRecordStrategy.getRecord(record));
+            for (int i = 0; i < routeMatches.size(); i++) {
+                if (routeMatches.matchesAny(i, routeMask)) {
+                    recordsForComponent.add(getRecordStrategy.getRecord(routeMatches.getRecord(i)));
                 }
             }
         }
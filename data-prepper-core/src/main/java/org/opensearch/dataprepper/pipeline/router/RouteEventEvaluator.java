@@ -8,45 +8,75 @@ package org.opensearch.dataprepper.pipeline.router;
 import org.opensearch.dataprepper.model.configuration.ConditionalRoute;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.expression.CompiledExpression;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 class RouteEventEvaluator {
 
     private static final Logger LOG = LoggerFactory.getLogger(RouteEventEvaluator.class);
 
-    private final ExpressionEvaluator evaluator;
-    private final Collection<ConditionalRoute> routes;
+    /**
+     * The indexes of the routes by name. Routes may share a name, and a record matches a name if it matches any of them.
+     */
+    private final Map<String, List<Integer>> routeIndexes;
+    private final List<CompiledExpression> routeConditions;
 
     RouteEventEvaluator(final ExpressionEvaluator evaluator, final Collection<ConditionalRoute> routes) {
-        this.evaluator = evaluator;
-        this.routes = routes;
+        routeIndexes = new HashMap<>();
+        routeConditions = new ArrayList<>(routes.size());
+        for (final ConditionalRoute route : routes) {
+            routeIndexes.computeIfAbsent(route.getName(), name -> new ArrayList<>()).add(routeConditions.size());
+            routeConditions.add(evaluator.compile(route.getCondition()));
+        }
+    }
+
+    /**
+     * Creates a mask for {@link RouteMatches#matchesAny(int, long[])} which selects the given routes, including every
+     * route which shares one of the names. Names which are not routes of this evaluator are ignored.
+     *
+     * @param routeNames the names of the routes
+     * @return the route mask
+     */
+    long[] createRouteMask(final Collection<String> routeNames) {
+        final List<Integer> indexes = routeNames.stream()
+                .map(routeIndexes::get)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+        return RouteMatches.createRouteMask(routeConditions.size(), indexes);
     }
 
-    Map<Record, Set<String>> evaluateEventRoutes(final Collection<Record> records) {
-        final Map<Record, Set<String>> recordsToRoutes = new HashMap<>();
+    /**
+     * Evaluates every route for the records. Each route condition is evaluated for the whole batch before the next
+     * route, rather than each record being evaluated for all routes.
+     *
+     * @param records the records to evaluate
+     * @return the routes matched by each record, in the iteration order of the records
+     */
+    RouteMatches evaluateEventRoutes(final Collection<Record> records) {
+        final Record[] recordArray = records.toArray(new Record[0]);
+        final Event[] events = new Event[recordArray.length];
 
         int nonEventRecords = 0;
 
-        for (Record record : records) {
+        for (int i = 0; i < recordArray.length; i++) {
 
-            final Object data = record.getData();
+            final Object data = recordArray[i].getData();
 
             if (data instanceof Event) {
-                final Event event = (Event) data;
-                final Set<String> matchedRoutes = findMatchedRoutes(event);
-                recordsToRoutes.put(record, matchedRoutes);
+                events[i] = (Event) data;
             } else {
                 nonEventRecords++;
-                recordsToRoutes.put(record, Collections.emptySet());
             }
         }
 
@@ -54,20 +84,24 @@ class RouteEventEvaluator {
             LOG.warn("Received {} records which are not events. These will have no routes applied.", nonEventRecords);
         }
 
-        return recordsToRoutes;
-    }
-
-    private Set<String> findMatchedRoutes(final Event event) {
-        final Set<String> matchRoutes = new HashSet<>();
-        for (ConditionalRoute route : routes) {
-            try {
-                if (evaluator.evaluateConditional(route.getCondition(), event)) {
-                    matchRoutes.add(route.getName());
+        final RouteMatches routeMatches = new RouteMatches(recordArray, routeConditions.size());
+        for (int routeIndex = 0; routeIndex < routeConditions.size(); routeIndex++) {
+            final CompiledExpression routeCondition = routeConditions.get(routeIndex);
+            for (int recordIndex = 0; recordIndex < events.length; recordIndex++) {
+                if (events[recordIndex] != null && matches(routeCondition, events[recordIndex])) {
+                    routeMatches.addMatch(recordIndex, routeIndex);
                 }
-            } catch (final Exception ex) {
-                LOG.error("Failed to evaluate route. This route will not be applied to any events.", ex);
             }
         }
-        return matchRoutes;
+        return routeMatches;
+    }
+
+    private boolean matches(final CompiledExpression routeCondition, final Event event) {
+        try {
+            return routeCondition.evaluateConditional(event);
+        } catch (final Exception ex) {
+            LOG.error("Failed to evaluate route. This route will not be applied to any events.", ex);
+            return false;
+        }
     }
 }
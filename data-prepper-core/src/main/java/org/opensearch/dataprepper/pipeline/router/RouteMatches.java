@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline.router;
+
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.Collection;
+
+/**
+ * The routes matched by each record of a batch. Routes are identified by their index in the {@link RouteEventEvaluator},
+ * and the matches are kept as a bitmap with one row of 64-bit words per record. Each
+ * {@link org.opensearch.dataprepper.parser.DataFlowComponent} selects records with a route mask from
+ * {@link #createRouteMask(int, Collection)}, so checking a record against all the routes of a component is an AND per
+ * word.
+ */
+class RouteMatches {
+    private static final int BITS_PER_WORD = Long.SIZE;
+
+    private final Record[] records;
+    private final int wordsPerRecord;
+    private final long[] matches;
+
+    RouteMatches(final Record[] records, final int routeCount) {
+        this.records = records;
+        wordsPerRecord = wordsFor(routeCount);
+        matches = new long[records.length * wordsPerRecord];
+    }
+
+    /**
+     * Creates a mask which selects the given routes.
+     *
+     * @param routeCount the number of routes
+     * @param routeIndexes the indexes of the routes to select
+     * @return the route mask
+     */
+    static long[] createRouteMask(final int routeCount, final Collection<Integer> routeIndexes) {
+        final long[] routeMask = new long[wordsFor(routeCount)];
+        for (final int routeIndex : routeIndexes) {
+            routeMask[routeIndex / BITS_PER_WORD] |= 1L << routeIndex;
+        }
+        return routeMask;
+    }
+
+    private static int wordsFor(final int routeCount) {
+        return (routeCount + BITS_PER_WORD - 1) / BITS_PER_WORD;
+    }
+
+    int size() {
+        return records.length;
+    }
+
+    Record getRecord(final int recordIndex) {
+        return records[recordIndex];
+    }
+
+    void addMatch(final int recordIndex, final int routeIndex) {
+        matches[recordIndex * wordsPerRecord + routeIndex / BITS_PER_WORD] |= 1L << routeIndex;
+    }
+
+    /**
+     * @param recordIndex the index of the record in the batch
+     * @param routeMask a mask from {@link #createRouteMask(int, Collection)} for the same number of routes
+     * @return true if the record matched at least one of the routes in the mask
+     */
+    boolean matchesAny(final int recordIndex, final long[] routeMask) {
+        final int offset = recordIndex * wordsPerRecord;
+        for (int word = 0; word < wordsPerRecord; word++) {
+            if ((matches[offset + word] & routeMask[word]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
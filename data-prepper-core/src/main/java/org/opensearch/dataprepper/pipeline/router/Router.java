@@ -10,8 +10,8 @@ import org.opensearch.dataprepper.parser.DataFlowComponent;
 
 import java.util.Collection;
 import java.util.Map;
-import java.util.Set;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 
 /**
@@ -20,6 +20,7 @@ import java.util.function.BiConsumer;
 public class Router {
     private final RouteEventEvaluator routeEventEvaluator;
     private final DataFlowComponentRouter dataFlowComponentRouter;
+    private final Map<DataFlowComponent<?>, long[]> routeMasks = new ConcurrentHashMap<>();
 
     Router(final RouteEventEvaluator routeEventEvaluator, final DataFlowComponentRouter dataFlowComponentRouter) {
         this.routeEventEvaluator = Objects.requireNonNull(routeEventEvaluator);
@@ -36,10 +37,12 @@ public class Router {
         Objects.requireNonNull(dataFlowComponents);
         Objects.requireNonNull(componentRecordsConsumer);
 
-        final Map<Record, Set<String>> recordsToRoutes = routeEventEvaluator.evaluateEventRoutes(allRecords);
+        final RouteMatches routeMatches = routeEventEvaluator.evaluateEventRoutes(allRecords);
 
         for (DataFlowComponent<C> dataFlowComponent : dataFlowComponents) {
-            dataFlowComponentRouter.route(allRecords, dataFlowComponent, recordsToRoutes, getRecordStrategy, componentRecordsConsumer);
+            final long[] routeMask = routeMasks.computeIfAbsent(dataFlowComponent,
+                    component -> routeEventEvaluator.createRouteMask(component.getRoutes()));
+            dataFlowComponentRouter.route(allRecords, dataFlowComponent, routeMatches, routeMask, getRecordStrategy, componentRecordsConsumer);
         }
     }
 }
@@ -98,9 +98,14 @@ public class RouterCopyRecordStrategy implements RouterGetRecordStrategy {
                 Record newRecord;
                 DefaultEventHandle eventHandle = (DefaultEventHandle)recordEvent.getEventHandle();
                 if (eventHandle != null) {
-                    final EventMetadata eventMetadata = recordEvent.getMetadata();
-                    final EventBuilder eventBuilder = (EventBuilder) eventFactory.eventBuilder(EventBuilder.class).withEventMetadata(eventMetadata).withData(recordEvent.toMap());
-                    newRecordEvent = (JacksonEvent) eventBuilder.build();
+                    if (recordEvent instanceof JacksonEvent) {
+                        // The copy shares the event data with the original until either of them changes it
+                        newRecordEvent = JacksonEvent.fromEvent(recordEvent);
+                    } else {
+                        final EventMetadata eventMetadata = recordEvent.getMetadata();
+                        final EventBuilder eventBuilder = (EventBuilder) eventFactory.eventBuilder(EventBuilder.class).withEventMetadata(eventMetadata).withData(recordEvent.toMap());
+                        newRecordEvent = (JacksonEvent) eventBuilder.build();
+                    }
 
                     eventHandle.getAcknowledgementSet().add(newRecordEvent);
                     newRecord = new Record<>(newRecordEvent);
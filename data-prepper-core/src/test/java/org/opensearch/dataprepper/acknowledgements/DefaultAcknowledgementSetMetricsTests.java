@@ -7,6 +7,8 @@ package org.opensearch.dataprepper.acknowledgements;
 
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -29,6 +31,10 @@ public class DefaultAcknowledgementSetMetricsTests {
     private Counter invalidAcquiresCounter;
     @Mock
     private Counter invalidReleasesCounter;
+    @Mock
+    private Counter contendedUpdatesCounter;
+    @Mock
+    private Timer lifetimeTimer;
     private DefaultAcknowledgementSetMetrics metrics;
 
     @Mock
@@ -42,6 +48,8 @@ public class DefaultAcknowledgementSetMetricsTests {
         when(pluginMetrics.counter(DefaultAcknowledgementSetMetrics.EXPIRED_METRIC_NAME)).thenReturn(expiredCounter);
         when(pluginMetrics.counter(DefaultAcknowledgementSetMetrics.INVALID_ACQUIRES_METRIC_NAME)).thenReturn(invalidAcquiresCounter);
         when(pluginMetrics.counter(DefaultAcknowledgementSetMetrics.INVALID_RELEASES_METRIC_NAME)).thenReturn(invalidReleasesCounter);
+        when(pluginMetrics.counter(DefaultAcknowledgementSetMetrics.CONTENDED_UPDATES_METRIC_NAME)).thenReturn(contendedUpdatesCounter);
+        when(pluginMetrics.timer(DefaultAcknowledgementSetMetrics.LIFETIME_METRIC_NAME)).thenReturn(lifetimeTimer);
     }
 
     public DefaultAcknowledgementSetMetrics createObjectUnderTest() {
@@ -61,6 +69,16 @@ public class DefaultAcknowledgementSetMetricsTests {
         verify(invalidAcquiresCounter, times(1)).increment();
         metrics.increment(DefaultAcknowledgementSetMetrics.INVALID_RELEASES_METRIC_NAME);
         verify(invalidReleasesCounter, times(1)).increment();
+        metrics.increment(DefaultAcknowledgementSetMetrics.CONTENDED_UPDATES_METRIC_NAME);
+        verify(contendedUpdatesCounter, times(1)).increment();
+    }
+
+    @Test
+    public void testRecordLifetime() {
+        metrics = createObjectUnderTest();
+        final Duration lifetime = Duration.ofMillis(250);
+        metrics.recordLifetime(lifetime);
+        verify(lifetimeTimer, times(1)).record(lifetime);
     }
 }
 
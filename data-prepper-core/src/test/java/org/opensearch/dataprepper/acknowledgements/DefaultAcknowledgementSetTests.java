@@ -15,9 +15,15 @@ import org.opensearch.dataprepper.event.DefaultEventHandle;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import static org.hamcrest.CoreMatchers.not;
@@ -27,6 +33,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class DefaultAcknowledgementSetTests {
@@ -202,4 +210,53 @@ class DefaultAcknowledgementSetTests {
                 .until(() -> callbackInterrupted.get());
         assertThat(callbackInterrupted.get(), equalTo(true));
     }
+
+    @Test
+    void testDefaultAcknowledgementSetConcurrentAcquireAndRelease() throws Exception {
+        final int numberOfThreads = 8;
+        final int referencesPerThread = 1000;
+        final AtomicInteger numberOfCallbacks = new AtomicInteger(0);
+        defaultAcknowledgementSet = createObjectUnderTestWithCallback(
+            (flag) -> {
+                acknowledgementSetResult = flag;
+                numberOfCallbacks.incrementAndGet();
+            }
+        );
+        defaultAcknowledgementSet.add(event);
+        assertThat(handle, not(equalTo(null)));
+
+        final ExecutorService workers = Executors.newFixedThreadPool(numberOfThreads);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final List<Future<Integer>> completedReleases = new ArrayList<>();
+        for (int i = 0; i < numberOfThreads; i++) {
+            completedReleases.add(workers.submit(() -> {
+                startLatch.await();
+                int completed = 0;
+                for (int j = 0; j < referencesPerThread; j++) {
+                    defaultAcknowledgementSet.acquire(handle);
+                    if (defaultAcknowledgementSet.release(handle, true)) {
+                        completed++;
+                    }
+                }
+                return completed;
+            }));
+        }
+        startLatch.countDown();
+        int totalCompleted = 0;
+        for (final Future<Integer> future : completedReleases) {
+            totalCompleted += future.get(10, TimeUnit.SECONDS);
+        }
+        workers.shutdown();
+
+        assertThat(totalCompleted, equalTo(0));
+        assertThat(defaultAcknowledgementSet.release(handle, true), equalTo(true));
+        Awaitility.waitAtMost(Duration.ofSeconds(10))
+                .pollDelay(Duration.ofMillis(500))
+                .until(() -> defaultAcknowledgementSet.isDone());
+        assertThat(acknowledgementSetResult, equalTo(true));
+        assertThat(numberOfCallbacks.get(), equalTo(1));
+        assertThat(invalidAcquiresCounter, equalTo(0));
+        assertThat(invalidReleasesCounter, equalTo(0));
+        verify(metrics, times(1)).recordLifetime(any(Duration.class));
+    }
 }
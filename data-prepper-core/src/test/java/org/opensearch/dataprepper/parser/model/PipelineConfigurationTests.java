@@ -53,6 +53,7 @@ class PipelineConfigurationTests {
         when(pipelineModel.getSinks()).thenReturn(sinks);
         when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
         when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(null);
         final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
 
         final PluginSetting actualSourcePluginSetting = pipelineConfiguration.getSourcePluginSetting();
@@ -95,6 +96,7 @@ class PipelineConfigurationTests {
         when(pipelineModel.getProcessors()).thenReturn(null);
         when(pipelineModel.getWorkers()).thenReturn(null);
         when(pipelineModel.getReadBatchDelay()).thenReturn(null);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(null);
         final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
         final PluginSetting actualSourcePluginSetting = pipelineConfiguration.getSourcePluginSetting();
         final PluginSetting actualBufferPluginSetting = pipelineConfiguration.getBufferPluginSetting();
@@ -110,6 +112,7 @@ class PipelineConfigurationTests {
         comparePluginSettings(actualSinkPluginSettings.get(0), TestDataProvider.VALID_PLUGIN_SETTING_1);
         assertThat(pipelineConfiguration.getWorkers(), CoreMatchers.is(TestDataProvider.DEFAULT_WORKERS));
         assertThat(pipelineConfiguration.getReadBatchDelay(), CoreMatchers.is(TestDataProvider.DEFAULT_READ_BATCH_DELAY));
+        assertThat(pipelineConfiguration.getMaxInFlightBatches(), CoreMatchers.is(1));
     }
 
     @Test
@@ -119,6 +122,7 @@ class PipelineConfigurationTests {
         when(pipelineModel.getSinks()).thenReturn(sinks);
         when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
         when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(null);
 
         final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(pipelineModel));
 
@@ -133,6 +137,7 @@ class PipelineConfigurationTests {
         when(pipelineModel.getSinks()).thenReturn(sinks);
         when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
         when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(null);
         final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
         assertThat(pipelineConfiguration.getProcessorPluginSettings(), isA(Iterable.class));
         assertThat(pipelineConfiguration.getProcessorPluginSettings().size(), is(0));
@@ -146,6 +151,7 @@ class PipelineConfigurationTests {
         when(pipelineModel.getSinks()).thenReturn(sinks);
         when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
         when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(null);
         final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
         assertThat(pipelineConfiguration.getProcessorPluginSettings(), isA(Iterable.class));
         assertThat(pipelineConfiguration.getProcessorPluginSettings().size(), is(0));
@@ -159,6 +165,7 @@ class PipelineConfigurationTests {
         when(pipelineModel.getSinks()).thenReturn(Collections.emptyList());
         when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
         when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(null);
 
         final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(pipelineModel));
 
@@ -173,6 +180,7 @@ class PipelineConfigurationTests {
         when(pipelineModel.getSinks()).thenReturn(new ArrayList<>());
         when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
         when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(null);
 
         final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(pipelineModel));
 
@@ -187,6 +195,7 @@ class PipelineConfigurationTests {
         when(pipelineModel.getSinks()).thenReturn(sinks);
         when(pipelineModel.getWorkers()).thenReturn(0);
         when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(null);
         final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(pipelineModel));
         assertThat(actual.getMessage(), equalTo("Invalid configuration, workers cannot be 0"));
     }
@@ -199,10 +208,37 @@ class PipelineConfigurationTests {
         when(pipelineModel.getSinks()).thenReturn(sinks);
         when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
         when(pipelineModel.getReadBatchDelay()).thenReturn(-1);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(null);
         final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(pipelineModel));
         assertThat(actual.getMessage(), equalTo("Invalid configuration, delay must be a non-negative integer."));
     }
 
+    @Test
+    void testMaxInFlightBatchesConfiguration() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(null);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(null);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(4);
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
+        assertThat(pipelineConfiguration.getMaxInFlightBatches(), equalTo(4));
+    }
+
+    @Test
+    void testInvalidMaxInFlightBatchesConfiguration() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(null);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(null);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(0);
+        final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(pipelineModel));
+        assertThat(actual.getMessage(), equalTo("Invalid configuration, max_in_flight_batches cannot be 0"));
+    }
+
     @Test
     void testSinksWithRoutes() {
         final List<Collection<String>> orderedSinkRoutes = new ArrayList<>();
@@ -218,6 +254,7 @@ class PipelineConfigurationTests {
         when(pipelineModel.getProcessors()).thenReturn(null);
         when(pipelineModel.getWorkers()).thenReturn(null);
         when(pipelineModel.getReadBatchDelay()).thenReturn(null);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(null);
 
         final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
 
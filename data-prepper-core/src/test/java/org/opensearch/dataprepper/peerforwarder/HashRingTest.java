@@ -10,17 +10,40 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.noop.NoopTimer;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.peerforwarder.discovery.PeerListProvider;
+import org.opensearch.dataprepper.peerforwarder.discovery.StaticPeerListProvider;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.opensearch.dataprepper.peerforwarder.HashRing.LOCAL_ADDRESS_RESOLUTION_LATENCY;
+import static org.opensearch.dataprepper.peerforwarder.HashRing.RECORDS_REASSIGNED;
 
 @RunWith(MockitoJUnitRunner.class)
 class HashRingTest {
@@ -36,18 +59,22 @@ class HashRingTest {
     private static final int MULTIPLE_VIRTUAL_NODE_COUNT = 100;
 
     private final PeerListProvider peerListProvider = mock(PeerListProvider.class);
+    private final PluginMetrics pluginMetrics = mock(PluginMetrics.class);
+    private final PeerLoadTracker peerLoadTracker = mock(PeerLoadTracker.class);
 
     private HashRing hashRing;
 
     @BeforeEach
     public void setUp() {
         when(peerListProvider.getPeerList()).thenReturn(SERVER_IPS);
+        when(pluginMetrics.timer(LOCAL_ADDRESS_RESOLUTION_LATENCY))
+                .thenReturn(new NoopTimer(new Meter.Id("test", Tags.empty(), null, null, Meter.Type.TIMER)));
     }
 
     @Test
     void testGetServerIpEmptyMap() {
         when(peerListProvider.getPeerList()).thenReturn(Collections.emptyList());
-        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT);
+        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MD5, peerLoadTracker, pluginMetrics);
 
         Optional<String> result = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
 
@@ -56,7 +83,7 @@ class HashRingTest {
 
     @Test
     void testGetServerIpSingleNodeSameIdentificationKeys() {
-        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT);
+        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MD5, peerLoadTracker, pluginMetrics);
 
         Optional<String> result1 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
         Optional<String> result2 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
@@ -68,7 +95,7 @@ class HashRingTest {
 
     @Test
     void testGetServerIpSingleNodeDifferentIdentificationKeys() {
-        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT);
+        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MD5, peerLoadTracker, pluginMetrics);
 
         Optional<String> result1 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
         Optional<String> result2 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_2);
@@ -81,7 +108,7 @@ class HashRingTest {
 
     @Test
     void testGetServerIpMultipleNodesSameIdentificationKeys() {
-        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT);
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MD5, peerLoadTracker, pluginMetrics);
 
         Optional<String> result1 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
         Optional<String> result2 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
@@ -93,7 +120,7 @@ class HashRingTest {
 
     @Test
     void testGetServerIpMultipleDifferentIdentificationKeys() {
-        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT);
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MD5, peerLoadTracker, pluginMetrics);
 
         Optional<String> result1 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
         Optional<String> result2 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_2);
@@ -107,7 +134,7 @@ class HashRingTest {
     void testSpecialCaseNoKeyInMapGreaterThanHashValue() {
         when(peerListProvider.getPeerList()).thenReturn(Collections.singletonList("serverIp"));
 
-        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT);
+        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MD5, peerLoadTracker, pluginMetrics);
 
         // IDENTIFICATION KEY SET 1 hash is less than the hash of "serverIp"
         Optional<String> result1 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
@@ -123,7 +150,7 @@ class HashRingTest {
 
     @Test
     void testEndpointChangeRebuildsMap() {
-        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT);
+        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MD5, peerLoadTracker, pluginMetrics);
 
         // First call during construction
         verify(peerListProvider, times(1)).getPeerList();
@@ -133,4 +160,249 @@ class HashRingTest {
         // Second call during rebuild
         verify(peerListProvider, times(2)).getPeerList();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testXxHash64GetServerIpEmptyMap() {
+        when(peerListProvider.getPeerList()).thenReturn(Collections.emptyList());
+        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.XXHASH64, peerLoadTracker, pluginMetrics);
+
+        Optional<String> result = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
+
+        Assertions.assertFalse(result.isPresent());
+    }
+
+    @Test
+    void testXxHash64GetServerIpSameIdentificationKeys() {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.XXHASH64, peerLoadTracker, pluginMetrics);
+
+        for (final List<String> identificationKeyValues : generateIdentificationKeyValues(100)) {
+            Optional<String> result1 = hashRing.getServerIp(identificationKeyValues);
+            Optional<String> result2 = hashRing.getServerIp(new ArrayList<>(identificationKeyValues));
+
+            Assertions.assertTrue(result1.isPresent());
+            Assertions.assertTrue(SERVER_IPS.contains(result1.get()));
+            Assertions.assertEquals(result1, result2);
+        }
+    }
+
+    @Test
+    void testXxHash64DistributesIdentificationKeysAcrossServers() {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.XXHASH64, peerLoadTracker, pluginMetrics);
+
+        final int keyCount = 3000;
+        final Map<String, Integer> serverCounts = new HashMap<>();
+        for (final List<String> identificationKeyValues : generateIdentificationKeyValues(keyCount)) {
+            serverCounts.merge(hashRing.getServerIp(identificationKeyValues).orElseThrow(), 1, Integer::sum);
+        }
+
+        Assertions.assertEquals(new HashSet<>(SERVER_IPS), serverCounts.keySet());
+        for (final int serverCount : serverCounts.values()) {
+            Assertions.assertTrue(serverCount > keyCount / SERVER_IPS.size() / 2, "Unbalanced hash ring: " + serverCounts);
+        }
+    }
+
+    @Test
+    void testXxHash64IsIndependentOfPeerListOrder() {
+        final HashRing hashRing1 = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.XXHASH64, peerLoadTracker, pluginMetrics);
+        final List<String> reversedServerIps = new ArrayList<>(SERVER_IPS);
+        Collections.reverse(reversedServerIps);
+        when(peerListProvider.getPeerList()).thenReturn(reversedServerIps);
+        final HashRing hashRing2 = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.XXHASH64, peerLoadTracker, pluginMetrics);
+
+        for (final List<String> identificationKeyValues : generateIdentificationKeyValues(500)) {
+            Assertions.assertEquals(hashRing1.getServerIp(identificationKeyValues), hashRing2.getServerIp(identificationKeyValues));
+        }
+    }
+
+    @Test
+    void testXxHash64OnlyMovesKeysOfRemovedServer() {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.XXHASH64, peerLoadTracker, pluginMetrics);
+        final List<List<String>> identificationKeyValuesList = generateIdentificationKeyValues(1000);
+        final List<Optional<String>> resultsBefore = new ArrayList<>();
+        for (final List<String> identificationKeyValues : identificationKeyValuesList) {
+            resultsBefore.add(hashRing.getServerIp(identificationKeyValues));
+        }
+
+        final String removedServerIp = SERVER_IPS.get(0);
+        when(peerListProvider.getPeerList()).thenReturn(SERVER_IPS.subList(1, SERVER_IPS.size()));
+        hashRing.accept(Collections.emptyList());
+
+        for (int i = 0; i < identificationKeyValuesList.size(); i++) {
+            final Optional<String> resultAfter = hashRing.getServerIp(identificationKeyValuesList.get(i));
+            Assertions.assertNotEquals(Optional.of(removedServerIp), resultAfter);
+            if (!resultsBefore.get(i).equals(Optional.of(removedServerIp))) {
+                Assertions.assertEquals(resultsBefore.get(i), resultAfter);
+            }
+        }
+    }
+
+    @Test
+    void testXxHash64WithNullAndNonAsciiIdentificationKeys() {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.XXHASH64, peerLoadTracker, pluginMetrics);
+
+        final List<List<String>> identificationKeyValuesList = List.of(
+                Arrays.asList(null, "key"),
+                List.of("caf\u00e9", "\u4e2d\u6587"),
+                List.of("\ud83d\ude00".repeat(100)),
+                List.of("unpaired \ud83d surrogate"),
+                Collections.emptyList());
+
+        for (final List<String> identificationKeyValues : identificationKeyValuesList) {
+            Optional<String> result1 = hashRing.getServerIp(identificationKeyValues);
+            Optional<String> result2 = hashRing.getServerIp(identificationKeyValues);
+
+            Assertions.assertTrue(result1.isPresent());
+            Assertions.assertEquals(result1, result2);
+        }
+        Assertions.assertEquals(hashRing.getServerIp(Arrays.asList(null, "key")), hashRing.getServerIp(List.of("null", "key")));
+    }
+
+    private static List<List<String>> generateIdentificationKeyValues(final int count) {
+        final List<List<String>> identificationKeyValuesList = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            identificationKeyValuesList.add(List.of(UUID.randomUUID().toString(), "value" + i));
+        }
+        return identificationKeyValuesList;
+    }
+
+    @Test
+    void testIsLocalAddressResolvesPeersWhenBuildingRing() {
+        when(peerListProvider.getPeerList()).thenReturn(List.of("127.0.0.1", "192.0.2.1"));
+        final Timer localAddressResolutionTimer = mock(Timer.class);
+        when(localAddressResolutionTimer.record(any(Supplier.class))).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+        when(pluginMetrics.timer(LOCAL_ADDRESS_RESOLUTION_LATENCY)).thenReturn(localAddressResolutionTimer);
+
+        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MD5, peerLoadTracker, pluginMetrics);
+
+        verify(localAddressResolutionTimer, times(1)).record(any(Supplier.class));
+        Assertions.assertTrue(hashRing.isLocalAddress("127.0.0.1"));
+        Assertions.assertFalse(hashRing.isLocalAddress("192.0.2.1"));
+        Assertions.assertTrue(hashRing.isLocalAddress(StaticPeerListProvider.LOCAL_ENDPOINT));
+        verify(localAddressResolutionTimer, times(1)).record(any(Supplier.class));
+    }
+
+    @Test
+    void testIsLocalAddressResolvesAddressesNotOnRing() {
+        when(peerListProvider.getPeerList()).thenReturn(Collections.emptyList());
+        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.XXHASH64, peerLoadTracker, pluginMetrics);
+
+        Assertions.assertTrue(hashRing.isLocalAddress("localhost"));
+        Assertions.assertFalse(hashRing.isLocalAddress("192.0.2.1"));
+        Assertions.assertFalse(hashRing.isLocalAddress("invalid.host.name.invalid"));
+    }
+
+    @Test
+    void testRefreshRebuildsMap() {
+        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MD5, peerLoadTracker, pluginMetrics);
+        when(peerListProvider.getPeerList()).thenReturn(List.of("127.0.0.1"));
+
+        Assertions.assertTrue(SERVER_IPS.contains(hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1).orElseThrow()));
+
+        hashRing.refresh();
+
+        verify(peerListProvider, times(2)).getPeerList();
+        Assertions.assertEquals(Optional.of("127.0.0.1"), hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1));
+        Assertions.assertTrue(hashRing.isLocalAddress("127.0.0.1"));
+    }
+
+    @Test
+    void testRefreshIntervalRebuildsMapPeriodically() {
+        when(peerListProvider.getPeerList()).thenReturn(SERVER_IPS, List.of("127.0.0.1"));
+
+        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MD5, peerLoadTracker, pluginMetrics,
+                Duration.ofMillis(20));
+
+        verify(peerListProvider, timeout(5000).atLeast(3)).getPeerList();
+        Assertions.assertEquals(Optional.of("127.0.0.1"), hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1));
+        Assertions.assertTrue(hashRing.isLocalAddress("127.0.0.1"));
+    }
+
+    @Test
+    void testRefreshIntervalKeepsRefreshingAfterAFailedRefresh() {
+        when(peerListProvider.getPeerList())
+                .thenReturn(SERVER_IPS)
+                .thenThrow(new RuntimeException("peer list unavailable"))
+                .thenReturn(List.of("127.0.0.1"));
+
+        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MD5, peerLoadTracker, pluginMetrics,
+                Duration.ofMillis(20));
+
+        verify(peerListProvider, timeout(5000).atLeast(3)).getPeerList();
+        Assertions.assertEquals(Optional.of("127.0.0.1"), hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1));
+    }
+
+    @Test
+    void testCloseStopsTheRefreshes() throws InterruptedException {
+        when(peerListProvider.getPeerList()).thenReturn(SERVER_IPS);
+
+        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MD5, peerLoadTracker, pluginMetrics,
+                Duration.ofMillis(20));
+        verify(peerListProvider, timeout(5000).atLeast(2)).getPeerList();
+
+        hashRing.close();
+        Thread.sleep(100);
+        clearInvocations(peerListProvider);
+        Thread.sleep(100);
+
+        verify(peerListProvider, never()).getPeerList();
+    }
+
+    @Test
+    void testLoadAwareForwardingMovesOnlyKeysOfOverloadedServers() {
+        final Counter recordsReassignedCounter = mock(Counter.class);
+        when(pluginMetrics.counter(RECORDS_REASSIGNED)).thenReturn(recordsReassignedCounter);
+        when(peerLoadTracker.isLoadAwareForwarding()).thenReturn(true);
+        when(peerLoadTracker.getOverloadedPeers()).thenReturn(Collections.emptySet());
+        final String overloadedServerIp = SERVER_IPS.get(0);
+
+        for (final HashRingAlgorithm hashRingAlgorithm : HashRingAlgorithm.values()) {
+            hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, hashRingAlgorithm, peerLoadTracker, pluginMetrics);
+            final List<List<String>> identificationKeyValuesList = generateIdentificationKeyValues(1000);
+            final List<Optional<String>> resultsBefore = new ArrayList<>();
+            for (final List<String> identificationKeyValues : identificationKeyValuesList) {
+                resultsBefore.add(hashRing.getServerIp(identificationKeyValues));
+            }
+
+            when(peerLoadTracker.getOverloadedPeers()).thenReturn(Set.of(overloadedServerIp));
+
+            for (int i = 0; i < identificationKeyValuesList.size(); i++) {
+                final Optional<String> resultAfter = hashRing.getServerIp(identificationKeyValuesList.get(i));
+                Assertions.assertTrue(resultAfter.isPresent());
+                Assertions.assertNotEquals(Optional.of(overloadedServerIp), resultAfter);
+                if (!resultsBefore.get(i).equals(Optional.of(overloadedServerIp))) {
+                    Assertions.assertEquals(resultsBefore.get(i), resultAfter);
+                }
+                Assertions.assertEquals(resultAfter, hashRing.getServerIp(identificationKeyValuesList.get(i)));
+            }
+            when(peerLoadTracker.getOverloadedPeers()).thenReturn(Collections.emptySet());
+        }
+
+        verify(recordsReassignedCounter, atLeastOnce()).increment();
+    }
+
+    @Test
+    void testLoadAwareForwardingKeepsServerWhenEveryServerIsOverloaded() {
+        final Counter recordsReassignedCounter = mock(Counter.class);
+        when(pluginMetrics.counter(RECORDS_REASSIGNED)).thenReturn(recordsReassignedCounter);
+        when(peerLoadTracker.isLoadAwareForwarding()).thenReturn(true);
+        when(peerLoadTracker.getOverloadedPeers()).thenReturn(new HashSet<>(SERVER_IPS));
+
+        for (final HashRingAlgorithm hashRingAlgorithm : HashRingAlgorithm.values()) {
+            hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, hashRingAlgorithm, peerLoadTracker, pluginMetrics);
+
+            Assertions.assertTrue(SERVER_IPS.contains(hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1).orElseThrow()));
+        }
+
+        verifyNoInteractions(recordsReassignedCounter);
+    }
+
+    @Test
+    void testWithoutLoadAwareForwardingDoesNotCheckOverloadedServers() {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.XXHASH64, peerLoadTracker, pluginMetrics);
+
+        Assertions.assertTrue(hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1).isPresent());
+
+        verify(peerLoadTracker, never()).getOverloadedPeers();
+        verify(pluginMetrics, never()).counter(RECORDS_REASSIGNED);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PeerBatchingQueueTest {
+    private static final int CAPACITY = 10;
+
+    private static List<Integer> range(final int startInclusive, final int endExclusive) {
+        return IntStream.range(startInclusive, endExclusive).boxed().collect(Collectors.toList());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void constructor_throws_for_non_positive_capacity(final int capacity) {
+        assertThrows(IllegalArgumentException.class, () -> new PeerBatchingQueue<Integer>(capacity, 0L));
+    }
+
+    @Test
+    void new_queue_is_empty() {
+        final PeerBatchingQueue<Integer> objectUnderTest = new PeerBatchingQueue<>(CAPACITY, 5L);
+
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+        assertThat(objectUnderTest.size(), equalTo(0));
+        assertThat(objectUnderTest.getLastFlushTimeMillis(), equalTo(5L));
+    }
+
+    @Test
+    void addAll_and_drainTo_return_the_elements_in_order() {
+        final PeerBatchingQueue<Integer> objectUnderTest = new PeerBatchingQueue<>(CAPACITY, 0L);
+
+        assertThat(objectUnderTest.addAll(range(0, 4)), equalTo(4));
+        assertThat(objectUnderTest.addAll(range(4, 7)), equalTo(3));
+        assertThat(objectUnderTest.size(), equalTo(7));
+
+        final List<Integer> drained = new ArrayList<>();
+        assertThat(objectUnderTest.drainTo(drained, 5), equalTo(5));
+        assertThat(drained, equalTo(range(0, 5)));
+        assertThat(objectUnderTest.size(), equalTo(2));
+
+        assertThat(objectUnderTest.drainTo(drained, 5), equalTo(2));
+        assertThat(drained, equalTo(range(0, 7)));
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void addAll_adds_only_the_elements_which_fit() {
+        final PeerBatchingQueue<Integer> objectUnderTest = new PeerBatchingQueue<>(CAPACITY, 0L);
+
+        assertThat(objectUnderTest.addAll(range(0, CAPACITY - 2)), equalTo(CAPACITY - 2));
+        assertThat(objectUnderTest.addAll(range(100, 105)), equalTo(2));
+        assertThat(objectUnderTest.addAll(range(200, 201)), equalTo(0));
+        assertThat(objectUnderTest.size(), equalTo(CAPACITY));
+
+        final List<Integer> drained = new ArrayList<>();
+        objectUnderTest.drainTo(drained, Integer.MAX_VALUE);
+        final List<Integer> expected = new ArrayList<>(range(0, CAPACITY - 2));
+        expected.addAll(range(100, 102));
+        assertThat(drained, equalTo(expected));
+    }
+
+    @Test
+    void addAll_with_empty_list_adds_nothing() {
+        final PeerBatchingQueue<Integer> objectUnderTest = new PeerBatchingQueue<>(CAPACITY, 0L);
+
+        assertThat(objectUnderTest.addAll(Collections.emptyList()), equalTo(0));
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void addAll_reuses_slots_after_drainTo() {
+        final PeerBatchingQueue<Integer> objectUnderTest = new PeerBatchingQueue<>(CAPACITY, 0L);
+        final List<Integer> drained = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            final List<Integer> elements = range(i * CAPACITY, (i + 1) * CAPACITY);
+            assertThat(objectUnderTest.addAll(elements), equalTo(CAPACITY));
+            drained.clear();
+            assertThat(objectUnderTest.drainTo(drained, Integer.MAX_VALUE), equalTo(CAPACITY));
+            assertThat(drained, equalTo(elements));
+        }
+    }
+
+    @Test
+    void drainTo_on_empty_queue_drains_nothing() {
+        final PeerBatchingQueue<Integer> objectUnderTest = new PeerBatchingQueue<>(CAPACITY, 0L);
+        final List<Integer> drained = new ArrayList<>();
+
+        assertThat(objectUnderTest.drainTo(drained, CAPACITY), equalTo(0));
+        assertThat(drained, empty());
+    }
+
+    @Test
+    void setLastFlushTimeMillis_updates_the_last_flush_time() {
+        final PeerBatchingQueue<Integer> objectUnderTest = new PeerBatchingQueue<>(CAPACITY, 0L);
+
+        objectUnderTest.setLastFlushTimeMillis(42L);
+
+        assertThat(objectUnderTest.getLastFlushTimeMillis(), equalTo(42L));
+    }
+
+    @Test
+    void concurrent_producers_and_consumers_neither_lose_nor_duplicate_elements() throws Exception {
+        final int producerCount = 4;
+        final int batchesPerProducer = 2_000;
+        final int batchSize = 7;
+        final PeerBatchingQueue<Integer> objectUnderTest = new PeerBatchingQueue<>(64, 0L);
+        final ExecutorService executorService = Executors.newFixedThreadPool(producerCount + 2);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+
+        try {
+            final List<Future<List<Integer>>> producers = new ArrayList<>();
+            for (int p = 0; p < producerCount; p++) {
+                final int producer = p;
+                producers.add(executorService.submit(() -> {
+                    final List<Integer> rejected = new ArrayList<>();
+                    startLatch.await();
+                    for (int b = 0; b < batchesPerProducer; b++) {
+                        final int start = (producer * batchesPerProducer + b) * batchSize;
+                        final List<Integer> batch = range(start, start + batchSize);
+                        final int added = objectUnderTest.addAll(batch);
+                        rejected.addAll(batch.subList(added, batch.size()));
+                    }
+                    return rejected;
+                }));
+            }
+
+            final List<Integer> drained = Collections.synchronizedList(new ArrayList<>());
+            final List<Future<?>> consumers = new ArrayList<>();
+            for (int c = 0; c < 2; c++) {
+                consumers.add(executorService.submit(() -> {
+                    final List<Integer> batch = new ArrayList<>();
+                    startLatch.await();
+                    while (!producers.stream().allMatch(Future::isDone) || !objectUnderTest.isEmpty()) {
+                        batch.clear();
+                        objectUnderTest.drainTo(batch, 10);
+                        assertThat(batch.size(), lessThanOrEqualTo(10));
+                        drained.addAll(batch);
+                    }
+                    return null;
+                }));
+            }
+
+            startLatch.countDown();
+            final List<Integer> rejected = new ArrayList<>();
+            for (final Future<List<Integer>> producer : producers) {
+                rejected.addAll(producer.get(30, TimeUnit.SECONDS));
+            }
+            for (final Future<?> consumer : consumers) {
+                consumer.get(30, TimeUnit.SECONDS);
+            }
+
+            final Set<Integer> all = new HashSet<>(drained);
+            assertThat(all.size(), equalTo(drained.size()));
+            all.addAll(rejected);
+            assertThat(all.size(), equalTo(drained.size() + rejected.size()));
+            assertThat(all, equalTo(new HashSet<>(range(0, producerCount * batchesPerProducer * batchSize))));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -47,12 +47,20 @@ class PeerForwarderAppConfigTest {
         assertThat(peerClientPool, notNullValue());
     }
 
+    @Test
+    void peerLoadTracker_should_return_test() {
+        final PeerLoadTracker peerLoadTracker = peerForwarderAppConfig.peerLoadTracker(new PeerForwarderConfiguration(), mock(PluginMetrics.class));
+
+        assertThat(peerLoadTracker, notNullValue());
+    }
+
     @Test
     void peerForwarderClientFactory_should_return_test() {
         PeerForwarderClientFactory peerForwarderClientFactory = peerForwarderAppConfig.peerForwarderClientFactory(
                 mock(PeerForwarderConfiguration.class),
                 mock(PeerClientPool.class),
                 mock(CertificateProviderFactory.class),
+                mock(PeerLoadTracker.class),
                 mock(PluginMetrics.class)
         );
 
@@ -5,6 +5,13 @@
 
 package org.opensearch.dataprepper.peerforwarder;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.noop.NoopTimer;
 import org.hamcrest.core.IsInstanceOf;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -13,21 +20,29 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.parser.DataPrepperDurationDeserializer;
 import org.opensearch.dataprepper.peerforwarder.certificate.CertificateProviderFactory;
 import org.opensearch.dataprepper.peerforwarder.discovery.DiscoveryMode;
 import org.opensearch.dataprepper.plugins.certificate.CertificateProvider;
 import org.opensearch.dataprepper.plugins.certificate.model.Certificate;
 
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.function.Supplier;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -43,22 +58,48 @@ class PeerForwarderClientFactoryTest {
     @Mock
     CertificateProviderFactory certificateProviderFactory;
 
+    @Mock
+    PeerLoadTracker peerLoadTracker;
+
     @Mock
     PluginMetrics pluginMetrics;
 
     private PeerForwarderClientFactory createObjectUnderTest() {
-        return new PeerForwarderClientFactory(peerForwarderConfiguration, peerClientPool, certificateProviderFactory, pluginMetrics);
+        return new PeerForwarderClientFactory(peerForwarderConfiguration, peerClientPool, certificateProviderFactory, peerLoadTracker, pluginMetrics);
     }
 
     @Test
     void testCreateHashRing_with_endpoints_should_return() {
         when(peerForwarderConfiguration.getDiscoveryMode()).thenReturn(DiscoveryMode.STATIC);
         when(peerForwarderConfiguration.getStaticEndpoints()).thenReturn(Collections.singletonList("10.10.0.1"));
+        when(peerForwarderConfiguration.getHashAlgorithm()).thenReturn(HashRingAlgorithm.MD5);
+        when(peerForwarderConfiguration.getHashRingRefreshInterval()).thenReturn(null);
+        when(pluginMetrics.timer(HashRing.LOCAL_ADDRESS_RESOLUTION_LATENCY))
+                .thenReturn(new NoopTimer(new Meter.Id("test", Tags.empty(), null, null, Meter.Type.TIMER)));
 
         HashRing hashRing = createObjectUnderTest().createHashRing();
         assertThat(hashRing, new IsInstanceOf(HashRing.class));
     }
 
+    @Test
+    void testCreateHashRing_with_hash_ring_refresh_interval_refreshes_the_ring() throws IOException {
+        final ObjectMapper objectMapper = new ObjectMapper(new YAMLFactory())
+                .registerModule(new SimpleModule().addDeserializer(Duration.class, new DataPrepperDurationDeserializer()));
+        final PeerForwarderConfiguration configuration = objectMapper.readValue(
+                new File("src/test/resources/valid_peer_forwarder_config_with_hash_ring_refresh_interval.yml"), PeerForwarderConfiguration.class);
+        final Timer localAddressResolutionTimer = mock(Timer.class);
+        when(localAddressResolutionTimer.record(ArgumentMatchers.<Supplier<Object>>any()))
+                .thenAnswer(invocation -> invocation.<Supplier<Object>>getArgument(0).get());
+        when(pluginMetrics.timer(HashRing.LOCAL_ADDRESS_RESOLUTION_LATENCY)).thenReturn(localAddressResolutionTimer);
+
+        final HashRing hashRing = new PeerForwarderClientFactory(configuration, peerClientPool, certificateProviderFactory, peerLoadTracker, pluginMetrics)
+                .createHashRing();
+
+        verify(localAddressResolutionTimer, timeout(5000).atLeast(3)).record(ArgumentMatchers.<Supplier<Object>>any());
+        assertThat(hashRing.isLocalAddress("127.0.0.1"), equalTo(true));
+        assertThat(hashRing.isLocalAddress("10.10.0.1"), equalTo(false));
+    }
+
     @Test
     void testCreateHashRing_without_endpoints_should_throw() {
         when(peerForwarderConfiguration.getDiscoveryMode()).thenReturn(DiscoveryMode.STATIC);
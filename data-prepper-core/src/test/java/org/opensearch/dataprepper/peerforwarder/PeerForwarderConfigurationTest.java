@@ -8,6 +8,8 @@ package org.opensearch.dataprepper.peerforwarder;
 import static org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration.DEFAULT_DRAIN_TIMEOUT;
 
 import org.opensearch.dataprepper.TestDataProvider;
+import org.opensearch.dataprepper.peerforwarder.codec.BinaryCodecFormat;
+import org.opensearch.dataprepper.peerforwarder.codec.PeerForwarderCompression;
 import org.opensearch.dataprepper.peerforwarder.discovery.DiscoveryMode;
 import org.opensearch.dataprepper.parser.DataPrepperDurationDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -67,6 +69,15 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getForwardingBatchQueueDepth(), equalTo(1));
         assertThat(peerForwarderConfiguration.getForwardingBatchTimeout(), equalTo(DEFAULT_FORWARDING_BATCH_TIMEOUT));
         assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(true));
+        assertThat(peerForwarderConfiguration.getBinaryCodecFormat(), equalTo(BinaryCodecFormat.JAVA));
+        assertThat(peerForwarderConfiguration.getCompression(), equalTo(PeerForwarderCompression.NONE));
+        assertThat(peerForwarderConfiguration.getHashAlgorithm(), equalTo(HashRingAlgorithm.MD5));
+        assertThat(peerForwarderConfiguration.isAsynchronousForwarding(), equalTo(false));
+        assertThat(peerForwarderConfiguration.getMaxInFlightRequestsPerPeer(), equalTo(4));
+        assertThat(peerForwarderConfiguration.isLoadAwareForwarding(), equalTo(false));
+        assertThat(peerForwarderConfiguration.getLoadBalanceFactor(), equalTo(1.25));
+        assertThat(peerForwarderConfiguration.getLoadAwareAffinityWindow(), equalTo(PeerForwarderConfiguration.DEFAULT_LOAD_AWARE_AFFINITY_WINDOW));
+        assertThat(peerForwarderConfiguration.getHashRingRefreshInterval(), equalTo(null));
     }
 
     @Test
@@ -102,6 +113,52 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(false));
     }
 
+    @Test
+    void testValidPeerForwarderConfig_with_Smile_binary_codec() throws IOException {
+        final PeerForwarderConfiguration peerForwarderConfiguration = makeConfig("src/test/resources/valid_peer_forwarder_config_with_smile_codec.yml");
+
+        assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(true));
+        assertThat(peerForwarderConfiguration.getBinaryCodecFormat(), equalTo(BinaryCodecFormat.SMILE));
+    }
+
+    @Test
+    void testValidPeerForwarderConfig_with_compression() throws IOException {
+        final PeerForwarderConfiguration peerForwarderConfiguration = makeConfig("src/test/resources/valid_peer_forwarder_config_with_compression.yml");
+
+        assertThat(peerForwarderConfiguration.getCompression(), equalTo(PeerForwarderCompression.ZSTD));
+    }
+
+    @Test
+    void testValidPeerForwarderConfig_with_xxhash64_hash_algorithm() throws IOException {
+        final PeerForwarderConfiguration peerForwarderConfiguration = makeConfig("src/test/resources/valid_peer_forwarder_config_with_hash_algorithm.yml");
+
+        assertThat(peerForwarderConfiguration.getHashAlgorithm(), equalTo(HashRingAlgorithm.XXHASH64));
+    }
+
+    @Test
+    void testValidPeerForwarderConfig_with_asynchronous_forwarding() throws IOException {
+        final PeerForwarderConfiguration peerForwarderConfiguration = makeConfig("src/test/resources/valid_peer_forwarder_config_with_asynchronous_forwarding.yml");
+
+        assertThat(peerForwarderConfiguration.isAsynchronousForwarding(), equalTo(true));
+        assertThat(peerForwarderConfiguration.getMaxInFlightRequestsPerPeer(), equalTo(8));
+    }
+
+    @Test
+    void testValidPeerForwarderConfig_with_load_aware_forwarding() throws IOException {
+        final PeerForwarderConfiguration peerForwarderConfiguration = makeConfig("src/test/resources/valid_peer_forwarder_config_with_load_aware_forwarding.yml");
+
+        assertThat(peerForwarderConfiguration.isLoadAwareForwarding(), equalTo(true));
+        assertThat(peerForwarderConfiguration.getLoadBalanceFactor(), equalTo(1.5));
+        assertThat(peerForwarderConfiguration.getLoadAwareAffinityWindow(), equalTo(Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void testValidPeerForwarderConfig_with_hash_ring_refresh_interval() throws IOException {
+        final PeerForwarderConfiguration peerForwarderConfiguration = makeConfig("src/test/resources/valid_peer_forwarder_config_with_hash_ring_refresh_interval.yml");
+
+        assertThat(peerForwarderConfiguration.getHashRingRefreshInterval(), equalTo(Duration.ofMillis(100)));
+    }
+
     @Test
     void testValidPeerForwarderConfig_with_Mutual_TLS() throws IOException {
         final PeerForwarderConfiguration peerForwarderConfiguration = makeConfig("src/test/resources/valid_peer_forwarder_config_with_mutual_tls.yml");
@@ -187,7 +244,14 @@ class PeerForwarderConfigurationTest {
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_NEGATIVE_DRAIN_TIMEOUT,
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_ZERO_LOCAL_WRITE_TIMEOUT,
             "src/test/resources/invalid_peer_forwarder_config_with_many_authentication.yml",
-            "src/test/resources/invalid_peer_forwarder_config_with_mutual_tls_not_ssl.yml"
+            "src/test/resources/invalid_peer_forwarder_config_with_mutual_tls_not_ssl.yml",
+            "src/test/resources/invalid_peer_forwarder_with_binary_codec_format.yml",
+            "src/test/resources/invalid_peer_forwarder_with_compression.yml",
+            "src/test/resources/invalid_peer_forwarder_with_hash_algorithm.yml",
+            "src/test/resources/invalid_peer_forwarder_with_max_in_flight_requests_per_peer.yml",
+            "src/test/resources/invalid_peer_forwarder_with_load_balance_factor.yml",
+            "src/test/resources/invalid_peer_forwarder_with_load_aware_affinity_window.yml",
+            "src/test/resources/invalid_peer_forwarder_with_hash_ring_refresh_interval.yml"
     })
     void invalid_InvalidPeerForwarderConfig_test(final String filePath) {
         assertThrows(ValueInstantiationException.class, () -> makeConfig(filePath));
@@ -30,6 +30,7 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -126,6 +127,27 @@ class PeerForwarderProviderTest {
         verify(peerForwarderClientFactory, times(1)).createHashRing();
     }
 
+    @Test
+    void close_closes_the_HashRing_if_peer_forwarding_is_required() {
+        when(peerForwarderConfiguration.getDiscoveryMode()).thenReturn(DiscoveryMode.AWS_CLOUD_MAP);
+        final PeerForwarderProvider objectUnderTest = createObjectUnderTest();
+        objectUnderTest.register(pipelineName, pluginId, identificationKeys, PIPELINE_WORKER_THREADS);
+
+        objectUnderTest.close();
+
+        verify(hashRing).close();
+    }
+
+    @Test
+    void close_does_nothing_if_peer_forwarding_is_not_required() {
+        final PeerForwarderProvider objectUnderTest = createObjectUnderTest();
+        objectUnderTest.register(pipelineName, pluginId, identificationKeys, PIPELINE_WORKER_THREADS);
+
+        objectUnderTest.close();
+
+        verify(peerForwarderClientFactory, never()).createHashRing();
+    }
+
     @Test
     void isAtLeastOnePeerForwarderRegistered_should_return_false_if_register_is_not_called() {
         final PeerForwarderProvider objectUnderTest = createObjectUnderTest();
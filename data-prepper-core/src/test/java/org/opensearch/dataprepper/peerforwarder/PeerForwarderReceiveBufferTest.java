@@ -193,6 +193,18 @@ class PeerForwarderReceiveBufferTest {
         Assertions.assertFalse(peerForwarderReceiveBuffer.isEmpty());
     }
 
+    @Test
+    void getBufferUsage_returns_the_percentage_of_records_waiting_to_be_read() throws Exception {
+        final PeerForwarderReceiveBuffer<Record<String>> peerForwarderReceiveBuffer = createObjectUnderTest(4);
+        assertThat(peerForwarderReceiveBuffer.getBufferUsage(), equalTo(0.0));
+
+        peerForwarderReceiveBuffer.writeAll(generateBatchRecords(3), TEST_WRITE_TIMEOUT);
+        assertThat(peerForwarderReceiveBuffer.getBufferUsage(), equalTo(75.0));
+
+        peerForwarderReceiveBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(peerForwarderReceiveBuffer.getBufferUsage(), equalTo(0.0));
+    }
+
     @Test
     void testNonZeroBatchDelayReturnsAllRecords() throws Exception {
         final PeerForwarderReceiveBuffer<Record<String>> peerForwarderReceiveBuffer = createObjectUnderTest(TEST_BUFFER_SIZE);
@@ -131,7 +131,9 @@ class PeerForwarder_ClientServerIT {
             final CertificateProviderFactory certificateProviderFactory) {
         final PeerForwarderClient clientForProvider = createClient(peerForwarderConfiguration);
         final PeerClientPool peerClientPool = new PeerClientPool();
-        final PeerForwarderClientFactory clientFactoryForProvider = new PeerForwarderClientFactory(peerForwarderConfiguration, peerClientPool, certificateProviderFactory, pluginMetrics);
+        final PeerLoadTracker peerLoadTracker = new PeerLoadTracker(peerForwarderConfiguration, pluginMetrics);
+        final PeerForwarderClientFactory clientFactoryForProvider = new PeerForwarderClientFactory(peerForwarderConfiguration, peerClientPool, certificateProviderFactory,
+                peerLoadTracker, pluginMetrics);
         return new PeerForwarderProvider(clientFactoryForProvider, clientForProvider, peerForwarderConfiguration, pluginMetrics);
     }
 
@@ -140,10 +142,12 @@ class PeerForwarder_ClientServerIT {
         Objects.requireNonNull(peerForwarderConfiguration, "Nested classes must supply peerForwarderConfiguration");
         final CertificateProviderFactory certificateProviderFactory = new CertificateProviderFactory(peerForwarderConfiguration);
         final PeerClientPool peerClientPool = new PeerClientPool();
-        final PeerForwarderClientFactory peerForwarderClientFactory = new PeerForwarderClientFactory(peerForwarderConfiguration, peerClientPool, certificateProviderFactory, pluginMetrics);
+        final PeerLoadTracker peerLoadTracker = new PeerLoadTracker(peerForwarderConfiguration, pluginMetrics);
+        final PeerForwarderClientFactory peerForwarderClientFactory = new PeerForwarderClientFactory(peerForwarderConfiguration, peerClientPool, certificateProviderFactory,
+                peerLoadTracker, pluginMetrics);
         peerForwarderClientFactory.setPeerClientPool();
         final PeerForwarderCodec peerForwarderCodec = applicationContext.getBean(PeerForwarderCodec.class);
-        return new PeerForwarderClient(peerForwarderConfiguration, peerForwarderClientFactory, peerForwarderCodec, pluginMetrics);
+        return new PeerForwarderClient(peerForwarderConfiguration, peerForwarderClientFactory, peerForwarderCodec, peerLoadTracker, pluginMetrics);
     }
 
     private Collection<Record<Event>> getServerSideRecords(final PeerForwarderProvider peerForwarderProvider) {
@@ -340,7 +344,12 @@ class PeerForwarder_ClientServerIT {
         private PeerForwarderProvider peerForwarderProvider;
 
         void setUpServer(final boolean binaryCodec) {
-            peerForwarderConfiguration = createConfiguration(true, ForwardingAuthentication.MUTUAL_TLS, binaryCodec);
+            setUpServer(binaryCodec, null);
+        }
+
+        void setUpServer(final boolean binaryCodec, final String compression) {
+            peerForwarderConfiguration = createConfiguration(true, ForwardingAuthentication.MUTUAL_TLS,
+                    SSL_CERTIFICATE_FILE, SSL_KEY_FILE, true, false, binaryCodec, compression);
 
             setupApplicationContext();
 
@@ -372,6 +381,24 @@ class PeerForwarder_ClientServerIT {
             validatePeerForwarderBufferRecords(receivedRecords);
         }
 
+        @ParameterizedTest
+        @ValueSource(strings = {"gzip", "zstd", "lz4"})
+        void send_compressed_Events_to_server(final String compression) throws ExecutionException, InterruptedException {
+            setUpServer(true, compression);
+            final PeerForwarderClient client = createClient(peerForwarderConfiguration);
+
+            for (int i = 0; i < 2; i++) {
+                final CompletableFuture<AggregatedHttpResponse> httpResponseFuture =
+                        client.serializeRecordsAndSendHttpRequest(outgoingRecords, LOCALHOST, pluginId, pipelineName);
+                final AggregatedHttpResponse httpResponse = httpResponseFuture.get();
+
+                assertThat(httpResponse.status(), equalTo(HttpStatus.OK));
+
+                final Collection<Record<Event>> receivedRecords = getServerSideRecords(peerForwarderProvider);
+                validatePeerForwarderBufferRecords(receivedRecords);
+            }
+        }
+
         @ParameterizedTest
         @ValueSource(booleans = {true, false})
         void send_Events_to_server_when_client_has_no_certificate_closes(final boolean binaryCodec) {
@@ -506,6 +533,19 @@ class PeerForwarder_ClientServerIT {
             final boolean sslDisableVerification,
             final boolean sslFingerprintVerificationOnly,
             final boolean binaryCodec) {
+        return createConfiguration(ssl, authentication, sslCertificateFile, sslKeyFile, sslDisableVerification,
+                sslFingerprintVerificationOnly, binaryCodec, null);
+    }
+
+    private PeerForwarderConfiguration createConfiguration(
+            final boolean ssl,
+            final ForwardingAuthentication authentication,
+            final String sslCertificateFile,
+            final String sslKeyFile,
+            final boolean sslDisableVerification,
+            final boolean sslFingerprintVerificationOnly,
+            final boolean binaryCodec,
+            final String compression) {
         final Map<String, Object> authenticationMap = Collections.singletonMap(authentication.getName(), null);
         return new PeerForwarderConfiguration(
                 4994,
@@ -540,7 +580,16 @@ class PeerForwarder_ClientServerIT {
                 null,
                 null,
                 null,
-                binaryCodec
+                binaryCodec,
+                null,
+                compression,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
         );
     }
 }
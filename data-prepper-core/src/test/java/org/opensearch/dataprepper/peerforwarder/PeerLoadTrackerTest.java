@@ -0,0 +1,186 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import com.google.common.util.concurrent.AtomicDouble;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.opensearch.dataprepper.peerforwarder.PeerLoadTracker.OVERLOADED_PEERS;
+import static org.opensearch.dataprepper.peerforwarder.PeerLoadTracker.PEER_LOAD_IMBALANCE;
+
+@ExtendWith(MockitoExtension.class)
+class PeerLoadTrackerTest {
+    private static final double LOAD_BALANCE_FACTOR = 1.25;
+    private static final Duration AFFINITY_WINDOW = Duration.ofSeconds(30);
+    private static final String PEER_1 = "10.10.0.1";
+    private static final String PEER_2 = "10.10.0.2";
+    private static final String PEER_3 = "10.10.0.3";
+
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    @Mock
+    private Clock clock;
+
+    private long currentTimeMillis;
+
+    @BeforeEach
+    void setUp() {
+        currentTimeMillis = 1_000_000L;
+        lenient().when(clock.millis()).thenAnswer(invocation -> currentTimeMillis);
+    }
+
+    private PeerLoadTracker createObjectUnderTest(final boolean loadAwareForwarding) {
+        if (loadAwareForwarding) {
+            when(pluginMetrics.gauge(eq(PEER_LOAD_IMBALANCE), any(AtomicDouble.class))).thenAnswer(invocation -> invocation.getArgument(1));
+            when(pluginMetrics.gauge(eq(OVERLOADED_PEERS), any(AtomicInteger.class))).thenAnswer(invocation -> invocation.getArgument(1));
+        }
+        return new PeerLoadTracker(loadAwareForwarding, LOAD_BALANCE_FACTOR, AFFINITY_WINDOW, pluginMetrics, clock);
+    }
+
+    private void advanceToNextWindow() {
+        currentTimeMillis += AFFINITY_WINDOW.toMillis();
+    }
+
+    @Test
+    void getOverloadedPeers_is_empty_without_load_aware_forwarding() {
+        final PeerLoadTracker objectUnderTest = createObjectUnderTest(false);
+
+        objectUnderTest.recordBufferUsage(PEER_1, "95.0");
+        objectUnderTest.recordBufferUsage(PEER_2, "5.0");
+        advanceToNextWindow();
+
+        assertThat(objectUnderTest.isLoadAwareForwarding(), equalTo(false));
+        assertThat(objectUnderTest.getOverloadedPeers(), empty());
+        verifyNoInteractions(pluginMetrics);
+    }
+
+    @Test
+    void getOverloadedPeers_returns_peers_with_usage_above_the_balanced_usage_after_the_affinity_window() {
+        final PeerLoadTracker objectUnderTest = createObjectUnderTest(true);
+
+        objectUnderTest.recordBufferUsage(PEER_1, "95.0");
+        objectUnderTest.recordBufferUsage(PEER_2, "5.0");
+        objectUnderTest.recordBufferUsage(PEER_3, "10.0");
+
+        assertThat(objectUnderTest.getOverloadedPeers(), empty());
+
+        advanceToNextWindow();
+
+        assertThat(objectUnderTest.getOverloadedPeers(), equalTo(Set.of(PEER_1)));
+        assertThat(objectUnderTest.getPeerLoadImbalance(), equalTo(95.0 / (110.0 / 3)));
+    }
+
+    @Test
+    void getOverloadedPeers_does_not_change_within_the_affinity_window() {
+        final PeerLoadTracker objectUnderTest = createObjectUnderTest(true);
+
+        objectUnderTest.recordBufferUsage(PEER_1, "95.0");
+        objectUnderTest.recordBufferUsage(PEER_2, "5.0");
+        advanceToNextWindow();
+        assertThat(objectUnderTest.getOverloadedPeers(), equalTo(Set.of(PEER_1)));
+
+        objectUnderTest.recordBufferUsage(PEER_1, "5.0");
+        objectUnderTest.recordBufferUsage(PEER_2, "95.0");
+        currentTimeMillis += AFFINITY_WINDOW.toMillis() - 1;
+        assertThat(objectUnderTest.getOverloadedPeers(), equalTo(Set.of(PEER_1)));
+
+        currentTimeMillis += 1;
+        assertThat(objectUnderTest.getOverloadedPeers(), equalTo(Set.of(PEER_2)));
+    }
+
+    @Test
+    void getOverloadedPeers_is_empty_when_the_peers_are_equally_loaded() {
+        final PeerLoadTracker objectUnderTest = createObjectUnderTest(true);
+
+        objectUnderTest.recordBufferUsage(PEER_1, "90.0");
+        objectUnderTest.recordBufferUsage(PEER_2, "90.0");
+        objectUnderTest.recordBufferUsage(PEER_3, "90.0");
+        advanceToNextWindow();
+
+        assertThat(objectUnderTest.getOverloadedPeers(), empty());
+        assertThat(objectUnderTest.getPeerLoadImbalance(), equalTo(1.0));
+    }
+
+    @Test
+    void getOverloadedPeers_is_empty_when_the_usage_is_below_the_minimum_overloaded_usage() {
+        final PeerLoadTracker objectUnderTest = createObjectUnderTest(true);
+
+        objectUnderTest.recordBufferUsage(PEER_1, "40.0");
+        objectUnderTest.recordBufferUsage(PEER_2, "1.0");
+        advanceToNextWindow();
+
+        assertThat(objectUnderTest.getOverloadedPeers(), empty());
+    }
+
+    @Test
+    void getOverloadedPeers_discards_reports_older_than_the_affinity_window() {
+        final PeerLoadTracker objectUnderTest = createObjectUnderTest(true);
+
+        objectUnderTest.recordBufferUsage(PEER_1, "95.0");
+        objectUnderTest.recordBufferUsage(PEER_2, "5.0");
+        advanceToNextWindow();
+        assertThat(objectUnderTest.getOverloadedPeers(), equalTo(Set.of(PEER_1)));
+
+        currentTimeMillis += 1;
+        objectUnderTest.recordBufferUsage(PEER_2, "5.0");
+        advanceToNextWindow();
+
+        assertThat(objectUnderTest.getOverloadedPeers(), empty());
+        assertThat(objectUnderTest.getPeerLoadImbalance(), equalTo(1.0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "full", "1,5"})
+    void recordBufferUsage_ignores_invalid_usage(final String bufferUsage) {
+        final PeerLoadTracker objectUnderTest = createObjectUnderTest(true);
+
+        objectUnderTest.recordBufferUsage(PEER_1, bufferUsage);
+        objectUnderTest.recordBufferUsage(PEER_2, "5.0");
+        advanceToNextWindow();
+
+        assertThat(objectUnderTest.getOverloadedPeers(), empty());
+    }
+
+    @Test
+    void recordBufferUsage_ignores_missing_usage() {
+        final PeerLoadTracker objectUnderTest = createObjectUnderTest(true);
+
+        objectUnderTest.recordBufferUsage(PEER_1, null);
+        advanceToNextWindow();
+
+        assertThat(objectUnderTest.getOverloadedPeers(), empty());
+    }
+
+    @Test
+    void constructor_with_configuration_uses_the_load_aware_forwarding_settings() {
+        final PeerForwarderConfiguration peerForwarderConfiguration = new PeerForwarderConfiguration();
+
+        final PeerLoadTracker objectUnderTest = new PeerLoadTracker(peerForwarderConfiguration, pluginMetrics);
+
+        assertThat(objectUnderTest.isLoadAwareForwarding(), equalTo(false));
+    }
+}
@@ -13,6 +13,7 @@ import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.log.JacksonLog;
 import org.opensearch.dataprepper.model.record.Record;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,6 +36,8 @@ import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -42,9 +45,12 @@ import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -52,6 +58,10 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static org.opensearch.dataprepper.peerforwarder.RemotePeerForwarder.FORWARDING_REQUESTS_IN_FLIGHT;
+import static org.opensearch.dataprepper.peerforwarder.RemotePeerForwarder.FORWARDING_REQUEST_LATENCY;
+import static org.opensearch.dataprepper.peerforwarder.RemotePeerForwarder.PEER_TAG;
+import static org.opensearch.dataprepper.peerforwarder.RemotePeerForwarder.PIPELINE_TAG;
 import static org.opensearch.dataprepper.peerforwarder.RemotePeerForwarder.RECORDS_ACTUALLY_PROCESSED_LOCALLY;
 import static org.opensearch.dataprepper.peerforwarder.RemotePeerForwarder.RECORDS_FAILED_FORWARDING;
 import static org.opensearch.dataprepper.peerforwarder.RemotePeerForwarder.RECORDS_SUCCESSFULLY_FORWARDED;
@@ -73,6 +83,8 @@ class RemotePeerForwarderTest {
     private static final int FORWARDING_BATCH_QUEUE_DEPTH = 1;
     private static final Duration FORWARDING_BATCH_TIMEOUT = Duration.of(3, ChronoUnit.SECONDS);
     private static final int PIPELINE_WORKER_THREADS = 3;
+    private static final int MAX_IN_FLIGHT_REQUESTS_PER_PEER = 4;
+    private static final String REMOTE_IP = "8.8.8.8";
     private static final String PIPELINE_NAME = UUID.randomUUID().toString();
     private static final String PLUGIN_ID = UUID.randomUUID().toString();
 
@@ -109,6 +121,9 @@ class RemotePeerForwarderTest {
     @Mock
     private Counter requestsSuccessfulCounter;
 
+    @Mock
+    private Timer forwardingRequestLatencyTimer;
+
     private String pipelineName;
     private String pluginId;
     private Set<String> identificationKeys;
@@ -121,6 +136,9 @@ class RemotePeerForwarderTest {
         identificationKeys = generateIdentificationKeys();
         peerForwarderReceiveBuffer = new PeerForwarderReceiveBuffer<>(TEST_BUFFER_CAPACITY, TEST_BATCH_SIZE, PIPELINE_NAME, PLUGIN_ID);
 
+        lenient().when(hashRing.isLocalAddress(anyString())).thenReturn(false);
+        lenient().when(hashRing.isLocalAddress("127.0.0.1")).thenReturn(true);
+
         when(pluginMetrics.counter(RECORDS_TO_BE_PROCESSED_LOCALLY)).thenReturn(recordsToBeProcessedLocallyCounter);
         when(pluginMetrics.counter(RECORDS_ACTUALLY_PROCESSED_LOCALLY)).thenReturn(recordsActuallyProcessedLocallyCounter);
         when(pluginMetrics.counter(RECORDS_TO_BE_FORWARDED)).thenReturn(recordsToBeForwardedCounter);
@@ -145,8 +163,27 @@ class RemotePeerForwarderTest {
     }
 
     private RemotePeerForwarder createObjectUnderTest() {
+        return createObjectUnderTest(false, MAX_IN_FLIGHT_REQUESTS_PER_PEER);
+    }
+
+    private RemotePeerForwarder createObjectUnderTest(final boolean asynchronousForwarding, final int maxInFlightRequestsPerPeer) {
         return new RemotePeerForwarder(peerForwarderClient, hashRing, peerForwarderReceiveBuffer, pipelineName, pluginId, identificationKeys, pluginMetrics,
-                TEST_BATCH_DELAY, TEST_LOCAL_WRITE_TIMEOUT, FORWARDING_BATCH_SIZE, FORWARDING_BATCH_QUEUE_DEPTH, FORWARDING_BATCH_TIMEOUT, PIPELINE_WORKER_THREADS);
+                TEST_BATCH_DELAY, TEST_LOCAL_WRITE_TIMEOUT, FORWARDING_BATCH_SIZE, FORWARDING_BATCH_QUEUE_DEPTH, FORWARDING_BATCH_TIMEOUT, PIPELINE_WORKER_THREADS,
+                asynchronousForwarding, maxInFlightRequestsPerPeer);
+    }
+
+    private RemotePeerForwarder createAsynchronousObjectUnderTest(final int maxInFlightRequestsPerPeer) {
+        when(pluginMetrics.gaugeWithTags(eq(FORWARDING_REQUESTS_IN_FLIGHT), any(AtomicInteger.class), any(),
+                eq(PIPELINE_TAG), eq(pipelineName), eq(PEER_TAG), eq(REMOTE_IP)))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+        when(pluginMetrics.timerWithTags(FORWARDING_REQUEST_LATENCY, PIPELINE_TAG, pipelineName, PEER_TAG, REMOTE_IP))
+                .thenReturn(forwardingRequestLatencyTimer);
+
+        final List<String> testIps = List.of(REMOTE_IP, "127.0.0.1");
+        lenient().when(hashRing.getServerIp(List.of("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
+        lenient().when(hashRing.getServerIp(List.of("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
+
+        return createObjectUnderTest(true, maxInFlightRequestsPerPeer);
     }
 
     @Test
@@ -385,6 +422,114 @@ class RemotePeerForwarderTest {
         verify(recordsSuccessfullyForwardedCounter).increment(FORWARDING_BATCH_SIZE);
     }
 
+    @Test
+    void forwardRecords_with_asynchronous_forwarding_does_not_wait_for_the_response() {
+        final CompletableFuture<AggregatedHttpResponse> responseFuture = new CompletableFuture<>();
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequest(anyCollection(), anyString(), anyString(), anyString()))
+                .thenReturn(responseFuture);
+
+        final RemotePeerForwarder peerForwarder = createAsynchronousObjectUnderTest(MAX_IN_FLIGHT_REQUESTS_PER_PEER);
+
+        final int recordsSetsToGenerate = FORWARDING_BATCH_SIZE;
+        final Collection<Record<Event>> records = peerForwarder.forwardRecords(generateSetsofBatchRecords(recordsSetsToGenerate, 2));
+
+        assertThat(records.size(), equalTo(recordsSetsToGenerate));
+        verify(peerForwarderClient).serializeRecordsAndSendHttpRequest(anyList(), eq(REMOTE_IP), anyString(), anyString());
+        assertThat(peerForwarder.peerForwardingWindowMap.get(REMOTE_IP).getRequestsInFlight(), equalTo(1));
+        verifyNoInteractions(requestsSuccessfulCounter, recordsSuccessfullyForwardedCounter, forwardingRequestLatencyTimer);
+
+        responseFuture.complete(AggregatedHttpResponse.of(HttpStatus.OK));
+
+        assertThat(peerForwarder.peerForwardingWindowMap.get(REMOTE_IP).getRequestsInFlight(), equalTo(0));
+        verify(forwardingRequestLatencyTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(recordsToBeProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsActuallyProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsToBeForwardedCounter).increment(recordsSetsToGenerate);
+        verify(requestsSuccessfulCounter).increment();
+        verify(recordsSuccessfullyForwardedCounter).increment(FORWARDING_BATCH_SIZE);
+    }
+
+    @Test
+    void forwardRecords_with_asynchronous_forwarding_processes_records_locally_when_the_response_fails() {
+        final CompletableFuture<AggregatedHttpResponse> responseFuture = new CompletableFuture<>();
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequest(anyCollection(), anyString(), anyString(), anyString()))
+                .thenReturn(responseFuture);
+
+        final RemotePeerForwarder peerForwarder = createAsynchronousObjectUnderTest(MAX_IN_FLIGHT_REQUESTS_PER_PEER);
+
+        final int recordsSetsToGenerate = FORWARDING_BATCH_SIZE;
+        final Collection<Record<Event>> inputRecords = generateSetsofBatchRecords(recordsSetsToGenerate, 2);
+        peerForwarder.forwardRecords(inputRecords);
+
+        responseFuture.completeExceptionally(new RuntimeException());
+
+        final Collection<Record<Event>> receivedRecords = peerForwarder.receiveRecords();
+        validateFailedForwardingRecords(receivedRecords, inputRecords, FORWARDING_BATCH_SIZE);
+        assertThat(peerForwarder.peerForwardingWindowMap.get(REMOTE_IP).getRequestsInFlight(), equalTo(0));
+
+        verify(forwardingRequestLatencyTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(recordsToBeProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsActuallyProcessedLocallyCounter, times(2)).increment(FORWARDING_BATCH_SIZE);
+        verify(recordsToBeForwardedCounter).increment(recordsSetsToGenerate);
+        verify(recordsFailedForwardingCounter).increment(FORWARDING_BATCH_SIZE);
+        verify(requestsFailedCounter).increment();
+    }
+
+    @Test
+    void forwardRecords_with_asynchronous_forwarding_processes_records_locally_when_the_client_throws() {
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequest(anyCollection(), anyString(), anyString(), anyString()))
+                .thenThrow(RuntimeException.class);
+
+        final RemotePeerForwarder peerForwarder = createAsynchronousObjectUnderTest(MAX_IN_FLIGHT_REQUESTS_PER_PEER);
+
+        final int recordsSetsToGenerate = FORWARDING_BATCH_SIZE;
+        final Collection<Record<Event>> inputRecords = generateSetsofBatchRecords(recordsSetsToGenerate, 2);
+        peerForwarder.forwardRecords(inputRecords);
+
+        final Collection<Record<Event>> receivedRecords = peerForwarder.receiveRecords();
+        validateFailedForwardingRecords(receivedRecords, inputRecords, FORWARDING_BATCH_SIZE);
+        assertThat(peerForwarder.peerForwardingWindowMap.get(REMOTE_IP).getRequestsInFlight(), equalTo(0));
+
+        verifyNoInteractions(forwardingRequestLatencyTimer);
+        verify(recordsToBeProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsActuallyProcessedLocallyCounter, times(2)).increment(FORWARDING_BATCH_SIZE);
+        verify(recordsToBeForwardedCounter).increment(recordsSetsToGenerate);
+        verify(recordsFailedForwardingCounter).increment(FORWARDING_BATCH_SIZE);
+        verify(requestsFailedCounter).increment();
+    }
+
+    @Test
+    void forwardRecords_with_asynchronous_forwarding_keeps_batches_queued_while_the_window_is_full() {
+        final CompletableFuture<AggregatedHttpResponse> firstResponseFuture = new CompletableFuture<>();
+        final CompletableFuture<AggregatedHttpResponse> secondResponseFuture = new CompletableFuture<>();
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequest(anyCollection(), anyString(), anyString(), anyString()))
+                .thenReturn(firstResponseFuture)
+                .thenReturn(secondResponseFuture);
+
+        final RemotePeerForwarder peerForwarder = createAsynchronousObjectUnderTest(1);
+
+        final int batches = 2;
+        final int recordsSetsToGenerate = FORWARDING_BATCH_SIZE * batches;
+        peerForwarder.forwardRecords(generateSetsofBatchRecords(recordsSetsToGenerate, 2));
+
+        verify(peerForwarderClient, times(1)).serializeRecordsAndSendHttpRequest(anyList(), anyString(), anyString(), anyString());
+        assertThat(peerForwarder.peerBatchingQueueMap.get(REMOTE_IP).size(), equalTo(FORWARDING_BATCH_SIZE));
+
+        firstResponseFuture.complete(AggregatedHttpResponse.of(HttpStatus.OK));
+        peerForwarder.forwardRecords(Collections.emptyList());
+
+        verify(peerForwarderClient, times(batches)).serializeRecordsAndSendHttpRequest(anyList(), anyString(), anyString(), anyString());
+        assertThat(peerForwarder.peerBatchingQueueMap.get(REMOTE_IP).isEmpty(), equalTo(true));
+        assertThat(peerForwarder.peerForwardingWindowMap.get(REMOTE_IP).getRequestsInFlight(), equalTo(1));
+
+        verify(recordsToBeProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsActuallyProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsActuallyProcessedLocallyCounter).increment(0);
+        verify(recordsToBeForwardedCounter).increment(recordsSetsToGenerate);
+        verify(requestsSuccessfulCounter).increment();
+        verify(recordsSuccessfullyForwardedCounter).increment(FORWARDING_BATCH_SIZE);
+    }
+
     @Test
     void test_receiveRecords_should_return_record_from_buffer() throws Exception {
         final Collection<Record<Event>> testRecords = generateBatchRecords(3);
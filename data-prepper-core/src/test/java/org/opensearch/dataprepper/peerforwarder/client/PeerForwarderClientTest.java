@@ -7,10 +7,16 @@ package org.opensearch.dataprepper.peerforwarder.client;
 
 import com.linecorp.armeria.common.AggregatedHttpResponse;
 import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpHeaderNames;
 import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.ResponseHeaders;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
@@ -34,7 +40,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.peerforwarder.PeerClientPool;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderClientFactory;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration;
+import org.opensearch.dataprepper.peerforwarder.PeerLoadTracker;
 import org.opensearch.dataprepper.peerforwarder.codec.PeerForwarderCodec;
+import org.opensearch.dataprepper.peerforwarder.codec.PeerForwarderCompression;
 import org.opensearch.dataprepper.peerforwarder.model.PeerForwardingEvents;
 
 import java.io.IOException;
@@ -54,7 +62,9 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -62,6 +72,10 @@ import static org.mockito.Mockito.when;
 import static org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration.DEFAULT_PEER_FORWARDING_URI;
 import static org.opensearch.dataprepper.peerforwarder.client.PeerForwarderClient.REQUESTS;
 import static org.opensearch.dataprepper.peerforwarder.client.PeerForwarderClient.CLIENT_REQUEST_FORWARDING_LATENCY;
+import static org.opensearch.dataprepper.peerforwarder.client.PeerForwarderClient.PEER_TAG;
+import static org.opensearch.dataprepper.peerforwarder.client.PeerForwarderClient.REQUEST_COMPRESSED_BYTES;
+import static org.opensearch.dataprepper.peerforwarder.client.PeerForwarderClient.REQUEST_COMPRESSION_LATENCY;
+import static org.opensearch.dataprepper.peerforwarder.client.PeerForwarderClient.REQUEST_UNCOMPRESSED_BYTES;
 
 @ExtendWith(MockitoExtension.class)
 class PeerForwarderClientTest {
@@ -70,11 +84,14 @@ class PeerForwarderClientTest {
     private static final String TEST_PLUGIN_ID = "test_plugin_id";
     private static final String TEST_PIPELINE_NAME = "test_pipeline_name";
     private static final String TEST_ADDRESS = "test_address";
+    private static final String ACCEPT_ENCODING_HEADER = "gzip, zstd, lz4";
 
     @Mock
     private PeerForwarderCodec peerForwarderCodec;
     @Mock
     private PluginMetrics pluginMetrics;
+    @Mock
+    private PeerLoadTracker peerLoadTracker;
 
     @Mock
     private PeerForwarderConfiguration peerForwarderConfiguration;
@@ -104,9 +121,14 @@ class PeerForwarderClientTest {
     }
 
     private PeerForwarderClient createObjectUnderTest() {
+        return createObjectUnderTest(PeerForwarderCompression.NONE);
+    }
+
+    private PeerForwarderClient createObjectUnderTest(final PeerForwarderCompression compression) {
         when(peerForwarderConfiguration.getClientThreadCount()).thenReturn(200);
+        when(peerForwarderConfiguration.getCompression()).thenReturn(compression);
         return new PeerForwarderClient(peerForwarderConfiguration, peerForwarderClientFactory,
-                peerForwarderCodec, pluginMetrics);
+                peerForwarderCodec, peerLoadTracker, pluginMetrics);
     }
 
     @Test
@@ -163,6 +185,138 @@ class PeerForwarderClientTest {
         verify(peerForwarderClientFactory).setPeerClientPool();
     }
 
+    @Test
+    void serializeRecordsAndSendHttpRequest_records_the_buffer_usage_of_the_peer_with_load_aware_forwarding() throws ExecutionException, InterruptedException {
+        final WebClient webClient = mock(WebClient.class);
+        when(peerClientPool.getClient(anyString())).thenReturn(webClient);
+        final String bufferUsage = "62.5";
+        when(webClient.post(anyString(), any(byte[].class))).thenReturn(HttpResponse.of(ResponseHeaders.builder(HttpStatus.OK)
+                .add(PeerLoadTracker.BUFFER_USAGE_HEADER, bufferUsage)
+                .build()));
+        when(peerLoadTracker.isLoadAwareForwarding()).thenReturn(true);
+
+        final PeerForwarderClient objectUnderTest = createObjectUnderTest();
+        final AggregatedHttpResponse aggregatedHttpResponse = objectUnderTest.serializeRecordsAndSendHttpRequest(generateBatchRecords(1), TEST_ADDRESS,
+                TEST_PLUGIN_ID, TEST_PIPELINE_NAME).get();
+
+        assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.OK));
+        verify(peerLoadTracker).recordBufferUsage(TEST_ADDRESS, bufferUsage);
+        verify(requestsCounter).increment();
+    }
+
+    @Test
+    void serializeRecordsAndSendHttpRequest_does_not_record_the_buffer_usage_without_load_aware_forwarding() throws ExecutionException, InterruptedException {
+        final WebClient webClient = mock(WebClient.class);
+        when(peerClientPool.getClient(anyString())).thenReturn(webClient);
+        when(webClient.post(anyString(), any(byte[].class))).thenReturn(HttpResponse.of(ResponseHeaders.builder(HttpStatus.OK)
+                .add(PeerLoadTracker.BUFFER_USAGE_HEADER, "62.5")
+                .build()));
+
+        final PeerForwarderClient objectUnderTest = createObjectUnderTest();
+        objectUnderTest.serializeRecordsAndSendHttpRequest(generateBatchRecords(1), TEST_ADDRESS, TEST_PLUGIN_ID, TEST_PIPELINE_NAME).get();
+
+        verify(peerLoadTracker, never()).recordBufferUsage(anyString(), anyString());
+        verify(requestsCounter).increment();
+    }
+
+    @Nested
+    class WithCompression {
+        private WebClient webClient;
+        @Mock
+        private Counter uncompressedBytesCounter;
+        @Mock
+        private Counter compressedBytesCounter;
+        private NoopTimer compressionLatencyTimer;
+
+        @BeforeEach
+        void setUp() {
+            webClient = mock(WebClient.class);
+            when(peerClientPool.getClient(anyString())).thenReturn(webClient);
+            compressionLatencyTimer = new NoopTimer(new Meter.Id("test", Tags.empty(), null, null, Meter.Type.TIMER));
+        }
+
+        private void mockMetricsForCompression() {
+            when(pluginMetrics.counterWithTags(REQUEST_UNCOMPRESSED_BYTES, PEER_TAG, TEST_ADDRESS)).thenReturn(uncompressedBytesCounter);
+            when(pluginMetrics.counterWithTags(REQUEST_COMPRESSED_BYTES, PEER_TAG, TEST_ADDRESS)).thenReturn(compressedBytesCounter);
+            when(pluginMetrics.timerWithTags(REQUEST_COMPRESSION_LATENCY, PEER_TAG, TEST_ADDRESS)).thenReturn(compressionLatencyTimer);
+        }
+
+        private HttpResponse responseWithAcceptEncoding(final String acceptEncoding) {
+            return HttpResponse.of(ResponseHeaders.builder(HttpStatus.OK)
+                    .add(HttpHeaderNames.ACCEPT_ENCODING, acceptEncoding)
+                    .build());
+        }
+
+        private AggregatedHttpResponse sendRequest(final PeerForwarderClient objectUnderTest) throws ExecutionException, InterruptedException {
+            return objectUnderTest.serializeRecordsAndSendHttpRequest(generateBatchRecords(1), TEST_ADDRESS,
+                    TEST_PLUGIN_ID, TEST_PIPELINE_NAME).get();
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = PeerForwarderCompression.class, names = {"GZIP", "ZSTD", "LZ4"})
+        void serializeRecordsAndSendHttpRequest_compresses_requests_after_the_peer_accepts_the_compression(
+                final PeerForwarderCompression compression) throws Exception {
+            final ArgumentCaptor<byte[]> serializedBytesArgumentCaptor = ArgumentCaptor.forClass(byte[].class);
+            when(webClient.post(anyString(), serializedBytesArgumentCaptor.capture())).thenReturn(responseWithAcceptEncoding(ACCEPT_ENCODING_HEADER));
+            final ArgumentCaptor<RequestHeaders> requestHeadersArgumentCaptor = ArgumentCaptor.forClass(RequestHeaders.class);
+            final ArgumentCaptor<byte[]> contentArgumentCaptor = ArgumentCaptor.forClass(byte[].class);
+            when(webClient.execute(requestHeadersArgumentCaptor.capture(), contentArgumentCaptor.capture()))
+                    .thenReturn(responseWithAcceptEncoding(ACCEPT_ENCODING_HEADER));
+            mockMetricsForCompression();
+
+            final PeerForwarderClient objectUnderTest = createObjectUnderTest(compression);
+
+            assertThat(sendRequest(objectUnderTest).status(), equalTo(HttpStatus.OK));
+            verify(webClient).post(eq(DEFAULT_PEER_FORWARDING_URI), any(byte[].class));
+            final byte[] serializedBytes = serializedBytesArgumentCaptor.getValue();
+
+            assertThat(sendRequest(objectUnderTest).status(), equalTo(HttpStatus.OK));
+            final RequestHeaders requestHeaders = requestHeadersArgumentCaptor.getValue();
+            assertThat(requestHeaders.path(), equalTo(DEFAULT_PEER_FORWARDING_URI));
+            assertThat(requestHeaders.get(HttpHeaderNames.CONTENT_ENCODING), equalTo(compression.getName()));
+            final byte[] compressedBytes = contentArgumentCaptor.getValue();
+            assertThat(compression.decompress(compressedBytes, serializedBytes.length), equalTo(serializedBytes));
+
+            verify(uncompressedBytesCounter).increment(serializedBytes.length);
+            verify(compressedBytesCounter).increment(compressedBytes.length);
+            verify(requestsCounter, times(2)).increment();
+        }
+
+        @Test
+        void serializeRecordsAndSendHttpRequest_does_not_compress_requests_when_the_peer_does_not_send_accept_encoding() throws Exception {
+            when(webClient.post(anyString(), any(byte[].class))).thenReturn(HttpResponse.of(HttpStatus.OK));
+
+            final PeerForwarderClient objectUnderTest = createObjectUnderTest(PeerForwarderCompression.GZIP);
+
+            sendRequest(objectUnderTest);
+            sendRequest(objectUnderTest);
+
+            verify(webClient, times(2)).post(anyString(), any(byte[].class));
+            verify(webClient, never()).execute(any(RequestHeaders.class), any(byte[].class));
+            verify(requestsCounter, times(2)).increment();
+        }
+
+        @Test
+        void serializeRecordsAndSendHttpRequest_stops_compressing_requests_when_the_peer_no_longer_accepts_the_compression() throws Exception {
+            when(webClient.post(anyString(), any(byte[].class))).thenReturn(responseWithAcceptEncoding("gzip"));
+            when(webClient.execute(any(RequestHeaders.class), any(byte[].class)))
+                    .thenReturn(HttpResponse.of(ResponseHeaders.builder(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+                            .add(HttpHeaderNames.ACCEPT_ENCODING, "zstd")
+                            .build()));
+            mockMetricsForCompression();
+
+            final PeerForwarderClient objectUnderTest = createObjectUnderTest(PeerForwarderCompression.GZIP);
+
+            assertThat(sendRequest(objectUnderTest).status(), equalTo(HttpStatus.OK));
+            assertThat(sendRequest(objectUnderTest).status(), equalTo(HttpStatus.UNSUPPORTED_MEDIA_TYPE));
+            assertThat(sendRequest(objectUnderTest).status(), equalTo(HttpStatus.OK));
+
+            verify(webClient, times(2)).post(anyString(), any(byte[].class));
+            verify(webClient).execute(any(RequestHeaders.class), any(byte[].class));
+            verify(requestsCounter, times(3)).increment();
+        }
+    }
+
     private Collection<Record<Event>> generateBatchRecords(final int numRecords) {
         final Collection<Record<Event>> results = new ArrayList<>();
         for (int i = 0; i < numRecords; i++) {
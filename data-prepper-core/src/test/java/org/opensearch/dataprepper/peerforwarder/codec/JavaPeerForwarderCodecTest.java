@@ -1,11 +1,22 @@
 package org.opensearch.dataprepper.peerforwarder.codec;
 
+import com.google.protobuf.ByteString;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.resource.v1.Resource;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.log.JacksonLog;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.Span;
+import org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration;
 import org.opensearch.dataprepper.peerforwarder.model.PeerForwardingEvents;
+import org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec;
 
 import java.io.IOException;
 import java.io.InvalidClassException;
@@ -18,6 +29,7 @@ import java.util.UUID;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeast;
@@ -63,6 +75,57 @@ class JavaPeerForwarderCodecTest {
         verify(objectInputFilter, atLeast(1)).checkInput(any(ObjectInputFilter.FilterInfo.class));
     }
 
+    @Test
+    void testCodecWithCopiedEventsAndTheConfiguredObjectInputFilter() throws IOException, ClassNotFoundException {
+        objectInputFilter = new PeerForwarderCodecAppConfig().objectInputFilter(new PeerForwarderConfiguration());
+        final JacksonEvent event = JacksonLog.builder()
+                .withData(Map.of("key1", "value", "nested", Map.of("key2", "value")))
+                .withEventType("LOG")
+                .build();
+        final JacksonEvent copiedEvent = JacksonEvent.fromEvent(event);
+        copiedEvent.put("nested/key3", "copied value");
+        final PeerForwardingEvents inputEvents = new PeerForwardingEvents(new ArrayList<>(List.of(event, copiedEvent)), pluginId, pipelineName);
+
+        final byte[] bytes = createObjectUnderTest().serialize(inputEvents);
+        final PeerForwardingEvents outputEvents = createObjectUnderTest().deserialize(bytes);
+
+        assertThat(outputEvents.getEvents().size(), equalTo(2));
+        assertThat(outputEvents.getEvents().get(0).toMap(), equalTo(event.toMap()));
+        final Event outputCopiedEvent = outputEvents.getEvents().get(1);
+        assertThat(outputCopiedEvent.toMap(), equalTo(copiedEvent.toMap()));
+        outputCopiedEvent.put("nested/key4", "value");
+        assertThat(outputCopiedEvent.get("nested/key4", String.class), equalTo("value"));
+    }
+
+    @Test
+    void testCodecWithLazilyDecodedSpansAndTheConfiguredObjectInputFilter() throws IOException, ClassNotFoundException {
+        objectInputFilter = new PeerForwarderCodecAppConfig().objectInputFilter(new PeerForwarderConfiguration());
+        final ExportTraceServiceRequest request = ExportTraceServiceRequest.newBuilder()
+                .addResourceSpans(ResourceSpans.newBuilder()
+                        .setResource(Resource.newBuilder().addAttributes(KeyValue.newBuilder()
+                                .setKey("service.name").setValue(AnyValue.newBuilder().setStringValue("orders"))))
+                        .addScopeSpans(ScopeSpans.newBuilder().addSpans(io.opentelemetry.proto.trace.v1.Span.newBuilder()
+                                .setTraceId(ByteString.copyFromUtf8(UUID.randomUUID().toString().substring(0, 16)))
+                                .setSpanId(ByteString.copyFromUtf8(UUID.randomUUID().toString().substring(0, 8)))
+                                .setName("GET /orders")
+                                .setStartTimeUnixNano(1_000_000)
+                                .setEndTimeUnixNano(2_000_000)
+                                .addAttributes(KeyValue.newBuilder()
+                                        .setKey("http.method").setValue(AnyValue.newBuilder().setStringValue("GET"))))))
+                .build();
+        final List<Span> spans = new OTelProtoCodec.OTelProtoDecoder(true).parseExportTraceServiceRequest(request);
+        final PeerForwardingEvents inputEvents = new PeerForwardingEvents(new ArrayList<>(spans), pluginId, pipelineName);
+
+        final byte[] bytes = createObjectUnderTest().serialize(inputEvents);
+        final PeerForwardingEvents outputEvents = createObjectUnderTest().deserialize(bytes);
+
+        assertThat(outputEvents.getEvents().size(), equalTo(1));
+        final Event outputSpan = outputEvents.getEvents().get(0);
+        assertThat(outputSpan, instanceOf(JacksonSpan.class));
+        assertThat(outputSpan.toJsonString(), equalTo(spans.get(0).toJsonString()));
+        assertThat(((Span) outputSpan).getServiceName(), equalTo("orders"));
+    }
+
     @Test
     void testDeserializeException(){
         final byte[] bytes = new byte[0];
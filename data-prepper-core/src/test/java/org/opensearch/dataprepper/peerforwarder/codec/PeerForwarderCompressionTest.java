@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.codec;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PeerForwarderCompressionTest {
+
+    private static byte[] createBytes() {
+        final StringBuilder stringBuilder = new StringBuilder();
+        final String value = UUID.randomUUID().toString();
+        for (int i = 0; i < 100; i++) {
+            stringBuilder.append("{\"key\":\"").append(value).append("\",\"index\":").append(i).append('}');
+        }
+        return stringBuilder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @ParameterizedTest
+    @EnumSource(PeerForwarderCompression.class)
+    void compress_and_decompress_return_the_original_bytes(final PeerForwarderCompression compression) throws IOException {
+        final byte[] bytes = createBytes();
+
+        final byte[] compressedBytes = compression.compress(bytes);
+
+        assertThat(compression.decompress(compressedBytes, bytes.length), equalTo(bytes));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PeerForwarderCompression.class, names = {"GZIP", "ZSTD", "LZ4"})
+    void compress_reduces_the_size_of_repetitive_bytes(final PeerForwarderCompression compression) throws IOException {
+        final byte[] bytes = createBytes();
+
+        assertThat(compression.compress(bytes).length, lessThan(bytes.length));
+    }
+
+    @Test
+    void NONE_returns_the_same_bytes() throws IOException {
+        final byte[] bytes = createBytes();
+
+        assertThat(PeerForwarderCompression.NONE.compress(bytes), sameInstance(bytes));
+        assertThat(PeerForwarderCompression.NONE.decompress(bytes, bytes.length), sameInstance(bytes));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PeerForwarderCompression.class, names = {"GZIP", "ZSTD", "LZ4"})
+    void decompress_throws_when_the_bytes_decompress_to_more_than_maxLength(final PeerForwarderCompression compression) throws IOException {
+        final byte[] bytes = createBytes();
+        final byte[] compressedBytes = compression.compress(bytes);
+
+        assertThrows(IOException.class, () -> compression.decompress(compressedBytes, bytes.length - 1));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PeerForwarderCompression.class, names = {"GZIP", "ZSTD", "LZ4"})
+    void decompress_throws_when_the_bytes_are_not_compressed(final PeerForwarderCompression compression) {
+        final byte[] bytes = createBytes();
+
+        assertThrows(IOException.class, () -> compression.decompress(bytes, Integer.MAX_VALUE));
+    }
+
+    @ParameterizedTest
+    @EnumSource(PeerForwarderCompression.class)
+    void getByName_returns_the_compression(final PeerForwarderCompression compression) {
+        assertThat(PeerForwarderCompression.getByName(compression.getName()), equalTo(compression));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"br", "deflate", "GZIP", ""})
+    void getByName_returns_null_for_unknown_names(final String name) {
+        assertThat(PeerForwarderCompression.getByName(name), nullValue());
+    }
+
+    @Test
+    void ACCEPTED_CONTENT_ENCODINGS_lists_every_compression_except_NONE() {
+        final String expectedContentEncodings = Arrays.stream(PeerForwarderCompression.values())
+                .filter(compression -> compression != PeerForwarderCompression.NONE)
+                .map(PeerForwarderCompression::getName)
+                .collect(Collectors.joining(", "));
+
+        assertThat(PeerForwarderCompression.ACCEPTED_CONTENT_ENCODINGS, equalTo(expectedContentEncodings));
+        assertThat(PeerForwarderCompression.ACCEPTED_CONTENT_ENCODINGS, not(equalTo("")));
+    }
+}
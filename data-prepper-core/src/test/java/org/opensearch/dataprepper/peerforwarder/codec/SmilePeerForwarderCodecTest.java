@@ -0,0 +1,259 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventMetadata;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.log.JacksonLog;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.Span;
+import org.opensearch.dataprepper.peerforwarder.model.PeerForwardingEvents;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SmilePeerForwarderCodecTest {
+    private static final String PLUGIN_ID = "plugin_id";
+    private static final String PIPELINE_NAME = "pipeline_name";
+    private static final ObjectMapper SMILE_MAPPER = new ObjectMapper(new SmileFactory());
+
+    private SmilePeerForwarderCodec createObjectUnderTest() {
+        return new SmilePeerForwarderCodec();
+    }
+
+    @Test
+    void deserialize_returns_the_serialized_events_and_metadata() throws IOException {
+        final Instant timeReceived = Instant.ofEpochSecond(1_700_000_000L, 123_456_789);
+        final Map<String, Object> data = Map.of(
+                "message", UUID.randomUUID().toString(),
+                "status", 200,
+                "nested", Map.of("list", Arrays.asList(1, 2, 3), "ratio", 0.5, "flag", true));
+        final JacksonEvent event = JacksonLog.builder()
+                .withData(data)
+                .withEventMetadata(DefaultEventMetadata.builder()
+                        .withEventType("LOG")
+                        .withTimeReceived(timeReceived)
+                        .withAttributes(Map.of("attribute", "value"))
+                        .withTags(Set.of("tag1", "tag2"))
+                        .build())
+                .build();
+        final PeerForwardingEvents inputEvents = new PeerForwardingEvents(List.of(event), PLUGIN_ID, PIPELINE_NAME);
+
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(objectUnderTest.serialize(inputEvents));
+
+        assertThat(outputEvents.getDestinationPluginId(), equalTo(PLUGIN_ID));
+        assertThat(outputEvents.getDestinationPipelineName(), equalTo(PIPELINE_NAME));
+        assertThat(outputEvents.getEvents().size(), equalTo(1));
+        final Event outputEvent = outputEvents.getEvents().get(0);
+        assertThat(outputEvent, instanceOf(JacksonEvent.class));
+        assertThat(outputEvent.toMap(), equalTo(data));
+        final EventMetadata outputMetadata = outputEvent.getMetadata();
+        assertThat(outputMetadata.getEventType(), equalTo("LOG"));
+        assertThat(outputMetadata.getTimeReceived(), equalTo(timeReceived));
+        assertThat(outputMetadata.getAttributes(), equalTo(Map.of("attribute", "value")));
+        assertThat(outputMetadata.getTags(), equalTo(Set.of("tag1", "tag2")));
+    }
+
+    @Test
+    void deserialize_returns_spans_for_trace_events() throws IOException {
+        final String traceId = UUID.randomUUID().toString();
+        final JacksonSpan span = JacksonSpan.builder()
+                .withTraceId(traceId)
+                .withTraceGroup(UUID.randomUUID().toString())
+                .withSpanId(UUID.randomUUID().toString())
+                .withName(UUID.randomUUID().toString())
+                .withKind(UUID.randomUUID().toString())
+                .withStartTime(Instant.now().toString())
+                .withEndTime(Instant.now().toString())
+                .withDurationInNanos(100L)
+                .withTraceGroupFields(DefaultTraceGroupFields.builder().build())
+                .build();
+        final PeerForwardingEvents inputEvents = new PeerForwardingEvents(List.of(span), PLUGIN_ID, PIPELINE_NAME);
+
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(objectUnderTest.serialize(inputEvents));
+
+        assertThat(outputEvents.getEvents().size(), equalTo(1));
+        final Event outputEvent = outputEvents.getEvents().get(0);
+        assertThat(outputEvent, instanceOf(JacksonSpan.class));
+        assertThat(((Span) outputEvent).getTraceId(), equalTo(traceId));
+        assertThat(outputEvent.toJsonString(), equalTo(span.toJsonString()));
+        assertThat(outputEvent.getMetadata().getTimeReceived(), equalTo(span.getMetadata().getTimeReceived()));
+    }
+
+    @Test
+    void deserialize_returns_events_which_were_not_JacksonEvents() throws IOException {
+        final Event event = mock(Event.class);
+        final Map<String, Object> data = Map.of("key", "value");
+        when(event.toMap()).thenReturn(data);
+        when(event.getMetadata()).thenReturn(DefaultEventMetadata.builder().withEventType("event").build());
+        final PeerForwardingEvents inputEvents = new PeerForwardingEvents(List.of(event), PLUGIN_ID, PIPELINE_NAME);
+
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(objectUnderTest.serialize(inputEvents));
+
+        assertThat(outputEvents.getEvents().get(0).toMap(), equalTo(data));
+    }
+
+    @Test
+    void deserialize_returns_null_events_when_serialized_with_null_events() throws IOException {
+        final PeerForwardingEvents inputEvents = new PeerForwardingEvents(null, PLUGIN_ID, PIPELINE_NAME);
+
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(objectUnderTest.serialize(inputEvents));
+
+        assertThat(outputEvents.getEvents(), nullValue());
+        assertThat(outputEvents.getDestinationPluginId(), equalTo(PLUGIN_ID));
+    }
+
+    @Test
+    void serialize_is_smaller_than_JacksonPeerForwarderCodec() throws Exception {
+        final PeerForwardingEvents inputEvents = generatePeerForwardingEvents(100);
+
+        final byte[] jsonBytes = new JacksonPeerForwarderCodec(new ObjectMapper().registerModule(new JavaTimeModule())).serialize(inputEvents);
+        final byte[] smileBytes = createObjectUnderTest().serialize(inputEvents);
+
+        assertThat(smileBytes.length, lessThan(jsonBytes.length));
+    }
+
+    @Test
+    void deserialize_skips_unknown_fields() throws IOException {
+        final byte[] bytes = writeSmile(generator -> {
+            generator.writeStartObject();
+            generator.writeStringField("destinationPluginId", PLUGIN_ID);
+            generator.writeObjectField("unknown", Map.of("a", List.of(1, 2)));
+            generator.writeArrayFieldStart("events");
+            generator.writeStartObject();
+            generator.writeStringField("eventType", "LOG");
+            generator.writeObjectField("unknownEventField", List.of("x"));
+            generator.writeObjectField("data", Map.of("key", "value"));
+            generator.writeEndObject();
+            generator.writeEndArray();
+            generator.writeEndObject();
+        });
+
+        final PeerForwardingEvents outputEvents = createObjectUnderTest().deserialize(bytes);
+
+        assertThat(outputEvents.getDestinationPluginId(), equalTo(PLUGIN_ID));
+        assertThat(outputEvents.getDestinationPipelineName(), nullValue());
+        assertThat(outputEvents.getEvents().get(0).toMap(), equalTo(Map.of("key", "value")));
+    }
+
+    @Test
+    void deserialize_throws_for_empty_bytes() {
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(new byte[0]));
+    }
+
+    @Test
+    void deserialize_throws_for_truncated_bytes() throws IOException {
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        final byte[] bytes = objectUnderTest.serialize(generatePeerForwardingEvents(2));
+        final byte[] truncatedBytes = Arrays.copyOf(bytes, bytes.length / 2);
+
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(truncatedBytes));
+    }
+
+    @Test
+    void deserialize_throws_when_not_an_object() throws IOException {
+        final byte[] bytes = SMILE_MAPPER.writeValueAsBytes(List.of(1, 2));
+
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(bytes));
+    }
+
+    @Test
+    void deserialize_throws_when_events_is_not_an_array() throws IOException {
+        final byte[] bytes = SMILE_MAPPER.writeValueAsBytes(Map.of("events", "value"));
+
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(bytes));
+    }
+
+    @Test
+    void deserialize_throws_when_an_event_has_no_data() throws IOException {
+        final byte[] bytes = SMILE_MAPPER.writeValueAsBytes(Map.of("events", List.of(Map.of("eventType", "LOG"))));
+
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(bytes));
+    }
+
+    @Test
+    void deserialize_throws_when_the_data_of_an_event_is_not_an_object() throws IOException {
+        final byte[] bytes = SMILE_MAPPER.writeValueAsBytes(Map.of("events", List.of(Map.of("eventType", "LOG", "data", List.of("value")))));
+
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(bytes));
+    }
+
+    @Test
+    void deserialize_throws_when_an_event_has_no_event_type() throws IOException {
+        final byte[] bytes = SMILE_MAPPER.writeValueAsBytes(Map.of("events", List.of(Map.of("data", Collections.emptyMap()))));
+
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(bytes));
+    }
+
+    @Test
+    void deserialize_throws_when_time_received_is_not_a_pair_of_numbers() throws IOException {
+        final byte[] bytes = SMILE_MAPPER.writeValueAsBytes(Map.of("events", List.of(Map.of(
+                "eventType", "LOG", "timeReceived", List.of(1, 2, 3), "data", Collections.emptyMap()))));
+
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(bytes));
+    }
+
+    private PeerForwardingEvents generatePeerForwardingEvents(final int numEvents) {
+        final List<Event> events = new ArrayList<>();
+        for (int i = 0; i < numEvents; i++) {
+            final Map<String, Object> eventData = Map.of(
+                    "message", "127.0.0.1 GET /index.html 200",
+                    "status", 200,
+                    "request", Map.of("method", "GET", "path", "/index.html"));
+            events.add(JacksonLog.builder().withData(eventData).withEventType("LOG").build());
+        }
+        return new PeerForwardingEvents(events, PLUGIN_ID, PIPELINE_NAME);
+    }
+
+    private static byte[] writeSmile(final GeneratorConsumer generatorConsumer) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (final JsonGenerator generator = SMILE_MAPPER.createGenerator(outputStream)) {
+            generatorConsumer.accept(generator);
+        }
+        return outputStream.toByteArray();
+    }
+
+    @FunctionalInterface
+    private interface GeneratorConsumer {
+        void accept(JsonGenerator generator) throws IOException;
+    }
+}
@@ -8,6 +8,9 @@ package org.opensearch.dataprepper.peerforwarder.server;
 import io.micrometer.core.instrument.Counter;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
 import org.opensearch.dataprepper.model.event.Event;
@@ -17,8 +20,11 @@ import org.opensearch.dataprepper.model.record.Record;
 import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.AggregatedHttpResponse;
 import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
@@ -31,24 +37,31 @@ import org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderProvider;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderReceiveBuffer;
+import org.opensearch.dataprepper.peerforwarder.PeerLoadTracker;
 import org.opensearch.dataprepper.peerforwarder.codec.PeerForwarderCodec;
+import org.opensearch.dataprepper.peerforwarder.codec.PeerForwarderCompression;
 import org.opensearch.dataprepper.peerforwarder.model.PeerForwardingEvents;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration.DEFAULT_PEER_FORWARDING_URI;
 import static org.opensearch.dataprepper.peerforwarder.server.PeerForwarderHttpService.RECORDS_RECEIVED_FROM_PEERS;
 import static org.opensearch.dataprepper.peerforwarder.server.PeerForwarderHttpService.SERVER_REQUEST_PROCESSING_LATENCY;
 
@@ -103,7 +116,8 @@ class PeerForwarderHttpServiceTest {
         lenient().when(peerForwardingEvents.getDestinationPluginId()).thenReturn(PLUGIN_ID);
         lenient().when(peerForwardingEvents.getDestinationPipelineName()).thenReturn(PIPELINE_NAME);
         when(aggregatedHttpRequest.content()).thenReturn(httpData);
-        when(httpData.array()).thenReturn(new byte[10]);
+        lenient().when(httpData.array()).thenReturn(new byte[10]);
+        lenient().when(aggregatedHttpRequest.headers()).thenReturn(RequestHeaders.of(HttpMethod.POST, DEFAULT_PEER_FORWARDING_URI));
         serverRequestProcessingLatencyTimer = new NoopTimer(new Meter.Id("test", Tags.empty(), null, null, Meter.Type.TIMER));
         when(pluginMetrics.timer(SERVER_REQUEST_PROCESSING_LATENCY)).thenReturn(serverRequestProcessingLatencyTimer);
         when(pluginMetrics.counter(RECORDS_RECEIVED_FROM_PEERS)).thenReturn(recordsReceivedFromPeersCounter);
@@ -134,6 +148,24 @@ class PeerForwarderHttpServiceTest {
         verify(recordsReceivedFromPeersCounter).increment(1);
     }
 
+    @Test
+    void test_doPost_with_HTTP_request_should_return_buffer_usage_header() throws Exception {
+        final HashMap<String, Map<String, PeerForwarderReceiveBuffer<Record<Event>>>> pipelinePeerForwarderReceiveBufferMap = new HashMap<>();
+        pipelinePeerForwarderReceiveBufferMap.put(PIPELINE_NAME, Map.of(PLUGIN_ID, peerForwarderReceiveBuffer));
+        when(peerForwarderProvider.getPipelinePeerForwarderReceiveBufferMap()).thenReturn(pipelinePeerForwarderReceiveBufferMap);
+
+        final PeerForwarderHttpService objectUnderTest = createObjectUnderTest();
+
+        final AggregatedHttpResponse aggregatedHttpResponse = objectUnderTest.doPost(aggregatedHttpRequest).aggregate().get();
+
+        assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.OK));
+        final String bufferUsage = aggregatedHttpResponse.headers().get(PeerLoadTracker.BUFFER_USAGE_HEADER);
+        assertThat(bufferUsage, equalTo(Double.toString(peerForwarderReceiveBuffer.getBufferUsage())));
+        assertThat(Double.parseDouble(bufferUsage), greaterThan(0.0));
+
+        verify(recordsReceivedFromPeersCounter).increment(1);
+    }
+
     @Test
     void test_doPost_with_bad_HTTP_request_should_return_BAD_REQUEST() throws Exception {
         when(responseHandler.handleException(any(IOException.class), anyString())).thenReturn(HttpResponse.of(HttpStatus.BAD_REQUEST));
@@ -163,6 +195,58 @@ class PeerForwarderHttpServiceTest {
         assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.REQUEST_ENTITY_TOO_LARGE));
     }
 
+    @ParameterizedTest
+    @EnumSource(value = PeerForwarderCompression.class, names = {"GZIP", "ZSTD", "LZ4"})
+    void test_doPost_with_compressed_HTTP_request_should_deserialize_decompressed_content(
+            final PeerForwarderCompression compression) throws Exception {
+        final byte[] serializedBytes = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+        when(aggregatedHttpRequest.headers()).thenReturn(RequestHeaders.builder(HttpMethod.POST, DEFAULT_PEER_FORWARDING_URI)
+                .add(HttpHeaderNames.CONTENT_ENCODING, compression.getName())
+                .build());
+        when(httpData.array()).thenReturn(compression.compress(serializedBytes));
+        final HashMap<String, Map<String, PeerForwarderReceiveBuffer<Record<Event>>>> pipelinePeerForwarderReceiveBufferMap = new HashMap<>();
+        pipelinePeerForwarderReceiveBufferMap.put(PIPELINE_NAME, Map.of(PLUGIN_ID, peerForwarderReceiveBuffer));
+        when(peerForwarderProvider.getPipelinePeerForwarderReceiveBufferMap()).thenReturn(pipelinePeerForwarderReceiveBufferMap);
+
+        final PeerForwarderHttpService objectUnderTest = createObjectUnderTest();
+
+        final AggregatedHttpResponse aggregatedHttpResponse = objectUnderTest.doPost(aggregatedHttpRequest).aggregate().get();
+
+        assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.OK));
+        verify(peerForwarderCodec).deserialize(serializedBytes);
+        verify(recordsReceivedFromPeersCounter).increment(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"br", "deflate", "none"})
+    void test_doPost_with_unsupported_content_encoding_should_return_UNSUPPORTED_MEDIA_TYPE(final String contentEncoding) throws Exception {
+        when(aggregatedHttpRequest.headers()).thenReturn(RequestHeaders.builder(HttpMethod.POST, DEFAULT_PEER_FORWARDING_URI)
+                .add(HttpHeaderNames.CONTENT_ENCODING, contentEncoding)
+                .build());
+
+        final PeerForwarderHttpService objectUnderTest = createObjectUnderTest();
+
+        final AggregatedHttpResponse aggregatedHttpResponse = objectUnderTest.doPost(aggregatedHttpRequest).aggregate().get();
+
+        assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.UNSUPPORTED_MEDIA_TYPE));
+        verify(peerForwarderCodec, never()).deserialize(any());
+    }
+
+    @Test
+    void test_doPost_with_invalid_compressed_HTTP_request_should_return_BAD_REQUEST() throws Exception {
+        when(aggregatedHttpRequest.headers()).thenReturn(RequestHeaders.builder(HttpMethod.POST, DEFAULT_PEER_FORWARDING_URI)
+                .add(HttpHeaderNames.CONTENT_ENCODING, PeerForwarderCompression.GZIP.getName())
+                .build());
+        when(responseHandler.handleException(any(IOException.class), anyString())).thenReturn(HttpResponse.of(HttpStatus.BAD_REQUEST));
+
+        final PeerForwarderHttpService objectUnderTest = createObjectUnderTest();
+
+        final AggregatedHttpResponse aggregatedHttpResponse = objectUnderTest.doPost(aggregatedHttpRequest).aggregate().get();
+
+        assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.BAD_REQUEST));
+        verify(peerForwarderCodec, never()).deserialize(any());
+    }
+
     private List<Event> generateEvents(final int numEvents) {
         final List<Event> events = new ArrayList<>();
         for (int i = 0; i < numEvents; i++) {
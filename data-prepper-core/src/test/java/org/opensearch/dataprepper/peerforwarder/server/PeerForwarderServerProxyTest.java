@@ -69,6 +69,7 @@ class PeerForwarderServerProxyTest {
         final PeerForwarderServerProxy objectUnderTest = createObjectUnderTest();
         objectUnderTest.stop();
         verifyNoInteractions(server);
+        verify(peerForwarderProvider).close();
     }
 
     @Test
@@ -84,6 +85,7 @@ class PeerForwarderServerProxyTest {
         objectUnderTest.stop();
         verify(peerForwarderHttpServerProvider).get();
         verify(server).stop();
+        verify(peerForwarderProvider).close();
     }
 
     @Test
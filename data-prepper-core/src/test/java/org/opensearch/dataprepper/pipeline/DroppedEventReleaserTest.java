@@ -0,0 +1,150 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+@ExtendWith(MockitoExtension.class)
+class DroppedEventReleaserTest {
+    private static final int NUMBER_OF_RECORDS = 300;
+
+    @Mock
+    private AcknowledgementSetManager acknowledgementSetManager;
+
+    private List<Record> records;
+
+    @BeforeEach
+    void setUp() {
+        records = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_RECORDS; i++) {
+            records.add(createRecord(mock(EventHandle.class)));
+        }
+    }
+
+    private DroppedEventReleaser createObjectUnderTest() {
+        return new DroppedEventReleaser();
+    }
+
+    private static Record createRecord(final EventHandle eventHandle) {
+        final Event event = mock(Event.class);
+        when(event.getEventHandle()).thenReturn(eventHandle);
+        return new Record<>(event);
+    }
+
+    private static EventHandle handleOf(final Record record) {
+        return ((Event) record.getData()).getEventHandle();
+    }
+
+    @Test
+    void releaseDropped_does_not_release_when_all_events_are_returned() {
+        final DroppedEventReleaser objectUnderTest = createObjectUnderTest();
+        objectUnderTest.recordInput(records);
+
+        assertThat(objectUnderTest.releaseDropped(records, acknowledgementSetManager), equalTo(0));
+
+        verifyNoInteractions(acknowledgementSetManager);
+    }
+
+    @Test
+    void releaseDropped_releases_events_dropped_from_the_middle_of_the_batch() {
+        final List<Record> outputRecords = new ArrayList<>(records);
+        final Record droppedRecord = outputRecords.remove(NUMBER_OF_RECORDS / 2);
+
+        final DroppedEventReleaser objectUnderTest = createObjectUnderTest();
+        objectUnderTest.recordInput(records);
+
+        assertThat(objectUnderTest.releaseDropped(outputRecords, acknowledgementSetManager), equalTo(1));
+
+        verify(acknowledgementSetManager).releaseEventReference(handleOf(droppedRecord), true);
+    }
+
+    @Test
+    void releaseDropped_releases_events_dropped_from_the_end_of_the_batch_when_the_batch_is_modified_in_place() {
+        final Record lastRecord = records.get(NUMBER_OF_RECORDS - 1);
+        final DroppedEventReleaser objectUnderTest = createObjectUnderTest();
+        objectUnderTest.recordInput(records);
+        records.remove(NUMBER_OF_RECORDS - 1);
+
+        assertThat(objectUnderTest.releaseDropped(records, acknowledgementSetManager), equalTo(1));
+
+        verify(acknowledgementSetManager).releaseEventReference(handleOf(lastRecord), true);
+    }
+
+    @Test
+    void releaseDropped_does_not_release_reordered_events() {
+        final List<Record> outputRecords = new ArrayList<>(records);
+        Collections.reverse(outputRecords);
+
+        final DroppedEventReleaser objectUnderTest = createObjectUnderTest();
+        objectUnderTest.recordInput(records);
+
+        assertThat(objectUnderTest.releaseDropped(outputRecords, acknowledgementSetManager), equalTo(0));
+
+        verifyNoInteractions(acknowledgementSetManager);
+    }
+
+    @Test
+    void releaseDropped_releases_every_event_when_the_processor_replaces_the_batch() {
+        final List<Record> outputRecords = Collections.singletonList(createRecord(mock(EventHandle.class)));
+
+        final DroppedEventReleaser objectUnderTest = createObjectUnderTest();
+        objectUnderTest.recordInput(records);
+
+        assertThat(objectUnderTest.releaseDropped(outputRecords, acknowledgementSetManager), equalTo(NUMBER_OF_RECORDS));
+
+        for (final Record record : records) {
+            verify(acknowledgementSetManager).releaseEventReference(handleOf(record), true);
+        }
+        verify(acknowledgementSetManager, never()).releaseEventReference(handleOf(outputRecords.get(0)), true);
+    }
+
+    @Test
+    void releaseDropped_ignores_events_without_event_handles() {
+        final List<Record> inputRecords = new ArrayList<>(records);
+        inputRecords.add(NUMBER_OF_RECORDS / 2, createRecord(null));
+
+        final DroppedEventReleaser objectUnderTest = createObjectUnderTest();
+        objectUnderTest.recordInput(inputRecords);
+
+        assertThat(objectUnderTest.releaseDropped(records, acknowledgementSetManager), equalTo(0));
+
+        verifyNoInteractions(acknowledgementSetManager);
+    }
+
+    @Test
+    void releaseDropped_only_releases_events_from_the_last_recorded_input() {
+        final DroppedEventReleaser objectUnderTest = createObjectUnderTest();
+        objectUnderTest.recordInput(records);
+        objectUnderTest.releaseDropped(records, acknowledgementSetManager);
+
+        assertThat(objectUnderTest.releaseDropped(Collections.emptyList(), acknowledgementSetManager), equalTo(0));
+
+        verify(acknowledgementSetManager, never()).releaseEventReference(any(), anyBoolean());
+    }
+}
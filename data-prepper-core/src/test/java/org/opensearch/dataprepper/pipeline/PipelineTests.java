@@ -69,6 +69,7 @@ import static org.mockito.Mockito.when;
 class PipelineTests {
     private static final int TEST_READ_BATCH_TIMEOUT = 3000;
     private static final int TEST_PROCESSOR_THREADS = 1;
+    private static final int TEST_MAX_IN_FLIGHT_BATCHES = 1;
     private static final String TEST_PIPELINE_NAME = "test-pipeline";
 
     private Router router;
@@ -109,7 +110,7 @@ class PipelineTests {
         final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                 Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router, eventFactory, 
                 acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
         assertThat("Pipeline isStopRequested is expected to be false", testPipeline.isStopRequested(), is(false));
         assertThat("Pipeline is expected to have a default buffer", testPipeline.getBuffer(), notNullValue());
         assertTrue("Pipeline processors should be empty", testPipeline.getProcessorSets().isEmpty());
@@ -131,7 +132,7 @@ class PipelineTests {
                 Collections.singletonList(Collections.singletonList(testProcessor)),
                 Collections.singletonList(sinkDataFlowComponent),
                 router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
         assertThat("Pipeline isStopRequested is expected to be false", testPipeline.isStopRequested(), is(false));
         assertThat("Pipeline is expected to have a default buffer", testPipeline.getBuffer(), notNullValue());
         assertEquals("Pipeline processorSets size should be 1", 1, testPipeline.getProcessorSets().size());
@@ -154,7 +155,7 @@ class PipelineTests {
                 Collections.singletonList(Collections.singletonList(testProcessor)),
                 Collections.singletonList(sinkDataFlowComponent),
                 router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
         assertThat("Pipeline isStopRequested is expected to be false", testPipeline.isStopRequested(), is(false));
         assertThat("Pipeline is expected to have a default buffer", testPipeline.getBuffer(), notNullValue());
         assertEquals("Pipeline processorSets size should be 1", 1, testPipeline.getProcessorSets().size());
@@ -178,7 +179,7 @@ class PipelineTests {
                 Collections.singletonList(Collections.singletonList(testProcessor)),
                 Collections.singletonList(sinkDataFlowComponent),
                 router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
         Instant startTime = Instant.now();
         testPipeline.execute();
         assertFalse(testPipeline.isReady());
@@ -206,7 +207,7 @@ class PipelineTests {
                 Collections.singletonList(Collections.singletonList(testProcessor)),
                 Collections.singletonList(sinkDataFlowComponent),
                 router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
         Instant startTime = Instant.now();
         testPipeline.execute();
         assertFalse(testPipeline.isReady());
@@ -231,7 +232,7 @@ class PipelineTests {
             final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                     Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router,
                     eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                    processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                    processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
             testPipeline.execute();
         } catch (Exception ex) {
             assertThat("Incorrect exception message", ex.getMessage().contains("Source is expected to fail"));
@@ -250,7 +251,7 @@ class PipelineTests {
             testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                     Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router,
                     eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                    processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                    processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
             testPipeline.execute();
             Thread.sleep(TEST_READ_BATCH_TIMEOUT);
         } catch (Exception ex) {
@@ -292,7 +293,7 @@ class PipelineTests {
             testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                     Collections.singletonList(Collections.singletonList(testProcessor)), Collections.singletonList(sinkDataFlowComponent),
                     router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                    TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                    TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
             testPipeline.execute();
             Thread.sleep(TEST_READ_BATCH_TIMEOUT);
         } catch (Exception ex) {
@@ -316,7 +317,7 @@ class PipelineTests {
             testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                     Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router, eventFactory,
                     acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                    processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                    processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
             testPipeline.execute();
             Thread.sleep(TEST_READ_BATCH_TIMEOUT);
         } catch (final InterruptedException e) {
@@ -334,7 +335,7 @@ class PipelineTests {
         final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                 Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router,
                 eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
 
         assertEquals(testSource, testPipeline.getSource());
     }
@@ -348,7 +349,7 @@ class PipelineTests {
         final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                 Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent),
                 router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
 
         assertEquals(1, testPipeline.getSinks().size());
         assertEquals(testSink, testPipeline.getSinks().iterator().next());
@@ -386,7 +387,7 @@ class PipelineTests {
         private Pipeline createObjectUnderTest() {
             return new Pipeline(TEST_PIPELINE_NAME, mockSource, mock(Buffer.class), Collections.emptyList(),
                     dataFlowComponents, router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                    TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                    TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
         }
 
         @Test
@@ -551,7 +552,7 @@ class PipelineTests {
         testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                 Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router,
                 eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
 
         PipelineObserver pipelineObserver = mock(PipelineObserver.class);
         testPipeline.addShutdownObserver(pipelineObserver);
@@ -574,7 +575,7 @@ class PipelineTests {
         testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                 Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router,
                 eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
 
         PipelineObserver pipelineObserver = mock(PipelineObserver.class);
         testPipeline.addShutdownObserver(pipelineObserver);
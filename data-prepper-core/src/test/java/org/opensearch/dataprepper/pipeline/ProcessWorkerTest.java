@@ -0,0 +1,185 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.processor.Processor;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.source.Source;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+@ExtendWith(MockitoExtension.class)
+class ProcessWorkerTest {
+    @Mock
+    private Buffer buffer;
+
+    @Mock
+    private Processor processor;
+
+    @Mock
+    private Pipeline pipeline;
+
+    @Mock
+    private Source source;
+
+    private List<Record> firstBatch;
+    private List<Record> secondBatch;
+    private CheckpointState firstCheckpointState;
+    private CheckpointState secondCheckpointState;
+
+    @BeforeEach
+    void setUp() {
+        firstBatch = new ArrayList<>(Collections.singletonList(new Record<>(mock(Event.class))));
+        secondBatch = new ArrayList<>(Collections.singletonList(new Record<>(mock(Event.class))));
+        firstCheckpointState = new CheckpointState(1);
+        secondCheckpointState = new CheckpointState(1);
+
+        when(pipeline.isStopRequested()).thenReturn(false, false, false, true);
+        when(pipeline.getReadBatchTimeoutInMillis()).thenReturn(100);
+        when(pipeline.getPeerForwarderDrainTimeout()).thenReturn(Duration.ZERO);
+        when(pipeline.getSource()).thenReturn(source);
+        when(buffer.read(anyInt())).thenReturn(
+                new AbstractMap.SimpleEntry<>(firstBatch, firstCheckpointState),
+                new AbstractMap.SimpleEntry<>(secondBatch, secondCheckpointState),
+                new AbstractMap.SimpleEntry<>(new ArrayList<>(), new CheckpointState(0)));
+        when(buffer.isEmpty()).thenReturn(true);
+        when(processor.execute(firstBatch)).thenReturn(firstBatch);
+        when(processor.isReadyForShutdown()).thenReturn(true);
+    }
+
+    private ProcessWorker createObjectUnderTest() {
+        return new ProcessWorker(buffer, Collections.singletonList(processor), pipeline);
+    }
+
+    @Test
+    void run_with_one_batch_in_flight_checkpoints_each_batch_before_processing_the_next() {
+        when(pipeline.getMaxInFlightBatches()).thenReturn(1);
+        final Future<Void> firstSinkFuture = CompletableFuture.completedFuture(null);
+        final Future<Void> secondSinkFuture = CompletableFuture.completedFuture(null);
+        when(pipeline.publishToSinks(firstBatch)).thenReturn(Collections.singletonList(firstSinkFuture));
+        when(pipeline.publishToSinks(secondBatch)).thenReturn(Collections.singletonList(secondSinkFuture));
+        when(processor.execute(secondBatch)).thenReturn(secondBatch);
+
+        createObjectUnderTest().run();
+
+        final InOrder inOrder = inOrder(processor, pipeline, buffer);
+        inOrder.verify(processor).execute(firstBatch);
+        inOrder.verify(pipeline).publishToSinks(firstBatch);
+        inOrder.verify(buffer).checkpoint(firstCheckpointState);
+        inOrder.verify(processor).execute(secondBatch);
+        inOrder.verify(pipeline).publishToSinks(secondBatch);
+        inOrder.verify(buffer).checkpoint(secondCheckpointState);
+    }
+
+    @Test
+    void run_with_multiple_batches_in_flight_processes_the_next_batch_while_sinks_are_writing() {
+        when(pipeline.getMaxInFlightBatches()).thenReturn(2);
+        final CompletableFuture<Void> firstSinkFuture = new CompletableFuture<>();
+        final Future<Void> secondSinkFuture = CompletableFuture.completedFuture(null);
+        when(pipeline.publishToSinks(firstBatch)).thenReturn(Collections.singletonList(firstSinkFuture));
+        when(pipeline.publishToSinks(secondBatch)).thenReturn(Collections.singletonList(secondSinkFuture));
+        final AtomicBoolean firstSinkDoneWhenProcessingSecondBatch = new AtomicBoolean(true);
+        when(processor.execute(secondBatch)).thenAnswer(invocation -> {
+            firstSinkDoneWhenProcessingSecondBatch.set(firstSinkFuture.isDone());
+            firstSinkFuture.complete(null);
+            return invocation.getArgument(0);
+        });
+
+        createObjectUnderTest().run();
+
+        assertThat(firstSinkDoneWhenProcessingSecondBatch.get(), equalTo(false));
+        final InOrder inOrder = inOrder(buffer);
+        inOrder.verify(buffer).checkpoint(firstCheckpointState);
+        inOrder.verify(buffer).checkpoint(secondCheckpointState);
+    }
+
+    @Test
+    void run_with_multiple_batches_in_flight_checkpoints_in_read_order_when_sinks_complete_out_of_order() {
+        when(pipeline.getMaxInFlightBatches()).thenReturn(4);
+        final CompletableFuture<Void> firstSinkFuture = new CompletableFuture<>();
+        final Future<Void> secondSinkFuture = CompletableFuture.completedFuture(null);
+        when(pipeline.publishToSinks(firstBatch)).thenReturn(Collections.singletonList(firstSinkFuture));
+        when(pipeline.publishToSinks(secondBatch)).thenReturn(Collections.singletonList(secondSinkFuture));
+        when(processor.execute(secondBatch)).thenReturn(secondBatch);
+        when(processor.execute(Collections.emptyList())).thenAnswer(invocation -> {
+            firstSinkFuture.complete(null);
+            return invocation.getArgument(0);
+        });
+
+        createObjectUnderTest().run();
+
+        final InOrder inOrder = inOrder(buffer);
+        inOrder.verify(buffer).checkpoint(firstCheckpointState);
+        inOrder.verify(buffer).checkpoint(secondCheckpointState);
+    }
+
+    @Test
+    void run_with_multiple_batches_in_flight_does_not_wait_for_the_sinks_when_processors_drop_every_record() {
+        when(pipeline.getMaxInFlightBatches()).thenReturn(4);
+        final CompletableFuture<Void> firstSinkFuture = new CompletableFuture<>();
+        firstSinkFuture.completeOnTimeout(null, 1, TimeUnit.SECONDS);
+        when(pipeline.publishToSinks(firstBatch)).thenReturn(Collections.singletonList(firstSinkFuture));
+        when(processor.execute(secondBatch)).thenReturn(new ArrayList<>());
+        final AtomicBoolean firstSinkDoneWhenProcessingEmptyRead = new AtomicBoolean(true);
+        when(processor.execute(Collections.emptyList())).thenAnswer(invocation -> {
+            firstSinkDoneWhenProcessingEmptyRead.compareAndSet(true, firstSinkFuture.isDone());
+            firstSinkFuture.complete(null);
+            return invocation.getArgument(0);
+        });
+
+        createObjectUnderTest().run();
+
+        assertThat(firstSinkDoneWhenProcessingEmptyRead.get(), equalTo(false));
+        final InOrder inOrder = inOrder(buffer);
+        inOrder.verify(buffer).checkpoint(firstCheckpointState);
+        inOrder.verify(buffer).checkpoint(secondCheckpointState);
+    }
+
+    @Test
+    void run_with_acknowledgements_enabled_releases_events_dropped_by_processors() {
+        when(pipeline.getMaxInFlightBatches()).thenReturn(1);
+        when(source.areAcknowledgementsEnabled()).thenReturn(true);
+        final AcknowledgementSetManager acknowledgementSetManager = mock(AcknowledgementSetManager.class);
+        when(pipeline.getAcknowledgementSetManager()).thenReturn(acknowledgementSetManager);
+        final EventHandle droppedEventHandle = mock(EventHandle.class);
+        when(((Event) secondBatch.get(0).getData()).getEventHandle()).thenReturn(droppedEventHandle);
+        when(pipeline.publishToSinks(firstBatch)).thenReturn(Collections.emptyList());
+        when(processor.execute(secondBatch)).thenReturn(new ArrayList<>());
+
+        createObjectUnderTest().run();
+
+        verify(acknowledgementSetManager).releaseEventReference(droppedEventHandle, true);
+        verify(buffer).checkpoint(secondCheckpointState);
+    }
+}
@@ -13,19 +13,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.parser.DataFlowComponent;
-
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiConsumer;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -36,6 +32,9 @@ import static org.mockito.ArgumentMatchers.anyCollection;
 
 @ExtendWith(MockitoExtension.class)
 class DataFlowComponentRouterTest {
+    private static final int ROUTE_COUNT = 4;
+    private static final int KNOWN_ROUTE_INDEX = 0;
+    private static final int UNKNOWN_ROUTE_INDEX = 1;
 
     @Mock
     private DataFlowComponent<TestComponent> dataFlowComponent;
@@ -46,7 +45,8 @@ class DataFlowComponentRouterTest {
     @Mock
     private RouterGetRecordStrategy getRecordStrategy;
 
-    private Collection<Record> recordsIn;
+    private List<Record> recordsIn;
+    private long[] routeMask;
 
     private static class TestComponent {
     }
@@ -54,6 +54,7 @@ class DataFlowComponentRouterTest {
     @BeforeEach
     void setUp() {
         recordsIn = Collections.emptyList();
+        routeMask = new long[1];
         lenient().when(dataFlowComponent.getComponent()).thenReturn(testComponent);
         getRecordStrategy = mock(RouterGetRecordStrategy.class);
         lenient().when(getRecordStrategy.getRecord(any())).thenAnswer(a -> a.getArgument(0));
@@ -64,18 +65,29 @@ class DataFlowComponentRouterTest {
         return new DataFlowComponentRouter();
     }
 
+    private RouteMatches createRouteMatches() {
+        return new RouteMatches(recordsIn.toArray(new Record[0]), ROUTE_COUNT);
+    }
+
+    private RouteMatches createRouteMatchesWithEveryRecordMatching(final int routeIndex) {
+        final RouteMatches routeMatches = createRouteMatches();
+        for (int i = 0; i < recordsIn.size(); i++) {
+            routeMatches.addMatch(i, routeIndex);
+        }
+        return routeMatches;
+    }
+
     @Test
     void route_with_null_strategy_throws() {
         getRecordStrategy = null;
-        assertThrows(NullPointerException.class, () -> createObjectUnderTest().route(recordsIn, dataFlowComponent, null, getRecordStrategy, componentRecordsConsumer));
+        assertThrows(NullPointerException.class, () -> createObjectUnderTest().route(recordsIn, dataFlowComponent, null, routeMask, getRecordStrategy, componentRecordsConsumer));
     }
 
     @Test
     void route_with_null_strategy_throws_no_matching_routes() {
         getRecordStrategy = null;
-        final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
-                .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
-        assertThrows(NullPointerException.class, () -> createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer));
+        final RouteMatches noMatchingRoutes = createRouteMatches();
+        assertThrows(NullPointerException.class, () -> createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, routeMask, getRecordStrategy, componentRecordsConsumer));
     }
 
     @Nested
@@ -92,20 +104,18 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_all_Events_when_none_have_routes() {
-            final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
+            final RouteMatches noMatchingRoutes = createRouteMatches();
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, routeMask, getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
 
         @Test
         void route_all_Events_when_all_have_routes() {
-            final Map<Record, Set<String>> allWithRoutes = recordsIn.stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(UUID.randomUUID().toString())));
+            final RouteMatches allWithRoutes = createRouteMatchesWithEveryRecordMatching(UNKNOWN_ROUTE_INDEX);
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, allWithRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, allWithRoutes, routeMask, getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
@@ -114,9 +124,9 @@ class DataFlowComponentRouterTest {
         void route_when_no_records() {
             recordsIn = Collections.emptyList();
 
-            final Map<Record, Set<String>> noMatchingRoutes = Collections.emptyMap();
+            final RouteMatches noMatchingRoutes = createRouteMatches();
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, routeMask, getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
@@ -126,12 +136,10 @@ class DataFlowComponentRouterTest {
     @Nested
     class ComponentWithSingleRoute {
 
-        private String knownRoute;
-
         @BeforeEach
         void setUp() {
-            knownRoute = UUID.randomUUID().toString();
-            when(dataFlowComponent.getRoutes()).thenReturn(Collections.singleton(knownRoute));
+            when(dataFlowComponent.getRoutes()).thenReturn(Collections.singleton(UUID.randomUUID().toString()));
+            routeMask = RouteMatches.createRouteMask(ROUTE_COUNT, Collections.singletonList(KNOWN_ROUTE_INDEX));
 
             recordsIn = IntStream.range(0, 10)
                     .mapToObj(i -> mock(Record.class))
@@ -140,20 +148,18 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_no_Events_when_none_have_routes() {
-            final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
+            final RouteMatches noMatchingRoutes = createRouteMatches();
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, routeMask, getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, Collections.emptyList());
         }
 
         @Test
         void route_no_Events_when_none_have_matching_routes() {
-            final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(UUID.randomUUID().toString())));
+            final RouteMatches noMatchingRoutes = createRouteMatchesWithEveryRecordMatching(UNKNOWN_ROUTE_INDEX);
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, routeMask, getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, Collections.emptyList());
         }
@@ -161,28 +167,28 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_all_Events_when_all_have_matched_route() {
-            final Map<Record, Set<String>> allMatchingRoutes = recordsIn.stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(knownRoute)));
+            final RouteMatches allMatchingRoutes = createRouteMatchesWithEveryRecordMatching(KNOWN_ROUTE_INDEX);
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, allMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, allMatchingRoutes, routeMask, getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
 
         @Test
         void route_matching_Events_when_some_have_matched_route() {
-            final Map<Record, Set<String>> someMatchingRoutes = new HashMap<>();
+            final RouteMatches someMatchingRoutes = createRouteMatchesWithEveryRecordMatching(UNKNOWN_ROUTE_INDEX);
             boolean applyRoute = false;
             Collection<Record> expectedRecords = new ArrayList<>();
-            for (Record record : recordsIn) {
-                someMatchingRoutes.put(record, applyRoute ? Set.of(knownRoute, UUID.randomUUID().toString()) : Set.of(UUID.randomUUID().toString()) );
-                if(applyRoute)
-                    expectedRecords.add(record);
+            for (int i = 0; i < recordsIn.size(); i++) {
+                if(applyRoute) {
+                    someMatchingRoutes.addMatch(i, KNOWN_ROUTE_INDEX);
+                    expectedRecords.add(recordsIn.get(i));
+                }
 
                 applyRoute = !applyRoute;
             }
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, someMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, someMatchingRoutes, routeMask, getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, expectedRecords);
         }
@@ -191,9 +197,9 @@ class DataFlowComponentRouterTest {
         void route_when_no_records() {
             recordsIn = Collections.emptyList();
 
-            final Map<Record, Set<String>> noMatchingRoutes = Collections.emptyMap();
+            final RouteMatches noMatchingRoutes = createRouteMatches();
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, routeMask, getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
@@ -203,13 +209,11 @@ class DataFlowComponentRouterTest {
     @Nested
     class ComponentWithMultipleRoute {
 
-        private String knownRoute;
-
         @BeforeEach
         void setUp() {
-            knownRoute = UUID.randomUUID().toString();
             when(dataFlowComponent.getComponent()).thenReturn(testComponent);
-            when(dataFlowComponent.getRoutes()).thenReturn(Set.of(UUID.randomUUID().toString(), knownRoute, UUID.randomUUID().toString()));
+            when(dataFlowComponent.getRoutes()).thenReturn(Set.of(UUID.randomUUID().toString(), UUID.randomUUID().toString(), UUID.randomUUID().toString()));
+            routeMask = RouteMatches.createRouteMask(ROUTE_COUNT, List.of(2, KNOWN_ROUTE_INDEX, 3));
 
             recordsIn = IntStream.range(0, 10)
                     .mapToObj(i -> mock(Record.class))
@@ -218,20 +222,18 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_no_Events_when_none_have_routes() {
-            final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
+            final RouteMatches noMatchingRoutes = createRouteMatches();
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, routeMask, getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, Collections.emptyList());
         }
 
         @Test
         void route_no_Events_when_none_have_matching_routes() {
-            final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(UUID.randomUUID().toString())));
+            final RouteMatches noMatchingRoutes = createRouteMatchesWithEveryRecordMatching(UNKNOWN_ROUTE_INDEX);
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, routeMask, getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, Collections.emptyList());
         }
@@ -239,28 +241,28 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_all_Events_when_all_have_matched_route() {
-            final Map<Record, Set<String>> allMatchingRoutes = recordsIn.stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(knownRoute)));
+            final RouteMatches allMatchingRoutes = createRouteMatchesWithEveryRecordMatching(KNOWN_ROUTE_INDEX);
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, allMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, allMatchingRoutes, routeMask, getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
 
         @Test
         void route_matching_Events_when_some_have_matched_route() {
-            final Map<Record, Set<String>> someMatchingRoutes = new HashMap<>();
+            final RouteMatches someMatchingRoutes = createRouteMatchesWithEveryRecordMatching(UNKNOWN_ROUTE_INDEX);
             boolean applyRoute = false;
             Collection<Record> expectedRecords = new ArrayList<>();
-            for (Record record : recordsIn) {
-                someMatchingRoutes.put(record, applyRoute ? Set.of(knownRoute, UUID.randomUUID().toString()) : Set.of(UUID.randomUUID().toString()) );
-                if(applyRoute)
-                    expectedRecords.add(record);
+            for (int i = 0; i < recordsIn.size(); i++) {
+                if(applyRoute) {
+                    someMatchingRoutes.addMatch(i, KNOWN_ROUTE_INDEX);
+                    expectedRecords.add(recordsIn.get(i));
+                }
 
                 applyRoute = !applyRoute;
             }
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, someMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, someMatchingRoutes, routeMask, getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, expectedRecords);
         }
@@ -269,9 +271,9 @@ class DataFlowComponentRouterTest {
         void route_when_no_records() {
             recordsIn = Collections.emptyList();
 
-            final Map<Record, Set<String>> noMatchingRoutes = Collections.emptyMap();
+            final RouteMatches noMatchingRoutes = createRouteMatches();
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, routeMask, getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
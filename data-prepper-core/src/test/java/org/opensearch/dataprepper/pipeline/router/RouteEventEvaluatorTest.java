@@ -13,14 +13,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.opensearch.dataprepper.expression.CompiledExpression;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -32,11 +35,12 @@ import java.util.stream.IntStream;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.anEmptyMap;
-import static org.hamcrest.Matchers.empty;
-import static org.hamcrest.Matchers.hasKey;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -64,44 +68,40 @@ class RouteEventEvaluatorTest {
         }
 
         @Test
-        void evaluateEventRoutes_with_empty_Records_returns_empty_map() {
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(Collections.emptyList());
+        void evaluateEventRoutes_with_empty_Records_returns_empty_matches() {
+            final RouteMatches routeMatches = createObjectUnderTest().evaluateEventRoutes(Collections.emptyList());
 
-            assertThat(recordsToRoutes, notNullValue());
-            assertThat(recordsToRoutes, is(anEmptyMap()));
+            assertThat(routeMatches, notNullValue());
+            assertThat(routeMatches.size(), equalTo(0));
         }
 
         @Test
-        void evaluateEventRoutes_with_Event_Records_returns_map_with_all_empty_routes() {
-            final Collection<Record> records = createEventRecords();
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
-
-            assertThat(recordsToRoutes, notNullValue());
+        void evaluateEventRoutes_with_Event_Records_returns_matches_with_all_empty_routes() {
+            final List<Record> records = createEventRecords();
+            final RouteEventEvaluator objectUnderTest = createObjectUnderTest();
+            final RouteMatches routeMatches = objectUnderTest.evaluateEventRoutes(records);
 
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
-            }
+            assertThat(routeMatches, notNullValue());
 
-            for (Set<String> routes : recordsToRoutes.values()) {
-                assertThat(routes, is(empty()));
+            assertRecords(routeMatches, records);
+            final long[] routeMask = objectUnderTest.createRouteMask(Collections.singleton(UUID.randomUUID().toString()));
+            for (int i = 0; i < records.size(); i++) {
+                assertThat(routeMatches.matchesAny(i, routeMask), is(false));
             }
         }
 
         @Test
-        void evaluateEventRoutes_with_non_Event_Records_returns_map_with_all_empty_routes() {
-            final Collection<Record> records = createNonEventRecords();
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
+        void evaluateEventRoutes_with_non_Event_Records_returns_matches_with_all_empty_routes() {
+            final List<Record> records = createNonEventRecords();
+            final RouteEventEvaluator objectUnderTest = createObjectUnderTest();
+            final RouteMatches routeMatches = objectUnderTest.evaluateEventRoutes(records);
 
-            assertThat(recordsToRoutes, notNullValue());
+            assertThat(routeMatches, notNullValue());
 
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
-            }
-
-            for (Set<String> routes : recordsToRoutes.values()) {
-                assertThat(routes, is(empty()));
+            assertRecords(routeMatches, records);
+            final long[] routeMask = objectUnderTest.createRouteMask(Collections.singleton(UUID.randomUUID().toString()));
+            for (int i = 0; i < records.size(); i++) {
+                assertThat(routeMatches.matchesAny(i, routeMask), is(false));
             }
         }
     }
@@ -110,6 +110,7 @@ class RouteEventEvaluatorTest {
     @MockitoSettings(strictness = Strictness.LENIENT)
     class WithRoutes {
         private Set<String> allRouteNames;
+        private Map<ConditionalRoute, CompiledExpression> compiledConditions;
 
         @BeforeEach
         void setUp() {
@@ -119,6 +120,13 @@ class RouteEventEvaluatorTest {
                     .peek(r -> when(r.getName()).thenReturn(UUID.randomUUID().toString()))
                     .collect(Collectors.toList());
 
+            compiledConditions = new HashMap<>();
+            for (final ConditionalRoute route : routes) {
+                final CompiledExpression compiledCondition = mock(CompiledExpression.class);
+                when(evaluator.compile(route.getCondition())).thenReturn(compiledCondition);
+                compiledConditions.put(route, compiledCondition);
+            }
+
             allRouteNames = routes
                     .stream()
                     .map(ConditionalRoute::getName)
@@ -126,115 +134,190 @@ class RouteEventEvaluatorTest {
         }
 
         @Test
-        void evaluateEventRoutes_with_empty_Records_returns_empty_map() {
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(Collections.emptyList());
+        void evaluateEventRoutes_with_empty_Records_returns_empty_matches() {
+            final RouteMatches routeMatches = createObjectUnderTest().evaluateEventRoutes(Collections.emptyList());
 
-            assertThat(recordsToRoutes, notNullValue());
-            assertThat(recordsToRoutes, is(anEmptyMap()));
+            assertThat(routeMatches, notNullValue());
+            assertThat(routeMatches.size(), equalTo(0));
 
-            verifyNoInteractions(evaluator);
+            verifyNoInteractions(compiledConditions.values().toArray());
         }
 
 
         @Test
-        void evaluateEventRoutes_with_non_Event_Records_returns_map_with_all_empty_routes() {
-            final Collection<Record> records = createNonEventRecords();
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
-
-            assertThat(recordsToRoutes, notNullValue());
+        void evaluateEventRoutes_with_non_Event_Records_returns_matches_with_all_empty_routes() {
+            final List<Record> records = createNonEventRecords();
+            final RouteEventEvaluator objectUnderTest = createObjectUnderTest();
+            final RouteMatches routeMatches = objectUnderTest.evaluateEventRoutes(records);
 
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
-            }
+            assertThat(routeMatches, notNullValue());
 
-            for (Set<String> routes : recordsToRoutes.values()) {
-                assertThat(routes, is(empty()));
+            assertRecords(routeMatches, records);
+            for (int i = 0; i < records.size(); i++) {
+                assertMatchedRoutes(objectUnderTest, routeMatches, i, Collections.emptySet());
             }
 
-            verifyNoInteractions(evaluator);
+            verifyNoInteractions(compiledConditions.values().toArray());
         }
 
         @Test
-        void evaluateEventRoutes_with_Event_Records_returns_map_with_matching_routes() {
+        void evaluateEventRoutes_with_Event_Records_returns_matches_with_matching_routes() {
             final List<Record> records = createEventRecords();
 
             final Record recordMatchingAllRoutes = records.get(1);
             final Event eventMatchingAllRoutes = (Event) records.get(1).getData();
             for (ConditionalRoute route : routes) {
-                when(evaluator.evaluateConditional(route.getCondition(), eventMatchingAllRoutes))
+                when(compiledConditions.get(route).evaluateConditional(eventMatchingAllRoutes))
                         .thenReturn(true);
 
                 for (Record record : records) {
                     if(recordMatchingAllRoutes == record)
                         continue;
 
-                    when(evaluator.evaluate(route.getCondition(), (Event) record.getData()))
+                    when(compiledConditions.get(route).evaluateConditional((Event) record.getData()))
                             .thenReturn(false);
                 }
             }
 
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
-
-            assertThat(recordsToRoutes, notNullValue());
-
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
-            }
-
-            final Set<String> actualRoutes = recordsToRoutes.get(recordMatchingAllRoutes);
-            assertThat(actualRoutes.size(), equalTo(routes.size()));
-            assertThat(actualRoutes, equalTo(allRouteNames));
+            final RouteEventEvaluator objectUnderTest = createObjectUnderTest();
+            final RouteMatches routeMatches = objectUnderTest.evaluateEventRoutes(records);
 
-            for (Map.Entry<Record, Set<String>> recordSetEntry : recordsToRoutes.entrySet()) {
-                if(recordSetEntry.getKey() == recordMatchingAllRoutes)
-                    continue;
+            assertThat(routeMatches, notNullValue());
 
-                assertThat(recordSetEntry.getValue(), is(empty()));
+            assertRecords(routeMatches, records);
+            for (int i = 0; i < records.size(); i++) {
+                assertMatchedRoutes(objectUnderTest, routeMatches, i,
+                        records.get(i) == recordMatchingAllRoutes ? allRouteNames : Collections.emptySet());
             }
         }
 
         @Test
-        void evaluateEventRoutes_with_Event_Records_returns_map_with_matching_routes_excludes_exceptions() {
+        void evaluateEventRoutes_with_Event_Records_returns_matches_with_matching_routes_excludes_exceptions() {
             final List<Record> records = createEventRecords();
 
             final Record recordMatchingAllRoutes = records.get(1);
             final Event eventMatchingAllRoutes = (Event) records.get(1).getData();
             for (ConditionalRoute route : routes) {
-                when(evaluator.evaluateConditional(route.getCondition(), eventMatchingAllRoutes))
+                when(compiledConditions.get(route).evaluateConditional(eventMatchingAllRoutes))
                         .thenReturn(true);
 
                 for (Record record : records) {
                     if(recordMatchingAllRoutes == record)
                         continue;
 
-                    when(evaluator.evaluateConditional(route.getCondition(), (Event) record.getData()))
+                    when(compiledConditions.get(route).evaluateConditional((Event) record.getData()))
                             .thenThrow(RuntimeException.class);
                 }
             }
 
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
+            final RouteEventEvaluator objectUnderTest = createObjectUnderTest();
+            final RouteMatches routeMatches = objectUnderTest.evaluateEventRoutes(records);
+
+            assertThat(routeMatches, notNullValue());
+
+            assertRecords(routeMatches, records);
+            for (int i = 0; i < records.size(); i++) {
+                assertMatchedRoutes(objectUnderTest, routeMatches, i,
+                        records.get(i) == recordMatchingAllRoutes ? allRouteNames : Collections.emptySet());
+            }
+        }
+
+        @Test
+        void evaluateEventRoutes_evaluates_each_route_for_all_events_before_the_next_route() {
+            final List<Record> records = createEventRecords();
+
+            createObjectUnderTest().evaluateEventRoutes(records);
+
+            final InOrder inOrder = inOrder(compiledConditions.values().toArray());
+            for (final ConditionalRoute route : routes) {
+                for (final Record record : records) {
+                    inOrder.verify(compiledConditions.get(route)).evaluateConditional((Event) record.getData());
+                }
+            }
+        }
+
+        @Test
+        void createRouteMask_ignores_unknown_route_names() {
+            final List<Record> records = createEventRecords();
+            for (final CompiledExpression compiledCondition : compiledConditions.values()) {
+                for (final Record record : records) {
+                    when(compiledCondition.evaluateConditional((Event) record.getData())).thenReturn(true);
+                }
+            }
 
-            assertThat(recordsToRoutes, notNullValue());
+            final RouteEventEvaluator objectUnderTest = createObjectUnderTest();
+            final RouteMatches routeMatches = objectUnderTest.evaluateEventRoutes(records);
 
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
+            final long[] routeMask = objectUnderTest.createRouteMask(Collections.singleton(UUID.randomUUID().toString()));
+            for (int i = 0; i < records.size(); i++) {
+                assertThat(routeMatches.matchesAny(i, routeMask), is(false));
             }
+        }
 
-            final Set<String> actualRoutes = recordsToRoutes.get(recordMatchingAllRoutes);
-            assertThat(actualRoutes.size(), equalTo(routes.size()));
-            assertThat(actualRoutes, equalTo(allRouteNames));
+        @Test
+        void constructor_compiles_each_route_condition_once() {
+            final RouteEventEvaluator objectUnderTest = createObjectUnderTest();
+            objectUnderTest.evaluateEventRoutes(createEventRecords());
+            objectUnderTest.evaluateEventRoutes(createEventRecords());
 
-            for (Map.Entry<Record, Set<String>> recordSetEntry : recordsToRoutes.entrySet()) {
-                if(recordSetEntry.getKey() == recordMatchingAllRoutes)
-                    continue;
+            for (final ConditionalRoute route : routes) {
+                verify(evaluator).compile(route.getCondition());
+            }
+            verifyNoMoreInteractions(evaluator);
+        }
 
-                assertThat(recordSetEntry.getValue(), is(empty()));
+        private void assertMatchedRoutes(final RouteEventEvaluator objectUnderTest, final RouteMatches routeMatches,
+                                         final int recordIndex, final Set<String> expectedRouteNames) {
+            for (final String routeName : allRouteNames) {
+                final long[] routeMask = objectUnderTest.createRouteMask(Collections.singleton(routeName));
+                assertThat(routeMatches.matchesAny(recordIndex, routeMask), equalTo(expectedRouteNames.contains(routeName)));
             }
+            assertThat(routeMatches.matchesAny(recordIndex, objectUnderTest.createRouteMask(allRouteNames)),
+                    equalTo(!expectedRouteNames.isEmpty()));
+        }
+    }
+
+    @Nested
+    @MockitoSettings(strictness = Strictness.LENIENT)
+    class WithRoutesSharingAName {
+        private String routeName;
+        private CompiledExpression firstCondition;
+        private CompiledExpression secondCondition;
+
+        @BeforeEach
+        void setUp() {
+            routeName = UUID.randomUUID().toString();
+            final ConditionalRoute firstRoute = new ConditionalRoute(routeName, UUID.randomUUID().toString());
+            final ConditionalRoute secondRoute = new ConditionalRoute(routeName, UUID.randomUUID().toString());
+            routes = List.of(firstRoute, secondRoute);
+
+            firstCondition = mock(CompiledExpression.class);
+            secondCondition = mock(CompiledExpression.class);
+            when(evaluator.compile(firstRoute.getCondition())).thenReturn(firstCondition);
+            when(evaluator.compile(secondRoute.getCondition())).thenReturn(secondCondition);
         }
 
+        @Test
+        void createRouteMask_selects_every_route_with_the_name() {
+            final List<Record> records = createEventRecords();
+            when(firstCondition.evaluateConditional((Event) records.get(0).getData())).thenReturn(true);
+            when(secondCondition.evaluateConditional((Event) records.get(1).getData())).thenReturn(true);
+
+            final RouteEventEvaluator objectUnderTest = createObjectUnderTest();
+            final RouteMatches routeMatches = objectUnderTest.evaluateEventRoutes(records);
+
+            final long[] routeMask = objectUnderTest.createRouteMask(Collections.singleton(routeName));
+            assertThat(routeMatches.matchesAny(0, routeMask), is(true));
+            assertThat(routeMatches.matchesAny(1, routeMask), is(true));
+            assertThat(routeMatches.matchesAny(2, routeMask), is(false));
+        }
+    }
+
+    private static void assertRecords(final RouteMatches routeMatches, final List<Record> records) {
+        assertThat(routeMatches.size(), equalTo(records.size()));
+        for (int i = 0; i < records.size(); i++) {
+            assertThat(routeMatches.getRecord(i), sameInstance(records.get(i)));
+        }
     }
 
     private List<Record> createEventRecords() {
@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline.router;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RouteMatchesTest {
+    private static final int ROUTE_COUNT = 130;
+
+    private Record[] records;
+
+    private RouteMatches createObjectUnderTest() {
+        records = new Record[] {mock(Record.class), mock(Record.class), mock(Record.class)};
+        return new RouteMatches(records, ROUTE_COUNT);
+    }
+
+    @Test
+    void size_and_getRecord_return_the_records() {
+        final RouteMatches objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.size(), equalTo(records.length));
+        for (int i = 0; i < records.length; i++) {
+            assertThat(objectUnderTest.getRecord(i), sameInstance(records[i]));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 63, 64, 65, 127, 128, 129})
+    void matchesAny_returns_true_only_for_the_record_and_route_which_matched(final int routeIndex) {
+        final RouteMatches objectUnderTest = createObjectUnderTest();
+        objectUnderTest.addMatch(1, routeIndex);
+
+        final long[] matchingMask = RouteMatches.createRouteMask(ROUTE_COUNT, Collections.singletonList(routeIndex));
+        assertThat(objectUnderTest.matchesAny(0, matchingMask), is(false));
+        assertThat(objectUnderTest.matchesAny(1, matchingMask), is(true));
+        assertThat(objectUnderTest.matchesAny(2, matchingMask), is(false));
+
+        final int otherRouteIndex = (routeIndex + 1) % ROUTE_COUNT;
+        final long[] otherMask = RouteMatches.createRouteMask(ROUTE_COUNT, Collections.singletonList(otherRouteIndex));
+        assertThat(objectUnderTest.matchesAny(1, otherMask), is(false));
+    }
+
+    @Test
+    void matchesAny_returns_true_when_any_route_in_the_mask_matched() {
+        final RouteMatches objectUnderTest = createObjectUnderTest();
+        objectUnderTest.addMatch(0, 100);
+
+        final long[] routeMask = RouteMatches.createRouteMask(ROUTE_COUNT, List.of(3, 100, 129));
+
+        assertThat(objectUnderTest.matchesAny(0, routeMask), is(true));
+        assertThat(objectUnderTest.matchesAny(1, routeMask), is(false));
+    }
+
+    @Test
+    void matchesAny_with_no_routes_returns_false() {
+        final RouteMatches objectUnderTest = new RouteMatches(new Record[] {mock(Record.class)}, 0);
+
+        assertThat(objectUnderTest.matchesAny(0, RouteMatches.createRouteMask(0, Collections.emptyList())), is(false));
+    }
+}
@@ -31,6 +31,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.ArgumentMatchers.any;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.CoreMatchers.sameInstance;
@@ -44,7 +45,6 @@ import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.event.EventFactory;
 import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.model.event.EventBuilder;
-import org.opensearch.dataprepper.model.event.EventMetadata;
 import org.opensearch.dataprepper.event.DefaultEventHandle;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
@@ -248,11 +248,6 @@ public class RouterCopyRecordStrategyTests {
             }).when(acknowledgementSet1).add(any(JacksonEvent.class));
         } catch (Exception e){}
 
-        eventBuilder = mock(EventBuilder.class);
-        when(eventBuilder.withEventMetadata(any(EventMetadata.class))).thenReturn(eventBuilder);
-        when(eventBuilder.withData(any(Map.class))).thenReturn(eventBuilder);
-        when(eventBuilder.build()).thenReturn(JacksonEvent.fromEvent(event));
-        when(eventFactory.eventBuilder(EventBuilder.class)).thenReturn(eventBuilder);
         Record firstRecord = recordsIn.iterator().next();
         EventHandle firstHandle = ((Event)firstRecord.getData()).getEventHandle();
         Record recordOut = getRecordStrategy.getRecord(firstRecord);
@@ -265,6 +260,8 @@ public class RouterCopyRecordStrategyTests {
         assertTrue(getRecordStrategy.getReferencedRecords().contains(recordOut));
         assertThat(newHandle, not(equalTo(null)));
         assertFalse(handleRefCount.containsKey(newHandle));
+        assertThat(((JacksonEvent)recordOut.getData()).toMap(), equalTo(event.toMap()));
+        verifyNoInteractions(eventFactory);
     }
 
     @Test
@@ -286,11 +283,6 @@ public class RouterCopyRecordStrategyTests {
             }).when(acknowledgementSet1).add(any(JacksonEvent.class));
         } catch (Exception e){}
 
-        eventBuilder = mock(EventBuilder.class);
-        when(eventBuilder.withEventMetadata(any(EventMetadata.class))).thenReturn(eventBuilder);
-        when(eventBuilder.withData(any(Map.class))).thenReturn(eventBuilder);
-        when(eventBuilder.build()).thenReturn(JacksonEvent.fromEvent(event));
-        when(eventFactory.eventBuilder(EventBuilder.class)).thenReturn(eventBuilder);
         Collection<Record> recordsOut = getRecordStrategy.getAllRecords(recordsIn);
         assertThat(recordsOut.size(), equalTo(recordsIn.size()));
 
@@ -310,5 +302,6 @@ public class RouterCopyRecordStrategyTests {
             JacksonEvent e = (JacksonEvent)record.getData();
             assertFalse(handleRefCount.containsKey(e.getEventHandle()));
         });
+        verifyNoInteractions(eventFactory);
     }
 }
@@ -17,15 +17,14 @@ import org.opensearch.dataprepper.parser.DataFlowComponent;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiConsumer;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -98,17 +97,15 @@ class RouterTest {
     @Nested
     class WithEmptyRecords {
 
-        private Map<Record, Set<String>> recordsToRoutes;
+        private RouteMatches routeMatches;
 
         @BeforeEach
         void setUp() {
             recordsIn = Collections.emptyList();
             dataFlowComponents = Collections.emptyList();
 
-            recordsToRoutes = Collections.singletonMap(
-                    mock(Record.class), Collections.singleton(UUID.randomUUID().toString())
-            );
-            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordsToRoutes);
+            routeMatches = mock(RouteMatches.class);
+            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(routeMatches);
         }
 
         @Test
@@ -121,15 +118,20 @@ class RouterTest {
             DataFlowComponent<TestComponent> dataFlowComponent = mock(DataFlowComponent.class);
             dataFlowComponents = Collections.singletonList(dataFlowComponent);
 
+            final long[] routeMask = new long[1];
+            when(routeEventEvaluator.createRouteMask(dataFlowComponent.getRoutes())).thenReturn(routeMask);
+
             createObjectUnderTest().route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
 
-            verify(dataFlowComponentRouter).route(recordsIn, dataFlowComponent, recordsToRoutes, getRecordStrategy, componentRecordsConsumer);
+            verify(dataFlowComponentRouter).route(recordsIn, dataFlowComponent, routeMatches, routeMask, getRecordStrategy, componentRecordsConsumer);
         }
 
         @Test
         void route_with_multiple_DataFlowComponents() {
 
             dataFlowComponents = new ArrayList<>();
+            final long[] routeMask = new long[1];
+            when(routeEventEvaluator.createRouteMask(any())).thenReturn(routeMask);
             for (int i = 0; i < 5; i++) {
                 final DataFlowComponent dataFlowComponent = mock(DataFlowComponent.class);
                 dataFlowComponents.add(dataFlowComponent);
@@ -138,7 +140,7 @@ class RouterTest {
             createObjectUnderTest().route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
 
             for (DataFlowComponent<TestComponent> dataFlowComponent : dataFlowComponents) {
-                verify(dataFlowComponentRouter).route(recordsIn, dataFlowComponent, recordsToRoutes, getRecordStrategy, componentRecordsConsumer);
+                verify(dataFlowComponentRouter).route(recordsIn, dataFlowComponent, routeMatches, routeMask, getRecordStrategy, componentRecordsConsumer);
             }
         }
     }
@@ -146,7 +148,7 @@ class RouterTest {
     @Nested
     class WithRecords {
 
-        private Map<Record, Set<String>> recordsToRoutes;
+        private RouteMatches routeMatches;
 
         @BeforeEach
         void setUp() {
@@ -156,10 +158,8 @@ class RouterTest {
             ;
             dataFlowComponents = Collections.emptyList();
 
-            recordsToRoutes = recordsIn
-                    .stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(UUID.randomUUID().toString())));
-            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordsToRoutes);
+            routeMatches = mock(RouteMatches.class);
+            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(routeMatches);
         }
 
         @Test
@@ -167,15 +167,20 @@ class RouterTest {
             DataFlowComponent<TestComponent> dataFlowComponent = mock(DataFlowComponent.class);
             dataFlowComponents = Collections.singletonList(dataFlowComponent);
 
+            final long[] routeMask = new long[1];
+            when(routeEventEvaluator.createRouteMask(dataFlowComponent.getRoutes())).thenReturn(routeMask);
+
             createObjectUnderTest().route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
 
-            verify(dataFlowComponentRouter).route(recordsIn, dataFlowComponent, recordsToRoutes, getRecordStrategy, componentRecordsConsumer);
+            verify(dataFlowComponentRouter).route(recordsIn, dataFlowComponent, routeMatches, routeMask, getRecordStrategy, componentRecordsConsumer);
         }
 
         @Test
         void route_with_multiple_DataFlowComponents() {
 
             dataFlowComponents = new ArrayList<>();
+            final long[] routeMask = new long[1];
+            when(routeEventEvaluator.createRouteMask(any())).thenReturn(routeMask);
             for (int i = 0; i < 5; i++) {
                 final DataFlowComponent dataFlowComponent = mock(DataFlowComponent.class);
                 dataFlowComponents.add(dataFlowComponent);
@@ -184,7 +189,7 @@ class RouterTest {
             createObjectUnderTest().route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
 
             for (DataFlowComponent<TestComponent> dataFlowComponent : dataFlowComponents) {
-                verify(dataFlowComponentRouter).route(recordsIn, dataFlowComponent, recordsToRoutes, getRecordStrategy, componentRecordsConsumer);
+                verify(dataFlowComponentRouter).route(recordsIn, dataFlowComponent, routeMatches, routeMask, getRecordStrategy, componentRecordsConsumer);
             }
         }
 
@@ -195,8 +200,28 @@ class RouterTest {
             for (int i = 0; i < 5; i++) {
                 dataFlowComponents.add(dataFlowComponent);
             }
+            final long[] routeMask = new long[1];
+            when(routeEventEvaluator.createRouteMask(dataFlowComponent.getRoutes())).thenReturn(routeMask);
             createObjectUnderTest().route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
-            verify(dataFlowComponentRouter, times(5)).route(recordsIn, dataFlowComponent, recordsToRoutes, getRecordStrategy, componentRecordsConsumer);
+            verify(dataFlowComponentRouter, times(5)).route(recordsIn, dataFlowComponent, routeMatches, routeMask, getRecordStrategy, componentRecordsConsumer);
+            verify(routeEventEvaluator).createRouteMask(dataFlowComponent.getRoutes());
+        }
+
+        @Test
+        void route_creates_the_route_mask_of_each_DataFlowComponent_once() {
+            final DataFlowComponent<TestComponent> dataFlowComponent = mock(DataFlowComponent.class);
+            final Set<String> routes = Collections.singleton(UUID.randomUUID().toString());
+            when(dataFlowComponent.getRoutes()).thenReturn(routes);
+            dataFlowComponents = Collections.singletonList(dataFlowComponent);
+            final long[] routeMask = new long[1];
+            when(routeEventEvaluator.createRouteMask(routes)).thenReturn(routeMask);
+
+            final Router objectUnderTest = createObjectUnderTest();
+            objectUnderTest.route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
+            objectUnderTest.route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
+
+            verify(routeEventEvaluator).createRouteMask(routes);
+            verify(dataFlowComponentRouter, times(2)).route(recordsIn, dataFlowComponent, routeMatches, routeMask, getRecordStrategy, componentRecordsConsumer);
         }
     }
 }
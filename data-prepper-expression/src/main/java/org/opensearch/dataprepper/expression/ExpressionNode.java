@@ -0,0 +1,38 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * @since 2.4
+ * Node of a compiled expression tree. Nodes are immutable so a compiled tree can be evaluated from multiple threads.
+ */
+@FunctionalInterface
+interface ExpressionNode {
+    Object evaluate(final Event event);
+
+    /**
+     * @return true if this node evaluates to the same value for every event
+     */
+    default boolean isConstant() {
+        return false;
+    }
+
+    static ExpressionNode constant(final Object value) {
+        return new ExpressionNode() {
+            @Override
+            public Object evaluate(final Event event) {
+                return value;
+            }
+
+            @Override
+            public boolean isConstant() {
+                return true;
+            }
+        };
+    }
+}
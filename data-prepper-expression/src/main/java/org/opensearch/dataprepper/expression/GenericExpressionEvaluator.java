@@ -5,6 +5,9 @@
 
 package org.opensearch.dataprepper.expression;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.opensearch.dataprepper.model.event.Event;
 
@@ -14,16 +17,24 @@ import javax.inject.Named;
 /**
  * Public class that {@link org.opensearch.dataprepper.model.processor.Processor},
  * {@link org.opensearch.dataprepper.model.sink.Sink} and data-prepper-core objects can use to evaluate statements.
+ * The statements most recently evaluated are kept compiled, up to {@link #MAX_COMPILED_EXPRESSIONS}, so that statements
+ * built for each event do not grow the cache without bound.
  */
 @Named
 class GenericExpressionEvaluator implements ExpressionEvaluator {
+    static final int MAX_COMPILED_EXPRESSIONS = 1000;
+
     private final Parser<ParseTree> parser;
-    private final Evaluator<ParseTree, Event> evaluator;
+    private final ParseTreeCompiler compiler;
+    private final LoadingCache<String, CompiledExpression> compiledExpressions;
 
     @Inject
-    public GenericExpressionEvaluator(final Parser<ParseTree> parser, final Evaluator<ParseTree, Event> evaluator) {
+    public GenericExpressionEvaluator(final Parser<ParseTree> parser, final ParseTreeCompiler compiler) {
         this.parser = parser;
-        this.evaluator = evaluator;
+        this.compiler = compiler;
+        compiledExpressions = CacheBuilder.newBuilder()
+                .maximumSize(MAX_COMPILED_EXPRESSIONS)
+                .build(CacheLoader.from(this::compile));
     }
 
     /**
@@ -33,12 +44,31 @@ class GenericExpressionEvaluator implements ExpressionEvaluator {
      */
     @Override
     public Object evaluate(final String statement, final Event context) {
+        return compiledExpressions.getUnchecked(statement).evaluate(context);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * A statement which cannot be parsed returns an expression which throws {@link ExpressionEvaluationException} each
+     * time it is evaluated, the same as {@link #evaluate(String, Event)} does.
+     */
+    @Override
+    public CompiledExpression compile(final String statement) {
+        final ExpressionNode expressionNode;
         try {
-            final ParseTree parseTree = parser.parse(statement);
-            return evaluator.evaluate(parseTree, context);
-        }
-        catch (final Exception exception) {
-            throw new ExpressionEvaluationException("Unable to evaluate statement \"" + statement + "\"", exception);
+            expressionNode = compiler.compile(parser.parse(statement));
+        } catch (final Exception exception) {
+            return context -> {
+                throw new ExpressionEvaluationException("Unable to evaluate statement \"" + statement + "\"", exception);
+            };
         }
+        return context -> {
+            try {
+                return expressionNode.evaluate(context);
+            } catch (final Exception exception) {
+                throw new ExpressionEvaluationException("Unable to evaluate statement \"" + statement + "\"", exception);
+            }
+        };
     }
 }
@@ -5,7 +5,8 @@
 
 package org.opensearch.dataprepper.expression;
 
-import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.antlr.v4.runtime.tree.TerminalNode;
 import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
 
@@ -15,6 +16,7 @@ import java.io.Serializable;
 import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.function.Function;
 
 @Named
@@ -36,7 +38,15 @@ class ParseTreeCoercionService {
         this.expressionFunctionProvider = expressionFunctionProvider;
     }
 
-    public Object coercePrimaryTerminalNode(final TerminalNode node, final Event event) {
+    /**
+     * @since 2.4
+     * Coerces everything about a primary terminal node which does not depend on an event, so that the returned node
+     * only has to resolve Json Pointers and functions when it is evaluated.
+     *
+     * @param node primary terminal node
+     * @return a constant node for literals, otherwise a node which resolves the value from an event
+     */
+    public ExpressionNode compilePrimaryTerminalNode(final TerminalNode node) {
         final int nodeType = node.getSymbol().getType();
         final String nodeStringValue = node.getText();
         switch (nodeType) {
@@ -60,27 +70,28 @@ class ParseTreeCoercionService {
                         throw new RuntimeException("Unsupported type passed as function argument");
                     }
                 }
-                return expressionFunctionProvider.provideFunction(functionName, argList, event, convertLiteralType);
+                final List<Object> functionArgs = Collections.unmodifiableList(argList);
+                return event -> expressionFunctionProvider.provideFunction(functionName, functionArgs, event, convertLiteralType);
             case DataPrepperExpressionParser.EscapedJsonPointer:
                 final String jsonPointerWithoutQuotes = nodeStringValue.substring(1, nodeStringValue.length() - 1);
-                return resolveJsonPointerValue(jsonPointerWithoutQuotes, event);
+                return compileJsonPointer(jsonPointerWithoutQuotes);
             case DataPrepperExpressionParser.JsonPointer:
-                return resolveJsonPointerValue(nodeStringValue, event);
+                return compileJsonPointer(nodeStringValue);
             case DataPrepperExpressionParser.String:
                 final String nodeStringValueWithQuotesStripped = nodeStringValue.substring(1, nodeStringValue.length() - 1);
-                return nodeStringValueWithQuotesStripped;
+                return ExpressionNode.constant(nodeStringValueWithQuotesStripped);
             case DataPrepperExpressionParser.Integer:
                 Long longValue = Long.valueOf(nodeStringValue);
                 if (longValue > Integer.MAX_VALUE || longValue < Integer.MIN_VALUE) {
-                    return longValue;
+                    return ExpressionNode.constant(longValue);
                 }
-                return Integer.valueOf(nodeStringValue);
+                return ExpressionNode.constant(Integer.valueOf(nodeStringValue));
             case DataPrepperExpressionParser.Float:
-                return Float.valueOf(nodeStringValue);
+                return ExpressionNode.constant(Float.valueOf(nodeStringValue));
             case DataPrepperExpressionParser.Boolean:
-                return Boolean.valueOf(nodeStringValue);
+                return ExpressionNode.constant(Boolean.valueOf(nodeStringValue));
             case DataPrepperExpressionParser.Null:
-                return null;
+                return ExpressionNode.constant(null);
             default:
                 throw new ExpressionCoercionException("Unsupported terminal node type symbol string: " +
                         DataPrepperExpressionParser.VOCABULARY.getDisplayName(nodeType));
@@ -94,11 +105,25 @@ class ParseTreeCoercionService {
         throw new ExpressionCoercionException("Unable to cast " + obj.getClass().getName() + " into " + clazz.getName());
     }
 
-    private Object resolveJsonPointerValue(final String jsonPointer, final Event event) {
-        final Object value = event.get(jsonPointer, Object.class);
+    /**
+     * Creates the {@link EventKey} of a Json Pointer once, so that it is not validated and parsed again for every
+     * event. Json Pointers which are not valid event keys, such as escaped pointers with special characters, are
+     * resolved by their string value.
+     */
+    private ExpressionNode compileJsonPointer(final String jsonPointer) {
+        final EventKey eventKey;
+        try {
+            eventKey = EventKeyFactory.create(jsonPointer);
+        } catch (final IllegalArgumentException e) {
+            return event -> convertValue(event.get(jsonPointer, Object.class));
+        }
+        return event -> convertValue(event.get(eventKey, Object.class));
+    }
+
+    private Object convertValue(final Object value) {
         if (value == null) {
             return null;
-        } 
+        }
         return convertLiteralType.apply(value);
     }
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+/**
+ * @since 2.4
+ * Compiles a {@link ParseTree} into an {@link ExpressionNode} tree which can be evaluated against many events without
+ * walking the {@link ParseTree} again.
+ */
+@Named
+class ParseTreeCompiler {
+    private final OperatorProvider operatorProvider;
+    private final ParseTreeWalker walker;
+    private final ParseTreeCoercionService coercionService;
+
+    @Inject
+    public ParseTreeCompiler(final OperatorProvider operatorProvider, final ParseTreeWalker walker,
+                             final ParseTreeCoercionService coercionService) {
+        this.operatorProvider = operatorProvider;
+        this.walker = walker;
+        this.coercionService = coercionService;
+    }
+
+    public ExpressionNode compile(final ParseTree parseTree) {
+        final ParseTreeCompilerListener listener = new ParseTreeCompilerListener(operatorProvider, coercionService);
+        walker.walk(listener, parseTree);
+        return listener.getResult();
+    }
+}
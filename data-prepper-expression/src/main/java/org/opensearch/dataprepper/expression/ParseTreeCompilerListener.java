@@ -5,7 +5,6 @@
 
 package org.opensearch.dataprepper.expression;
 
-import org.opensearch.dataprepper.model.event.Event;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.ErrorNode;
@@ -17,38 +16,36 @@ import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
 import java.util.Stack;
 
 /**
- * @since 1.3
- * This listener implements {@link DataPrepperExpressionListener} to provide callbacks to handle evaluation of
- * {@link org.antlr.v4.runtime.tree.ParseTree} representation of an expression while {@link org.antlr.v4.runtime.tree.ParseTreeWalker}
- * traverses through the {@link org.antlr.v4.runtime.tree.ParseTree}.
+ * @since 2.4
+ * This listener implements {@link DataPrepperExpressionListener} to build a tree of {@link ExpressionNode} from the
+ * {@link org.antlr.v4.runtime.tree.ParseTree} representation of an expression while
+ * {@link org.antlr.v4.runtime.tree.ParseTreeWalker} traverses through the {@link org.antlr.v4.runtime.tree.ParseTree}.
+ * Operations whose operands are all constant are evaluated once while compiling.
  *
  * Use case:
  * ParseTreeWalker walker = new ParseTreeWalker();
- * ParseTreeEvaluatorListener listener = new ParseTreeEvaluatorListener(...);
+ * ParseTreeCompilerListener listener = new ParseTreeCompilerListener(...);
  * walker.walk(listener, ...);
- * final Object result = listener.getResult();
+ * final ExpressionNode result = listener.getResult();
  */
-class ParseTreeEvaluatorListener extends DataPrepperExpressionBaseListener {
+class ParseTreeCompilerListener extends DataPrepperExpressionBaseListener {
 
     private final OperatorProvider operatorProvider;
     private final ParseTreeCoercionService coercionService;
     private final Stack<Integer> operatorSymbolStack;
-    private final Stack<Object> operandStack;
-    private final Event event;
+    private final Stack<ExpressionNode> operandStack;
 
-    public ParseTreeEvaluatorListener(final OperatorProvider operatorProvider,
-                                      final ParseTreeCoercionService coercionService,
-                                      final Event event) {
+    public ParseTreeCompilerListener(final OperatorProvider operatorProvider,
+                                     final ParseTreeCoercionService coercionService) {
         this.coercionService = coercionService;
         this.operatorProvider = operatorProvider;
-        this.event = event;
         operatorSymbolStack = new Stack<>();
         operandStack = new Stack<>();
     }
 
-    public Object getResult() {
+    public ExpressionNode getResult() {
         if (operandStack.size() != 1) {
-            throw new IllegalStateException("The ParseTreeEvaluatorListener has not been walked through exactly once by " +
+            throw new IllegalStateException("The ParseTreeCompilerListener has not been walked through exactly once by " +
                     "a ParseTreeWalker.");
         }
         return operandStack.peek();
@@ -66,8 +63,7 @@ class ParseTreeEvaluatorListener extends DataPrepperExpressionBaseListener {
             // pop LPAREN at operatorSymbolStack top
             operatorSymbolStack.pop();
         } else {
-            final Object arg = coercionService.coercePrimaryTerminalNode(node, event);
-            operandStack.push(arg);
+            operandStack.push(coercionService.compilePrimaryTerminalNode(node));
         }
     }
 
@@ -84,25 +80,42 @@ class ParseTreeEvaluatorListener extends DataPrepperExpressionBaseListener {
                 final Operator<?> op = operatorProvider.getOperator(operatorSymbol);
                 if (op.shouldEvaluate(ctx)) {
                     operatorSymbolStack.pop();
-                    try {
-                        performSingleOperation(op, ctx);
-                    } catch (final Exception e) {
-                        throw new ExpressionEvaluationException("Unable to evaluate the part of input statement: "
-                                + getPartialStatementFromContext(ctx), e);
-                    }
+                    operandStack.push(compileSingleOperation(op, ctx));
                 }
             }
         }
     }
 
-    private void performSingleOperation(final Operator<?> operator, final ParserRuleContext ctx) {
+    private ExpressionNode compileSingleOperation(final Operator<?> operator, final ParserRuleContext ctx) {
         final int numOfArgs = operator.getNumberOfOperands(ctx);
-        final Object[] args = new Object[numOfArgs];
+        final ExpressionNode[] operands = new ExpressionNode[numOfArgs];
+        boolean allOperandsConstant = true;
         for (int i = numOfArgs - 1; i >= 0; i--) {
-            args[i] = operandStack.pop();
+            operands[i] = operandStack.pop();
+            allOperandsConstant &= operands[i].isConstant();
         }
-        final Object result = operator.evaluate(args);
-        operandStack.push(result);
+        final String partialStatement = getPartialStatementFromContext(ctx);
+        final ExpressionNode operation = event -> {
+            final Object[] args = new Object[operands.length];
+            for (int i = 0; i < operands.length; i++) {
+                args[i] = operands[i].evaluate(event);
+            }
+            try {
+                return operator.evaluate(args);
+            } catch (final Exception e) {
+                throw new ExpressionEvaluationException("Unable to evaluate the part of input statement: "
+                        + partialStatement, e);
+            }
+        };
+        if (allOperandsConstant) {
+            try {
+                return ExpressionNode.constant(operation.evaluate(null));
+            } catch (final ExpressionEvaluationException e) {
+                // Leave the failure to be reported each time the expression is evaluated.
+                return operation;
+            }
+        }
+        return operation;
     }
 
     private String getPartialStatementFromContext(final ParserRuleContext ctx) {
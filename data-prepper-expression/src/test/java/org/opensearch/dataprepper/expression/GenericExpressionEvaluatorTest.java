@@ -16,7 +16,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.UUID;
 import java.util.Random;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,7 +35,9 @@ class GenericExpressionEvaluatorTest {
     @Mock
     private Parser<ParseTree> parser;
     @Mock
-    private Evaluator<ParseTree, Event> evaluator;
+    private ParseTreeCompiler compiler;
+    @Mock
+    private ExpressionNode expressionNode;
     @InjectMocks
     private GenericExpressionEvaluator statementEvaluator;
 
@@ -45,25 +49,47 @@ class GenericExpressionEvaluatorTest {
         final String expectedStr = UUID.randomUUID().toString();
 
         doReturn(parseTree).when(parser).parse(eq(statement));
-        doReturn(expectedStr).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(expressionNode).when(compiler).compile(eq(parseTree));
+        doReturn(expectedStr).when(expressionNode).evaluate(eq(event));
 
         final Object actualStr = statementEvaluator.evaluate(statement, event);
 
         assertThat((String)actualStr, is(expectedStr));
         verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(expressionNode).evaluate(eq(event));
 
         final Random random = new Random();
         final Integer expectedInt = random.nextInt(1000);
 
-        doReturn(parseTree).when(parser).parse(eq(statement));
-        doReturn(expectedInt).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(expectedInt).when(expressionNode).evaluate(eq(event));
 
         final Object actualInt = statementEvaluator.evaluate(statement, event);
 
         assertThat((Integer)actualInt, is(expectedInt));
-        verify(parser, times(2)).parse(eq(statement));
-        verify(evaluator, times(2)).evaluate(eq(parseTree), eq(event));
+        verify(parser).parse(eq(statement));
+        verify(compiler).compile(eq(parseTree));
+        verify(expressionNode, times(2)).evaluate(eq(event));
+    }
+
+    @Test
+    void testLeastRecentlyEvaluatedStatementsAreCompiledAgainOnceTheCacheIsFull() {
+        final String firstStatement = UUID.randomUUID().toString();
+        final String secondStatement = UUID.randomUUID().toString();
+        final Event event = mock(Event.class);
+
+        doReturn(expressionNode).when(compiler).compile(any());
+
+        statementEvaluator.evaluate(firstStatement, event);
+        statementEvaluator.evaluate(secondStatement, event);
+        // The cache evicts per segment, so enough statements are evaluated to fill every segment
+        for (int i = 0; i < GenericExpressionEvaluator.MAX_COMPILED_EXPRESSIONS * 4; i++) {
+            statementEvaluator.evaluate(UUID.randomUUID().toString(), event);
+            statementEvaluator.evaluate(secondStatement, event);
+        }
+        statementEvaluator.evaluate(firstStatement, event);
+
+        verify(parser, times(2)).parse(eq(firstStatement));
+        verify(parser).parse(eq(secondStatement));
     }
 
     @Test
@@ -75,7 +101,7 @@ class GenericExpressionEvaluatorTest {
         assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluate(statement, null));
 
         verify(parser).parse(eq(statement));
-        verify(evaluator, times(0)).evaluate(any(), any());
+        verify(compiler, times(0)).compile(any());
     }
 
     @Test
@@ -85,13 +111,48 @@ class GenericExpressionEvaluatorTest {
         final Event event = mock(Event.class);
 
         doReturn(parseTree).when(parser).parse(eq(statement));
-        doThrow(new RuntimeException()).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(expressionNode).when(compiler).compile(eq(parseTree));
+        doThrow(new RuntimeException()).when(expressionNode).evaluate(eq(event));
 
         assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluateConditional(statement, event));
 
         verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(expressionNode).evaluate(eq(event));
     }
 
-}
+    @Test
+    void testCompileReturnsExpressionWhichEvaluatesWithoutParsingAgain() {
+        final String statement = UUID.randomUUID().toString();
+        final ParseTree parseTree = mock(ParseTree.class);
+        final Event event = mock(Event.class);
+        final Object expected = mock(Object.class);
+
+        doReturn(parseTree).when(parser).parse(eq(statement));
+        doReturn(expressionNode).when(compiler).compile(eq(parseTree));
+        doReturn(expected).when(expressionNode).evaluate(eq(event));
+
+        final CompiledExpression compiledExpression = statementEvaluator.compile(statement);
+
+        assertThat(compiledExpression.evaluate(event), sameInstance(expected));
+        assertThat(compiledExpression.evaluate(event), sameInstance(expected));
+        verify(parser).parse(eq(statement));
+        verify(compiler).compile(eq(parseTree));
+    }
 
+    @Test
+    void testCompileWithInvalidStatementReturnsExpressionWhichThrowsOnEvaluate() {
+        final String statement = UUID.randomUUID().toString();
+        final RuntimeException parseException = new RuntimeException();
+
+        doThrow(parseException).when(parser).parse(eq(statement));
+
+        final CompiledExpression compiledExpression = statementEvaluator.compile(statement);
+
+        final ExpressionEvaluationException exception = assertThrows(ExpressionEvaluationException.class,
+                () -> compiledExpression.evaluate(mock(Event.class)));
+        assertThat(exception.getCause(), sameInstance(parseException));
+        assertThat(assertThrows(ExpressionEvaluationException.class, () -> compiledExpression.evaluate(mock(Event.class))),
+                instanceOf(ExpressionEvaluationException.class));
+        verify(compiler, times(0)).compile(any());
+    }
+}
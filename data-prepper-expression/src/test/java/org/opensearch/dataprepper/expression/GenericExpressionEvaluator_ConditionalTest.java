@@ -32,7 +32,9 @@ class GenericExpressionEvaluator_ConditionalTest {
     @Mock
     private Parser<ParseTree> parser;
     @Mock
-    private Evaluator<ParseTree, Event> evaluator;
+    private ParseTreeCompiler compiler;
+    @Mock
+    private ExpressionNode expressionNode;
     @InjectMocks
     private GenericExpressionEvaluator statementEvaluator;
 
@@ -44,13 +46,14 @@ class GenericExpressionEvaluator_ConditionalTest {
         final Boolean expected = true;
 
         doReturn(parseTree).when(parser).parse(eq(statement));
-        doReturn(expected).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(expressionNode).when(compiler).compile(eq(parseTree));
+        doReturn(expected).when(expressionNode).evaluate(eq(event));
 
         final Boolean actual = statementEvaluator.evaluateConditional(statement, event);
 
         assertThat(actual, is(expected));
         verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(expressionNode).evaluate(eq(event));
     }
 
     @Test
@@ -61,12 +64,13 @@ class GenericExpressionEvaluator_ConditionalTest {
         final Object result = mock(Object.class);
 
         doReturn(parseTree).when(parser).parse(eq(statement));
-        doReturn(result).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(expressionNode).when(compiler).compile(eq(parseTree));
+        doReturn(result).when(expressionNode).evaluate(eq(event));
 
         assertThrows(ClassCastException.class, () -> statementEvaluator.evaluateConditional(statement, event));
 
         verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(expressionNode).evaluate(eq(event));
     }
 
     @Test
@@ -78,7 +82,7 @@ class GenericExpressionEvaluator_ConditionalTest {
         assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluateConditional(statement, null));
 
         verify(parser).parse(eq(statement));
-        verify(evaluator, times(0)).evaluate(any(), any());
+        verify(compiler, times(0)).compile(any());
     }
 
     @Test
@@ -88,11 +92,12 @@ class GenericExpressionEvaluator_ConditionalTest {
         final Event event = mock(Event.class);
 
         doReturn(parseTree).when(parser).parse(eq(statement));
-        doThrow(new RuntimeException()).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(expressionNode).when(compiler).compile(eq(parseTree));
+        doThrow(new RuntimeException()).when(expressionNode).evaluate(eq(event));
 
         assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluateConditional(statement, event));
 
         verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(expressionNode).evaluate(eq(event));
     }
 }
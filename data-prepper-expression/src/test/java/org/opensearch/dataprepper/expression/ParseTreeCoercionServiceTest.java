@@ -6,6 +6,8 @@
 package org.opensearch.dataprepper.expression;
 
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.antlr.v4.runtime.Token;
@@ -38,6 +40,8 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -64,7 +68,7 @@ class ParseTreeCoercionServiceTest {
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(testNodeStringValue);
         final Event testEvent = createTestEvent(new HashMap<>());
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent);
         assertThat(result, instanceOf(String.class));
         assertThat(result, equalTo(testString));
     }
@@ -76,7 +80,7 @@ class ParseTreeCoercionServiceTest {
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(String.valueOf(testInteger));
         final Event testEvent = createTestEvent(new HashMap<>());
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent);
         assertThat(result, instanceOf(Integer.class));
         assertThat(result, equalTo(testInteger));
     }
@@ -88,12 +92,12 @@ class ParseTreeCoercionServiceTest {
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(String.valueOf(testLong));
         final Event testEvent = createTestEvent(new HashMap<>());
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent);
         assertThat(result, instanceOf(Long.class));
         assertThat(result, equalTo(testLong));
         when(terminalNode.getText()).thenReturn(String.valueOf(-testLong));
         final Event negativeTestEvent = createTestEvent(new HashMap<>());
-        final Object negativeResult = objectUnderTest.coercePrimaryTerminalNode(terminalNode, negativeTestEvent);
+        final Object negativeResult = objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(negativeTestEvent);
         assertThat(negativeResult, instanceOf(Long.class));
         assertThat(negativeResult, equalTo(-testLong));
     }
@@ -105,7 +109,7 @@ class ParseTreeCoercionServiceTest {
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(String.valueOf(testFloat));
         final Event testEvent = createTestEvent(new HashMap<>());
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent);
         assertThat(result, instanceOf(Float.class));
         assertThat(result, equalTo(testFloat));
     }
@@ -117,7 +121,7 @@ class ParseTreeCoercionServiceTest {
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(String.valueOf(testBoolean));
         final Event testEvent = createTestEvent(new HashMap<>());
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent);
         assertThat(result, instanceOf(Boolean.class));
         assertThat(result, equalTo(testBoolean));
     }
@@ -128,7 +132,7 @@ class ParseTreeCoercionServiceTest {
         final Event testEvent = createTestEvent(new HashMap<>());
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(null);
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent);
         assertThat(result, equalTo(null));
     }
 
@@ -143,7 +147,7 @@ class ParseTreeCoercionServiceTest {
         when(token.getType()).thenReturn(DataPrepperExpressionParser.JsonPointer);
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(testJsonPointerKey);
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent);
         if (testValue instanceof Double) {
             assertThat(result, instanceOf(Float.class));
             assertThat(result, equalTo(((Double) testValue).floatValue()));
@@ -163,7 +167,34 @@ class ParseTreeCoercionServiceTest {
         when(token.getType()).thenReturn(DataPrepperExpressionParser.JsonPointer);
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(testJsonPointerKey);
-        assertThrows(ExpressionCoercionException.class, () -> objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent));
+        assertThrows(ExpressionCoercionException.class, () -> objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent));
+    }
+
+    @Test
+    void testCompiledJsonPointerIsResolvedWithAnEventKey() {
+        final String testJsonPointerKey = "/key1/key2";
+        final Event testEvent = mock(Event.class);
+        when(testEvent.get(EventKeyFactory.create(testJsonPointerKey), Object.class)).thenReturn("test value");
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.JsonPointer);
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn(testJsonPointerKey);
+        final ExpressionNode expressionNode = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+
+        assertThat(expressionNode.evaluate(testEvent), equalTo("test value"));
+        assertThat(expressionNode.evaluate(testEvent), equalTo("test value"));
+        verify(testEvent, never()).get(anyString(), any());
+    }
+
+    @Test
+    void testCompiledEscapedJsonPointerWhichIsNotAnEventKeyIsResolvedWithTheString() {
+        final Event testEvent = mock(Event.class);
+        when(testEvent.get("/test key", Object.class)).thenReturn("test value");
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.EscapedJsonPointer);
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn("\"/test key\"");
+
+        assertThat(objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent), equalTo("test value"));
+        verify(testEvent, never()).get(any(EventKey.class), any());
     }
 
     @ParameterizedTest
@@ -175,7 +206,7 @@ class ParseTreeCoercionServiceTest {
         when(token.getType()).thenReturn(DataPrepperExpressionParser.EscapedJsonPointer);
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(testEscapeJsonPointer);
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent);
         assertThat(result, instanceOf(String.class));
         assertThat(result, equalTo(testValue));
     }
@@ -190,7 +221,7 @@ class ParseTreeCoercionServiceTest {
         when(token.getType()).thenReturn(DataPrepperExpressionParser.EscapedJsonPointer);
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(testEscapeJsonPointerKey);
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent);
         if (testValue instanceof Double) {
             assertThat(result, instanceOf(Float.class));
             assertThat(result, equalTo(((Double) testValue).floatValue()));
@@ -209,7 +240,7 @@ class ParseTreeCoercionServiceTest {
         when(token.getType()).thenReturn(DataPrepperExpressionParser.EscapedJsonPointer);
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(testEscapeJsonPointerKey);
-        assertThrows(ExpressionCoercionException.class, () -> objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent));
+        assertThrows(ExpressionCoercionException.class, () -> objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent));
     }
 
     @Test
@@ -217,7 +248,7 @@ class ParseTreeCoercionServiceTest {
         final Event testEvent = createTestEvent(new HashMap<>());
         when(terminalNode.getSymbol()).thenReturn(token);
         when(token.getType()).thenReturn(-1);
-        assertThrows(ExpressionCoercionException.class, () -> objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent));
+        assertThrows(ExpressionCoercionException.class, () -> objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent));
     }
 
     @Test
@@ -243,7 +274,7 @@ class ParseTreeCoercionServiceTest {
         when(terminalNode.getText()).thenReturn("length(/"+key+")");
         when(expressionFunctionProvider.provideFunction(eq("length"), any(List.class), any(Event.class), any(Function.class))).thenReturn(value.length());
         when(token.getType()).thenReturn(DataPrepperExpressionParser.Function);
-        assertThat(objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent), equalTo(value.length()));
+        assertThat(objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent), equalTo(value.length()));
     }
 
     @Test
@@ -256,7 +287,7 @@ class ParseTreeCoercionServiceTest {
         when(terminalNode.getText()).thenReturn("length(\""+testString+")");
         when(expressionFunctionProvider.provideFunction(eq("length"), any(List.class), any(Event.class), any(Function.class))).thenReturn(value.length());
         when(token.getType()).thenReturn(DataPrepperExpressionParser.Function);
-        assertThrows(RuntimeException.class, () -> objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent));
+        assertThrows(RuntimeException.class, () -> objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent));
     }
 
     @Test
@@ -268,7 +299,7 @@ class ParseTreeCoercionServiceTest {
         when(terminalNode.getText()).thenReturn("length(10)");
         when(expressionFunctionProvider.provideFunction(eq("length"), any(List.class), any(Event.class), any(Function.class))).thenReturn(value.length());
         when(token.getType()).thenReturn(DataPrepperExpressionParser.Function);
-        assertThrows(RuntimeException.class, () -> objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent));
+        assertThrows(RuntimeException.class, () -> objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent));
     }
 
     @Test
@@ -280,7 +311,7 @@ class ParseTreeCoercionServiceTest {
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn("length(/"+key2+")");
         when(token.getType()).thenReturn(DataPrepperExpressionParser.Function);
-        assertThat(objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent), equalTo(null));
+        assertThat(objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent), equalTo(null));
     }
 
     @Test
@@ -288,7 +319,7 @@ class ParseTreeCoercionServiceTest {
         when(terminalNode.getSymbol()).thenReturn(token);
         when(token.getType()).thenReturn(DataPrepperExpressionParser.Function);
         when(terminalNode.getText()).thenReturn("xyz(arg1)");
-        assertThrows(RuntimeException.class, () -> objectUnderTest.coercePrimaryTerminalNode(terminalNode, null));
+        assertThrows(RuntimeException.class, () -> objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(null));
     }
 
     private Event createTestEvent(final Object data) {
@@ -304,6 +335,8 @@ class ParseTreeCoercionServiceTest {
             }
             return mapper.treeToValue(childNode, clazz);
         });
+        lenient().when(event.get(any(EventKey.class), any())).thenAnswer(invocation ->
+                event.get(invocation.<EventKey>getArgument(0).getKey(), invocation.getArgument(1)));
         return event;
     }
 
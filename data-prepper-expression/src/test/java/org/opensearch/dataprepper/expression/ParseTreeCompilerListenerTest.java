@@ -30,7 +30,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-class ParseTreeEvaluatorListenerTest {
+class ParseTreeCompilerListenerTest {
     private final ExpressionFunctionProvider expressionFunctionProvider = mock(ExpressionFunctionProvider.class);
     private final Random random = new Random();
     private final ParseTreeWalker walker = new ParseTreeWalker();
@@ -49,33 +49,36 @@ class ParseTreeEvaluatorListenerTest {
             new NotOperator()
     );
     private final OperatorProvider operatorProvider = new OperatorProvider(operators);
-    private ParseTreeEvaluatorListener objectUnderTest;
+    private ParseTreeCompilerListener objectUnderTest;
 
     private ParseTreeParser constructParseTreeParser() {
         final DataPrepperExpressionParser expressionParser = new ParseTreeParserConfiguration().dataPrepperExpressionParser();
         return new ParseTreeParser(expressionParser);
     }
 
-    private ParseTreeEvaluatorListener createObjectUnderTest(final Event event) {
-        return new ParseTreeEvaluatorListener(operatorProvider, coercionService, event);
+    private ParseTreeCompilerListener createObjectUnderTest() {
+        return new ParseTreeCompilerListener(operatorProvider, coercionService);
     }
 
     private Event createTestEvent(final Object data) {
         return JacksonEvent.builder().withEventType("event").withData(data).build();
     }
 
-    private Object evaluateStatementOnEvent(final String statement, final Event event) {
+    private ExpressionNode compileStatement(final String statement) {
         final ParseTree parseTree = parseTreeParser.parse(statement);
-        objectUnderTest = createObjectUnderTest(event);
+        objectUnderTest = createObjectUnderTest();
         walker.walk(objectUnderTest, parseTree);
         return objectUnderTest.getResult();
     }
 
+    private Object evaluateStatementOnEvent(final String statement, final Event event) {
+        return compileStatement(statement).evaluate(event);
+    }
+
     @Test
     void testVisitErrorNode() {
         final ErrorNode errorNode = mock(ErrorNode.class);
-        final Event testEvent = createTestEvent(new HashMap<>());
-        objectUnderTest = createObjectUnderTest(testEvent);
+        objectUnderTest = createObjectUnderTest();
 
         assertThrows(RuntimeException.class, () -> objectUnderTest.visitErrorNode(errorNode));
     }
@@ -83,8 +86,7 @@ class ParseTreeEvaluatorListenerTest {
     @Test
     void testGetResultWithDoubleWalk() {
         final ParseTree testParseTree = parseTreeParser.parse("true");
-        final Event testEvent = createTestEvent(new HashMap<>());
-        objectUnderTest = createObjectUnderTest(testEvent);
+        objectUnderTest = createObjectUnderTest();
         walker.walk(objectUnderTest, testParseTree);
         walker.walk(objectUnderTest, testParseTree);
         assertThrows(IllegalStateException.class, objectUnderTest::getResult);
@@ -354,4 +356,33 @@ class ParseTreeEvaluatorListenerTest {
         final String testNestedParenthesesStatement = "not ((not false) or true)";
         assertThat(evaluateStatementOnEvent(testNestedParenthesesStatement, testEvent), is(false));
     }
+
+    @Test
+    void testOperationsOnConstantOperandsAreFoldedIntoConstants() {
+        final ExpressionNode expressionNode = compileStatement("not (1 < 2 and \"a\" =~ \"[a-z]\") or 3 > 4");
+
+        assertThat(expressionNode.isConstant(), is(true));
+        assertThat(expressionNode.evaluate(null), is(false));
+    }
+
+    @Test
+    void testOperationsOnJsonPointersAreNotFolded() {
+        final String testKey = "testKey";
+        final ExpressionNode expressionNode = compileStatement(String.format("/%s > 1 and true", testKey));
+
+        assertThat(expressionNode.isConstant(), is(false));
+        assertThat(expressionNode.evaluate(createTestEvent(Map.of(testKey, 2))), is(true));
+        assertThat(expressionNode.evaluate(createTestEvent(Map.of(testKey, 0))), is(false));
+    }
+
+    @Test
+    void testConstantOperationWhichFailsIsReportedOnEachEvaluation() {
+        final ExpressionNode expressionNode = compileStatement("1 < true");
+
+        assertThat(expressionNode.isConstant(), is(false));
+        final ExpressionEvaluationException exception = assertThrows(ExpressionEvaluationException.class,
+                () -> expressionNode.evaluate(createTestEvent(new HashMap<>())));
+        assertThat(exception.getMessage(), equalTo("Unable to evaluate the part of input statement: 1 < true"));
+        assertThrows(ExpressionEvaluationException.class, () -> expressionNode.evaluate(createTestEvent(new HashMap<>())));
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.plugins.processor.aggregate.actions.CountAggregateAction;
+import org.opensearch.dataprepper.plugins.processor.aggregate.actions.CountAggregateActionConfig;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handles events for the count action from 8 worker threads, with a share of the events going to a single hot group
+ * and the rest spread over many groups, as with one very busy service or status code. Compares the default
+ * synchronization, where every event of a group takes the group lock, with thread_sharded aggregation. Run with
+ * -t to try other numbers of worker threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class SkewedAggregationBenchmark {
+    private static final String KEY = "service";
+    private static final int NUMBER_OF_COLD_GROUPS = 1000;
+    private static final int EVENTS_PER_THREAD = 4096;
+
+    @State(Scope.Benchmark)
+    public static class AggregationState {
+        @Param({"false", "true"})
+        private boolean threadSharded;
+
+        @Param({"50", "90", "99"})
+        private int hotGroupPercentage;
+
+        private AggregateGroupManager aggregateGroupManager;
+        private AggregateIdentificationKeysHasher aggregateIdentificationKeysHasher;
+        private AggregateActionSynchronizer aggregateActionSynchronizer;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            aggregateGroupManager = new AggregateGroupManager(Duration.ofHours(1));
+            aggregateIdentificationKeysHasher = new AggregateIdentificationKeysHasher(Collections.singletonList(KEY));
+            aggregateActionSynchronizer = new AggregateActionSynchronizer.AggregateActionSynchronizerProvider().provide(
+                    new CountAggregateAction(new CountAggregateActionConfig()), aggregateGroupManager,
+                    PluginMetrics.fromNames("aggregate", "benchmark"), threadSharded);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class WorkerState {
+        private Event[] events;
+        private int nextEvent;
+
+        @Setup(Level.Trial)
+        public void setUp(final AggregationState aggregationState) {
+            final Random random = new Random();
+            events = new Event[EVENTS_PER_THREAD];
+            for (int i = 0; i < EVENTS_PER_THREAD; i++) {
+                final String service = random.nextInt(100) < aggregationState.hotGroupPercentage
+                        ? "hot-service"
+                        : "service-" + random.nextInt(NUMBER_OF_COLD_GROUPS);
+                events[i] = JacksonEvent.builder()
+                        .withEventType("event")
+                        .withData(Collections.singletonMap(KEY, service))
+                        .build();
+            }
+        }
+
+        private Event nextEvent() {
+            final Event event = events[nextEvent];
+            nextEvent = (nextEvent + 1) % EVENTS_PER_THREAD;
+            return event;
+        }
+    }
+
+    @Benchmark
+    public void handleEvent(final AggregationState aggregationState, final WorkerState workerState, final Blackhole blackhole) {
+        final Event event = workerState.nextEvent();
+        final AggregateIdentificationKeysHasher.IdentificationKeysMap identificationKeysMap =
+                aggregationState.aggregateIdentificationKeysHasher.createIdentificationKeysMapFromEvent(event);
+        final AggregateGroup aggregateGroup = aggregationState.aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+        blackhole.consume(aggregationState.aggregateActionSynchronizer.handleEventForGroup(event, identificationKeysMap, aggregateGroup));
+    }
+}
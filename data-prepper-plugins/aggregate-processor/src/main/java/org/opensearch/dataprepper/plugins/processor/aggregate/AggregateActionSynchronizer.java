@@ -11,6 +11,8 @@ import io.micrometer.core.instrument.Counter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.locks.Lock;
 import java.util.Collections;
 
@@ -27,6 +29,11 @@ import java.util.Collections;
  *     <li>If multiple threads try to conclude the same {@link AggregateGroup} at the same time, only one should gain access to the critical section for concludeGroup, and
  *     the remaining threads should immediately return from concludeGroup</li>
  * </ol>
+ *
+ * With a {@link MergeableAggregateAction} in thread_sharded mode, each worker thread handles events for a group with
+ * its own {@link PartialAggregateGroup}, taking only the lock of that partial group, so busy groups do not serialize
+ * the worker threads. Concluding the group takes the locks of all of its partial groups, merges their states into the
+ * group state, concludes the group and removes the partial groups before releasing them.
  * @since 1.3
  */
 class AggregateActionSynchronizer {
@@ -37,12 +44,15 @@ class AggregateActionSynchronizer {
     private final Counter actionConcludeGroupEventsProcessingErrors;
 
     private final AggregateAction aggregateAction;
+    private final MergeableAggregateAction mergeableAggregateAction;
     private final AggregateGroupManager aggregateGroupManager;
 
     private static final Logger LOG = LoggerFactory.getLogger(AggregateActionSynchronizer.class);
 
-    private AggregateActionSynchronizer(final AggregateAction aggregateAction, final AggregateGroupManager aggregateGroupManager, final PluginMetrics pluginMetrics) {
+    private AggregateActionSynchronizer(final AggregateAction aggregateAction, final AggregateGroupManager aggregateGroupManager, final PluginMetrics pluginMetrics,
+                                        final boolean threadSharded) {
         this.aggregateAction = aggregateAction;
+        this.mergeableAggregateAction = threadSharded ? (MergeableAggregateAction) aggregateAction : null;
         this.aggregateGroupManager = aggregateGroupManager;
 
         this.actionHandleEventsProcessingErrors = pluginMetrics.counter(ACTION_HANDLE_EVENTS_PROCESSING_ERRORS);
@@ -58,10 +68,16 @@ class AggregateActionSynchronizer {
             handleEventForGroupLock.lock();
 
             try {
-                if (aggregateGroup.shouldConcludeGroup(aggregateGroupManager.getGroupDuration()) || forceConclude) {
+                // A group spilled after it was found to conclude is concluded once it is read back
+                if ((aggregateGroup.shouldConcludeGroup(aggregateGroupManager.getGroupDuration()) || forceConclude)
+                        && aggregateGroupManager.markGroupUsed(hash, aggregateGroup)) {
                     LOG.debug("Start critical section in concludeGroup");
-                    actionOutput = aggregateAction.concludeGroup(aggregateGroup);
-                    aggregateGroupManager.closeGroup(hash, aggregateGroup);
+                    if (mergeableAggregateAction != null) {
+                        actionOutput = concludeShardedGroup(hash, aggregateGroup);
+                    } else {
+                        actionOutput = aggregateAction.concludeGroup(aggregateGroup);
+                        aggregateGroupManager.closeGroup(hash, aggregateGroup);
+                    }
                 }
             } catch (final Exception e) {
                 LOG.debug("Error while concluding group: ", e);
@@ -74,25 +90,89 @@ class AggregateActionSynchronizer {
         return actionOutput;
     }
 
+    private AggregateActionOutput concludeShardedGroup(final AggregateIdentificationKeysHasher.IdentificationKeysMap hash, final AggregateGroup aggregateGroup) {
+        final List<Lock> partialGroupLocks = new ArrayList<>();
+        try {
+            for (final PartialAggregateGroup partialGroup : aggregateGroup.getPartialGroups()) {
+                final Lock partialGroupLock = partialGroup.getLock();
+                partialGroupLock.lock();
+                partialGroupLocks.add(partialGroupLock);
+                final GroupState partialGroupState = partialGroup.getGroupState();
+                if (!partialGroupState.isEmpty()) {
+                    mergeableAggregateAction.mergeGroupState(aggregateGroup.getGroupState(), partialGroupState);
+                    partialGroupState.clear();
+                }
+            }
+            final AggregateActionOutput actionOutput = aggregateAction.concludeGroup(aggregateGroup);
+            // Partial group locks are held until the group is closed, so that events handled after merging are not lost
+            aggregateGroupManager.closeGroup(hash, aggregateGroup);
+            aggregateGroup.removePartialGroups();
+            return actionOutput;
+        } finally {
+            partialGroupLocks.forEach(Lock::unlock);
+        }
+    }
+
     AggregateActionResponse handleEventForGroup(final Event event, final AggregateIdentificationKeysHasher.IdentificationKeysMap hash, final AggregateGroup aggregateGroup) {
-        final Lock concludeGroupLock = aggregateGroup.getConcludeGroupLock();
-        final Lock handleEventForGroupLock = aggregateGroup.getHandleEventForGroupLock();
+        if (mergeableAggregateAction != null) {
+            return handleEventForPartialGroup(event, hash, aggregateGroup);
+        }
+        AggregateGroup group = aggregateGroup;
+        AggregateActionResponse handleEventResponse = null;
+        boolean handled = false;
+        while (!handled) {
+            final Lock concludeGroupLock = group.getConcludeGroupLock();
+            final Lock handleEventForGroupLock = group.getHandleEventForGroupLock();
 
-        concludeGroupLock.lock();
-        concludeGroupLock.unlock();
+            concludeGroupLock.lock();
+            concludeGroupLock.unlock();
 
-        AggregateActionResponse handleEventResponse;
-        handleEventForGroupLock.lock();
-        try {
-            LOG.debug("Start critical section in handleEventForGroup");
-            handleEventResponse = aggregateAction.handleEvent(event, aggregateGroup);
-            aggregateGroupManager.putGroupWithHash(hash, aggregateGroup);
-        } catch (final Exception e) {
-            LOG.debug("Error while handling event, event will be processed by remainder of the pipeline: ", e);
-            actionHandleEventsProcessingErrors.increment();
-            handleEventResponse = new AggregateActionResponse(event);
-        } finally {
-            handleEventForGroupLock.unlock();
+            handleEventForGroupLock.lock();
+            try {
+                if (aggregateGroupManager.markGroupUsed(hash, group)) {
+                    LOG.debug("Start critical section in handleEventForGroup");
+                    handled = true;
+                    handleEventResponse = aggregateAction.handleEvent(event, group);
+                    aggregateGroupManager.putGroupWithHash(hash, group);
+                } else {
+                    // The group was spilled after it was looked up, and is read back by looking it up again
+                    group = aggregateGroupManager.getAggregateGroup(hash);
+                }
+            } catch (final Exception e) {
+                LOG.debug("Error while handling event, event will be processed by remainder of the pipeline: ", e);
+                actionHandleEventsProcessingErrors.increment();
+                handled = true;
+                handleEventResponse = new AggregateActionResponse(event);
+            } finally {
+                handleEventForGroupLock.unlock();
+            }
+        }
+
+        return handleEventResponse;
+    }
+
+    private AggregateActionResponse handleEventForPartialGroup(final Event event, final AggregateIdentificationKeysHasher.IdentificationKeysMap hash, final AggregateGroup aggregateGroup) {
+        AggregateActionResponse handleEventResponse = null;
+        boolean handled = false;
+        while (!handled) {
+            final PartialAggregateGroup partialGroup = aggregateGroup.getPartialGroupForCurrentThread();
+            final Lock partialGroupLock = partialGroup.getLock();
+
+            partialGroupLock.lock();
+            try {
+                // A partial group is closed once the group is concluded, and a new one is created by looking it up again
+                if (!partialGroup.isClosed()) {
+                    handled = true;
+                    handleEventResponse = aggregateAction.handleEvent(event, partialGroup);
+                    aggregateGroupManager.putGroupWithHash(hash, aggregateGroup);
+                }
+            } catch (final Exception e) {
+                LOG.debug("Error while handling event, event will be processed by remainder of the pipeline: ", e);
+                actionHandleEventsProcessingErrors.increment();
+                handleEventResponse = new AggregateActionResponse(event);
+            } finally {
+                partialGroupLock.unlock();
+            }
         }
 
         return handleEventResponse;
@@ -100,7 +180,15 @@ class AggregateActionSynchronizer {
 
     static class AggregateActionSynchronizerProvider {
         public AggregateActionSynchronizer provide(final AggregateAction aggregateAction, final AggregateGroupManager aggregateGroupManager, final PluginMetrics pluginMetrics) {
-            return new AggregateActionSynchronizer(aggregateAction, aggregateGroupManager, pluginMetrics);
+            return provide(aggregateAction, aggregateGroupManager, pluginMetrics, false);
+        }
+
+        /**
+         * @param threadSharded whether events are handled with per-thread partial groups, which requires a {@link MergeableAggregateAction}
+         */
+        public AggregateActionSynchronizer provide(final AggregateAction aggregateAction, final AggregateGroupManager aggregateGroupManager, final PluginMetrics pluginMetrics,
+                                                   final boolean threadSharded) {
+            return new AggregateActionSynchronizer(aggregateAction, aggregateGroupManager, pluginMetrics, threadSharded);
         }
     }
 }
@@ -7,23 +7,36 @@ package org.opensearch.dataprepper.plugins.processor.aggregate;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.function.Function;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 class AggregateGroup implements AggregateActionInput {
     private final GroupState groupState;
-    private Instant groupStart;
+    private volatile Instant groupStart;
     private final Lock concludeGroupLock;
     private final Lock handleEventForGroupLock;
     private final Map<Object, Object> identificationKeys;
-    private Function<Duration, Boolean> customShouldConclude;
+    private volatile Function<Duration, Boolean> customShouldConclude;
+    private volatile GroupConcludeCheck concludeCheck;
+    // These track spilling the group to an AggregateGroupStateStore, and are guarded by handleEventForGroupLock
+    private boolean spilled;
+    private boolean trackedForSpilling;
+    private boolean spillable = true;
+    private volatile boolean recentlyUsed;
+    private final Map<Long, PartialAggregateGroup> partialGroups = new ConcurrentHashMap<>();
 
     AggregateGroup(final Map<Object, Object> identificationKeys) {
+        this(identificationKeys, Instant.now());
+    }
+
+    AggregateGroup(final Map<Object, Object> identificationKeys, final Instant groupStart) {
         this.groupState = new DefaultGroupState();
         this.identificationKeys = identificationKeys;
-        this.groupStart = Instant.now();
+        this.groupStart = groupStart;
         this.concludeGroupLock = new ReentrantLock();
         this.handleEventForGroupLock = new ReentrantLock();
     }
@@ -49,6 +62,85 @@ class AggregateGroup implements AggregateActionInput {
         customShouldConclude = shouldConclude;
     }
 
+    boolean hasCustomShouldConclude() {
+        return customShouldConclude != null;
+    }
+
+    GroupConcludeCheck getConcludeCheck() {
+        return concludeCheck;
+    }
+
+    void setConcludeCheck(final GroupConcludeCheck concludeCheck) {
+        this.concludeCheck = concludeCheck;
+    }
+
+    /**
+     * @return whether the group was spilled to an {@link AggregateGroupStateStore}, after which it is no longer used and
+     * its state is read back into a new group
+     */
+    boolean isSpilled() {
+        return spilled;
+    }
+
+    void setSpilled(final boolean spilled) {
+        this.spilled = spilled;
+    }
+
+    boolean isTrackedForSpilling() {
+        return trackedForSpilling;
+    }
+
+    void setTrackedForSpilling(final boolean trackedForSpilling) {
+        this.trackedForSpilling = trackedForSpilling;
+    }
+
+    boolean isSpillable() {
+        return spillable;
+    }
+
+    void setSpillable(final boolean spillable) {
+        this.spillable = spillable;
+    }
+
+    boolean isRecentlyUsed() {
+        return recentlyUsed;
+    }
+
+    void setRecentlyUsed(final boolean recentlyUsed) {
+        this.recentlyUsed = recentlyUsed;
+    }
+
+    /**
+     * @return the partial group of the calling thread, created under the handle event lock so that a thread
+     * concluding the group sees every partial group
+     */
+    PartialAggregateGroup getPartialGroupForCurrentThread() {
+        final long threadId = Thread.currentThread().getId();
+        final PartialAggregateGroup partialGroup = partialGroups.get(threadId);
+        if (partialGroup != null) {
+            return partialGroup;
+        }
+        handleEventForGroupLock.lock();
+        try {
+            return partialGroups.computeIfAbsent(threadId, id -> new PartialAggregateGroup(this));
+        } finally {
+            handleEventForGroupLock.unlock();
+        }
+    }
+
+    Collection<PartialAggregateGroup> getPartialGroups() {
+        return partialGroups.values();
+    }
+
+    /**
+     * Closes and removes the partial groups, once their states are merged into the group state. This must be called
+     * with the handle event lock and the locks of all the partial groups held.
+     */
+    void removePartialGroups() {
+        partialGroups.values().forEach(PartialAggregateGroup::close);
+        partialGroups.clear();
+    }
+
     Lock getHandleEventForGroupLock() {
         return handleEventForGroupLock;
     }
@@ -63,5 +155,6 @@ class AggregateGroup implements AggregateActionInput {
     void resetGroup() {
         groupStart = Instant.now();
         groupState.clear();
+        spillable = true;
     }
 }
@@ -8,30 +8,108 @@ package org.opensearch.dataprepper.plugins.processor.aggregate;
 import com.google.common.collect.Maps;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Holds the {@link AggregateGroup}s of an aggregate processor. Every group has a {@link GroupConcludeCheck} scheduled
+ * for when it may need to be concluded: the end of its group duration, or as soon as possible for groups with a custom
+ * conclude condition. {@link #getGroupsToConclude(boolean)} only looks at the checks which are due, so its cost
+ * depends on the number of groups due rather than on the total number of groups.
+ * <p>
+ * With an {@link AggregateGroupStateStore}, at most maxGroupsInMemory groups with state are kept on the heap. Groups
+ * are picked for spilling with the CLOCK algorithm: a group used since it was last looked at gets a second chance, and
+ * other groups are serialized to the store, with their identification keys and start, and removed from the heap. A
+ * spilled group is read back into a new {@link AggregateGroup} when its identification keys are looked up again, or
+ * when it is due to be concluded.
+ */
 class AggregateGroupManager {
+    static final Duration MAX_CONCLUDE_RECHECK_INTERVAL = Duration.ofSeconds(1);
 
     private final Map<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> allGroups = Maps.newConcurrentMap();
+    private final DelayQueue<GroupConcludeCheck> concludeChecks = new DelayQueue<>();
     private final Duration groupDuration;
+    private final Duration concludeRecheckInterval;
+    private volatile long lastConcludeCheckGroups;
+    private volatile long lastConcludeCheckNanos;
+    private final AggregateGroupStateStore groupStateStore;
+    private final int maxGroupsInMemory;
+    private final Queue<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsTrackedForSpilling = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger groupsTrackedForSpillingCount = new AtomicInteger();
+    private final AtomicLong nextSpilledGroupId = new AtomicLong();
 
     AggregateGroupManager(final Duration groupDuration) {
+        this(groupDuration, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param groupDuration the duration of the groups
+     * @param groupStateStore the store to spill groups to, or null to keep all of them on the heap
+     * @param maxGroupsInMemory the number of groups to keep on the heap before spilling to the store
+     */
+    AggregateGroupManager(final Duration groupDuration, final AggregateGroupStateStore groupStateStore, final int maxGroupsInMemory) {
         this.groupDuration = groupDuration;
+        this.groupStateStore = groupStateStore;
+        this.maxGroupsInMemory = maxGroupsInMemory;
+        this.concludeRecheckInterval = groupDuration.compareTo(MAX_CONCLUDE_RECHECK_INTERVAL) < 0 ? groupDuration : MAX_CONCLUDE_RECHECK_INTERVAL;
     }
 
     AggregateGroup getAggregateGroup(final AggregateIdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
-        return allGroups.computeIfAbsent(identificationKeysMap, (hash) -> new AggregateGroup(identificationKeysMap.getKeyMap()));
+        // A spilled group is only read back while holding the entry of its identification keys, so that it is never both
+        // spilled and on the heap
+        return allGroups.computeIfAbsent(identificationKeysMap, (hash) -> {
+            final AggregateGroup aggregateGroup = removeSpilledGroup(identificationKeysMap)
+                    .orElseGet(() -> new AggregateGroup(identificationKeysMap.getKeyMap()));
+            addConcludeCheck(new GroupConcludeCheck(identificationKeysMap, aggregateGroup, getInitialConcludeCheckDelay(aggregateGroup)));
+            return aggregateGroup;
+        });
     }
 
     List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> getGroupsToConclude(final boolean forceConclude) {
+        final long startNanos = System.nanoTime();
         final List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = new ArrayList<>();
-        for (final Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry : allGroups.entrySet()) {
-            if (groupEntry.getValue().shouldConcludeGroup(groupDuration) || forceConclude) {
-                groupsToConclude.add(groupEntry);
+        if (forceConclude) {
+            readSpilledGroupsToConclude(Long.MAX_VALUE);
+            groupsToConclude.addAll(allGroups.entrySet());
+        } else {
+            readSpilledGroupsToConclude(System.currentTimeMillis());
+            // Checks are scheduled again only after polling, so that a check which is already due is not polled twice
+            final List<GroupConcludeCheck> nextConcludeChecks = new ArrayList<>();
+            GroupConcludeCheck concludeCheck;
+            while ((concludeCheck = concludeChecks.poll()) != null) {
+                final AggregateIdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = concludeCheck.getIdentificationKeysMap();
+                final AggregateGroup aggregateGroup = concludeCheck.getAggregateGroup();
+                if (aggregateGroup == null || identificationKeysMap == null
+                        || aggregateGroup.getConcludeCheck() != concludeCheck || allGroups.get(identificationKeysMap) != aggregateGroup) {
+                    continue;
+                }
+                final Duration nextConcludeCheckDelay;
+                if (aggregateGroup.shouldConcludeGroup(groupDuration)) {
+                    groupsToConclude.add(new AbstractMap.SimpleImmutableEntry<>(identificationKeysMap, aggregateGroup));
+                    // Concluding the group resets it and removes it from allGroups, which makes this next check stale.
+                    // It is only used if the group could not be concluded.
+                    nextConcludeCheckDelay = concludeRecheckInterval;
+                } else if (aggregateGroup.hasCustomShouldConclude()) {
+                    nextConcludeCheckDelay = concludeRecheckInterval;
+                } else {
+                    nextConcludeCheckDelay = getInitialConcludeCheckDelay(aggregateGroup);
+                }
+                nextConcludeChecks.add(new GroupConcludeCheck(identificationKeysMap, aggregateGroup, nextConcludeCheckDelay));
             }
+            nextConcludeChecks.forEach(this::addConcludeCheck);
+            spillGroupStates();
         }
+        lastConcludeCheckGroups = groupsToConclude.size();
+        lastConcludeCheckNanos = System.nanoTime() - startNanos;
         return groupsToConclude;
     }
 
@@ -41,14 +119,174 @@ class AggregateGroupManager {
     }
 
     void putGroupWithHash(final AggregateIdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group) {
-        allGroups.put(hashKeyMap, group);
+        final GroupConcludeCheck concludeCheck = group.getConcludeCheck();
+        final boolean hasCurrentConcludeCheck = concludeCheck != null && concludeCheck.isCurrent();
+        // Reading first avoids writing to the map for every event of a busy group
+        if (hasCurrentConcludeCheck && allGroups.get(hashKeyMap) == group) {
+            return;
+        }
+        final AggregateGroup previousGroup = allGroups.put(hashKeyMap, group);
+        if (previousGroup != group || !hasCurrentConcludeCheck) {
+            addConcludeCheck(new GroupConcludeCheck(hashKeyMap, group, getInitialConcludeCheckDelay(group)));
+        }
+    }
+
+    /**
+     * Marks a group as used, for picking the groups to spill. Callers must hold the handle event lock of the group.
+     *
+     * @param identificationKeysMap the identification keys of the group
+     * @param aggregateGroup the group about to be used
+     * @return false if the group was spilled after it was looked up, in which case it must not be used and the group is
+     * read back by {@link #getAggregateGroup}
+     */
+    boolean markGroupUsed(final AggregateIdentificationKeysHasher.IdentificationKeysMap identificationKeysMap, final AggregateGroup aggregateGroup) {
+        if (groupStateStore == null) {
+            return true;
+        }
+        if (aggregateGroup.isSpilled()) {
+            return false;
+        }
+        aggregateGroup.setRecentlyUsed(true);
+        if (!aggregateGroup.isTrackedForSpilling() && aggregateGroup.isSpillable()) {
+            aggregateGroup.setTrackedForSpilling(true);
+            groupsTrackedForSpillingCount.incrementAndGet();
+            groupsTrackedForSpilling.add(new AbstractMap.SimpleImmutableEntry<>(identificationKeysMap, aggregateGroup));
+        }
+        return true;
+    }
+
+    /**
+     * Closes the {@link AggregateGroupStateStore}, if any, deleting the spilled groups.
+     */
+    void close() {
+        if (groupStateStore != null) {
+            groupStateStore.close();
+        }
     }
 
+    /**
+     * @return the number of groups, including the spilled groups
+     */
     long getAllGroupsSize() {
-        return allGroups.size();
+        return allGroups.size() + getSpilledGroupsSize();
+    }
+
+    /**
+     * @return the number of groups returned by the last call to {@link #getGroupsToConclude(boolean)}
+     */
+    long getLastConcludeCheckGroups() {
+        return lastConcludeCheckGroups;
+    }
+
+    /**
+     * @return the time taken by the last call to {@link #getGroupsToConclude(boolean)}, in milliseconds
+     */
+    double getLastConcludeCheckMillis() {
+        return lastConcludeCheckNanos / 1_000_000.0;
+    }
+
+    /**
+     * @return the number of groups spilled to the {@link AggregateGroupStateStore}
+     */
+    long getSpilledGroupsSize() {
+        return groupStateStore == null ? 0 : groupStateStore.size();
     }
 
     Duration getGroupDuration() {
         return this.groupDuration;
     }
+
+    private Duration getInitialConcludeCheckDelay(final AggregateGroup aggregateGroup) {
+        if (aggregateGroup.hasCustomShouldConclude()) {
+            return Duration.ZERO;
+        }
+        return Duration.between(Instant.now(), aggregateGroup.getGroupStart().plus(groupDuration));
+    }
+
+    private void addConcludeCheck(final GroupConcludeCheck concludeCheck) {
+        concludeCheck.getAggregateGroup().setConcludeCheck(concludeCheck);
+        concludeChecks.add(concludeCheck);
+    }
+
+    /**
+     * Reads the spilled groups which should be concluded by the given time back onto the heap, with conclude checks
+     * which are already due. At most maxGroupsInMemory groups are read at once, and the others by the next checks.
+     */
+    private void readSpilledGroupsToConclude(final long timeMillis) {
+        if (groupStateStore == null) {
+            return;
+        }
+        for (final long id : groupStateStore.getIdsToConcludeBy(timeMillis, maxGroupsInMemory)) {
+            final byte[] serializedGroup = groupStateStore.get(id);
+            // The group is read back by the thread which removes it from the store
+            if (serializedGroup != null) {
+                getAggregateGroup(GroupStateSerializer.deserialize(serializedGroup).getKey());
+            }
+        }
+    }
+
+    private Optional<AggregateGroup> removeSpilledGroup(final AggregateIdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
+        if (groupStateStore == null) {
+            return Optional.empty();
+        }
+        for (final long id : groupStateStore.getIds(identificationKeysMap.hashCode())) {
+            final byte[] serializedGroup = groupStateStore.get(id);
+            if (serializedGroup == null) {
+                continue;
+            }
+            final Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> spilledGroup = GroupStateSerializer.deserialize(serializedGroup);
+            if (spilledGroup.getKey().equals(identificationKeysMap) && groupStateStore.remove(id) != null) {
+                return Optional.of(spilledGroup.getValue());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void spillGroupStates() {
+        // Two passes over the tracked groups are enough to find groups which were not used recently
+        int remainingChecks = 2 * groupsTrackedForSpillingCount.get();
+        Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> trackedGroup;
+        while (groupsTrackedForSpillingCount.get() > maxGroupsInMemory && remainingChecks-- > 0
+                && (trackedGroup = groupsTrackedForSpilling.poll()) != null) {
+            final AggregateGroup aggregateGroup = trackedGroup.getValue();
+            if (aggregateGroup.isRecentlyUsed()) {
+                aggregateGroup.setRecentlyUsed(false);
+                groupsTrackedForSpilling.add(trackedGroup);
+            } else if (aggregateGroup.getHandleEventForGroupLock().tryLock()) {
+                try {
+                    aggregateGroup.setTrackedForSpilling(false);
+                    groupsTrackedForSpillingCount.decrementAndGet();
+                    spillGroup(trackedGroup.getKey(), aggregateGroup);
+                } finally {
+                    aggregateGroup.getHandleEventForGroupLock().unlock();
+                }
+            } else {
+                groupsTrackedForSpilling.add(trackedGroup);
+            }
+        }
+    }
+
+    private void spillGroup(final AggregateIdentificationKeysHasher.IdentificationKeysMap identificationKeysMap, final AggregateGroup aggregateGroup) {
+        if (aggregateGroup.getGroupState().isEmpty()) {
+            // The group was concluded, and is tracked again if it is used
+            return;
+        }
+        // Custom conclude conditions may read the group state without holding the group lock
+        final Optional<byte[]> serializedGroup = aggregateGroup.hasCustomShouldConclude() ? Optional.empty() : GroupStateSerializer.serialize(identificationKeysMap, aggregateGroup);
+        if (serializedGroup.isEmpty()) {
+            aggregateGroup.setSpillable(false);
+            return;
+        }
+        allGroups.computeIfPresent(identificationKeysMap, (hash, currentGroup) -> {
+            if (currentGroup != aggregateGroup) {
+                return currentGroup;
+            }
+            groupStateStore.put(nextSpilledGroupId.getAndIncrement(), identificationKeysMap.hashCode(),
+                    aggregateGroup.getGroupStart().plus(groupDuration).toEpochMilli(), serializedGroup.get());
+            aggregateGroup.setSpilled(true);
+            aggregateGroup.getGroupState().clear();
+            aggregateGroup.getConcludeCheck().release();
+            return null;
+        });
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import java.util.List;
+
+/**
+ * Holds the serialized aggregate groups which the {@link AggregateGroupManager} has spilled out of the heap. A group is
+ * found again by the hash of its identification keys when it receives an Event, or by the time at which it should be
+ * concluded.
+ * @since 2.4
+ */
+interface AggregateGroupStateStore {
+    /**
+     * Stores a serialized group.
+     *
+     * @param id the id the group is stored under
+     * @param identificationKeysHash the hash of the identification keys of the group
+     * @param concludeAtMillis the time at which the group should be concluded, in milliseconds since the epoch
+     * @param group the serialized group
+     */
+    void put(long id, int identificationKeysHash, long concludeAtMillis, byte[] group);
+
+    /**
+     * @param id the id the group was stored under
+     * @return the serialized group, or null if there is none for the id
+     */
+    byte[] get(long id);
+
+    /**
+     * Removes a serialized group from the store.
+     *
+     * @param id the id the group was stored under
+     * @return the serialized group, or null if there is none for the id
+     */
+    byte[] remove(long id);
+
+    /**
+     * @param identificationKeysHash the hash of the identification keys of a group
+     * @return the ids of the groups stored with the hash
+     */
+    List<Long> getIds(int identificationKeysHash);
+
+    /**
+     * @param timeMillis a time in milliseconds since the epoch
+     * @param maxIds the maximum number of ids to return
+     * @return the ids of the groups which should be concluded by the time, in the order in which they should be concluded
+     */
+    List<Long> getIdsToConcludeBy(long timeMillis, int maxIds);
+
+    /**
+     * @return the number of groups in the store
+     */
+    long size();
+
+    /**
+     * Releases the resources of the store and deletes the groups in it.
+     */
+    void close();
+}
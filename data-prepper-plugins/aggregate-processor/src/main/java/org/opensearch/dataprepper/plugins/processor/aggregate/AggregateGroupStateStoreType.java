@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Where the {@link GroupState} of aggregate groups is kept.
+ * @since 2.4
+ */
+public enum AggregateGroupStateStoreType {
+    /**
+     * Every group state is kept on the heap.
+     */
+    IN_MEMORY("in_memory"),
+    /**
+     * Groups which have not been used recently are spilled to a memory-mapped file on local disk.
+     */
+    DISK("disk");
+
+    private static final Map<String, AggregateGroupStateStoreType> OPTIONS_MAP = Arrays.stream(AggregateGroupStateStoreType.values())
+            .collect(Collectors.toMap(
+                    value -> value.option,
+                    value -> value
+            ));
+
+    private final String option;
+
+    AggregateGroupStateStoreType(final String option) {
+        this.option = option;
+    }
+
+    @Override
+    public String toString() {
+        return option;
+    }
+
+    @JsonCreator
+    static AggregateGroupStateStoreType fromOptionValue(final String option) {
+        final AggregateGroupStateStoreType stateStoreType = OPTIONS_MAP.get(option.toLowerCase());
+        if (stateStoreType == null) {
+            throw new IllegalArgumentException("Unknown state_store " + option + ", which must be one of " + OPTIONS_MAP.keySet());
+        }
+        return stateStoreType;
+    }
+}
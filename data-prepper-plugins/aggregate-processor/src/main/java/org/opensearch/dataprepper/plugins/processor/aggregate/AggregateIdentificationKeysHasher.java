@@ -7,10 +7,10 @@ package org.opensearch.dataprepper.plugins.processor.aggregate;
 
 import org.opensearch.dataprepper.model.event.Event;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 
 class AggregateIdentificationKeysHasher {
     private final List<String> identificationKeys;
@@ -19,18 +19,28 @@ class AggregateIdentificationKeysHasher {
     }
 
     IdentificationKeysMap createIdentificationKeysMapFromEvent(final Event event) {
-        final Map<Object, Object> identificationKeysMap = new HashMap<>();
-        for (final String identificationKey : identificationKeys) {
-            identificationKeysMap.put(identificationKey, event.get(identificationKey, Object.class));
+        final Object[] identificationKeyValues = new Object[identificationKeys.size()];
+        for (int i = 0; i < identificationKeyValues.length; i++) {
+            identificationKeyValues[i] = event.get(identificationKeys.get(i), Object.class);
         }
-        return new IdentificationKeysMap(identificationKeysMap);
+        return new IdentificationKeysMap(identificationKeys, identificationKeyValues);
     }
 
+    /**
+     * The identification key values of an Event, used as the key of its aggregate group. The values are held in a flat
+     * array in the order of the identification keys, which are shared by every instance created by the same
+     * {@link AggregateIdentificationKeysHasher}. The hash code is computed once, so group lookups do not hash or
+     * compare maps.
+     */
     public static class IdentificationKeysMap {
-        private final Map<Object, Object> keyMap;
+        private final List<String> identificationKeys;
+        private final Object[] identificationKeyValues;
+        private final int hashCode;
 
-        IdentificationKeysMap(final Map<Object, Object> keyMap) {
-            this.keyMap = keyMap;
+        IdentificationKeysMap(final List<String> identificationKeys, final Object[] identificationKeyValues) {
+            this.identificationKeys = identificationKeys;
+            this.identificationKeyValues = identificationKeyValues;
+            this.hashCode = Arrays.hashCode(identificationKeyValues);
         }
 
         @Override
@@ -38,15 +48,32 @@ class AggregateIdentificationKeysHasher {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             IdentificationKeysMap that = (IdentificationKeysMap) o;
-            return Objects.equals(keyMap, that.keyMap);
+            return hashCode == that.hashCode
+                    && Arrays.equals(identificationKeyValues, that.identificationKeyValues)
+                    && (identificationKeys == that.identificationKeys || identificationKeys.equals(that.identificationKeys));
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(keyMap);
+            return hashCode;
         }
 
+        List<String> getIdentificationKeys() {
+            return identificationKeys;
+        }
+
+        Object[] getIdentificationKeyValues() {
+            return identificationKeyValues;
+        }
+
+        /**
+         * @return a new map of the identification keys to their values, in the order of the identification keys
+         */
         Map<Object, Object> getKeyMap() {
+            final Map<Object, Object> keyMap = new LinkedHashMap<>();
+            for (int i = 0; i < identificationKeyValues.length; i++) {
+                keyMap.put(identificationKeys.get(i), identificationKeyValues[i]);
+            }
             return keyMap;
         }
     }
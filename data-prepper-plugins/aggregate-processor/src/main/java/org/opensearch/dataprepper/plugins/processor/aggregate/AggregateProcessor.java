@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.plugins.processor.aggregate;
 
+import org.opensearch.dataprepper.expression.CompiledExpression;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
@@ -13,12 +14,14 @@ import org.opensearch.dataprepper.model.configuration.PluginModel;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.peerforwarder.RequiresPeerForwarding;
+import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
 import org.opensearch.dataprepper.model.plugin.PluginFactory;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
 import io.micrometer.core.instrument.Counter;
 
+import java.io.File;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
@@ -32,6 +35,9 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
     static final String ACTION_CONCLUDE_GROUP_EVENTS_OUT = "actionConcludeGroupEventsOut";
     static final String ACTION_CONCLUDE_GROUP_EVENTS_DROPPED = "actionConcludeGroupEventsDropped";
     static final String CURRENT_AGGREGATE_GROUPS = "currentAggregateGroups";
+    static final String GROUPS_TO_CONCLUDE_PER_CHECK = "groupsToConcludePerCheck";
+    static final String CONCLUDE_GROUPS_CHECK_TIME = "concludeGroupsCheckTimeMillis";
+    static final String SPILLED_AGGREGATE_GROUPS = "spilledAggregateGroups";
 
     private final Counter actionHandleEventsOutCounter;
     private final Counter actionHandleEventsDroppedCounter;
@@ -45,12 +51,11 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
     private final AggregateAction aggregateAction;
 
     private boolean forceConclude = false;
-    private final String whenCondition;
-    private final ExpressionEvaluator expressionEvaluator;
+    private final CompiledExpression whenCondition;
 
     @DataPrepperPluginConstructor
     public AggregateProcessor(final AggregateProcessorConfig aggregateProcessorConfig, final PluginMetrics pluginMetrics, final PluginFactory pluginFactory, final ExpressionEvaluator expressionEvaluator) {
-        this(aggregateProcessorConfig, pluginMetrics, pluginFactory, new AggregateGroupManager(aggregateProcessorConfig.getGroupDuration()),
+        this(aggregateProcessorConfig, pluginMetrics, pluginFactory, createAggregateGroupManager(aggregateProcessorConfig),
                 new AggregateIdentificationKeysHasher(aggregateProcessorConfig.getIdentificationKeys()), new AggregateActionSynchronizer.AggregateActionSynchronizerProvider(), expressionEvaluator);
     }
     public AggregateProcessor(final AggregateProcessorConfig aggregateProcessorConfig, final PluginMetrics pluginMetrics, final PluginFactory pluginFactory, final AggregateGroupManager aggregateGroupManager,
@@ -58,18 +63,35 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
         super(pluginMetrics);
         this.aggregateProcessorConfig = aggregateProcessorConfig;
         this.aggregateGroupManager = aggregateGroupManager;
-        this.expressionEvaluator = expressionEvaluator;
         this.aggregateIdentificationKeysHasher = aggregateIdentificationKeysHasher;
         this.aggregateAction = loadAggregateAction(pluginFactory);
-        this.aggregateActionSynchronizer = aggregateActionSynchronizerProvider.provide(aggregateAction, aggregateGroupManager, pluginMetrics);
+        if (aggregateProcessorConfig.isThreadSharded() && !(aggregateAction instanceof MergeableAggregateAction)) {
+            throw new InvalidPluginConfigurationException(String.format("The %s action does not support thread_sharded aggregation",
+                    aggregateProcessorConfig.getAggregateAction().getPluginName()));
+        }
+        this.aggregateActionSynchronizer = aggregateActionSynchronizerProvider.provide(aggregateAction, aggregateGroupManager, pluginMetrics,
+                aggregateProcessorConfig.isThreadSharded());
 
         this.actionConcludeGroupEventsOutCounter = pluginMetrics.counter(ACTION_CONCLUDE_GROUP_EVENTS_OUT);
         this.actionConcludeGroupEventsDroppedCounter = pluginMetrics.counter(ACTION_CONCLUDE_GROUP_EVENTS_DROPPED);
         this.actionHandleEventsOutCounter = pluginMetrics.counter(ACTION_HANDLE_EVENTS_OUT);
         this.actionHandleEventsDroppedCounter = pluginMetrics.counter(ACTION_HANDLE_EVENTS_DROPPED);
-        this.whenCondition = aggregateProcessorConfig.getWhenCondition();
+        final String whenCondition = aggregateProcessorConfig.getWhenCondition();
+        this.whenCondition = whenCondition != null ? expressionEvaluator.compile(whenCondition) : null;
 
         pluginMetrics.gauge(CURRENT_AGGREGATE_GROUPS, aggregateGroupManager, AggregateGroupManager::getAllGroupsSize);
+        pluginMetrics.gauge(GROUPS_TO_CONCLUDE_PER_CHECK, aggregateGroupManager, AggregateGroupManager::getLastConcludeCheckGroups);
+        pluginMetrics.gauge(CONCLUDE_GROUPS_CHECK_TIME, aggregateGroupManager, AggregateGroupManager::getLastConcludeCheckMillis);
+        pluginMetrics.gauge(SPILLED_AGGREGATE_GROUPS, aggregateGroupManager, AggregateGroupManager::getSpilledGroupsSize);
+    }
+
+    private static AggregateGroupManager createAggregateGroupManager(final AggregateProcessorConfig aggregateProcessorConfig) {
+        if (aggregateProcessorConfig.getStateStore() == AggregateGroupStateStoreType.DISK) {
+            return new AggregateGroupManager(aggregateProcessorConfig.getGroupDuration(),
+                    new MapDbAggregateGroupStateStore(new File(aggregateProcessorConfig.getStateDirectory())),
+                    aggregateProcessorConfig.getMaxGroupsInMemory());
+        }
+        return new AggregateGroupManager(aggregateProcessorConfig.getGroupDuration());
     }
 
     private AggregateAction loadAggregateAction(final PluginFactory pluginFactory) {
@@ -101,7 +123,7 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
         int handleEventsDropped = 0;
         for (final Record<Event> record : records) {
             final Event event = record.getData();
-            if (whenCondition != null && !expressionEvaluator.evaluateConditional(whenCondition, event)) {
+            if (whenCondition != null && !whenCondition.evaluateConditional(event)) {
                 handleEventsDropped++;
                 continue;
             }
@@ -144,7 +166,7 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
 
     @Override
     public void shutdown() {
-
+        aggregateGroupManager.close();
     }
 
     @Override
@@ -7,6 +7,8 @@ package org.opensearch.dataprepper.plugins.processor.aggregate;
 
 import org.opensearch.dataprepper.model.configuration.PluginModel;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 
@@ -16,6 +18,8 @@ import java.util.List;
 public class AggregateProcessorConfig {
 
     static int DEFAULT_GROUP_DURATION_SECONDS = 180;
+    static int DEFAULT_MAX_GROUPS_IN_MEMORY = 100_000;
+    static String DEFAULT_STATE_DIRECTORY = "data/aggregate";
 
     @JsonProperty("identification_keys")
     @NotEmpty
@@ -31,6 +35,19 @@ public class AggregateProcessorConfig {
     @JsonProperty("aggregate_when")
     private String whenCondition;
 
+    @JsonProperty("state_store")
+    private AggregateGroupStateStoreType stateStore = AggregateGroupStateStoreType.IN_MEMORY;
+
+    @JsonProperty("max_groups_in_memory")
+    @Min(1)
+    private int maxGroupsInMemory = DEFAULT_MAX_GROUPS_IN_MEMORY;
+
+    @JsonProperty("state_directory")
+    private String stateDirectory = DEFAULT_STATE_DIRECTORY;
+
+    @JsonProperty("thread_sharded")
+    private boolean threadSharded = false;
+
     public List<String> getIdentificationKeys() {
         return identificationKeys;
     }
@@ -45,4 +62,25 @@ public class AggregateProcessorConfig {
 
     public PluginModel getAggregateAction() { return aggregateAction; }
 
+    public AggregateGroupStateStoreType getStateStore() {
+        return stateStore;
+    }
+
+    public int getMaxGroupsInMemory() {
+        return maxGroupsInMemory;
+    }
+
+    public String getStateDirectory() {
+        return stateDirectory;
+    }
+
+    public boolean isThreadSharded() {
+        return threadSharded;
+    }
+
+    @AssertTrue(message = "thread_sharded is not supported with the disk state_store, as partial groups are kept on the heap")
+    boolean isThreadShardedSupportedByStateStore() {
+        return !threadSharded || stateStore != AggregateGroupStateStoreType.DISK;
+    }
+
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A scheduled check of whether an {@link AggregateGroup} should be concluded. The {@link AggregateGroupManager} keeps
+ * these in a {@link java.util.concurrent.DelayQueue} ordered by deadline, so that it only looks at the groups which
+ * are due instead of every group.
+ * <p>
+ * A check only applies to the group start and conclude condition it was scheduled for. Once the group is reset or
+ * given a custom conclude condition, a new check replaces it and this one is discarded when it becomes due. The check
+ * of a group which is spilled to an {@link AggregateGroupStateStore} releases the group right away, so that the group
+ * does not stay on the heap until the check becomes due.
+ */
+class GroupConcludeCheck implements Delayed {
+    private volatile AggregateIdentificationKeysHasher.IdentificationKeysMap identificationKeysMap;
+    private volatile AggregateGroup aggregateGroup;
+    private final Instant groupStart;
+    private final boolean customShouldConclude;
+    private final long deadlineNanos;
+
+    GroupConcludeCheck(final AggregateIdentificationKeysHasher.IdentificationKeysMap identificationKeysMap,
+                       final AggregateGroup aggregateGroup,
+                       final Duration delay) {
+        this.identificationKeysMap = identificationKeysMap;
+        this.aggregateGroup = aggregateGroup;
+        this.groupStart = aggregateGroup.getGroupStart();
+        this.customShouldConclude = aggregateGroup.hasCustomShouldConclude();
+        this.deadlineNanos = System.nanoTime() + delay.toNanos();
+    }
+
+    AggregateIdentificationKeysHasher.IdentificationKeysMap getIdentificationKeysMap() {
+        return identificationKeysMap;
+    }
+
+    /**
+     * @return the group of the check, or null if it was released
+     */
+    AggregateGroup getAggregateGroup() {
+        return aggregateGroup;
+    }
+
+    /**
+     * Releases the group and its identification keys, after which the check is never current.
+     */
+    void release() {
+        aggregateGroup = null;
+        identificationKeysMap = null;
+    }
+
+    /**
+     * @return true if this check was scheduled for the current start and conclude condition of its group
+     */
+    boolean isCurrent() {
+        final AggregateGroup aggregateGroup = this.aggregateGroup;
+        return aggregateGroup != null && groupStart.equals(aggregateGroup.getGroupStart())
+                && customShouldConclude == aggregateGroup.hasCustomShouldConclude();
+    }
+
+    @Override
+    public long getDelay(final TimeUnit unit) {
+        return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(final Delayed other) {
+        return Long.compare(deadlineNanos, ((GroupConcludeCheck) other).deadlineNanos);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Converts an {@link AggregateGroup}, with its identification keys, start and {@link GroupState}, to and from bytes,
+ * for an {@link AggregateGroupStateStore}. Only the JDK value, collection and time classes which actions keep in group
+ * states are read back, so a group state holding any other class is not serialized.
+ */
+final class GroupStateSerializer {
+    static final ObjectInputFilter OBJECT_INPUT_FILTER = ObjectInputFilter.Config.createFilter(
+            "java.lang.*;java.math.*;java.time.*;java.util.*;!*");
+
+    private GroupStateSerializer() {
+    }
+
+    /**
+     * @param identificationKeysMap the identification keys of the group
+     * @param aggregateGroup the group to serialize
+     * @return the serialized group, or empty if its group state cannot be serialized or holds a class which is not read back
+     */
+    static Optional<byte[]> serialize(final AggregateIdentificationKeysHasher.IdentificationKeysMap identificationKeysMap,
+                                      final AggregateGroup aggregateGroup) {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final ObjectOutputStream objectOutputStream = new FilteredObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(new ArrayList<>(identificationKeysMap.getIdentificationKeys()));
+            objectOutputStream.writeObject(identificationKeysMap.getIdentificationKeyValues());
+            objectOutputStream.writeObject(aggregateGroup.getGroupStart());
+            objectOutputStream.writeObject(new HashMap<>(aggregateGroup.getGroupState()));
+        } catch (final IOException e) {
+            return Optional.empty();
+        }
+        return Optional.of(byteArrayOutputStream.toByteArray());
+    }
+
+    /**
+     * @param serializedGroup a group serialized by {@link #serialize}
+     * @return the identification keys of the group, and a new group with its start and group state
+     */
+    @SuppressWarnings("unchecked")
+    static Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> deserialize(final byte[] serializedGroup) {
+        try (final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(serializedGroup))) {
+            objectInputStream.setObjectInputFilter(OBJECT_INPUT_FILTER);
+            final AggregateIdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = new AggregateIdentificationKeysHasher.IdentificationKeysMap(
+                    (List<String>) objectInputStream.readObject(), (Object[]) objectInputStream.readObject());
+            final AggregateGroup aggregateGroup = new AggregateGroup(identificationKeysMap.getKeyMap(), (Instant) objectInputStream.readObject());
+            aggregateGroup.getGroupState().putAll((Map<Object, Object>) objectInputStream.readObject());
+            return new AbstractMap.SimpleImmutableEntry<>(identificationKeysMap, aggregateGroup);
+        } catch (final IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Unable to read a spilled aggregate group", e);
+        }
+    }
+
+    /**
+     * Rejects the classes which {@link #OBJECT_INPUT_FILTER} would reject when reading them back.
+     */
+    private static class FilteredObjectOutputStream extends ObjectOutputStream {
+        FilteredObjectOutputStream(final OutputStream outputStream) throws IOException {
+            super(outputStream);
+        }
+
+        @Override
+        protected void annotateClass(final Class<?> serialClass) throws IOException {
+            if (OBJECT_INPUT_FILTER.checkInput(new ClassFilterInfo(serialClass)) == ObjectInputFilter.Status.REJECTED) {
+                throw new NotSerializableException(serialClass.getName());
+            }
+        }
+    }
+
+    private static class ClassFilterInfo implements ObjectInputFilter.FilterInfo {
+        private final Class<?> serialClass;
+
+        ClassFilterInfo(final Class<?> serialClass) {
+            this.serialClass = serialClass;
+        }
+
+        @Override
+        public Class<?> serialClass() {
+            return serialClass;
+        }
+
+        @Override
+        public long arrayLength() {
+            return -1;
+        }
+
+        @Override
+        public long depth() {
+            return 0;
+        }
+
+        @Override
+        public long references() {
+            return 0;
+        }
+
+        @Override
+        public long streamBytes() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.mapdb.DB;
+import org.mapdb.DBMaker;
+import org.mapdb.HTreeMap;
+import org.mapdb.Serializer;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.UUID;
+
+/**
+ * An {@link AggregateGroupStateStore} backed by MapDB collections in a memory-mapped file, when the platform supports
+ * it. The groups are kept in a hash map by id, with a hash map of the ids by identification keys hash and a tree set of
+ * the ids by conclude time as indexes. The file is created in the given directory and deleted when the store is closed.
+ * @since 2.4
+ */
+class MapDbAggregateGroupStateStore implements AggregateGroupStateStore {
+    private static final String DB_FILE_PREFIX = "aggregate-group-state-";
+    private static final String GROUPS_NAME = "groups";
+    private static final String IDS_BY_IDENTIFICATION_KEYS_HASH_NAME = "idsByIdentificationKeysHash";
+    private static final String IDS_BY_CONCLUDE_TIME_NAME = "idsByConcludeTime";
+    private static final int HEADER_LENGTH = Integer.BYTES + Long.BYTES;
+
+    private final DB db;
+    /**
+     * The groups by id, each prefixed with the identification keys hash and conclude time it is indexed by
+     */
+    private final HTreeMap<Long, byte[]> groups;
+    private final HTreeMap<Integer, long[]> idsByIdentificationKeysHash;
+    /**
+     * Pairs of conclude time and id
+     */
+    private final NavigableSet<long[]> idsByConcludeTime;
+
+    MapDbAggregateGroupStateStore(final File stateDirectory) {
+        if (!stateDirectory.isDirectory() && !stateDirectory.mkdirs()) {
+            throw new IllegalArgumentException("Unable to create the aggregate state directory " + stateDirectory);
+        }
+        db = DBMaker.fileDB(new File(stateDirectory, DB_FILE_PREFIX + UUID.randomUUID()))
+                .fileMmapEnableIfSupported()
+                .fileDeleteAfterClose()
+                .closeOnJvmShutdown()
+                .make();
+        groups = db.hashMap(GROUPS_NAME, Serializer.LONG, Serializer.BYTE_ARRAY)
+                .counterEnable()
+                .create();
+        idsByIdentificationKeysHash = db.hashMap(IDS_BY_IDENTIFICATION_KEYS_HASH_NAME, Serializer.INTEGER, Serializer.LONG_ARRAY)
+                .create();
+        idsByConcludeTime = db.treeSet(IDS_BY_CONCLUDE_TIME_NAME, Serializer.LONG_ARRAY)
+                .create();
+    }
+
+    @Override
+    public synchronized void put(final long id, final int identificationKeysHash, final long concludeAtMillis, final byte[] group) {
+        groups.put(id, ByteBuffer.allocate(HEADER_LENGTH + group.length)
+                .putInt(identificationKeysHash)
+                .putLong(concludeAtMillis)
+                .put(group)
+                .array());
+        final long[] ids = idsByIdentificationKeysHash.get(identificationKeysHash);
+        if (ids == null) {
+            idsByIdentificationKeysHash.put(identificationKeysHash, new long[] {id});
+        } else {
+            final long[] newIds = Arrays.copyOf(ids, ids.length + 1);
+            newIds[ids.length] = id;
+            idsByIdentificationKeysHash.put(identificationKeysHash, newIds);
+        }
+        idsByConcludeTime.add(new long[] {concludeAtMillis, id});
+    }
+
+    @Override
+    public byte[] get(final long id) {
+        final byte[] storedGroup = groups.get(id);
+        return storedGroup == null ? null : Arrays.copyOfRange(storedGroup, HEADER_LENGTH, storedGroup.length);
+    }
+
+    @Override
+    public synchronized byte[] remove(final long id) {
+        final byte[] storedGroup = groups.remove(id);
+        if (storedGroup == null) {
+            return null;
+        }
+        final ByteBuffer header = ByteBuffer.wrap(storedGroup, 0, HEADER_LENGTH);
+        final int identificationKeysHash = header.getInt();
+        final long concludeAtMillis = header.getLong();
+        final long[] ids = idsByIdentificationKeysHash.get(identificationKeysHash);
+        if (ids.length == 1) {
+            idsByIdentificationKeysHash.remove(identificationKeysHash);
+        } else {
+            idsByIdentificationKeysHash.put(identificationKeysHash, Arrays.stream(ids).filter(storedId -> storedId != id).toArray());
+        }
+        idsByConcludeTime.remove(new long[] {concludeAtMillis, id});
+        return Arrays.copyOfRange(storedGroup, HEADER_LENGTH, storedGroup.length);
+    }
+
+    @Override
+    public List<Long> getIds(final int identificationKeysHash) {
+        final long[] ids = idsByIdentificationKeysHash.get(identificationKeysHash);
+        if (ids == null) {
+            return Collections.emptyList();
+        }
+        final List<Long> idList = new ArrayList<>(ids.length);
+        for (final long id : ids) {
+            idList.add(id);
+        }
+        return idList;
+    }
+
+    @Override
+    public synchronized List<Long> getIdsToConcludeBy(final long timeMillis, final int maxIds) {
+        final List<Long> ids = new ArrayList<>();
+        final Iterator<long[]> iterator = idsByConcludeTime.headSet(new long[] {timeMillis, Long.MAX_VALUE}, true).iterator();
+        while (ids.size() < maxIds && iterator.hasNext()) {
+            ids.add(iterator.next()[1]);
+        }
+        return ids;
+    }
+
+    @Override
+    public long size() {
+        return groups.sizeLong();
+    }
+
+    @Override
+    public void close() {
+        db.close();
+    }
+}
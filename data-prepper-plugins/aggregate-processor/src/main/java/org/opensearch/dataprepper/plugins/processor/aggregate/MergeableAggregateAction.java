@@ -0,0 +1,27 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+/**
+ * An {@link AggregateAction} whose group state can be built from independent partial group states. With the
+ * aggregate processor's thread_sharded mode, each worker thread calls
+ * {@link AggregateAction#handleEvent(org.opensearch.dataprepper.model.event.Event, AggregateActionInput)} with its own
+ * partial {@link GroupState}, so events of one group are handled by several threads at the same time. The partial
+ * group states are merged into the group state right before {@link AggregateAction#concludeGroup(AggregateActionInput)}.
+ * <p>
+ * Implementations must only be used for actions whose result does not depend on the order of the events in a group.
+ * @since 2.4
+ */
+public interface MergeableAggregateAction extends AggregateAction {
+    /**
+     * Merges a partial group state into the group state which will be concluded.
+     *
+     * @param groupState The group state of the group. It may be empty, or hold previously merged partial group states.
+     * @param partialGroupState A non-empty partial group state built by calls to handleEvent from one thread
+     * @since 2.4
+     */
+    void mergeGroupState(GroupState groupState, GroupState partialGroupState);
+}
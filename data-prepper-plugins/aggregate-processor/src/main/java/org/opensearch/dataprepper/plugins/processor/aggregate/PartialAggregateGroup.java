@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * The part of an {@link AggregateGroup} which is built by a single worker thread in thread_sharded mode. Its lock is
+ * only taken by the owning thread and by the thread concluding the group, so handling events does not contend with
+ * other worker threads. The partial group is closed and removed from its group once the group is concluded, and a thread
+ * which finds its partial group closed after taking the lock handles the event with a new partial group.
+ * @since 2.4
+ */
+class PartialAggregateGroup implements AggregateActionInput {
+    private final AggregateGroup aggregateGroup;
+    private final GroupState groupState;
+    private final Lock lock;
+    // Guarded by lock
+    private boolean closed;
+
+    PartialAggregateGroup(final AggregateGroup aggregateGroup) {
+        this.aggregateGroup = aggregateGroup;
+        this.groupState = new DefaultGroupState();
+        this.lock = new ReentrantLock();
+    }
+
+    @Override
+    public GroupState getGroupState() {
+        return groupState;
+    }
+
+    @Override
+    public Map<Object, Object> getIdentificationKeys() {
+        return aggregateGroup.getIdentificationKeys();
+    }
+
+    @Override
+    public void setCustomShouldConclude(final Function<Duration, Boolean> customShouldConclude) {
+        aggregateGroup.setCustomShouldConclude(customShouldConclude);
+    }
+
+    Lock getLock() {
+        return lock;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void close() {
+        closed = true;
+    }
+}
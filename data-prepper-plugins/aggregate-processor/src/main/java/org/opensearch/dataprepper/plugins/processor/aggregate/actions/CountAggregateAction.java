@@ -16,6 +16,7 @@ import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionInp
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionOutput;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
 import org.opensearch.dataprepper.plugins.processor.aggregate.GroupState;
+import org.opensearch.dataprepper.plugins.processor.aggregate.MergeableAggregateAction;
 import io.opentelemetry.proto.metrics.v1.AggregationTemporality;
 
 import java.time.Instant;
@@ -31,7 +32,7 @@ import java.util.HashMap;
  * @since 2.1
  */
 @DataPrepperPlugin(name = "count", pluginType = AggregateAction.class, pluginConfigurationType = CountAggregateActionConfig.class)
-public class CountAggregateAction implements AggregateAction {
+public class CountAggregateAction implements MergeableAggregateAction {
     private static final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
     static final String EVENT_TYPE = "event";
     static final String SUM_METRIC_NAME = "count";
@@ -70,6 +71,19 @@ public class CountAggregateAction implements AggregateAction {
         return AggregateActionResponse.nullEventResponse();
     }
 
+    @Override
+    public void mergeGroupState(final GroupState groupState, final GroupState partialGroupState) {
+        if (groupState.get(countKey) == null) {
+            groupState.putAll(partialGroupState);
+            return;
+        }
+        groupState.put(countKey, (Integer)groupState.get(countKey) + (Integer)partialGroupState.get(countKey));
+        final Instant partialStartTime = (Instant)partialGroupState.get(startTimeKey);
+        if (partialStartTime.isBefore((Instant)groupState.get(startTimeKey))) {
+            groupState.put(startTimeKey, partialStartTime);
+        }
+    }
+
     @Override
     public AggregateActionOutput concludeGroup(final AggregateActionInput aggregateActionInput) {
         GroupState groupState = aggregateActionInput.getGroupState();
@@ -17,6 +17,7 @@ import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionInp
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionOutput;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
 import org.opensearch.dataprepper.plugins.processor.aggregate.GroupState;
+import org.opensearch.dataprepper.plugins.processor.aggregate.MergeableAggregateAction;
 import static org.opensearch.dataprepper.plugins.processor.aggregate.AggregateProcessor.getTimeNanos;
 import io.opentelemetry.proto.metrics.v1.AggregationTemporality;
 import static org.opensearch.dataprepper.plugins.processor.otelmetrics.OTelMetricsProtoHelper.createBuckets;
@@ -36,7 +37,7 @@ import java.util.ArrayList;
  * @since 2.1
  */
 @DataPrepperPlugin(name = "histogram", pluginType = AggregateAction.class, pluginConfigurationType = HistogramAggregateActionConfig.class)
-public class HistogramAggregateAction implements AggregateAction {
+public class HistogramAggregateAction implements MergeableAggregateAction {
     private static final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
     private static final String EVENT_TYPE = "event";
     public static final String HISTOGRAM_METRIC_NAME = "histogram";
@@ -150,6 +151,33 @@ public class HistogramAggregateAction implements AggregateAction {
         return AggregateActionResponse.nullEventResponse();
     }
 
+    @Override
+    public void mergeGroupState(final GroupState groupState, final GroupState partialGroupState) {
+        if (groupState.get(bucketCountsKey) == null) {
+            groupState.putAll(partialGroupState);
+            return;
+        }
+        groupState.put(countKey, (Integer)groupState.get(countKey) + (Integer)partialGroupState.get(countKey));
+        groupState.put(sumKey, (double)groupState.get(sumKey) + (double)partialGroupState.get(sumKey));
+        final Long[] bucketCountsList = (Long[])groupState.get(bucketCountsKey);
+        final Long[] partialBucketCountsList = (Long[])partialGroupState.get(bucketCountsKey);
+        for (int i = 0; i < bucketCountsList.length; i++) {
+            bucketCountsList[i] += partialBucketCountsList[i];
+        }
+        if (this.recordMinMax) {
+            groupState.put(minKey, Math.min((double)groupState.get(minKey), (double)partialGroupState.get(minKey)));
+            groupState.put(maxKey, Math.max((double)groupState.get(maxKey), (double)partialGroupState.get(maxKey)));
+        }
+        final Instant partialStartTime = (Instant)partialGroupState.get(startTimeKey);
+        if (partialStartTime.isBefore((Instant)groupState.get(startTimeKey))) {
+            groupState.put(startTimeKey, partialStartTime);
+        }
+        final Instant partialEndTime = (Instant)partialGroupState.get(endTimeKey);
+        if (partialEndTime.isAfter((Instant)groupState.get(endTimeKey))) {
+            groupState.put(endTimeKey, partialEndTime);
+        }
+    }
+
     @Override
     public AggregateActionOutput concludeGroup(final AggregateActionInput aggregateActionInput) {
         GroupState groupState = aggregateActionInput.getGroupState();
@@ -20,6 +20,7 @@ import org.mockito.quality.Strictness;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.locks.Lock;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -27,7 +28,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -58,6 +62,21 @@ public class AggregateActionSynchronizerTest {
     @Mock
     private Lock handleEventForGroupLock;
 
+    @Mock
+    private MergeableAggregateAction mergeableAggregateAction;
+
+    @Mock
+    private PartialAggregateGroup partialAggregateGroup;
+
+    @Mock
+    private PartialAggregateGroup otherPartialAggregateGroup;
+
+    @Mock
+    private Lock partialGroupLock;
+
+    @Mock
+    private Lock otherPartialGroupLock;
+
     @Mock
     private Event event;
 
@@ -77,6 +96,7 @@ public class AggregateActionSynchronizerTest {
         doNothing().when(concludeGroupLock).unlock();
         doNothing().when(aggregateGroupManager).putGroupWithHash(identificationKeysMap, aggregateGroup);
         doNothing().when(aggregateGroupManager).closeGroup(identificationKeysMap, aggregateGroup);
+        when(aggregateGroupManager.markGroupUsed(identificationKeysMap, aggregateGroup)).thenReturn(true);
         when(aggregateGroupManager.getGroupDuration()).thenReturn(Duration.ZERO);
         when(aggregateGroup.getConcludeGroupLock()).thenReturn(concludeGroupLock);
         when(aggregateGroup.getHandleEventForGroupLock()).thenReturn(handleEventForGroupLock);
@@ -91,6 +111,11 @@ public class AggregateActionSynchronizerTest {
         return aggregateActionSynchronizerProvider.provide(aggregateAction, aggregateGroupManager, pluginMetrics);
     }
 
+    private AggregateActionSynchronizer createThreadShardedObjectUnderTest() {
+        final AggregateActionSynchronizer.AggregateActionSynchronizerProvider aggregateActionSynchronizerProvider = new AggregateActionSynchronizer.AggregateActionSynchronizerProvider();
+        return aggregateActionSynchronizerProvider.provide(mergeableAggregateAction, aggregateGroupManager, pluginMetrics, true);
+    }
+
     @Test
     void concludeGroup_with_tryLock_false_returns_empty_optional() {
         final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
@@ -118,6 +143,7 @@ public class AggregateActionSynchronizerTest {
 
         final InOrder inOrder = Mockito.inOrder(handleEventForGroupLock, aggregateAction, aggregateGroupManager, concludeGroupLock);
         inOrder.verify(handleEventForGroupLock).lock();
+        inOrder.verify(aggregateGroupManager).markGroupUsed(identificationKeysMap, aggregateGroup);
         inOrder.verify(aggregateAction).concludeGroup(aggregateGroup);
         inOrder.verify(aggregateGroupManager).closeGroup(identificationKeysMap, aggregateGroup);
         inOrder.verify(handleEventForGroupLock).unlock();
@@ -157,6 +183,7 @@ public class AggregateActionSynchronizerTest {
         inOrder.verify(concludeGroupLock).lock();
         inOrder.verify(concludeGroupLock).unlock();
         inOrder.verify(handleEventForGroupLock).lock();
+        inOrder.verify(aggregateGroupManager).markGroupUsed(identificationKeysMap, aggregateGroup);
         inOrder.verify(aggregateAction).handleEvent(event, aggregateGroup);
         inOrder.verify(aggregateGroupManager).putGroupWithHash(identificationKeysMap, aggregateGroup);
         inOrder.verify(handleEventForGroupLock).unlock();
@@ -164,6 +191,48 @@ public class AggregateActionSynchronizerTest {
         assertThat(handleEventResponse, equalTo(aggregateActionResponse));
     }
 
+    @Test
+    void handleEventForGroup_with_spilled_group_handles_the_event_with_the_group_read_back() {
+        final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
+        final AggregateGroup readBackGroup = mock(AggregateGroup.class);
+        final Lock readBackGroupLock = mock(Lock.class);
+        when(readBackGroup.getConcludeGroupLock()).thenReturn(concludeGroupLock);
+        when(readBackGroup.getHandleEventForGroupLock()).thenReturn(readBackGroupLock);
+        when(aggregateGroupManager.markGroupUsed(identificationKeysMap, aggregateGroup)).thenReturn(false);
+        when(aggregateGroupManager.getAggregateGroup(identificationKeysMap)).thenReturn(readBackGroup);
+        when(aggregateGroupManager.markGroupUsed(identificationKeysMap, readBackGroup)).thenReturn(true);
+        when(aggregateAction.handleEvent(event, readBackGroup)).thenReturn(aggregateActionResponse);
+
+        final AggregateActionResponse handleEventResponse = objectUnderTest.handleEventForGroup(event, identificationKeysMap, aggregateGroup);
+
+        final InOrder inOrder = Mockito.inOrder(handleEventForGroupLock, readBackGroupLock, aggregateAction, aggregateGroupManager);
+        inOrder.verify(handleEventForGroupLock).lock();
+        inOrder.verify(aggregateGroupManager).getAggregateGroup(identificationKeysMap);
+        inOrder.verify(handleEventForGroupLock).unlock();
+        inOrder.verify(readBackGroupLock).lock();
+        inOrder.verify(aggregateAction).handleEvent(event, readBackGroup);
+        inOrder.verify(aggregateGroupManager).putGroupWithHash(identificationKeysMap, readBackGroup);
+        inOrder.verify(readBackGroupLock).unlock();
+        verify(aggregateAction, never()).handleEvent(event, aggregateGroup);
+
+        assertThat(handleEventResponse, equalTo(aggregateActionResponse));
+    }
+
+    @Test
+    void concludeGroup_with_spilled_group_returns_empty_output() {
+        final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
+        when(concludeGroupLock.tryLock()).thenReturn(true);
+        when(aggregateGroupManager.markGroupUsed(identificationKeysMap, aggregateGroup)).thenReturn(false);
+
+        final AggregateActionOutput actionOutput = objectUnderTest.concludeGroup(identificationKeysMap, aggregateGroup, true);
+
+        assertTrue(actionOutput.getEvents().isEmpty());
+        verifyNoInteractions(aggregateAction);
+        verify(aggregateGroupManager, never()).closeGroup(identificationKeysMap, aggregateGroup);
+        verify(handleEventForGroupLock).unlock();
+        verify(concludeGroupLock).unlock();
+    }
+
     @Test
     void locks_are_unlocked_and_event_returned_when_aggregateAction_handleEvent_throws_exception() {
         final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
@@ -218,6 +287,7 @@ public class AggregateActionSynchronizerTest {
 
         final InOrder inOrder = Mockito.inOrder(handleEventForGroupLock, aggregateAction, aggregateGroupManager, concludeGroupLock);
         inOrder.verify(handleEventForGroupLock).lock();
+        inOrder.verify(aggregateGroupManager).markGroupUsed(identificationKeysMap, aggregateGroup);
         inOrder.verify(aggregateAction).concludeGroup(aggregateGroup);
         inOrder.verify(aggregateGroupManager).closeGroup(identificationKeysMap, aggregateGroup);
         inOrder.verify(handleEventForGroupLock).unlock();
@@ -226,4 +296,128 @@ public class AggregateActionSynchronizerTest {
         assertThat(concludeGroupEvents.size(), equalTo(1));
         assertThat(concludeGroupEvents.get(0), equalTo(event));
     }
+
+    @Test
+    void handleEventForGroup_with_thread_sharded_groups_only_locks_partial_group_of_current_thread() {
+        final AggregateActionSynchronizer objectUnderTest = createThreadShardedObjectUnderTest();
+        when(aggregateGroup.getPartialGroupForCurrentThread()).thenReturn(partialAggregateGroup);
+        when(partialAggregateGroup.getLock()).thenReturn(partialGroupLock);
+        when(mergeableAggregateAction.handleEvent(event, partialAggregateGroup)).thenReturn(aggregateActionResponse);
+
+        final AggregateActionResponse handleEventResponse = objectUnderTest.handleEventForGroup(event, identificationKeysMap, aggregateGroup);
+
+        final InOrder inOrder = Mockito.inOrder(partialGroupLock, mergeableAggregateAction, aggregateGroupManager);
+        inOrder.verify(partialGroupLock).lock();
+        inOrder.verify(mergeableAggregateAction).handleEvent(event, partialAggregateGroup);
+        inOrder.verify(aggregateGroupManager).putGroupWithHash(identificationKeysMap, aggregateGroup);
+        inOrder.verify(partialGroupLock).unlock();
+        verifyNoInteractions(concludeGroupLock);
+        verifyNoInteractions(handleEventForGroupLock);
+        verify(aggregateGroupManager, never()).markGroupUsed(identificationKeysMap, aggregateGroup);
+
+        assertThat(handleEventResponse, equalTo(aggregateActionResponse));
+    }
+
+    @Test
+    void handleEventForGroup_with_thread_sharded_groups_handles_the_event_with_a_new_partial_group_when_the_partial_group_was_closed() {
+        final AggregateActionSynchronizer objectUnderTest = createThreadShardedObjectUnderTest();
+        when(aggregateGroup.getPartialGroupForCurrentThread()).thenReturn(partialAggregateGroup, otherPartialAggregateGroup);
+        when(partialAggregateGroup.getLock()).thenReturn(partialGroupLock);
+        when(partialAggregateGroup.isClosed()).thenReturn(true);
+        when(otherPartialAggregateGroup.getLock()).thenReturn(otherPartialGroupLock);
+        when(mergeableAggregateAction.handleEvent(event, otherPartialAggregateGroup)).thenReturn(aggregateActionResponse);
+
+        final AggregateActionResponse handleEventResponse = objectUnderTest.handleEventForGroup(event, identificationKeysMap, aggregateGroup);
+
+        final InOrder inOrder = Mockito.inOrder(partialGroupLock, otherPartialGroupLock, mergeableAggregateAction, aggregateGroupManager);
+        inOrder.verify(partialGroupLock).lock();
+        inOrder.verify(partialGroupLock).unlock();
+        inOrder.verify(otherPartialGroupLock).lock();
+        inOrder.verify(mergeableAggregateAction).handleEvent(event, otherPartialAggregateGroup);
+        inOrder.verify(aggregateGroupManager).putGroupWithHash(identificationKeysMap, aggregateGroup);
+        inOrder.verify(otherPartialGroupLock).unlock();
+        verify(mergeableAggregateAction, never()).handleEvent(event, partialAggregateGroup);
+
+        assertThat(handleEventResponse, equalTo(aggregateActionResponse));
+    }
+
+    @Test
+    void partial_group_lock_is_unlocked_and_event_returned_when_thread_sharded_handleEvent_throws_exception() {
+        final AggregateActionSynchronizer objectUnderTest = createThreadShardedObjectUnderTest();
+        when(aggregateGroup.getPartialGroupForCurrentThread()).thenReturn(partialAggregateGroup);
+        when(partialAggregateGroup.getLock()).thenReturn(partialGroupLock);
+        when(mergeableAggregateAction.handleEvent(event, partialAggregateGroup)).thenThrow(RuntimeException.class);
+
+        final AggregateActionResponse handleEventResponse = objectUnderTest.handleEventForGroup(event, identificationKeysMap, aggregateGroup);
+
+        final InOrder inOrder = Mockito.inOrder(partialGroupLock, mergeableAggregateAction, actionHandleEventsProcessingErrors);
+        inOrder.verify(partialGroupLock).lock();
+        inOrder.verify(mergeableAggregateAction).handleEvent(event, partialAggregateGroup);
+        inOrder.verify(actionHandleEventsProcessingErrors).increment();
+        inOrder.verify(partialGroupLock).unlock();
+
+        assertThat(handleEventResponse, notNullValue());
+        assertThat(handleEventResponse.getEvent(), equalTo(event));
+    }
+
+    @Test
+    void concludeGroup_with_thread_sharded_groups_merges_non_empty_partial_group_states_before_concluding() {
+        final AggregateActionSynchronizer objectUnderTest = createThreadShardedObjectUnderTest();
+        final GroupState groupState = new DefaultGroupState();
+        final GroupState partialGroupState = new DefaultGroupState();
+        partialGroupState.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        final GroupState emptyPartialGroupState = new DefaultGroupState();
+        when(concludeGroupLock.tryLock()).thenReturn(true);
+        when(aggregateGroup.getGroupState()).thenReturn(groupState);
+        when(aggregateGroup.getPartialGroups()).thenReturn(List.of(partialAggregateGroup, otherPartialAggregateGroup));
+        when(partialAggregateGroup.getLock()).thenReturn(partialGroupLock);
+        when(partialAggregateGroup.getGroupState()).thenReturn(partialGroupState);
+        when(otherPartialAggregateGroup.getLock()).thenReturn(otherPartialGroupLock);
+        when(otherPartialAggregateGroup.getGroupState()).thenReturn(emptyPartialGroupState);
+        when(mergeableAggregateAction.concludeGroup(aggregateGroup)).thenReturn(new AggregateActionOutput(List.of(event)));
+
+        final AggregateActionOutput actionOutput = objectUnderTest.concludeGroup(identificationKeysMap, aggregateGroup, false);
+
+        final InOrder inOrder = Mockito.inOrder(handleEventForGroupLock, partialGroupLock, otherPartialGroupLock, mergeableAggregateAction, aggregateGroupManager, aggregateGroup, concludeGroupLock);
+        inOrder.verify(handleEventForGroupLock).lock();
+        inOrder.verify(partialGroupLock).lock();
+        inOrder.verify(mergeableAggregateAction).mergeGroupState(same(groupState), same(partialGroupState));
+        inOrder.verify(otherPartialGroupLock).lock();
+        inOrder.verify(mergeableAggregateAction).concludeGroup(aggregateGroup);
+        inOrder.verify(aggregateGroupManager).closeGroup(identificationKeysMap, aggregateGroup);
+        inOrder.verify(aggregateGroup).removePartialGroups();
+        inOrder.verify(partialGroupLock).unlock();
+        inOrder.verify(otherPartialGroupLock).unlock();
+        inOrder.verify(handleEventForGroupLock).unlock();
+        inOrder.verify(concludeGroupLock).unlock();
+        verify(mergeableAggregateAction, never()).mergeGroupState(any(), same(emptyPartialGroupState));
+
+        assertTrue(partialGroupState.isEmpty());
+        assertThat(actionOutput.getEvents(), equalTo(List.of(event)));
+    }
+
+    @Test
+    void partial_group_locks_are_unlocked_when_thread_sharded_mergeGroupState_throws_exception() {
+        final AggregateActionSynchronizer objectUnderTest = createThreadShardedObjectUnderTest();
+        final GroupState partialGroupState = new DefaultGroupState();
+        partialGroupState.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        when(concludeGroupLock.tryLock()).thenReturn(true);
+        when(aggregateGroup.getPartialGroups()).thenReturn(List.of(partialAggregateGroup, otherPartialAggregateGroup));
+        when(partialAggregateGroup.getLock()).thenReturn(partialGroupLock);
+        when(partialAggregateGroup.getGroupState()).thenReturn(partialGroupState);
+        Mockito.doThrow(RuntimeException.class).when(mergeableAggregateAction).mergeGroupState(any(), any());
+
+        final AggregateActionOutput actionOutput = objectUnderTest.concludeGroup(identificationKeysMap, aggregateGroup, false);
+
+        final InOrder inOrder = Mockito.inOrder(partialGroupLock, actionConcludeGroupEventsProcessingErrors, handleEventForGroupLock, concludeGroupLock);
+        inOrder.verify(partialGroupLock).lock();
+        inOrder.verify(partialGroupLock).unlock();
+        inOrder.verify(actionConcludeGroupEventsProcessingErrors).increment();
+        inOrder.verify(handleEventForGroupLock).unlock();
+        inOrder.verify(concludeGroupLock).unlock();
+        verifyNoInteractions(otherPartialGroupLock);
+        verify(aggregateGroupManager, never()).closeGroup(identificationKeysMap, aggregateGroup);
+
+        assertTrue(actionOutput.getEvents().isEmpty());
+    }
 }
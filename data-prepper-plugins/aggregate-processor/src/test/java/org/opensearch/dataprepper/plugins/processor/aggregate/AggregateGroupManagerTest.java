@@ -7,37 +7,57 @@ package org.opensearch.dataprepper.plugins.processor.aggregate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.File;
+import java.lang.reflect.Field;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class AggregateGroupManagerTest {
 
+    @TempDir
+    File stateDirectory;
+
     private AggregateGroupManager aggregateGroupManager;
 
     private AggregateIdentificationKeysHasher.IdentificationKeysMap identificationKeysMap;
 
     private static final Duration TEST_GROUP_DURATION = Duration.ofSeconds(new Random().nextInt(10) + 10);
 
+    private static final Duration SHORT_GROUP_DURATION = Duration.ofMillis(200);
+
     @BeforeEach
     void setup() {
-        final Map<Object, Object> identificationKeysHash = new HashMap<>();
-        identificationKeysHash.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
-
-        identificationKeysMap = new AggregateIdentificationKeysHasher.IdentificationKeysMap(identificationKeysHash);
+        identificationKeysMap = new AggregateIdentificationKeysHasher.IdentificationKeysMap(
+                Collections.singletonList(UUID.randomUUID().toString()), new Object[] {UUID.randomUUID().toString()});
     }
 
     private AggregateGroupManager createObjectUnderTest() {
@@ -75,27 +95,26 @@ public class AggregateGroupManagerTest {
     void putGroupWithHash_overwrites_old_group() {
         aggregateGroupManager = createObjectUnderTest();
 
-        final AggregateGroup expectedOldGroup = mock(AggregateGroup.class);
+        final AggregateGroup expectedOldGroup = new AggregateGroup(Collections.emptyMap());
         aggregateGroupManager.putGroupWithHash(identificationKeysMap, expectedOldGroup);
         final AggregateGroup oldGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
         assertThat(oldGroup, equalTo(expectedOldGroup));
 
-        final AggregateGroup expectedNewGroup = mock(AggregateGroup.class);
+        final AggregateGroup expectedNewGroup = new AggregateGroup(Collections.emptyMap());
         aggregateGroupManager.putGroupWithHash(identificationKeysMap, expectedNewGroup);
         final AggregateGroup newGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
         assertThat(newGroup, equalTo(expectedNewGroup));
     }
 
     @Test
-    void getGroupsToConclude_returns_correct_group() {
+    void getGroupsToConclude_returns_correct_group() throws NoSuchFieldException, IllegalAccessException {
         aggregateGroupManager = createObjectUnderTest();
 
-        final AggregateGroup groupToConclude = mock(AggregateGroup.class);
-        when(groupToConclude.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(true);
+        final AggregateGroup groupToConclude = new AggregateGroup(Collections.emptyMap());
+        reflectivelySetGroupStart(groupToConclude, Instant.now().minus(TEST_GROUP_DURATION));
         final AggregateIdentificationKeysHasher.IdentificationKeysMap hashForGroupToConclude = mock(AggregateIdentificationKeysHasher.IdentificationKeysMap.class);
 
-        final AggregateGroup groupToNotConclude = mock(AggregateGroup.class);
-        when(groupToNotConclude.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(false);
+        final AggregateGroup groupToNotConclude = new AggregateGroup(Collections.emptyMap());
         final AggregateIdentificationKeysHasher.IdentificationKeysMap hashForGroupToNotConclude = mock(AggregateIdentificationKeysHasher.IdentificationKeysMap.class);
 
         aggregateGroupManager.putGroupWithHash(hashForGroupToConclude, groupToConclude);
@@ -107,18 +126,113 @@ public class AggregateGroupManagerTest {
         assertThat(groupsToConclude.get(0), notNullValue());
         assertThat(groupsToConclude.get(0).getKey(), equalTo(hashForGroupToConclude));
         assertThat(groupsToConclude.get(0).getValue(), equalTo(groupToConclude));
+        assertThat(aggregateGroupManager.getLastConcludeCheckGroups(), equalTo(1L));
+        assertThat(aggregateGroupManager.getLastConcludeCheckMillis(), greaterThanOrEqualTo(0.0));
+    }
+
+    @Test
+    void getGroupsToConclude_does_not_return_closed_group() throws NoSuchFieldException, IllegalAccessException {
+        aggregateGroupManager = createObjectUnderTest();
+
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+        reflectivelySetGroupStart(aggregateGroup, Instant.now().minus(TEST_GROUP_DURATION));
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, aggregateGroup);
+        aggregateGroupManager.closeGroup(identificationKeysMap, aggregateGroup);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+        assertThat(aggregateGroupManager.getLastConcludeCheckGroups(), equalTo(0L));
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(0L));
+    }
+
+    @Test
+    void getGroupsToConclude_returns_group_with_custom_should_conclude_before_group_duration() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+        aggregateGroup.setCustomShouldConclude(duration -> true);
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, aggregateGroup);
+
+        final List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getKey(), equalTo(identificationKeysMap));
+        assertThat(groupsToConclude.get(0).getValue(), equalTo(aggregateGroup));
+    }
+
+    @Test
+    void putGroupWithHash_keeps_the_conclude_check_of_a_group_which_is_already_held() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+        final GroupConcludeCheck concludeCheck = aggregateGroup.getConcludeCheck();
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, aggregateGroup);
+
+        assertThat(aggregateGroup.getConcludeCheck(), equalTo(concludeCheck));
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(1L));
+    }
+
+    @Test
+    void getGroupsToConclude_checks_group_with_custom_should_conclude_again_after_recheck_interval() throws InterruptedException {
+        aggregateGroupManager = new AggregateGroupManager(SHORT_GROUP_DURATION);
+
+        final AtomicBoolean shouldConclude = new AtomicBoolean(false);
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+        aggregateGroup.setCustomShouldConclude(duration -> shouldConclude.get());
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, aggregateGroup);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+
+        shouldConclude.set(true);
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, aggregateGroup);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+
+        Thread.sleep(SHORT_GROUP_DURATION.toMillis() * 2);
+        final List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getValue(), equalTo(aggregateGroup));
+    }
+
+    @Test
+    void getGroupsToConclude_returns_group_again_when_it_was_not_closed() throws InterruptedException {
+        aggregateGroupManager = new AggregateGroupManager(SHORT_GROUP_DURATION);
+
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, aggregateGroup);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+
+        Thread.sleep(SHORT_GROUP_DURATION.toMillis() * 2);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(1));
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+
+        Thread.sleep(SHORT_GROUP_DURATION.toMillis() * 2);
+        final List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getValue(), equalTo(aggregateGroup));
+    }
+
+    @Test
+    void getGroupsToConclude_checks_group_again_when_it_was_not_ready_to_conclude_when_due() throws NoSuchFieldException, IllegalAccessException {
+        aggregateGroupManager = createObjectUnderTest();
+
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+        reflectivelySetGroupStart(aggregateGroup, Instant.now().minus(TEST_GROUP_DURATION));
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, aggregateGroup);
+        reflectivelySetGroupStart(aggregateGroup, Instant.now());
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(1L));
     }
 
     @Test
     void getGroupsToConclude_with_force_conclude_return_all() {
         aggregateGroupManager = createObjectUnderTest();
 
-        final AggregateGroup groupToConclude1 = mock(AggregateGroup.class);
+        final AggregateGroup groupToConclude1 = new AggregateGroup(Collections.emptyMap());
         final AggregateIdentificationKeysHasher.IdentificationKeysMap hashForGroupToConclude1 = mock(AggregateIdentificationKeysHasher.IdentificationKeysMap.class);
 
-        final AggregateGroup groupToConclude2 = mock(AggregateGroup.class);
+        final AggregateGroup groupToConclude2 = new AggregateGroup(Collections.emptyMap());
         final AggregateIdentificationKeysHasher.IdentificationKeysMap hashForGroupToConclude2 = mock(AggregateIdentificationKeysHasher.IdentificationKeysMap.class);
-
         aggregateGroupManager.putGroupWithHash(hashForGroupToConclude1, groupToConclude1);
         aggregateGroupManager.putGroupWithHash(hashForGroupToConclude2, groupToConclude2);
 
@@ -140,4 +254,258 @@ public class AggregateGroupManagerTest {
             assertThat(groupsToConclude.get(1).getValue(), equalTo(groupToConclude1));
         }
     }
+
+    private void reflectivelySetGroupStart(final AggregateGroup aggregateGroup, final Instant groupStart) throws NoSuchFieldException, IllegalAccessException {
+        final Field field = AggregateGroup.class.getDeclaredField("groupStart");
+        try {
+            field.setAccessible(true);
+            field.set(aggregateGroup, groupStart);
+        } finally {
+            field.setAccessible(false);
+        }
+    }
+
+    @Test
+    void markGroupUsed_without_group_state_store_does_not_spill_groups() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        final AggregateGroup aggregateGroup = createGroupWithState(aggregateGroupManager);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+
+        assertThat(aggregateGroup.isTrackedForSpilling(), equalTo(false));
+        assertThat(aggregateGroup.isSpilled(), equalTo(false));
+        assertThat(aggregateGroupManager.getSpilledGroupsSize(), equalTo(0L));
+        aggregateGroupManager.close();
+    }
+
+    @Test
+    void getGroupsToConclude_spills_groups_not_used_recently_and_getAggregateGroup_reads_them_back() {
+        aggregateGroupManager = new AggregateGroupManager(TEST_GROUP_DURATION, new MapDbAggregateGroupStateStore(stateDirectory), 1);
+
+        final AggregateGroup firstGroup = createGroupWithState(aggregateGroupManager);
+        final AggregateIdentificationKeysHasher.IdentificationKeysMap firstIdentificationKeysMap = identificationKeysMap;
+        final Map<Object, Object> firstGroupState = new HashMap<>(firstGroup.getGroupState());
+        final GroupConcludeCheck firstConcludeCheck = firstGroup.getConcludeCheck();
+        final AggregateGroup secondGroup = createGroupWithState(aggregateGroupManager);
+        final Map<Object, Object> secondGroupState = new HashMap<>(secondGroup.getGroupState());
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+
+        assertThat(firstGroup.isSpilled(), equalTo(true));
+        assertThat(firstGroup.getGroupState(), equalTo(Collections.emptyMap()));
+        assertThat(firstGroup.isTrackedForSpilling(), equalTo(false));
+        assertThat(firstConcludeCheck.getAggregateGroup(), nullValue());
+        assertThat(aggregateGroupManager.markGroupUsed(firstIdentificationKeysMap, firstGroup), equalTo(false));
+        assertThat(secondGroup.isSpilled(), equalTo(false));
+        assertThat(secondGroup.getGroupState(), equalTo(secondGroupState));
+        assertThat(aggregateGroupManager.getSpilledGroupsSize(), equalTo(1L));
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(2L));
+
+        final AggregateGroup readBackGroup = aggregateGroupManager.getAggregateGroup(firstIdentificationKeysMap);
+
+        assertThat(readBackGroup, not(sameInstance(firstGroup)));
+        assertThat(readBackGroup.getGroupState(), equalTo(firstGroupState));
+        assertThat(readBackGroup.getGroupStart(), equalTo(firstGroup.getGroupStart()));
+        assertThat(readBackGroup.getIdentificationKeys(), equalTo(firstIdentificationKeysMap.getKeyMap()));
+        assertThat(aggregateGroupManager.markGroupUsed(firstIdentificationKeysMap, readBackGroup), equalTo(true));
+        assertThat(readBackGroup.isTrackedForSpilling(), equalTo(true));
+        assertThat(aggregateGroupManager.getSpilledGroupsSize(), equalTo(0L));
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(2L));
+        aggregateGroupManager.close();
+    }
+
+    @Test
+    void getAggregateGroup_does_not_read_back_spilled_group_with_other_identification_keys_of_the_same_hash() {
+        aggregateGroupManager = new AggregateGroupManager(TEST_GROUP_DURATION, new MapDbAggregateGroupStateStore(stateDirectory), 0);
+        final List<String> identificationKeys = Collections.singletonList(UUID.randomUUID().toString());
+        final AggregateIdentificationKeysHasher.IdentificationKeysMap spilledIdentificationKeysMap =
+                new AggregateIdentificationKeysHasher.IdentificationKeysMap(identificationKeys, new Object[] {"Aa"});
+        final AggregateIdentificationKeysHasher.IdentificationKeysMap otherIdentificationKeysMap =
+                new AggregateIdentificationKeysHasher.IdentificationKeysMap(identificationKeys, new Object[] {"BB"});
+        assertThat(otherIdentificationKeysMap.hashCode(), equalTo(spilledIdentificationKeysMap.hashCode()));
+        final AggregateGroup spilledGroup = aggregateGroupManager.getAggregateGroup(spilledIdentificationKeysMap);
+        aggregateGroupManager.markGroupUsed(spilledIdentificationKeysMap, spilledGroup);
+        spilledGroup.getGroupState().put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        spilledGroup.setRecentlyUsed(false);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+        assertThat(spilledGroup.isSpilled(), equalTo(true));
+
+        final AggregateGroup otherGroup = aggregateGroupManager.getAggregateGroup(otherIdentificationKeysMap);
+
+        assertThat(otherGroup.getGroupState(), equalTo(Collections.emptyMap()));
+        assertThat(aggregateGroupManager.getSpilledGroupsSize(), equalTo(1L));
+        aggregateGroupManager.close();
+    }
+
+    @Test
+    void getGroupsToConclude_reads_back_spilled_groups_which_are_due() throws InterruptedException {
+        aggregateGroupManager = new AggregateGroupManager(SHORT_GROUP_DURATION, new MapDbAggregateGroupStateStore(stateDirectory), 1);
+
+        final AggregateGroup spilledGroup = createGroupWithState(aggregateGroupManager);
+        final AggregateIdentificationKeysHasher.IdentificationKeysMap spilledIdentificationKeysMap = identificationKeysMap;
+        final Map<Object, Object> spilledGroupState = new HashMap<>(spilledGroup.getGroupState());
+        final AggregateGroup inMemoryGroup = createGroupWithState(aggregateGroupManager);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+        assertThat(spilledGroup.isSpilled(), equalTo(true));
+
+        Thread.sleep(SHORT_GROUP_DURATION.toMillis() * 2);
+        final List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+
+        assertThat(groupsToConclude.size(), equalTo(2));
+        final Map<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupsToConcludeByKeys = new HashMap<>();
+        groupsToConclude.forEach(groupEntry -> groupsToConcludeByKeys.put(groupEntry.getKey(), groupEntry.getValue()));
+        assertThat(groupsToConcludeByKeys.get(spilledIdentificationKeysMap).getGroupState(), equalTo(spilledGroupState));
+        assertThat(groupsToConcludeByKeys.get(identificationKeysMap), sameInstance(inMemoryGroup));
+        assertThat(aggregateGroupManager.getSpilledGroupsSize(), equalTo(0L));
+        aggregateGroupManager.close();
+    }
+
+    @Test
+    void getGroupsToConclude_with_force_conclude_reads_back_spilled_groups() {
+        aggregateGroupManager = new AggregateGroupManager(TEST_GROUP_DURATION, new MapDbAggregateGroupStateStore(stateDirectory), 1);
+
+        final AggregateGroup spilledGroup = createGroupWithState(aggregateGroupManager);
+        final AggregateIdentificationKeysHasher.IdentificationKeysMap spilledIdentificationKeysMap = identificationKeysMap;
+        final Map<Object, Object> spilledGroupState = new HashMap<>(spilledGroup.getGroupState());
+        createGroupWithState(aggregateGroupManager);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+        assertThat(spilledGroup.isSpilled(), equalTo(true));
+
+        final List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(true);
+
+        assertThat(groupsToConclude.size(), equalTo(2));
+        assertThat(groupsToConclude.stream()
+                .filter(groupEntry -> groupEntry.getKey().equals(spilledIdentificationKeysMap))
+                .findFirst().get().getValue().getGroupState(), equalTo(spilledGroupState));
+        assertThat(aggregateGroupManager.getSpilledGroupsSize(), equalTo(0L));
+        aggregateGroupManager.close();
+    }
+
+    @Test
+    void getGroupsToConclude_skips_spilled_groups_which_were_read_back_by_another_thread() {
+        final AggregateGroupStateStore groupStateStore = mock(AggregateGroupStateStore.class);
+        aggregateGroupManager = new AggregateGroupManager(TEST_GROUP_DURATION, groupStateStore, 1);
+        final long id = new Random().nextLong();
+        when(groupStateStore.getIdsToConcludeBy(anyLong(), eq(1))).thenReturn(List.of(id));
+        when(groupStateStore.getIds(identificationKeysMap.hashCode())).thenReturn(List.of(id));
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+
+        assertThat(aggregateGroup.getGroupState(), equalTo(Collections.emptyMap()));
+        verify(groupStateStore, times(2)).get(id);
+        verify(groupStateStore, never()).remove(id);
+    }
+
+    @Test
+    void getGroupsToConclude_does_not_spill_groups_which_cannot_be_serialized() {
+        final AggregateGroupStateStore groupStateStore = mock(AggregateGroupStateStore.class);
+        aggregateGroupManager = new AggregateGroupManager(TEST_GROUP_DURATION, groupStateStore, 0);
+
+        final AggregateGroup aggregateGroup = createGroupWithState(aggregateGroupManager);
+        aggregateGroup.getGroupState().put(UUID.randomUUID().toString(), new Object());
+        aggregateGroup.setRecentlyUsed(false);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+
+        verify(groupStateStore, never()).put(anyLong(), anyInt(), anyLong(), any(byte[].class));
+        assertThat(aggregateGroup.isSpillable(), equalTo(false));
+        assertThat(aggregateGroupManager.markGroupUsed(identificationKeysMap, aggregateGroup), equalTo(true));
+        assertThat(aggregateGroup.isTrackedForSpilling(), equalTo(false));
+
+        aggregateGroup.resetGroup();
+        assertThat(aggregateGroup.isSpillable(), equalTo(true));
+    }
+
+    @Test
+    void getGroupsToConclude_does_not_spill_groups_with_custom_should_conclude() {
+        final AggregateGroupStateStore groupStateStore = mock(AggregateGroupStateStore.class);
+        aggregateGroupManager = new AggregateGroupManager(TEST_GROUP_DURATION, groupStateStore, 0);
+
+        final AggregateGroup aggregateGroup = createGroupWithState(aggregateGroupManager);
+        aggregateGroup.setCustomShouldConclude(duration -> false);
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, aggregateGroup);
+        aggregateGroup.setRecentlyUsed(false);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+
+        verify(groupStateStore, never()).put(anyLong(), anyInt(), anyLong(), any(byte[].class));
+        assertThat(aggregateGroup.isSpillable(), equalTo(false));
+    }
+
+    @Test
+    void getGroupsToConclude_stops_tracking_groups_without_state() {
+        final AggregateGroupStateStore groupStateStore = mock(AggregateGroupStateStore.class);
+        aggregateGroupManager = new AggregateGroupManager(TEST_GROUP_DURATION, groupStateStore, 0);
+
+        final AggregateGroup aggregateGroup = createGroupWithState(aggregateGroupManager);
+        aggregateGroupManager.closeGroup(identificationKeysMap, aggregateGroup);
+        aggregateGroup.setRecentlyUsed(false);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+
+        verify(groupStateStore, never()).put(anyLong(), anyInt(), anyLong(), any(byte[].class));
+        assertThat(aggregateGroup.isTrackedForSpilling(), equalTo(false));
+        assertThat(aggregateGroup.isSpillable(), equalTo(true));
+    }
+
+    @Test
+    void getGroupsToConclude_does_not_spill_groups_which_were_replaced() {
+        final AggregateGroupStateStore groupStateStore = mock(AggregateGroupStateStore.class);
+        aggregateGroupManager = new AggregateGroupManager(TEST_GROUP_DURATION, groupStateStore, 0);
+
+        final AggregateGroup aggregateGroup = createGroupWithState(aggregateGroupManager);
+        aggregateGroup.setRecentlyUsed(false);
+        final AggregateGroup replacingGroup = new AggregateGroup(identificationKeysMap.getKeyMap());
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, replacingGroup);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+
+        verify(groupStateStore, never()).put(anyLong(), anyInt(), anyLong(), any(byte[].class));
+        assertThat(aggregateGroup.isSpilled(), equalTo(false));
+        assertThat(aggregateGroupManager.getAggregateGroup(identificationKeysMap), sameInstance(replacingGroup));
+    }
+
+    @Test
+    void getGroupsToConclude_does_not_spill_groups_locked_by_another_thread() throws Exception {
+        final AggregateGroupStateStore groupStateStore = mock(AggregateGroupStateStore.class);
+        aggregateGroupManager = new AggregateGroupManager(TEST_GROUP_DURATION, groupStateStore, 0);
+
+        final AggregateGroup aggregateGroup = createGroupWithState(aggregateGroupManager);
+        aggregateGroup.setRecentlyUsed(false);
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            executorService.submit(() -> aggregateGroup.getHandleEventForGroupLock().lock()).get();
+
+            assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+
+            verify(groupStateStore, never()).put(anyLong(), anyInt(), anyLong(), any(byte[].class));
+            assertThat(aggregateGroup.isTrackedForSpilling(), equalTo(true));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void close_closes_the_group_state_store() {
+        final AggregateGroupStateStore groupStateStore = mock(AggregateGroupStateStore.class);
+        aggregateGroupManager = new AggregateGroupManager(TEST_GROUP_DURATION, groupStateStore, 0);
+
+        aggregateGroupManager.close();
+
+        verify(groupStateStore).close();
+    }
+
+    private AggregateGroup createGroupWithState(final AggregateGroupManager aggregateGroupManager) {
+        final AggregateIdentificationKeysHasher.IdentificationKeysMap groupIdentificationKeysMap = new AggregateIdentificationKeysHasher.IdentificationKeysMap(
+                Collections.singletonList(UUID.randomUUID().toString()), new Object[] {UUID.randomUUID().toString()});
+        identificationKeysMap = groupIdentificationKeysMap;
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(groupIdentificationKeysMap);
+        aggregateGroupManager.markGroupUsed(groupIdentificationKeysMap, aggregateGroup);
+        aggregateGroup.getGroupState().put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        aggregateGroup.getGroupState().put(UUID.randomUUID().toString(), Instant.now());
+        aggregateGroupManager.putGroupWithHash(groupIdentificationKeysMap, aggregateGroup);
+        return aggregateGroup;
+    }
 }
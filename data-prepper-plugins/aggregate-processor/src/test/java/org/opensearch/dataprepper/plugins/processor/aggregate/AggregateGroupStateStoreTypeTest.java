@@ -0,0 +1,30 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AggregateGroupStateStoreTypeTest {
+    @ParameterizedTest
+    @EnumSource(AggregateGroupStateStoreType.class)
+    void fromOptionValue_returns_the_type_for_its_option(final AggregateGroupStateStoreType stateStoreType) {
+        assertThat(AggregateGroupStateStoreType.fromOptionValue(stateStoreType.toString()), equalTo(stateStoreType));
+        assertThat(AggregateGroupStateStoreType.fromOptionValue(stateStoreType.toString().toUpperCase()), equalTo(stateStoreType));
+    }
+
+    @Test
+    void fromOptionValue_throws_for_an_unknown_option() {
+        assertThrows(IllegalArgumentException.class, () -> AggregateGroupStateStoreType.fromOptionValue(UUID.randomUUID().toString()));
+    }
+}
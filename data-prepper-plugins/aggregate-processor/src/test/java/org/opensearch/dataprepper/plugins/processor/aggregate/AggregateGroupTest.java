@@ -11,11 +11,19 @@ import java.lang.reflect.Field;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
 public class AggregateGroupTest {
 
@@ -50,6 +58,52 @@ public class AggregateGroupTest {
         assertThat(aggregateGroup.shouldConcludeGroup(TEST_GROUP_DURATION), equalTo(false));
     }
 
+    @Test
+    void getPartialGroupForCurrentThread_returns_one_partial_group_per_thread() throws Exception {
+        final AggregateGroup aggregateGroup = new AggregateGroup(null);
+
+        final PartialAggregateGroup partialGroup = aggregateGroup.getPartialGroupForCurrentThread();
+        assertThat(aggregateGroup.getPartialGroupForCurrentThread(), sameInstance(partialGroup));
+
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<PartialAggregateGroup> otherPartialGroup = executorService.submit(aggregateGroup::getPartialGroupForCurrentThread);
+            assertThat(otherPartialGroup.get(), not(sameInstance(partialGroup)));
+            assertThat(aggregateGroup.getPartialGroups(), containsInAnyOrder(partialGroup, otherPartialGroup.get()));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void removePartialGroups_closes_and_removes_the_partial_groups() {
+        final AggregateGroup aggregateGroup = new AggregateGroup(null);
+        final PartialAggregateGroup partialGroup = aggregateGroup.getPartialGroupForCurrentThread();
+        assertThat(partialGroup.isClosed(), equalTo(false));
+
+        aggregateGroup.removePartialGroups();
+
+        assertThat(partialGroup.isClosed(), equalTo(true));
+        assertThat(aggregateGroup.getPartialGroups(), empty());
+        final PartialAggregateGroup newPartialGroup = aggregateGroup.getPartialGroupForCurrentThread();
+        assertThat(newPartialGroup, not(sameInstance(partialGroup)));
+        assertThat(newPartialGroup.isClosed(), equalTo(false));
+    }
+
+    @Test
+    void partial_group_uses_identification_keys_and_custom_should_conclude_of_group() {
+        final Map<Object, Object> identificationKeys = Collections.singletonMap(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        final AggregateGroup aggregateGroup = new AggregateGroup(identificationKeys);
+        final PartialAggregateGroup partialGroup = aggregateGroup.getPartialGroupForCurrentThread();
+
+        partialGroup.setCustomShouldConclude(duration -> false);
+
+        assertThat(partialGroup.getIdentificationKeys(), equalTo(identificationKeys));
+        assertThat(partialGroup.getGroupState(), not(sameInstance(aggregateGroup.getGroupState())));
+        assertThat(aggregateGroup.hasCustomShouldConclude(), equalTo(true));
+        assertThat(aggregateGroup.shouldConcludeGroup(Duration.ZERO), equalTo(false));
+    }
+
     private void reflectivelySetField(final AggregateGroup aggregateGroup, final String fieldName, final Object value) throws NoSuchFieldException, IllegalAccessException {
         final Field field = AggregateGroup.class.getDeclaredField(fieldName);
         try {
@@ -44,7 +44,9 @@ public class AggregateIdentificationKeysHasherTest {
         eventMap.put("firstIdentificationKey", UUID.randomUUID().toString());
         eventMap.put("secondIdentificationKey", UUID.randomUUID().toString());
 
-        final AggregateIdentificationKeysHasher.IdentificationKeysMap expectedResult = new AggregateIdentificationKeysHasher.IdentificationKeysMap(new HashMap<>(eventMap));
+        final AggregateIdentificationKeysHasher.IdentificationKeysMap expectedResult = new AggregateIdentificationKeysHasher.IdentificationKeysMap(
+                identificationKeys, new Object[] {eventMap.get("firstIdentificationKey"), eventMap.get("secondIdentificationKey")});
+        final Map<Object, Object> expectedKeyMap = new HashMap<>(eventMap);
 
         eventMap.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
 
@@ -55,6 +57,9 @@ public class AggregateIdentificationKeysHasherTest {
 
         final AggregateIdentificationKeysHasher.IdentificationKeysMap result = aggregateIdentificationKeysHasher.createIdentificationKeysMapFromEvent(event);
         assertThat(result, equalTo(expectedResult));
+        assertThat(result.hashCode(), equalTo(expectedResult.hashCode()));
+        assertThat(result.getKeyMap(), equalTo(expectedKeyMap));
+        assertThat(new ArrayList<>(result.getKeyMap().keySet()), equalTo(identificationKeys));
     }
 
     @Test
@@ -66,7 +71,8 @@ public class AggregateIdentificationKeysHasherTest {
         final Map<Object, Object> mapForExpectedHash = new HashMap<>(eventMap);
         mapForExpectedHash.put("secondIdentificationKey", null);
 
-        final AggregateIdentificationKeysHasher.IdentificationKeysMap expectedResult = new AggregateIdentificationKeysHasher.IdentificationKeysMap(mapForExpectedHash);
+        final AggregateIdentificationKeysHasher.IdentificationKeysMap expectedResult = new AggregateIdentificationKeysHasher.IdentificationKeysMap(
+                identificationKeys, new Object[] {eventMap.get("firstIdentificationKey"), null});
 
         eventMap.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
 
@@ -77,6 +83,7 @@ public class AggregateIdentificationKeysHasherTest {
 
         final AggregateIdentificationKeysHasher.IdentificationKeysMap result = aggregateIdentificationKeysHasher.createIdentificationKeysMapFromEvent(event);
         assertThat(result, equalTo(expectedResult));
+        assertThat(result.getKeyMap(), equalTo(mapForExpectedHash));
     }
 
     @Test
@@ -124,4 +131,20 @@ public class AggregateIdentificationKeysHasherTest {
 
         assertThat(result, is(not(equalTo(secondResult))));
     }
+
+    @Test
+    void identification_key_values_for_different_identification_keys_are_not_considered_equal() {
+        final Object[] identificationKeyValues = new Object[] {UUID.randomUUID().toString(), UUID.randomUUID().toString()};
+        final List<String> otherIdentificationKeys = new ArrayList<>(identificationKeys);
+        otherIdentificationKeys.set(0, UUID.randomUUID().toString());
+
+        final AggregateIdentificationKeysHasher.IdentificationKeysMap identificationKeysMap =
+                new AggregateIdentificationKeysHasher.IdentificationKeysMap(identificationKeys, identificationKeyValues);
+
+        assertThat(identificationKeysMap, equalTo(identificationKeysMap));
+        assertThat(identificationKeysMap, equalTo(new AggregateIdentificationKeysHasher.IdentificationKeysMap(new ArrayList<>(identificationKeys), identificationKeyValues.clone())));
+        assertThat(identificationKeysMap, is(not(equalTo(new AggregateIdentificationKeysHasher.IdentificationKeysMap(otherIdentificationKeys, identificationKeyValues.clone())))));
+        assertThat(identificationKeysMap, is(not(equalTo(null))));
+        assertThat(identificationKeysMap, is(not(equalTo((Object) UUID.randomUUID().toString()))));
+    }
 }
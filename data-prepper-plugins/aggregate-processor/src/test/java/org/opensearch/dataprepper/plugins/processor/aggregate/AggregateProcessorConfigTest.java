@@ -6,7 +6,10 @@
 package org.opensearch.dataprepper.plugins.processor.aggregate;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
+import java.lang.reflect.Field;
 import java.time.Duration;
 
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -18,5 +21,26 @@ public class AggregateProcessorConfigTest {
         final AggregateProcessorConfig aggregateConfig = new AggregateProcessorConfig();
 
         assertThat(aggregateConfig.getGroupDuration(), equalTo(Duration.ofSeconds(AggregateProcessorConfig.DEFAULT_GROUP_DURATION_SECONDS)));
+        assertThat(aggregateConfig.getStateStore(), equalTo(AggregateGroupStateStoreType.IN_MEMORY));
+        assertThat(aggregateConfig.getMaxGroupsInMemory(), equalTo(AggregateProcessorConfig.DEFAULT_MAX_GROUPS_IN_MEMORY));
+        assertThat(aggregateConfig.getStateDirectory(), equalTo(AggregateProcessorConfig.DEFAULT_STATE_DIRECTORY));
+        assertThat(aggregateConfig.isThreadSharded(), equalTo(false));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"in_memory, false, true", "in_memory, true, true", "disk, false, true", "disk, true, false"})
+    void isThreadShardedSupportedByStateStore_returns_false_only_for_thread_sharded_with_disk(
+            final String stateStore, final boolean threadSharded, final boolean expected) throws NoSuchFieldException, IllegalAccessException {
+        final AggregateProcessorConfig aggregateConfig = new AggregateProcessorConfig();
+        setField(aggregateConfig, "stateStore", AggregateGroupStateStoreType.fromOptionValue(stateStore));
+        setField(aggregateConfig, "threadSharded", threadSharded);
+
+        assertThat(aggregateConfig.isThreadShardedSupportedByStateStore(), equalTo(expected));
+    }
+
+    private void setField(final AggregateProcessorConfig aggregateConfig, final String fieldName, final Object value) throws NoSuchFieldException, IllegalAccessException {
+        final Field field = AggregateProcessorConfig.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(aggregateConfig, value);
     }
 }
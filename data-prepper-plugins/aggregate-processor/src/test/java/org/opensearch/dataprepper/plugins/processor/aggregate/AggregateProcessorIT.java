@@ -6,17 +6,20 @@
 package org.opensearch.dataprepper.plugins.processor.aggregate;
 
 import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setField;
+import org.opensearch.dataprepper.expression.CompiledExpression;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
 import org.opensearch.dataprepper.model.plugin.PluginFactory;
 import org.opensearch.dataprepper.model.record.Record;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
@@ -39,6 +42,7 @@ import org.opensearch.dataprepper.plugins.processor.aggregate.actions.OutputForm
 import static org.opensearch.dataprepper.plugins.processor.aggregate.actions.CountAggregateActionConfig.DEFAULT_COUNT_KEY;
 import static org.opensearch.dataprepper.plugins.processor.aggregate.actions.CountAggregateActionConfig.DEFAULT_START_TIME_KEY;
 
+import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -64,6 +68,7 @@ import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasEntry;
@@ -102,6 +107,11 @@ public class AggregateProcessorIT {
     @Mock
     private ExpressionEvaluator expressionEvaluator;
 
+
+    @Mock
+
+    private CompiledExpression compiledCondition;
+
     private Collection<Record<Event>> eventBatch;
     private ConcurrentLinkedQueue<Map<String, Object>> aggregatedResult;
     private Set<Map<String, Object>> uniqueEventMaps;
@@ -220,11 +230,12 @@ public class AggregateProcessorIT {
         String condition = "/firstRandomNumber < 100";
         when(aggregateProcessorConfig.getGroupDuration()).thenReturn(Duration.ofSeconds(GROUP_DURATION_FOR_ONLY_SINGLE_CONCLUDE));
         when(aggregateProcessorConfig.getWhenCondition()).thenReturn(condition);
+        when(expressionEvaluator.compile(condition)).thenReturn(compiledCondition);
         int count = 0;
         for (Record<Event> record: eventBatch) {
             Event event = record.getData();
             boolean value = (count % 2 == 0) ? true : false;
-            when(expressionEvaluator.evaluateConditional(condition, event)).thenReturn(value);
+            when(compiledCondition.evaluateConditional(event)).thenReturn(value);
             if (!value) {
                 uniqueEventMaps.remove(event.toMap());
             }
@@ -399,6 +410,89 @@ public class AggregateProcessorIT {
         assertThat(record.getData().toMap(), hasKey(DEFAULT_START_TIME_KEY));
     }
 
+    @RepeatedTest(value = 2)
+    void aggregateWithCountAggregateActionAndThreadShardedGroups() throws InterruptedException, NoSuchFieldException, IllegalAccessException {
+        CountAggregateActionConfig countAggregateActionConfig = new CountAggregateActionConfig();
+        setField(CountAggregateActionConfig.class, countAggregateActionConfig, "outputFormat", OutputFormat.RAW.toString());
+        aggregateAction = new CountAggregateAction(countAggregateActionConfig);
+        when(pluginFactory.loadPlugin(eq(AggregateAction.class), any(PluginSetting.class)))
+                .thenReturn(aggregateAction);
+        when(aggregateProcessorConfig.getGroupDuration()).thenReturn(Duration.ofSeconds(GROUP_DURATION_FOR_ONLY_SINGLE_CONCLUDE));
+        when(aggregateProcessorConfig.isThreadSharded()).thenReturn(true);
+
+        final AggregateProcessor objectUnderTest = createObjectUnderTest();
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(NUM_THREADS);
+        final CountDownLatch countDownLatch = new CountDownLatch(NUM_THREADS);
+
+        for (int i = 0; i < NUM_THREADS; i++) {
+            executorService.execute(() -> {
+                objectUnderTest.doExecute(eventBatch);
+                countDownLatch.countDown();
+            });
+        }
+        Thread.sleep(GROUP_DURATION_FOR_ONLY_SINGLE_CONCLUDE * 1000);
+
+        boolean allThreadsFinished = countDownLatch.await(5L, TimeUnit.SECONDS);
+        assertThat(allThreadsFinished, equalTo(true));
+
+        Collection<Record<Event>> results = objectUnderTest.doExecute(new ArrayList<Record<Event>>());
+        assertThat(results.size(), equalTo(NUM_UNIQUE_EVENTS_PER_BATCH));
+        for (final Record<Event> record : results) {
+            assertThat(record.getData().toMap(), hasEntry(DEFAULT_COUNT_KEY, NUM_THREADS * NUM_EVENTS_PER_BATCH / NUM_UNIQUE_EVENTS_PER_BATCH));
+        }
+        assertThat(objectUnderTest.isReadyForShutdown(), equalTo(true));
+    }
+
+    @RepeatedTest(value = 2)
+    void threadShardedGroupsWithActionWhichIsNotMergeableThrowsInvalidPluginConfigurationException() {
+        aggregateAction = new PutAllAggregateAction();
+        when(pluginFactory.loadPlugin(eq(AggregateAction.class), any(PluginSetting.class)))
+                .thenReturn(aggregateAction);
+        when(aggregateProcessorConfig.getGroupDuration()).thenReturn(Duration.ofSeconds(GROUP_DURATION_FOR_ONLY_SINGLE_CONCLUDE));
+        when(aggregateProcessorConfig.isThreadSharded()).thenReturn(true);
+
+        assertThrows(InvalidPluginConfigurationException.class, this::createObjectUnderTest);
+    }
+
+    @RepeatedTest(value = 2)
+    void aggregateWithCountAggregateActionAndDiskStateStore(@TempDir final File stateDirectory) throws InterruptedException, NoSuchFieldException, IllegalAccessException {
+        CountAggregateActionConfig countAggregateActionConfig = new CountAggregateActionConfig();
+        setField(CountAggregateActionConfig.class, countAggregateActionConfig, "outputFormat", OutputFormat.RAW.toString());
+        aggregateAction = new CountAggregateAction(countAggregateActionConfig);
+        when(pluginFactory.loadPlugin(eq(AggregateAction.class), any(PluginSetting.class)))
+                .thenReturn(aggregateAction);
+        when(aggregateProcessorConfig.getGroupDuration()).thenReturn(Duration.ofSeconds(GROUP_DURATION_FOR_ONLY_SINGLE_CONCLUDE));
+        when(aggregateProcessorConfig.getStateStore()).thenReturn(AggregateGroupStateStoreType.DISK);
+        when(aggregateProcessorConfig.getStateDirectory()).thenReturn(stateDirectory.getPath());
+        when(aggregateProcessorConfig.getMaxGroupsInMemory()).thenReturn(2);
+
+        final AggregateProcessor objectUnderTest = createObjectUnderTest();
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(NUM_THREADS);
+        final CountDownLatch countDownLatch = new CountDownLatch(NUM_THREADS);
+
+        for (int i = 0; i < NUM_THREADS; i++) {
+            executorService.execute(() -> {
+                objectUnderTest.doExecute(eventBatch);
+                countDownLatch.countDown();
+            });
+        }
+        Thread.sleep(GROUP_DURATION_FOR_ONLY_SINGLE_CONCLUDE * 1000);
+
+        boolean allThreadsFinished = countDownLatch.await(5L, TimeUnit.SECONDS);
+        assertThat(allThreadsFinished, equalTo(true));
+
+        Collection<Record<Event>> results = objectUnderTest.doExecute(new ArrayList<Record<Event>>());
+        assertThat(results.size(), equalTo(NUM_UNIQUE_EVENTS_PER_BATCH));
+        for (final Record<Event> record : results) {
+            assertThat(record.getData().toMap(), hasEntry(DEFAULT_COUNT_KEY, NUM_THREADS * NUM_EVENTS_PER_BATCH / NUM_UNIQUE_EVENTS_PER_BATCH));
+        }
+
+        objectUnderTest.shutdown();
+        assertThat(stateDirectory.list().length, equalTo(0));
+    }
+
     @RepeatedTest(value = 2)
     void aggregateWithCountAggregateActionWithCondition() throws InterruptedException, NoSuchFieldException, IllegalAccessException {
         CountAggregateActionConfig countAggregateActionConfig = new CountAggregateActionConfig();
@@ -409,12 +503,13 @@ public class AggregateProcessorIT {
         final String condition = "/firstRandomNumber < 100";
         when(aggregateProcessorConfig.getGroupDuration()).thenReturn(Duration.ofSeconds(GROUP_DURATION_FOR_ONLY_SINGLE_CONCLUDE));
         when(aggregateProcessorConfig.getWhenCondition()).thenReturn(condition);
+        when(expressionEvaluator.compile(condition)).thenReturn(compiledCondition);
         int count = 0;
         eventBatch = getBatchOfEvents(true);
         for (Record<Event> record: eventBatch) {
             Event event = record.getData();
             boolean value = (count % 2 == 0) ? true : false;
-            when(expressionEvaluator.evaluateConditional(condition, event)).thenReturn(value);
+            when(compiledCondition.evaluateConditional(event)).thenReturn(value);
             count++;
         }
 
@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.plugins.processor.aggregate;
 
+import org.opensearch.dataprepper.expression.CompiledExpression;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.MetricNames;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
@@ -112,6 +113,11 @@ public class AggregateProcessorTest {
     @Mock
     private ExpressionEvaluator expressionEvaluator;
 
+
+    @Mock
+
+    private CompiledExpression compiledCondition;
+
     private Event event;
 
     private AggregateProcessor createObjectUnderTest() {
@@ -134,7 +140,7 @@ public class AggregateProcessorTest {
                 .withEventType("event")
                 .build();
 
-        when(aggregateActionSynchronizerProvider.provide(aggregateAction, aggregateGroupManager, pluginMetrics)).thenReturn(aggregateActionSynchronizer);
+        when(aggregateActionSynchronizerProvider.provide(aggregateAction, aggregateGroupManager, pluginMetrics, false)).thenReturn(aggregateActionSynchronizer);
 
         when(pluginMetrics.counter(AggregateProcessor.ACTION_HANDLE_EVENTS_OUT)).thenReturn(actionHandleEventsOutCounter);
         when(pluginMetrics.counter(AggregateProcessor.ACTION_HANDLE_EVENTS_DROPPED)).thenReturn(actionHandleEventsDroppedCounter);
@@ -212,10 +218,11 @@ public class AggregateProcessorTest {
             when(aggregateIdentificationKeysHasher.createIdentificationKeysMapFromEvent(firstEvent))
                     .thenReturn(identificationKeysMap);
             when(aggregateActionSynchronizer.handleEventForGroup(firstEvent, identificationKeysMap, aggregateGroup)).thenReturn(firstAggregateActionResponse);
-            when(expressionEvaluator.evaluateConditional(condition, event)).thenReturn(true);
-            when(expressionEvaluator.evaluateConditional(condition, firstEvent)).thenReturn(true);
-            when(expressionEvaluator.evaluateConditional(condition, secondEvent)).thenReturn(false);
+            when(compiledCondition.evaluateConditional(event)).thenReturn(true);
+            when(compiledCondition.evaluateConditional(firstEvent)).thenReturn(true);
+            when(compiledCondition.evaluateConditional(secondEvent)).thenReturn(false);
             when(aggregateProcessorConfig.getWhenCondition()).thenReturn(condition);
+            when(expressionEvaluator.compile(condition)).thenReturn(compiledCondition);
             final AggregateProcessor objectUnderTest = createObjectUnderTest();
             when(aggregateGroupManager.getGroupsToConclude(eq(false))).thenReturn(Collections.emptyList());
             when(aggregateActionResponse.getEvent()).thenReturn(event);
@@ -347,6 +354,14 @@ public class AggregateProcessorTest {
         verify(aggregateGroupManager).getAllGroupsSize();
     }
 
+    @Test
+    void shutdown_closes_the_aggregate_group_manager() {
+        final AggregateProcessor objectUnderTest = createObjectUnderTest();
+        objectUnderTest.shutdown();
+
+        verify(aggregateGroupManager).close();
+    }
+
     private static Stream<Arguments> isReadyForShutdownArgs() {
         return Stream.of(
                 Arguments.of(0, true),
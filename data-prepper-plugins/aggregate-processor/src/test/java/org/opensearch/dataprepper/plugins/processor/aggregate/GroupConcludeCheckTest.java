@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+
+public class GroupConcludeCheckTest {
+
+    private AggregateIdentificationKeysHasher.IdentificationKeysMap identificationKeysMap;
+
+    private AggregateGroup aggregateGroup;
+
+    @BeforeEach
+    void setup() {
+        identificationKeysMap = mock(AggregateIdentificationKeysHasher.IdentificationKeysMap.class);
+        aggregateGroup = new AggregateGroup(Collections.emptyMap());
+    }
+
+    private GroupConcludeCheck createObjectUnderTest(final Duration delay) {
+        return new GroupConcludeCheck(identificationKeysMap, aggregateGroup, delay);
+    }
+
+    @Test
+    void getters_return_the_group_and_its_identification_keys() {
+        final GroupConcludeCheck objectUnderTest = createObjectUnderTest(Duration.ZERO);
+
+        assertThat(objectUnderTest.getIdentificationKeysMap(), equalTo(identificationKeysMap));
+        assertThat(objectUnderTest.getAggregateGroup(), equalTo(aggregateGroup));
+    }
+
+    @Test
+    void isCurrent_returns_true_for_unchanged_group() {
+        assertThat(createObjectUnderTest(Duration.ZERO).isCurrent(), equalTo(true));
+    }
+
+    @Test
+    void isCurrent_returns_false_after_group_is_reset() throws InterruptedException {
+        final GroupConcludeCheck objectUnderTest = createObjectUnderTest(Duration.ZERO);
+
+        Thread.sleep(1);
+        aggregateGroup.resetGroup();
+
+        assertThat(objectUnderTest.isCurrent(), equalTo(false));
+    }
+
+    @Test
+    void isCurrent_returns_false_after_custom_should_conclude_is_set() {
+        final GroupConcludeCheck objectUnderTest = createObjectUnderTest(Duration.ZERO);
+
+        aggregateGroup.setCustomShouldConclude(duration -> true);
+
+        assertThat(objectUnderTest.isCurrent(), equalTo(false));
+    }
+
+    @Test
+    void release_releases_the_group_and_its_identification_keys() {
+        final GroupConcludeCheck objectUnderTest = createObjectUnderTest(Duration.ZERO);
+
+        objectUnderTest.release();
+
+        assertThat(objectUnderTest.getIdentificationKeysMap(), nullValue());
+        assertThat(objectUnderTest.getAggregateGroup(), nullValue());
+        assertThat(objectUnderTest.isCurrent(), equalTo(false));
+    }
+
+    @Test
+    void getDelay_returns_remaining_time_until_deadline() {
+        final Duration delay = Duration.ofSeconds(10);
+
+        final long remainingMillis = createObjectUnderTest(delay).getDelay(TimeUnit.MILLISECONDS);
+
+        assertThat(remainingMillis, lessThanOrEqualTo(delay.toMillis()));
+        assertThat(remainingMillis, greaterThan(0L));
+        assertThat(createObjectUnderTest(delay.negated()).getDelay(TimeUnit.MILLISECONDS), lessThan(0L));
+    }
+
+    @Test
+    void compareTo_orders_checks_by_deadline() {
+        final GroupConcludeCheck earlierCheck = createObjectUnderTest(Duration.ofSeconds(1));
+        final GroupConcludeCheck laterCheck = createObjectUnderTest(Duration.ofSeconds(2));
+
+        assertThat(earlierCheck.compareTo(laterCheck), lessThan(0));
+        assertThat(laterCheck.compareTo(earlierCheck), greaterThan(0));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GroupStateSerializerTest {
+    private final AggregateIdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = new AggregateIdentificationKeysHasher.IdentificationKeysMap(
+            List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString()), new Object[] {UUID.randomUUID().toString(), 42});
+
+    @Test
+    void deserialize_returns_the_serialized_group() {
+        final AggregateGroup aggregateGroup = new AggregateGroup(identificationKeysMap.getKeyMap(), Instant.now().minusSeconds(10));
+        aggregateGroup.getGroupState().put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        aggregateGroup.getGroupState().put(UUID.randomUUID().toString(), 42);
+        aggregateGroup.getGroupState().put(UUID.randomUUID().toString(), Instant.now());
+        aggregateGroup.getGroupState().put(UUID.randomUUID().toString(), List.of(1.0, 2.0));
+        aggregateGroup.getGroupState().put(UUID.randomUUID().toString(), Map.of(UUID.randomUUID().toString(), UUID.randomUUID().toString()));
+
+        final Optional<byte[]> serializedGroup = GroupStateSerializer.serialize(identificationKeysMap, aggregateGroup);
+
+        assertThat(serializedGroup.isPresent(), equalTo(true));
+        final Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> deserializedGroup =
+                GroupStateSerializer.deserialize(serializedGroup.get());
+        assertThat(deserializedGroup.getKey(), equalTo(identificationKeysMap));
+        assertThat(deserializedGroup.getValue().getIdentificationKeys(), equalTo(identificationKeysMap.getKeyMap()));
+        assertThat(deserializedGroup.getValue().getGroupStart(), equalTo(aggregateGroup.getGroupStart()));
+        assertThat(deserializedGroup.getValue().getGroupState(), equalTo(aggregateGroup.getGroupState()));
+    }
+
+    @Test
+    void serialize_returns_empty_when_a_value_cannot_be_serialized() {
+        final AggregateGroup aggregateGroup = new AggregateGroup(identificationKeysMap.getKeyMap());
+        aggregateGroup.getGroupState().put(UUID.randomUUID().toString(), new Object());
+
+        assertThat(GroupStateSerializer.serialize(identificationKeysMap, aggregateGroup), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void serialize_returns_empty_when_a_value_is_of_a_class_which_is_not_read_back() {
+        final AggregateGroup aggregateGroup = new AggregateGroup(identificationKeysMap.getKeyMap());
+        aggregateGroup.getGroupState().put(UUID.randomUUID().toString(), Collections.singletonList(new TestSerializable()));
+
+        assertThat(GroupStateSerializer.serialize(identificationKeysMap, aggregateGroup), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void deserialize_throws_when_the_bytes_hold_a_class_which_is_not_read_back() throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(new TestSerializable());
+        }
+
+        assertThrows(IllegalStateException.class, () -> GroupStateSerializer.deserialize(byteArrayOutputStream.toByteArray()));
+    }
+
+    @Test
+    void deserialize_throws_when_the_bytes_are_not_a_serialized_group() {
+        assertThrows(IllegalStateException.class, () -> GroupStateSerializer.deserialize(UUID.randomUUID().toString().getBytes()));
+    }
+
+    private static class TestSerializable implements Serializable {
+    }
+}
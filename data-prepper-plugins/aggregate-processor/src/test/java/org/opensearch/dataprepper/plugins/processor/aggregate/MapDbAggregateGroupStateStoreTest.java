@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MapDbAggregateGroupStateStoreTest {
+    @TempDir
+    File stateDirectory;
+
+    private MapDbAggregateGroupStateStore createObjectUnderTest() {
+        return new MapDbAggregateGroupStateStore(stateDirectory);
+    }
+
+    @Test
+    void get_and_remove_return_the_group_put_for_the_id() {
+        final MapDbAggregateGroupStateStore objectUnderTest = createObjectUnderTest();
+        final byte[] firstGroup = UUID.randomUUID().toString().getBytes();
+        final byte[] secondGroup = UUID.randomUUID().toString().getBytes();
+
+        objectUnderTest.put(1, new Random().nextInt(), 100, firstGroup);
+        objectUnderTest.put(2, new Random().nextInt(), 200, secondGroup);
+        assertThat(objectUnderTest.size(), equalTo(2L));
+
+        assertThat(objectUnderTest.get(2), equalTo(secondGroup));
+        assertThat(objectUnderTest.remove(2), equalTo(secondGroup));
+        assertThat(objectUnderTest.get(2), nullValue());
+        assertThat(objectUnderTest.remove(2), nullValue());
+        assertThat(objectUnderTest.size(), equalTo(1L));
+        assertThat(objectUnderTest.remove(1), equalTo(firstGroup));
+        assertThat(objectUnderTest.size(), equalTo(0L));
+
+        objectUnderTest.close();
+    }
+
+    @Test
+    void getIds_returns_the_ids_of_the_groups_put_with_the_identification_keys_hash() {
+        final MapDbAggregateGroupStateStore objectUnderTest = createObjectUnderTest();
+        final int identificationKeysHash = new Random().nextInt();
+        final int otherIdentificationKeysHash = identificationKeysHash + 1;
+
+        objectUnderTest.put(1, identificationKeysHash, 100, UUID.randomUUID().toString().getBytes());
+        objectUnderTest.put(2, identificationKeysHash, 200, UUID.randomUUID().toString().getBytes());
+        objectUnderTest.put(3, otherIdentificationKeysHash, 300, UUID.randomUUID().toString().getBytes());
+
+        assertThat(objectUnderTest.getIds(identificationKeysHash), equalTo(List.of(1L, 2L)));
+        assertThat(objectUnderTest.getIds(otherIdentificationKeysHash), equalTo(List.of(3L)));
+
+        objectUnderTest.remove(1);
+        assertThat(objectUnderTest.getIds(identificationKeysHash), equalTo(List.of(2L)));
+        objectUnderTest.remove(2);
+        assertThat(objectUnderTest.getIds(identificationKeysHash), equalTo(Collections.emptyList()));
+
+        objectUnderTest.close();
+    }
+
+    @Test
+    void getIdsToConcludeBy_returns_the_ids_due_by_the_time_in_conclude_order() {
+        final MapDbAggregateGroupStateStore objectUnderTest = createObjectUnderTest();
+        final int identificationKeysHash = new Random().nextInt();
+
+        objectUnderTest.put(1, identificationKeysHash, 300, UUID.randomUUID().toString().getBytes());
+        objectUnderTest.put(2, identificationKeysHash, 100, UUID.randomUUID().toString().getBytes());
+        objectUnderTest.put(3, identificationKeysHash, 200, UUID.randomUUID().toString().getBytes());
+        objectUnderTest.put(-4, identificationKeysHash, 200, UUID.randomUUID().toString().getBytes());
+        objectUnderTest.put(5, identificationKeysHash, 400, UUID.randomUUID().toString().getBytes());
+
+        assertThat(objectUnderTest.getIdsToConcludeBy(50, 10), equalTo(Collections.emptyList()));
+        assertThat(objectUnderTest.getIdsToConcludeBy(300, 10), equalTo(List.of(2L, -4L, 3L, 1L)));
+        assertThat(objectUnderTest.getIdsToConcludeBy(300, 2), equalTo(List.of(2L, -4L)));
+
+        objectUnderTest.remove(2);
+        assertThat(objectUnderTest.getIdsToConcludeBy(Long.MAX_VALUE, 10), equalTo(List.of(-4L, 3L, 1L, 5L)));
+
+        objectUnderTest.close();
+    }
+
+    @Test
+    void close_deletes_the_store_file() {
+        final MapDbAggregateGroupStateStore objectUnderTest = createObjectUnderTest();
+        objectUnderTest.put(1, new Random().nextInt(), 100, UUID.randomUUID().toString().getBytes());
+        assertThat(stateDirectory.list().length, equalTo(1));
+
+        objectUnderTest.close();
+
+        assertThat(stateDirectory.list().length, equalTo(0));
+    }
+
+    @Test
+    void constructor_creates_the_state_directory() {
+        stateDirectory = new File(stateDirectory, UUID.randomUUID().toString());
+
+        final MapDbAggregateGroupStateStore objectUnderTest = createObjectUnderTest();
+
+        assertThat(stateDirectory.isDirectory(), equalTo(true));
+        objectUnderTest.close();
+    }
+
+    @Test
+    void constructor_throws_when_the_state_directory_cannot_be_created() throws IOException {
+        final File file = new File(stateDirectory, UUID.randomUUID().toString());
+        assertThat(file.createNewFile(), equalTo(true));
+        stateDirectory = new File(file, UUID.randomUUID().toString());
+
+        assertThrows(IllegalArgumentException.class, this::createObjectUnderTest);
+    }
+}
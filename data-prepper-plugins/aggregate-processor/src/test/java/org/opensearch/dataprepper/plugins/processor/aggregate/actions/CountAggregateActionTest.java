@@ -17,9 +17,12 @@ import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionInp
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionOutput;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionTestUtils;
+import org.opensearch.dataprepper.plugins.processor.aggregate.GroupState;
 
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -109,4 +112,43 @@ public class CountAggregateActionTest {
         assertThat(result.get(0).toMap(), hasKey("startTime"));
         assertThat(result.get(0).toMap(), hasKey("time"));
     }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 10, 100})
+    void testCountAggregateWithMergedPartialGroupStates(int testCount) throws NoSuchFieldException, IllegalAccessException {
+        CountAggregateActionConfig countAggregateActionConfig = new CountAggregateActionConfig();
+        setField(CountAggregateActionConfig.class, countAggregateActionConfig, "outputFormat", OutputFormat.RAW.toString());
+        final CountAggregateAction objectUnderTest = new CountAggregateAction(countAggregateActionConfig);
+        final String key = UUID.randomUUID().toString();
+        final String value = UUID.randomUUID().toString();
+        Map<Object, Object> eventMap = Collections.singletonMap(key, value);
+        Event testEvent = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(eventMap)
+                .build();
+        final List<AggregateActionInput> partialInputs = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            partialInputs.add(new AggregateActionTestUtils.TestAggregateActionInput(eventMap));
+        }
+        for (int i = 0; i < testCount; i++) {
+            objectUnderTest.handleEvent(testEvent, partialInputs.get(i % partialInputs.size()));
+        }
+        final Instant earliestStartTime = Instant.now().minusSeconds(10);
+        final int lastUsedPartialInput = Math.min(testCount, partialInputs.size()) - 1;
+        partialInputs.get(lastUsedPartialInput).getGroupState().put(CountAggregateActionConfig.DEFAULT_START_TIME_KEY, earliestStartTime);
+
+        final AggregateActionInput aggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(eventMap);
+        final GroupState groupState = aggregateActionInput.getGroupState();
+        for (final AggregateActionInput partialInput : partialInputs) {
+            if (!partialInput.getGroupState().isEmpty()) {
+                objectUnderTest.mergeGroupState(groupState, partialInput.getGroupState());
+            }
+        }
+        assertThat(groupState.get(CountAggregateActionConfig.DEFAULT_START_TIME_KEY), equalTo(earliestStartTime));
+
+        final List<Event> result = objectUnderTest.concludeGroup(aggregateActionInput).getEvents();
+        assertThat(result.size(), equalTo(1));
+        assertThat(result.get(0).toMap(), hasEntry(CountAggregateActionConfig.DEFAULT_COUNT_KEY, testCount));
+        assertThat(result.get(0).toMap(), hasEntry(key, value));
+    }
 }
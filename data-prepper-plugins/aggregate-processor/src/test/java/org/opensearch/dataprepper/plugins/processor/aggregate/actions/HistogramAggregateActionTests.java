@@ -17,10 +17,12 @@ import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionInp
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionOutput;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionTestUtils;
+import org.opensearch.dataprepper.plugins.processor.aggregate.GroupState;
 
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.apache.commons.lang3.RandomStringUtils;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -32,6 +34,7 @@ import java.util.concurrent.ThreadLocalRandom;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasKey;
 
@@ -232,4 +235,63 @@ public class HistogramAggregateActionTests {
             }
         }
     }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 20, 50, 100})
+    void testHistogramAggregateWithMergedPartialGroupStates(int testCount) throws NoSuchFieldException, IllegalAccessException {
+        HistogramAggregateActionConfig histogramAggregateActionConfig = new HistogramAggregateActionConfig();
+        setField(HistogramAggregateActionConfig.class, histogramAggregateActionConfig, "outputFormat", OutputFormat.RAW.toString());
+        setField(HistogramAggregateActionConfig.class, histogramAggregateActionConfig, "recordMinMax", true);
+        final List<Double> buckets = List.of(0.0, 2.0, 4.0);
+        setField(HistogramAggregateActionConfig.class, histogramAggregateActionConfig, "buckets", buckets);
+        final String testKey = RandomStringUtils.randomAlphabetic(10);
+        setField(HistogramAggregateActionConfig.class, histogramAggregateActionConfig, "key", testKey);
+        final HistogramAggregateAction objectUnderTest = new HistogramAggregateAction(histogramAggregateActionConfig);
+
+        final List<AggregateActionInput> partialInputs = List.of(
+                new AggregateActionTestUtils.TestAggregateActionInput(Collections.emptyMap()),
+                new AggregateActionTestUtils.TestAggregateActionInput(Collections.emptyMap()),
+                new AggregateActionTestUtils.TestAggregateActionInput(Collections.emptyMap()));
+        final Long[] expectedBucketCounts = new Long[buckets.size() + 1];
+        Arrays.fill(expectedBucketCounts, (long)0);
+        double expectedSum = 0.0;
+        double expectedMin = Double.MAX_VALUE;
+        double expectedMax = -Double.MAX_VALUE;
+        for (int i = 0; i < testCount; i++) {
+            final double value = ThreadLocalRandom.current().nextDouble(-2.0, 8.0);
+            final int bucketIndex = value < 0.0 ? 0 : value < 2.0 ? 1 : value < 4.0 ? 2 : 3;
+            expectedBucketCounts[bucketIndex]++;
+            expectedSum += value;
+            expectedMin = Math.min(expectedMin, value);
+            expectedMax = Math.max(expectedMax, value);
+            final Event testEvent = JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Collections.singletonMap(testKey, value))
+                    .build();
+            objectUnderTest.handleEvent(testEvent, partialInputs.get(i % partialInputs.size()));
+        }
+        final Instant earliestStartTime = Instant.now().minusSeconds(10);
+        final Instant latestEndTime = Instant.now().plusSeconds(10);
+        final GroupState lastPartialGroupState = partialInputs.get(partialInputs.size() - 1).getGroupState();
+        lastPartialGroupState.put(histogramAggregateActionConfig.getStartTimeKey(), earliestStartTime);
+        lastPartialGroupState.put(histogramAggregateActionConfig.getEndTimeKey(), latestEndTime);
+
+        final AggregateActionInput aggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(Collections.emptyMap());
+        final GroupState groupState = aggregateActionInput.getGroupState();
+        for (final AggregateActionInput partialInput : partialInputs) {
+            objectUnderTest.mergeGroupState(groupState, partialInput.getGroupState());
+        }
+
+        assertThat(groupState.get(histogramAggregateActionConfig.getCountKey()), equalTo(testCount));
+        assertThat((double)groupState.get(histogramAggregateActionConfig.getSumKey()), closeTo(expectedSum, 0.000001));
+        assertThat(groupState.get(histogramAggregateActionConfig.getMinKey()), equalTo(expectedMin));
+        assertThat(groupState.get(histogramAggregateActionConfig.getMaxKey()), equalTo(expectedMax));
+        assertThat(groupState.get(histogramAggregateActionConfig.getStartTimeKey()), equalTo(earliestStartTime));
+        assertThat(groupState.get(histogramAggregateActionConfig.getEndTimeKey()), equalTo(latestEndTime));
+        assertThat(groupState.get(histogramAggregateActionConfig.getBucketCountsKey()), equalTo(expectedBucketCounts));
+
+        final List<Event> result = objectUnderTest.concludeGroup(aggregateActionInput).getEvents();
+        assertThat(result.size(), equalTo(1));
+        assertThat(result.get(0).toMap(), hasEntry(histogramAggregateActionConfig.getCountKey(), testCount));
+    }
 }
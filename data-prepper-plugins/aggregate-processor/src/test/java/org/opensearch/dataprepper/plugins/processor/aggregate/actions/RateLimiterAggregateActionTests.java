@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
 
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith; 
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -15,6 +16,7 @@ import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionInp
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionOutput;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionTestUtils;
+import org.opensearch.dataprepper.plugins.processor.aggregate.MergeableAggregateAction;
 
 import java.util.Collections;
 import java.util.Map;
@@ -22,6 +24,8 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -127,4 +131,12 @@ public class RateLimiterAggregateActionTests {
         final List<Event> result = actionOutput.getEvents();
         assertTrue(result.isEmpty());
     }
+
+    @Test
+    void testRateLimiterIsNotMergeable() {
+        when(rateLimiterAggregateActionConfig.getEventsPerSecond()).thenReturn(1);
+        when(rateLimiterAggregateActionConfig.getWhenExceeds()).thenReturn(RateLimiterMode.DROP.toString());
+
+        assertThat(new RateLimiterAggregateAction(rateLimiterAggregateActionConfig), not(instanceOf(MergeableAggregateAction.class)));
+    }
 }
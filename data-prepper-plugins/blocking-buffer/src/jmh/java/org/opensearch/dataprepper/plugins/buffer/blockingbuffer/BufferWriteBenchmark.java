@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.buffer.AbstractBuffer;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Compares {@link BlockingBuffer} with {@link RingBuffer} with 1, 4 and 16 writer threads and a single reader which
+ * reads and checkpoints batches, as a pipeline worker does. The writer throughput is the number to compare.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Group)
+public class BufferWriteBenchmark {
+    private static final int BUFFER_SIZE = 12_800;
+    private static final int BATCH_SIZE = 200;
+    private static final int WRITE_TIMEOUT_MILLIS = 10;
+    private static final Record<String> RECORD = new Record<>("benchmark");
+
+    @Param({"bounded_blocking", "bounded_ring"})
+    private String bufferType;
+
+    private AbstractBuffer<Record<String>> buffer;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        if ("bounded_ring".equals(bufferType)) {
+            buffer = new RingBuffer<>(BUFFER_SIZE, BATCH_SIZE, "benchmark");
+        } else {
+            buffer = new BlockingBuffer<>(BUFFER_SIZE, BATCH_SIZE, "benchmark");
+        }
+    }
+
+    @Benchmark
+    @Group("writers1")
+    @GroupThreads(1)
+    public void write1() {
+        write();
+    }
+
+    @Benchmark
+    @Group("writers1")
+    @GroupThreads(1)
+    public void read1(final Blackhole blackhole) {
+        readAndCheckpoint(blackhole);
+    }
+
+    @Benchmark
+    @Group("writers4")
+    @GroupThreads(4)
+    public void write4() {
+        write();
+    }
+
+    @Benchmark
+    @Group("writers4")
+    @GroupThreads(1)
+    public void read4(final Blackhole blackhole) {
+        readAndCheckpoint(blackhole);
+    }
+
+    @Benchmark
+    @Group("writers16")
+    @GroupThreads(16)
+    public void write16() {
+        write();
+    }
+
+    @Benchmark
+    @Group("writers16")
+    @GroupThreads(1)
+    public void read16(final Blackhole blackhole) {
+        readAndCheckpoint(blackhole);
+    }
+
+    private void write() {
+        try {
+            buffer.write(RECORD, WRITE_TIMEOUT_MILLIS);
+        } catch (final TimeoutException e) {
+            // The reader has stopped at the end of the iteration; the writers must not block.
+        }
+    }
+
+    private void readAndCheckpoint(final Blackhole blackhole) {
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = buffer.read(0);
+        blackhole.consume(readResult.getKey());
+        buffer.checkpoint(readResult.getValue());
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A preallocated multi-producer/multi-consumer ring of elements. Each slot carries a sequence number which tells
+ * producers and consumers whose turn it is to use the slot, so neither side ever takes a lock. Producers claim a
+ * contiguous range of slots with a single atomic add and consumers claim a contiguous range of published slots with a
+ * single compare-and-set.
+ * <p>
+ * The ring does not enforce its own capacity on the producer side. Callers must make sure that no more than
+ * {@link #capacity()} elements are claimed and not yet drained at any time, which {@link RingBuffer} does with its
+ * capacity permits.
+ */
+class MultiProducerRing<T> {
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerCursor = new AtomicLong();
+    private final AtomicLong consumerCursor = new AtomicLong();
+
+    MultiProducerRing(final int minimumCapacity) {
+        if (minimumCapacity <= 0) {
+            throw new IllegalArgumentException("Ring capacity must be greater than zero.");
+        }
+        capacity = roundUpToPowerOfTwo(minimumCapacity);
+        mask = capacity - 1;
+        slots = new AtomicReferenceArray<>(capacity);
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Claims one slot and publishes the element into it.
+     *
+     * @param element the non-null element to publish
+     */
+    void publish(final T element) {
+        final long position = producerCursor.getAndIncrement();
+        publishAt(position, element);
+    }
+
+    /**
+     * Claims a contiguous range of slots with a single atomic operation and publishes all elements into it, in
+     * iteration order.
+     *
+     * @param elements the non-null elements to publish
+     */
+    void publishAll(final Collection<T> elements) {
+        long position = producerCursor.getAndAdd(elements.size());
+        for (final T element : elements) {
+            publishAt(position++, element);
+        }
+    }
+
+    /**
+     * Claims up to maxElements published elements from the head of the ring and adds them to the given collection.
+     *
+     * @param destination the collection to add the elements to
+     * @param maxElements the maximum number of elements to drain
+     * @return the number of elements drained
+     */
+    int drainTo(final Collection<? super T> destination, final int maxElements) {
+        while (true) {
+            final long head = consumerCursor.get();
+            int available = 0;
+            while (available < maxElements && isPublished(head + available)) {
+                available++;
+            }
+            if (available == 0) {
+                return 0;
+            }
+            if (consumerCursor.compareAndSet(head, head + available)) {
+                for (long position = head; position < head + available; position++) {
+                    final int index = (int) position & mask;
+                    destination.add(slots.get(index));
+                    slots.lazySet(index, null);
+                    sequences.lazySet(index, position + capacity);
+                }
+                return available;
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return consumerCursor.get() >= producerCursor.get();
+    }
+
+    private boolean isPublished(final long position) {
+        return sequences.get((int) position & mask) == position + 1;
+    }
+
+    private void publishAt(final long position, final T element) {
+        final int index = (int) position & mask;
+        // The slot can only still be held by a consumer which claimed it on the previous lap and has not yet released
+        // it, which is a very short window.
+        while (sequences.get(index) != position) {
+            Thread.onSpinWait();
+        }
+        slots.lazySet(index, element);
+        sequences.lazySet(index, position + 1);
+    }
+
+    private static int roundUpToPowerOfTwo(final int value) {
+        final int highestOneBit = Integer.highestOneBit(value);
+        return highestOneBit == value ? value : highestOneBit << 1;
+    }
+}
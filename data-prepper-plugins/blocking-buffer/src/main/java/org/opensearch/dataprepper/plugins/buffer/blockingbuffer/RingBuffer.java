@@ -0,0 +1,235 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import com.google.common.util.concurrent.AtomicDouble;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.buffer.AbstractBuffer;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * A bounded RingBuffer is an implementation of {@link Buffer} using a preallocated, lock-free multi-producer and
+ * multi-consumer ring. It has the same capacity and checkpoint semantics as {@link BlockingBuffer}: the capacity
+ * {@link #ATTRIBUTE_BUFFER_CAPACITY} bounds the number of records written into the buffer plus the number of records
+ * read but not yet checkpointed. Unlike {@link BlockingBuffer}, writers reserve capacity and claim slots with atomic
+ * operations only and a {@link #writeAll(Collection, int)} claims all of its slots at once, so many source threads
+ * can write concurrently without contending on a lock. {@link #read(int)} claims up to {@link #ATTRIBUTE_BATCH_SIZE}
+ * records in a single operation.
+ */
+@DataPrepperPlugin(name = "bounded_ring", pluginType = Buffer.class)
+public class RingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(RingBuffer.class);
+    private static final int DEFAULT_BUFFER_CAPACITY = 12_800;
+    private static final int DEFAULT_BATCH_SIZE = 200;
+    private static final String PLUGIN_NAME = "bounded_ring";
+    private static final String ATTRIBUTE_BUFFER_CAPACITY = "buffer_size";
+    private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final String RING_BUFFER = "RingBuffer";
+    private static final String BUFFER_USAGE_METRIC = "bufferUsage";
+    private static final int SPINS_BEFORE_PARKING = 100;
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private final int bufferCapacity;
+    private final int batchSize;
+    private final AtomicDouble bufferUsage;
+    private final MultiProducerRing<T> ring;
+    private final AtomicInteger uncheckedRecords;
+    private final String pipelineName;
+
+    /**
+     * Creates a RingBuffer with the given (fixed) capacity.
+     *
+     * @param bufferCapacity the capacity of the buffer
+     * @param batchSize      the batch size for {@link #read(int)}
+     * @param pipelineName   the name of the associated Pipeline
+     */
+    public RingBuffer(final int bufferCapacity, final int batchSize, final String pipelineName) {
+        super(RING_BUFFER, pipelineName);
+        bufferUsage = pluginMetrics.gauge(BUFFER_USAGE_METRIC, new AtomicDouble());
+        this.bufferCapacity = bufferCapacity;
+        this.batchSize = batchSize;
+        this.ring = new MultiProducerRing<>(bufferCapacity);
+        this.uncheckedRecords = new AtomicInteger();
+        this.pipelineName = pipelineName;
+    }
+
+    /**
+     * Mandatory constructor for Data Prepper Component - This constructor is used by Data Prepper runtime engine to construct an
+     * instance of {@link RingBuffer} using an instance of {@link PluginSetting} which has access to
+     * pluginSetting metadata from pipeline pluginSetting file. Buffer settings like `buffer-size` and `batch-size`
+     * are optional and can be passed via {@link PluginSetting}, if not present default values will be used to create
+     * the buffer.
+     *
+     * @param pluginSetting instance with metadata information from pipeline pluginSetting file.
+     */
+    public RingBuffer(final PluginSetting pluginSetting) {
+        this(checkNotNull(pluginSetting, "PluginSetting cannot be null")
+                        .getIntegerOrDefault(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY),
+                pluginSetting.getIntegerOrDefault(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE),
+                pluginSetting.getPipelineName());
+    }
+
+    public RingBuffer(final String pipelineName) {
+        this(DEFAULT_BUFFER_CAPACITY, DEFAULT_BATCH_SIZE, pipelineName);
+    }
+
+    @Override
+    public void doWrite(T record, int timeoutInMillis) throws TimeoutException {
+        checkNotNull(record);
+        try {
+            if (!reserveCapacity(1, timeoutInMillis)) {
+                throw new TimeoutException(format("Pipeline [%s] - Buffer is full, timed out waiting for a slot",
+                        pipelineName));
+            }
+            ring.publish(record);
+        } catch (InterruptedException ex) {
+            LOG.error("Pipeline [{}] - Buffer is full, interrupted while waiting to write the record", pipelineName, ex);
+            throw new TimeoutException("Buffer is full, timed out waiting for a slot");
+        }
+    }
+
+    @Override
+    public void doWriteAll(Collection<T> records, int timeoutInMillis) throws Exception {
+        final int size = records.size();
+        if (size > bufferCapacity) {
+            throw new SizeOverflowException(format("Buffer capacity too small for the number of records: %d", size));
+        }
+        try {
+            if (!reserveCapacity(size, timeoutInMillis)) {
+                throw new TimeoutException(
+                        format("Pipeline [%s] - Buffer does not have enough capacity left for the number of records: %d, " +
+                                        "timed out waiting for slots.",
+                        pipelineName, size));
+            }
+            ring.publishAll(records);
+        } catch (InterruptedException ex) {
+            LOG.error("Pipeline [{}] - Buffer does not have enough capacity left for the number of records: {}, " +
+                            "interrupted while waiting to write the records",
+                    pipelineName, size, ex);
+            throw new TimeoutException(
+                    format("Pipeline [%s] - Buffer does not have enough capacity left for the number of records: %d, " +
+                            "timed out waiting for slots.",
+                    pipelineName, size));
+        }
+    }
+
+    /**
+     * Retrieves and removes the batch of records from the head of the ring. The batch size is defined/determined by
+     * the configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the @param timeoutInMillis.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @return The earliest batch of records in the buffer which are still not read.
+     */
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> doRead(int timeoutInMillis) {
+        final List<T> records = new ArrayList<>(batchSize);
+        int recordsRead = 0;
+
+        if (timeoutInMillis == 0) {
+            recordsRead = ring.drainTo(records, batchSize);
+        } else {
+            final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+            int attempts = 0;
+            while (recordsRead < batchSize && System.nanoTime() < deadline) {
+                final int drained = ring.drainTo(records, batchSize - recordsRead);
+                recordsRead += drained;
+                if (drained == 0) {
+                    waitForRecords(attempts++);
+                }
+            }
+        }
+
+        final CheckpointState checkpointState = new CheckpointState(recordsRead);
+        return new AbstractMap.SimpleEntry<>(records, checkpointState);
+    }
+
+    private boolean reserveCapacity(final int permits, final int timeoutInMillis) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        int attempts = 0;
+        while (true) {
+            final int current = uncheckedRecords.get();
+            if (current + permits <= bufferCapacity) {
+                if (uncheckedRecords.compareAndSet(current, current + permits)) {
+                    return true;
+                }
+                continue;
+            }
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            idle(attempts++);
+        }
+    }
+
+    private void idle(final int attempts) {
+        if (attempts < SPINS_BEFORE_PARKING) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    private void waitForRecords(final int attempts) {
+        idle(attempts);
+        if (Thread.currentThread().isInterrupted()) {
+            LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
+            throw new RuntimeException(new InterruptedException());
+        }
+    }
+
+    /**
+     * Returns the default PluginSetting object with default values.
+     * @return PluginSetting
+     */
+    public static PluginSetting getDefaultPluginSettings() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY);
+        settings.put(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        return new PluginSetting(PLUGIN_NAME, settings);
+    }
+
+    @Override
+    protected void postProcess(final Long recordsInBuffer) {
+        // adding bounds to address race conditions and reporting negative buffer usage
+        final Double nonNegativeTotalRecords = recordsInBuffer.doubleValue() < 0 ? 0 : recordsInBuffer.doubleValue();
+        final Double boundedTotalRecords = nonNegativeTotalRecords > bufferCapacity ? bufferCapacity : nonNegativeTotalRecords;
+        final Double usage = boundedTotalRecords / bufferCapacity * 100;
+        bufferUsage.set(usage);
+    }
+
+    @Override
+    public void doCheckpoint(final CheckpointState checkpointState) {
+        final int numCheckedRecords = checkpointState.getNumRecordsToBeChecked();
+        uncheckedRecords.addAndGet(-numCheckedRecords);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return ring.isEmpty() && getRecordsInFlight() == 0;
+    }
+}
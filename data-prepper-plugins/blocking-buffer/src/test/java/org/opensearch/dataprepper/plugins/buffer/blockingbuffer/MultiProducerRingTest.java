@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MultiProducerRingTest {
+
+    @ParameterizedTest
+    @CsvSource({"1, 1", "2, 2", "3, 4", "12800, 16384"})
+    void capacity_is_rounded_up_to_a_power_of_two(final int requested, final int expected) {
+        assertThat(new MultiProducerRing<String>(requested).capacity(), equalTo(expected));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void constructor_throws_for_non_positive_capacity(final int requested) {
+        assertThrows(IllegalArgumentException.class, () -> new MultiProducerRing<String>(requested));
+    }
+
+    @Test
+    void drainTo_returns_elements_in_publish_order_up_to_the_maximum() {
+        final MultiProducerRing<String> ring = new MultiProducerRing<>(4);
+        ring.publish("a");
+        ring.publishAll(Arrays.asList("b", "c"));
+
+        final List<String> drained = new ArrayList<>();
+        assertThat(ring.drainTo(drained, 2), equalTo(2));
+        assertThat(drained, equalTo(Arrays.asList("a", "b")));
+        assertThat(ring.isEmpty(), is(false));
+
+        assertThat(ring.drainTo(drained, 2), equalTo(1));
+        assertThat(drained, equalTo(Arrays.asList("a", "b", "c")));
+        assertThat(ring.isEmpty(), is(true));
+        assertThat(ring.drainTo(drained, 2), equalTo(0));
+    }
+
+    @Test
+    void slots_are_reused_after_wrapping_around() {
+        final MultiProducerRing<Integer> ring = new MultiProducerRing<>(2);
+        final List<Integer> drained = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ring.publishAll(Arrays.asList(i, i + 100));
+            assertThat(ring.drainTo(drained, 5), equalTo(2));
+        }
+        assertThat(drained.size(), equalTo(20));
+        assertThat(drained.get(18), equalTo(9));
+        assertThat(drained.get(19), equalTo(109));
+    }
+}
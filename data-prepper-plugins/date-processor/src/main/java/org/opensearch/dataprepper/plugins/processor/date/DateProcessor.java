@@ -10,6 +10,8 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
@@ -36,10 +38,11 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
     static final String DATE_PROCESSING_MATCH_SUCCESS = "dateProcessingMatchSuccess";
     static final String DATE_PROCESSING_MATCH_FAILURE = "dateProcessingMatchFailure";
 
-    private String keyToParse;
+    private EventKey keyToParse;
     private List<DateTimeFormatter> dateTimeFormatters;
     private final DateProcessorConfig dateProcessorConfig;
     private final ExpressionEvaluator expressionEvaluator;
+    private final EventKey destinationKey;
 
     private final Counter dateProcessingMatchSuccessCounter;
     private final Counter dateProcessingMatchFailureCounter;
@@ -52,6 +55,7 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
         dateProcessingMatchSuccessCounter = pluginMetrics.counter(DATE_PROCESSING_MATCH_SUCCESS);
         dateProcessingMatchFailureCounter = pluginMetrics.counter(DATE_PROCESSING_MATCH_FAILURE);
+        destinationKey = EventKeyFactory.create(dateProcessorConfig.getDestination());
 
         if (dateProcessorConfig.getMatch() != null)
             extractKeyAndFormatters();
@@ -70,13 +74,13 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
             if (Boolean.TRUE.equals(dateProcessorConfig.getFromTimeReceived()))
                 zonedDateTime =  getDateTimeFromTimeReceived(record);
 
-            else if (keyToParse != null && !keyToParse.isEmpty()) {
+            else if (keyToParse != null) {
                 zonedDateTime = getDateTimeFromMatch(record);
                 populateDateProcessorMetrics(zonedDateTime);
             }
 
             if (zonedDateTime != null)
-                record.getData().put(dateProcessorConfig.getDestination(), zonedDateTime);
+                record.getData().put(destinationKey, zonedDateTime);
         }
         return records;
     }
@@ -90,7 +94,8 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     private void extractKeyAndFormatters() {
         for (DateProcessorConfig.DateMatch entry: dateProcessorConfig.getMatch()) {
-            keyToParse = entry.getKey();
+            final String key = entry.getKey();
+            keyToParse = key != null && !key.isEmpty() ? EventKeyFactory.create(key) : null;
             dateTimeFormatters = entry.getPatterns().stream().map(this::getSourceFormatter).collect(Collectors.toList());
         }
     }
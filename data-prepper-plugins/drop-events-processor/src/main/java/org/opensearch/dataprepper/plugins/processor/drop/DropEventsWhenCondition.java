@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.plugins.processor.drop;
 
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.expression.CompiledExpression;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,14 +25,14 @@ class DropEventsWhenCondition {
 
     private final String dropWhen;
     private final HandleFailedEventsOption handleFailedEventsSetting;
-    private final ExpressionEvaluator expressionEvaluator;
+    private final CompiledExpression compiledDropWhen;
     private final boolean notAlwaysTrue;
 
     DropEventsWhenCondition(final Builder builder) {
         dropWhen = builder.dropWhen;
         handleFailedEventsSetting = builder.handleFailedEventsSetting;
-        expressionEvaluator = builder.expressionEvaluator;
         notAlwaysTrue = !Objects.equals(dropWhen, HARDCODED_TRUE);
+        compiledDropWhen = notAlwaysTrue ? builder.expressionEvaluator.compile(dropWhen) : null;
     }
 
     /**
@@ -55,7 +56,7 @@ class DropEventsWhenCondition {
      */
     public boolean isStatementFalseWith(final Event event) {
         try {
-            return !expressionEvaluator.evaluateConditional(dropWhen, event);
+            return !compiledDropWhen.evaluateConditional(event);
         } catch (final Exception e) {
             return handleFailedEventsSetting.isDropEventOption(event, e, LOG);
         }
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.expression.CompiledExpression;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 
 import java.util.Collection;
@@ -107,12 +108,16 @@ public class DropEventsProcessorTests {
         doReturn(whenSetting)
                 .when(dropEventProcessorConfig)
                 .getDropWhen();
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
+        doReturn(compiledExpression)
+                .when(expressionEvaluator)
+                .compile(eq(whenSetting));
         doReturn(
                 true,
                 true,
                 repeatedReturnValue
-        ).when(expressionEvaluator)
-                .evaluateConditional(eq(whenSetting), eq(event));
+        ).when(compiledExpression)
+                .evaluateConditional(eq(event));
         doReturn(event)
                 .when(record)
                 .getData();
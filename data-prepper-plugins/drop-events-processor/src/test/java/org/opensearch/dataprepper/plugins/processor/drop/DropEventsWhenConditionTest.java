@@ -14,6 +14,7 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.expression.CompiledExpression;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 
 import java.util.UUID;
@@ -28,6 +29,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +37,8 @@ class DropEventsWhenConditionTest {
     @Mock
     private ExpressionEvaluator evaluator;
     @Mock
+    private CompiledExpression compiledExpression;
+    @Mock
     private DropEventProcessorConfig dropEventProcessorConfig;
 
     @Test
@@ -53,6 +57,7 @@ class DropEventsWhenConditionTest {
                 .build();
 
         assertThat(whenCondition.isNotAlwaysTrue(), is(false));
+        verify(evaluator, never()).compile(any());
     }
 
     @Test
@@ -85,9 +90,12 @@ class DropEventsWhenConditionTest {
         doReturn(whenStatement)
                 .when(dropEventProcessorConfig)
                 .getDropWhen();
-        doReturn(evaluatorResult)
+        doReturn(compiledExpression)
                 .when(evaluator)
-                .evaluateConditional(eq(whenStatement), eq(event));
+                .compile(eq(whenStatement));
+        doReturn(evaluatorResult)
+                .when(compiledExpression)
+                .evaluateConditional(eq(event));
 
         final DropEventsWhenCondition whenCondition = new DropEventsWhenCondition.Builder()
                 .withDropEventsProcessorConfig(dropEventProcessorConfig)
@@ -97,7 +105,7 @@ class DropEventsWhenConditionTest {
         final boolean result = whenCondition.isStatementFalseWith(event);
 
         assertThat(result, not(is(evaluatorResult)));
-        verify(evaluator).evaluateConditional(eq(whenStatement), eq(event));
+        verify(compiledExpression).evaluateConditional(eq(event));
     }
 
 
@@ -132,7 +140,8 @@ class DropEventsWhenConditionTest {
         final String whenStatement = UUID.randomUUID().toString();
         final DropEventProcessorConfig dropEventProcessorConfig = mock(DropEventProcessorConfig.class);
 
-        doThrow(RuntimeException.class).when(evaluator).evaluateConditional(any(), any());
+        doReturn(compiledExpression).when(evaluator).compile(eq(whenStatement));
+        doThrow(RuntimeException.class).when(compiledExpression).evaluateConditional(any());
         doReturn(whenStatement).when(dropEventProcessorConfig).getDropWhen();
         doReturn(option).when(dropEventProcessorConfig).getHandleFailedEventsOption();
 
@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import java.util.function.LongSupplier;
+
+/**
+ * The text of an event field, which ends the regular expression matching on it once a deadline has passed.
+ * <p>
+ * A regular expression reads its subject through {@link #charAt(int)} at every step, including every step of
+ * backtracking, so the deadline is checked there. Reading the clock is much slower than reading a character, so it is
+ * only read every {@link #CHECK_INTERVAL} characters. This lets the matching run on the thread which processes the
+ * event, while a catastrophic pattern still ends shortly after the deadline.
+ */
+class DeadlineCharSequence implements CharSequence {
+    static final int CHECK_INTERVAL = 1024;
+
+    private final CharSequence text;
+    private final long deadlineNanos;
+    private final LongSupplier nanoTimeSupplier;
+    private int readsUntilCheck = CHECK_INTERVAL;
+
+    /**
+     * @param deadlineNanos the deadline, as a value of the nano time supplier
+     */
+    DeadlineCharSequence(final CharSequence text, final long deadlineNanos, final LongSupplier nanoTimeSupplier) {
+        this.text = text;
+        this.deadlineNanos = deadlineNanos;
+        this.nanoTimeSupplier = nanoTimeSupplier;
+    }
+
+    /**
+     * @throws DeadlineExceededException if the deadline has passed
+     */
+    @Override
+    public char charAt(final int index) {
+        if (--readsUntilCheck <= 0) {
+            readsUntilCheck = CHECK_INTERVAL;
+            if (nanoTimeSupplier.getAsLong() - deadlineNanos > 0) {
+                throw new DeadlineExceededException();
+            }
+        }
+        return text.charAt(index);
+    }
+
+    @Override
+    public int length() {
+        return text.length();
+    }
+
+    /**
+     * Returns a sub sequence of the original text. Sub sequences are only taken for the captured values, after the
+     * matching, so they do not check the deadline.
+     */
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return text.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return text.toString();
+    }
+
+    /**
+     * Thrown when matching on a {@link DeadlineCharSequence} has not finished by the deadline.
+     */
+    static class DeadlineExceededException extends RuntimeException {
+        DeadlineExceededException() {
+            super("Matching did not finish before the deadline", null, false, false);
+        }
+    }
+}
@@ -17,6 +17,8 @@ import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor
 import org.opensearch.dataprepper.model.annotations.SingleThread;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
@@ -43,12 +45,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
@@ -58,8 +55,6 @@ import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
 @SingleThread
 @DataPrepperPlugin(name = "grok", pluginType = Processor.class)
 public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
-    static final long EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT = 300L;
-
     private static final Logger LOG = LoggerFactory.getLogger(GrokProcessor.class);
 
     private static final String DATA_PREPPER_GROK_PATTERNS_FILE = "grok-patterns/patterns";
@@ -77,28 +72,28 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     private final Timer grokProcessingTime;
 
     private final GrokCompiler grokCompiler;
-    private final Map<String, List<Grok>> fieldToGrok;
+    private final Map<EventKey, List<Grok>> fieldToGrok;
+    private final EventKey targetKey;
     private final GrokProcessorConfig grokProcessorConfig;
     private final Set<String> keysToOverwrite;
-    private final ExecutorService executorService;
     private final List<String> tagsOnMatchFailure;
 
     private final ExpressionEvaluator expressionEvaluator;
 
     @DataPrepperPluginConstructor
     public GrokProcessor(final PluginSetting pluginSetting, final ExpressionEvaluator expressionEvaluator) {
-        this(pluginSetting, GrokCompiler.newInstance(), Executors.newSingleThreadExecutor(), expressionEvaluator);
+        this(pluginSetting, GrokCompiler.newInstance(), expressionEvaluator);
     }
 
-    GrokProcessor(final PluginSetting pluginSetting, final GrokCompiler grokCompiler, final ExecutorService executorService, final ExpressionEvaluator expressionEvaluator) {
+    GrokProcessor(final PluginSetting pluginSetting, final GrokCompiler grokCompiler, final ExpressionEvaluator expressionEvaluator) {
         super(pluginSetting);
         this.grokProcessorConfig = GrokProcessorConfig.buildConfig(pluginSetting);
         this.keysToOverwrite = new HashSet<>(grokProcessorConfig.getkeysToOverwrite());
         this.grokCompiler = grokCompiler;
         this.fieldToGrok = new LinkedHashMap<>();
-        this.executorService = executorService;
         this.expressionEvaluator = expressionEvaluator;
         this.tagsOnMatchFailure = grokProcessorConfig.getTagsOnMatchFailure();
+        this.targetKey = grokProcessorConfig.getTargetKey() != null ? EventKeyFactory.create(grokProcessorConfig.getTargetKey()) : null;
         grokProcessingMatchCounter = pluginMetrics.counter(GROK_PROCESSING_MATCH);
         grokProcessingMismatchCounter = pluginMetrics.counter(GROK_PROCESSING_MISMATCH);
         grokProcessingErrorsCounter = pluginMetrics.counter(GROK_PROCESSING_ERRORS);
@@ -125,21 +120,11 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
                     continue;
                 }
 
-                if (grokProcessorConfig.getTimeoutMillis() == 0) {
-                    grokProcessingTime.record(() -> matchAndMerge(event));
-                } else {
-                    runWithTimeout(() -> grokProcessingTime.record(() -> matchAndMerge(event)));
-                }
+                grokProcessingTime.record(() -> matchAndMerge(event));
 
-            } catch (TimeoutException e) {
+            } catch (DeadlineCharSequence.DeadlineExceededException e) {
                 LOG.error(EVENT, "Matching on record [{}] took longer than [{}] and timed out", record.getData(), grokProcessorConfig.getTimeoutMillis());
                 grokProcessingTimeoutsCounter.increment();
-            } catch (ExecutionException e) {
-                LOG.error(EVENT, "An exception occurred while matching on record [{}]", record.getData(), e);
-                grokProcessingErrorsCounter.increment();
-            } catch (InterruptedException e) {
-                LOG.error(EVENT, "Matching on record [{}] was interrupted", record.getData(), e);
-                grokProcessingErrorsCounter.increment();
             } catch (RuntimeException e) {
                 event.getMetadata().addTags(tagsOnMatchFailure);
                 LOG.error(EVENT, "Unknown exception occurred when matching record [{}]", record.getData(), e);
@@ -161,18 +146,7 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     @Override
     public void shutdown() {
-        executorService.shutdown();
-        try {
-            if (executorService.awaitTermination(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
-                LOG.info("Successfully waited for running task to terminate");
-            } else {
-                LOG.warn("Running task did not terminate in time, forcing termination");
-                executorService.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            LOG.error("Interrupted while waiting for running task to terminate", e);
-            executorService.shutdownNow();
-        }
+        // Matching runs on the calling thread, so there is nothing to shut down.
     }
 
     private void registerPatterns() {
@@ -222,21 +196,28 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     private void compileMatchPatterns() {
         for (final Map.Entry<String, List<String>> entry : grokProcessorConfig.getMatch().entrySet()) {
-            fieldToGrok.put(entry.getKey(), entry.getValue()
+            fieldToGrok.put(EventKeyFactory.create(entry.getKey()), entry.getValue()
                             .stream()
                             .map(item -> grokCompiler.compile(item, grokProcessorConfig.isNamedCapturesOnly()))
                             .collect(Collectors.toList()));
         }
     }
 
+    /**
+     * Matches the patterns on the event and merges the captures into it. The captures are only merged after all
+     * patterns have been matched, so an event whose matching times out is not changed.
+     *
+     * @throws DeadlineCharSequence.DeadlineExceededException if the matching took longer than the timeout
+     */
     private void matchAndMerge(final Event event) {
         final Map<String, Object> grokkedCaptures = new HashMap<>();
+        final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(grokProcessorConfig.getTimeoutMillis());
 
-        for (final Map.Entry<String, List<Grok>> entry : fieldToGrok.entrySet()) {
+        for (final Map.Entry<EventKey, List<Grok>> entry : fieldToGrok.entrySet()) {
+            final String value = event.get(entry.getKey(), String.class);
             for (final Grok grok : entry.getValue()) {
-                final String value = event.get(entry.getKey(), String.class);
                 if (value != null && !value.isEmpty()) {
-                    final Match match = grok.match(value);
+                    final Match match = grok.match(toMatchedText(value, deadlineNanos));
                     match.setKeepEmptyCaptures(grokProcessorConfig.isKeepEmptyCaptures());
 
                     final Map<String, Object> captures = match.capture();
@@ -252,8 +233,8 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
             }
         }
 
-        if (grokProcessorConfig.getTargetKey() != null) {
-            event.put(grokProcessorConfig.getTargetKey(), grokkedCaptures);
+        if (targetKey != null) {
+            event.put(targetKey, grokkedCaptures);
         } else {
             mergeCaptures(event, grokkedCaptures);
         }
@@ -318,8 +299,10 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
         return captures.size() > 0 && grokProcessorConfig.isBreakOnMatch();
     }
 
-    private void runWithTimeout(final Runnable runnable) throws TimeoutException, ExecutionException, InterruptedException {
-        Future<?> task = executorService.submit(runnable);
-        task.get(grokProcessorConfig.getTimeoutMillis(), TimeUnit.MILLISECONDS);
+    private CharSequence toMatchedText(final String value, final long deadlineNanos) {
+        if (grokProcessorConfig.getTimeoutMillis() == 0) {
+            return value;
+        }
+        return new DeadlineCharSequence(value, deadlineNanos, System::nanoTime);
     }
 }
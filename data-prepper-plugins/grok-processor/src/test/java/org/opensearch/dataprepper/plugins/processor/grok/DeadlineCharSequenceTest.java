@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeadlineCharSequenceTest {
+    private static final long DEADLINE_NANOS = 1_000L;
+
+    private AtomicLong nanoTime;
+    private String text;
+
+    @BeforeEach
+    void setUp() {
+        nanoTime = new AtomicLong();
+        text = UUID.randomUUID().toString();
+    }
+
+    private DeadlineCharSequence createObjectUnderTest() {
+        return new DeadlineCharSequence(text, DEADLINE_NANOS, nanoTime::get);
+    }
+
+    @Test
+    void reads_the_text_before_the_deadline() {
+        final DeadlineCharSequence objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.length(), equalTo(text.length()));
+        for (int i = 0; i < DeadlineCharSequence.CHECK_INTERVAL * 3; i++) {
+            assertThat(objectUnderTest.charAt(i % text.length()), equalTo(text.charAt(i % text.length())));
+        }
+        assertThat(objectUnderTest.subSequence(2, 7), equalTo(text.subSequence(2, 7)));
+        assertThat(objectUnderTest.toString(), equalTo(text));
+    }
+
+    @Test
+    void charAt_throws_within_the_check_interval_after_the_deadline() {
+        final DeadlineCharSequence objectUnderTest = createObjectUnderTest();
+        objectUnderTest.charAt(0);
+        nanoTime.set(DEADLINE_NANOS + 1);
+
+        for (int i = 2; i < DeadlineCharSequence.CHECK_INTERVAL; i++) {
+            objectUnderTest.charAt(0);
+        }
+        assertThrows(DeadlineCharSequence.DeadlineExceededException.class, () -> objectUnderTest.charAt(0));
+    }
+
+    @Test
+    void charAt_does_not_throw_at_the_deadline() {
+        final DeadlineCharSequence objectUnderTest = createObjectUnderTest();
+        nanoTime.set(DEADLINE_NANOS);
+
+        for (int i = 0; i < DeadlineCharSequence.CHECK_INTERVAL * 3; i++) {
+            objectUnderTest.charAt(0);
+        }
+    }
+
+    @Test
+    void ends_backtracking_of_a_catastrophic_pattern() {
+        text = "a".repeat(40) + "c";
+        final long deadlineNanos = System.nanoTime() + 50_000_000L;
+        final Matcher matcher = Pattern.compile("^(.*a){12}$").matcher(new DeadlineCharSequence(text, deadlineNanos, System::nanoTime));
+
+        assertThrows(DeadlineCharSequence.DeadlineExceededException.class, matcher::find);
+    }
+
+    @Test
+    void captures_groups_of_a_match() {
+        final Matcher matcher = Pattern.compile("(?<first>\\w+)-(?<second>\\w+)").matcher(createObjectUnderTest());
+
+        assertThat(matcher.find(), equalTo(true));
+        assertThat(matcher.group("first"), equalTo(text.substring(0, text.indexOf('-'))));
+    }
+}
@@ -20,7 +20,9 @@ import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -34,6 +36,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorTests.buildRecordWithEvent;
 
 public class GrokProcessorIT {
@@ -492,6 +495,34 @@ public class GrokProcessorIT {
         assertTrue(((Event)record.getData()).getMetadata().getTags().contains(tagOnMatchFailure2));
     }
 
+    @Test
+    public void testCatastrophicPatternTimesOutAndProcessingContinues() throws JsonProcessingException {
+        final Map<String, List<String>> matchConfig = new HashMap<>();
+        matchConfig.put("message", Collections.singletonList("^%{WORD:word} (.*a){12}$"));
+
+        pluginSetting.getSettings().put(GrokProcessorConfig.MATCH, matchConfig);
+        pluginSetting.getSettings().put(GrokProcessorConfig.TIMEOUT_MILLIS, 100);
+        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator);
+
+        final Map<String, Object> catastrophicData = new HashMap();
+        catastrophicData.put("message", "hello " + "a".repeat(40) + "c");
+        final Record<Event> catastrophicRecord = buildRecordWithEvent(catastrophicData);
+
+        final Map<String, Object> matchingData = new HashMap();
+        matchingData.put("message", "hello " + "a".repeat(12));
+        final Record<Event> matchingRecord = buildRecordWithEvent(matchingData);
+
+        final List<Record<Event>> grokkedRecords = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> (List<Record<Event>>) grokProcessor.doExecute(Arrays.asList(catastrophicRecord, matchingRecord)));
+
+        final Map<String, Object> expectedMatchingData = new HashMap<>(matchingData);
+        expectedMatchingData.put("word", "hello");
+
+        assertThat(grokkedRecords.size(), equalTo(2));
+        assertRecordsAreEqual(grokkedRecords.get(0), buildRecordWithEvent(catastrophicData));
+        assertRecordsAreEqual(grokkedRecords.get(1), buildRecordWithEvent(expectedMatchingData));
+    }
+
     @Test
     public void testCompileNonRegisteredPatternThrowsIllegalArgumentException() {
 
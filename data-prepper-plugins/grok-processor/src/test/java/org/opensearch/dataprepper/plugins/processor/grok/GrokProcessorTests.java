@@ -34,17 +34,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.lenient;
@@ -53,7 +50,6 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
-import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessor.EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT;
 import static org.opensearch.dataprepper.test.matcher.MapEquals.isEqualWithoutTimestamp;
 
 
@@ -64,12 +60,6 @@ public class GrokProcessorTests {
     private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {};
     private String messageInput;
 
-    @Mock
-    private ExecutorService executorService;
-
-    @Mock
-    private Future task;
-
     @Mock
     private GrokCompiler grokCompiler;
 
@@ -109,7 +99,7 @@ public class GrokProcessorTests {
     private final Map<String, List<String>> matchConfig = new HashMap<>();
 
     @BeforeEach
-    public void setup() throws TimeoutException, ExecutionException, InterruptedException {
+    public void setup() {
         pluginSetting = getDefaultPluginSetting();
         pluginSetting.setPipelineName("grokPipeline");
 
@@ -138,22 +128,21 @@ public class GrokProcessorTests {
         lenient().when(grokCompiler.compile(eq(matchConfig.get("message").get(0)), anyBoolean())).thenReturn(grok);
         lenient().when(grokCompiler.compile(eq(matchConfig.get("message").get(1)), anyBoolean())).thenReturn(grokSecondMatch);
 
-        lenient().when(grok.match(messageInput)).thenReturn(match);
+        lenient().when(grok.match(textEqualTo(messageInput))).thenReturn(match);
         lenient().when(match.capture()).thenReturn(capture);
-        lenient().when(executorService.submit(any(Runnable.class))).then(a -> {
-            a.<Runnable>getArgument(0).run();
-            return task;
-        });
-        lenient().when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenReturn(null);
     }
 
     private GrokProcessor createObjectUnderTest() {
         try (MockedStatic<PluginMetrics> pluginMetricsMockedStatic = mockStatic(PluginMetrics.class)) {
             pluginMetricsMockedStatic.when(() -> PluginMetrics.fromPluginSetting(pluginSetting)).thenReturn(pluginMetrics);
-            return new GrokProcessor(pluginSetting, grokCompiler, executorService, expressionEvaluator);
+            return new GrokProcessor(pluginSetting, grokCompiler, expressionEvaluator);
         }
     }
 
+    private static CharSequence textEqualTo(final String text) {
+        return argThat(matchedText -> matchedText != null && text.contentEquals(matchedText));
+    }
+
     @Test
     public void testMatchMerge() throws JsonProcessingException {
         grokProcessor = createObjectUnderTest();
@@ -380,8 +369,14 @@ public class GrokProcessorTests {
     }
 
     @Test
-    public void testThatTimeoutExceptionIsCaughtAndProcessingContinues() throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
-        when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(TimeoutException.class);
+    public void testThatTimeoutExceptionIsCaughtAndProcessingContinues() throws JsonProcessingException {
+        pluginSetting.getSettings().put(GrokProcessorConfig.TIMEOUT_MILLIS, 10);
+        when(grok.match(textEqualTo(messageInput))).then(a -> {
+            final CharSequence text = a.getArgument(0);
+            while (true) {
+                text.charAt(0);
+            }
+        });
 
         grokProcessor = createObjectUnderTest();
 
@@ -400,11 +395,72 @@ public class GrokProcessorTests {
         assertRecordsAreEqual(grokkedRecords.get(0), record);
         verify(grokProcessingTimeoutsCounter, times(1)).increment();
         verify(grokProcessingTime, times(1)).record(any(Runnable.class));
+        verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMatchCounter, grokProcessingMismatchCounter);
+    }
+
+    @Test
+    public void testThatCapturesOfPatternsMatchedBeforeATimeoutAreNotMerged() throws JsonProcessingException {
+        pluginSetting.getSettings().put(GrokProcessorConfig.TIMEOUT_MILLIS, 10);
+        pluginSetting.getSettings().put(GrokProcessorConfig.BREAK_ON_MATCH, false);
+        when(grokSecondMatch.match(textEqualTo(messageInput))).then(a -> {
+            final CharSequence text = a.getArgument(0);
+            while (true) {
+                text.charAt(0);
+            }
+        });
+
+        grokProcessor = createObjectUnderTest();
+
+        capture.put("key_capture_1", "value_capture_1");
+
+        final Map<String, Object> testData = new HashMap();
+        testData.put("message", messageInput);
+        final Record<Event> record = buildRecordWithEvent(testData);
+
+        final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record));
+
+        assertThat(grokkedRecords.size(), equalTo(1));
+        assertRecordsAreEqual(grokkedRecords.get(0), buildRecordWithEvent(testData));
+        verify(grokProcessingTimeoutsCounter, times(1)).increment();
+    }
+
+    @Test
+    public void testThatProcessingWithTimeoutMatchesOnTheText() throws JsonProcessingException {
+        when(grok.match(any(CharSequence.class))).then(a -> {
+            final CharSequence text = a.getArgument(0);
+            assertThat(text.length(), equalTo(messageInput.length()));
+            for (int i = 0; i < DeadlineCharSequence.CHECK_INTERVAL * 2; i++) {
+                assertThat(text.charAt(i % text.length()), equalTo(messageInput.charAt(i % text.length())));
+            }
+            assertThat(text.subSequence(1, 3).toString(), equalTo(messageInput.substring(1, 3)));
+            assertThat(text.toString(), equalTo(messageInput));
+            return match;
+        });
+        grokProcessor = createObjectUnderTest();
+
+        capture.put("key_capture_1", "value_capture_1");
+
+        final Map<String, Object> testData = new HashMap();
+        testData.put("message", messageInput);
+        final Record<Event> record = buildRecordWithEvent(testData);
+
+        final Map<String, Object> resultData = new HashMap<>(testData);
+        resultData.put("key_capture_1", "value_capture_1");
+
+        final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record));
+
+        assertRecordsAreEqual(grokkedRecords.get(0), buildRecordWithEvent(resultData));
+        verify(grokProcessingMatchCounter, times(1)).increment();
+        verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMismatchCounter, grokProcessingTimeoutsCounter);
     }
 
     @Test
-    public void testThatProcessingWithTimeoutMillisOfZeroDoesNotInteractWithExecutorServiceAndReturnsCorrectResult() throws JsonProcessingException {
+    public void testThatProcessingWithTimeoutMillisOfZeroMatchesOnTheValueAndReturnsCorrectResult() throws JsonProcessingException {
         pluginSetting.getSettings().put(GrokProcessorConfig.TIMEOUT_MILLIS, 0);
+        when(grok.match(any(CharSequence.class))).then(a -> {
+            assertThat(a.getArgument(0), sameInstance(messageInput));
+            return match;
+        });
         grokProcessor = createObjectUnderTest();
 
         capture.put("key_capture_1", "value_capture_1");
@@ -425,7 +481,6 @@ public class GrokProcessorTests {
         final Record<Event> resultRecord = buildRecordWithEvent(resultData);
 
         final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record));
-        verifyNoInteractions(executorService);
         assertThat(grokkedRecords.size(), equalTo(1));
         assertThat(grokkedRecords.get(0), notNullValue());
         assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
@@ -441,39 +496,6 @@ public class GrokProcessorTests {
         grokProcessor.prepareForShutdown();
     }
 
-    @Test
-    public void testShutdown_Successful() throws InterruptedException {
-        grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
-
-        grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-    }
-
-    @Test
-    public void testShutdown_Timeout() throws InterruptedException {
-        grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS))).thenReturn(false);
-
-        grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-        verify(executorService).shutdownNow();
-    }
-
-    @Test
-    public void testShutdown_InterruptedException() throws InterruptedException {
-        grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS)))
-                .thenThrow(new InterruptedException());
-
-        grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-        verify(executorService).shutdownNow();
-    }
-
     @Nested
     class WithMultipleMatches {
         @Mock
@@ -490,7 +512,7 @@ public class GrokProcessorTests {
         public void testNoCaptures() throws JsonProcessingException {
             grokProcessor = createObjectUnderTest();
 
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(textEqualTo(messageInput))).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             final Map<String, Object> testData = new HashMap();
@@ -514,7 +536,7 @@ public class GrokProcessorTests {
             pluginSetting.getSettings().put(GrokProcessorConfig.TAGS_ON_MATCH_FAILURE, List.of(tagOnMatchFailure1, tagOnMatchFailure2));
 
             grokProcessor = createObjectUnderTest();
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(textEqualTo(messageInput))).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             final Map<String, Object> testData = new HashMap();
@@ -537,7 +559,7 @@ public class GrokProcessorTests {
         public void testBreakOnMatchTrue() throws JsonProcessingException {
             grokProcessor = createObjectUnderTest();
 
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(textEqualTo(messageInput))).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             capture.put("key_capture_1", "value_capture_1");
@@ -574,7 +596,7 @@ public class GrokProcessorTests {
             pluginSetting.getSettings().put(GrokProcessorConfig.BREAK_ON_MATCH, false);
             grokProcessor = createObjectUnderTest();
 
-            when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            when(grokSecondMatch.match(textEqualTo(messageInput))).thenReturn(secondMatch);
             when(secondMatch.capture()).thenReturn(secondCapture);
 
             capture.put("key_capture_1", "value_capture_1");
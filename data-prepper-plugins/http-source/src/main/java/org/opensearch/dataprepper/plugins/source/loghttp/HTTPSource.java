@@ -128,11 +128,12 @@ public class HTTPSource implements Source<Record<Log>> {
             final String httpSourcePath = sourceConfig.getPath().replace(PIPELINE_NAME_PLACEHOLDER, pipelineName);
             sb.decorator(httpSourcePath, ThrottlingService.newDecorator(logThrottlingStrategy, logThrottlingRejectHandler));
             final LogHTTPService logHTTPService = new LogHTTPService(sourceConfig.getBufferTimeoutInMillis(), buffer, pluginMetrics);
+            final Object httpService = sourceConfig.isStreamingRequests() ? new StreamingLogHTTPService(logHTTPService) : logHTTPService;
 
             if (CompressionOption.NONE.equals(sourceConfig.getCompression())) {
-                sb.annotatedService(httpSourcePath, logHTTPService);
+                sb.annotatedService(httpSourcePath, httpService);
             } else {
-                sb.annotatedService(httpSourcePath, logHTTPService, DecodingService.newDecorator());
+                sb.annotatedService(httpSourcePath, httpService, DecodingService.newDecorator());
             }
 
             if (sourceConfig.hasHealthCheckService()) {
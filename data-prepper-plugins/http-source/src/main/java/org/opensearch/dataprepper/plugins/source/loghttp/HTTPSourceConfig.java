@@ -20,6 +20,7 @@ public class HTTPSourceConfig {
     static final String SSL_CERTIFICATE_FILE = "ssl_certificate_file";
     static final String SSL_KEY_FILE = "ssl_key_file";
     static final String COMPRESSION = "compression";
+    static final String STREAMING_REQUESTS = "streaming_requests";
     static final boolean DEFAULT_USE_ACM_CERTIFICATE_FOR_SSL = false;
     static final int DEFAULT_ACM_CERTIFICATE_TIMEOUT_MILLIS = 120000;
     static final int DEFAULT_PORT = 2021;
@@ -92,6 +93,9 @@ public class HTTPSourceConfig {
     @JsonProperty(COMPRESSION)
     private CompressionOption compression = CompressionOption.NONE;
 
+    @JsonProperty(STREAMING_REQUESTS)
+    private boolean streamingRequests = false;
+
     private PluginModel authentication;
 
     public boolean isSslCertAndKeyFileInS3() {
@@ -217,4 +221,8 @@ public class HTTPSourceConfig {
     public CompressionOption getCompression() {
         return compression;
     }
+
+    public boolean isStreamingRequests() {
+        return streamingRequests;
+    }
 }
@@ -10,25 +10,41 @@ import org.opensearch.dataprepper.model.buffer.Buffer;
 import org.opensearch.dataprepper.model.log.JacksonLog;
 import org.opensearch.dataprepper.model.log.Log;
 import org.opensearch.dataprepper.model.record.Record;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.server.ServiceRequestContext;
 import com.linecorp.armeria.server.annotation.Blocking;
 import com.linecorp.armeria.server.annotation.Post;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Timer;
+import org.opensearch.dataprepper.plugins.source.loghttp.codec.Codec;
 import org.opensearch.dataprepper.plugins.source.loghttp.codec.JsonCodec;
+import org.opensearch.dataprepper.plugins.source.loghttp.codec.JsonLinesCodec;
+import org.opensearch.dataprepper.plugins.source.loghttp.codec.LogDecoder;
+import org.opensearch.dataprepper.plugins.source.loghttp.codec.MessagePackCodec;
+import org.opensearch.dataprepper.plugins.source.loghttp.codec.StreamingCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /*
 * A HTTP service for log ingestion to be executed by BlockingTaskExecutor.
+* The logs of a request are decoded in a single pass and written to the buffer in batches of at most
+* bufferWriteBatchSize records, as they are decoded for an aggregated request and as its content is received for a
+* streamed one, so that the records of a large request are never all held in memory. A request which fails after some
+* of its batches were written is answered with the status of the failure and the number of its logs which were written.
 */
 @Blocking
 public class LogHTTPService {
@@ -36,13 +52,13 @@ public class LogHTTPService {
     public static final String SUCCESS_REQUESTS = "successRequests";
     public static final String PAYLOAD_SIZE = "payloadSize";
     public static final String REQUEST_PROCESS_DURATION = "requestProcessDuration";
+    static final int DEFAULT_BUFFER_WRITE_BATCH_SIZE = 1000;
 
     private static final Logger LOG = LoggerFactory.getLogger(LogHTTPService.class);
 
-    // TODO: support other data-types as request body, e.g. json_lines, msgpack
-    private final JsonCodec jsonCodec = new JsonCodec();
     private final Buffer<Record<Log>> buffer;
     private final int bufferWriteTimeoutInMillis;
+    private final int bufferWriteBatchSize;
     private final RequestExceptionHandler requestExceptionHandler;
     private final Counter requestsReceivedCounter;
     private final Counter successRequestsCounter;
@@ -52,8 +68,16 @@ public class LogHTTPService {
     public LogHTTPService(final int bufferWriteTimeoutInMillis,
                           final Buffer<Record<Log>> buffer,
                           final PluginMetrics pluginMetrics) {
+        this(bufferWriteTimeoutInMillis, buffer, pluginMetrics, DEFAULT_BUFFER_WRITE_BATCH_SIZE);
+    }
+
+    LogHTTPService(final int bufferWriteTimeoutInMillis,
+                   final Buffer<Record<Log>> buffer,
+                   final PluginMetrics pluginMetrics,
+                   final int bufferWriteBatchSize) {
         this.buffer = buffer;
         this.bufferWriteTimeoutInMillis = bufferWriteTimeoutInMillis;
+        this.bufferWriteBatchSize = bufferWriteBatchSize;
 
         requestExceptionHandler = new RequestExceptionHandler(pluginMetrics);
         requestsReceivedCounter = pluginMetrics.counter(REQUESTS_RECEIVED);
@@ -67,32 +91,101 @@ public class LogHTTPService {
         return requestProcessDuration.record(() -> processRequest(aggregatedHttpRequest));
     }
 
+    /**
+     * Handles a request whose content is streamed rather than aggregated. The content is subscribed to one chunk at a
+     * time and each chunk is decoded and written on the blocking task executor before the next one is requested, so a
+     * full buffer holds back the client, only a window of the content is held in memory, and no thread waits on the
+     * network. The content of a format which cannot be decoded from partial content is aggregated instead.
+     *
+     * @param serviceRequestContext The context of the request, providing its event loop and blocking task executor
+     * @param request The streamed request
+     * @return The response, which completes once the request is processed
+     */
+    public HttpResponse doPostStreaming(final ServiceRequestContext serviceRequestContext, final HttpRequest request) {
+        final long startTime = System.nanoTime();
+        final RequestBodyFormat requestBodyFormat = RequestBodyFormat.fromContentType(request.contentType());
+        final CompletableFuture<HttpResponse> responseFuture;
+        if (requestBodyFormat.codec instanceof StreamingCodec) {
+            responseFuture = processStreamingRequest(serviceRequestContext, request, requestBodyFormat);
+        } else {
+            responseFuture = request.aggregate().thenApplyAsync(this::processRequest, serviceRequestContext.blockingTaskExecutor());
+        }
+        return HttpResponse.from(responseFuture.whenComplete((response, e) ->
+                requestProcessDuration.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS)));
+    }
+
     private HttpResponse processRequest(final AggregatedHttpRequest aggregatedHttpRequest) {
         requestsReceivedCounter.increment();
 
-        List<String> jsonList;
         final HttpData content = aggregatedHttpRequest.content();
         payloadSizeSummary.record(content.length());
-        try {
-            jsonList = jsonCodec.parse(content);
+
+        final RequestBodyFormat requestBodyFormat = RequestBodyFormat.fromContentType(aggregatedHttpRequest.contentType());
+        final long bufferWriteDeadlineMillis = System.currentTimeMillis() + bufferWriteTimeoutInMillis;
+        long logsWritten = 0;
+        try (final LogDecoder logDecoder = requestBodyFormat.codec.parse(content)) {
+            List<Record<Log>> records;
+            do {
+                records = decodeRecords(logDecoder);
+                if (records.isEmpty()) {
+                    break;
+                }
+                try {
+                    final long remainingTimeoutInMillis = Math.max(0, bufferWriteDeadlineMillis - System.currentTimeMillis());
+                    buffer.writeAll(records, (int) remainingTimeoutInMillis);
+                } catch (Exception e) {
+                    LOG.error("Failed to write the request of size {} due to: {}", content.length(), e.getMessage());
+                    return requestExceptionHandler.handleException(e, e.getMessage() == null ? "" : e.getMessage(), logsWritten);
+                }
+                logsWritten += records.size();
+            } while (records.size() == bufferWriteBatchSize);
         } catch (IOException e) {
             LOG.error("Failed to write the request of size {} due to: {}", content.length(), e.getMessage());
-            return requestExceptionHandler.handleException(e, "Bad request data format. Needs to be json array.");
-        }
-        final List<Record<Log>> records = jsonList.stream()
-                .map(this::buildRecordLog)
-                .collect(Collectors.toList());
-        try {
-            buffer.writeAll(records, bufferWriteTimeoutInMillis);
-        } catch (Exception e) {
-            LOG.error("Failed to write the request of size {} due to: {}", content.length(), e.getMessage());
-            return requestExceptionHandler.handleException(e);
+            return requestExceptionHandler.handleException(e,
+                    "Bad request data format. Needs to be " + requestBodyFormat.description + ".", logsWritten);
         }
         successRequestsCounter.increment();
         return HttpResponse.of(HttpStatus.OK);
     }
 
-    private Record<Log> buildRecordLog(String json) {
+    private CompletableFuture<HttpResponse> processStreamingRequest(final ServiceRequestContext serviceRequestContext,
+                                                                    final HttpRequest request,
+                                                                    final RequestBodyFormat requestBodyFormat) {
+        requestsReceivedCounter.increment();
+
+        final StreamingLogRequestSubscriber subscriber = new StreamingLogRequestSubscriber(
+                ((StreamingCodec) requestBodyFormat.codec).createChunkDecoder(), this::writeLogs, bufferWriteBatchSize,
+                serviceRequestContext.blockingTaskExecutor());
+        request.subscribe(subscriber, serviceRequestContext.eventLoop());
+        return subscriber.completionFuture().handle((ignored, throwable) -> {
+            payloadSizeSummary.record(subscriber.getBytesReceived());
+            if (throwable == null) {
+                successRequestsCounter.increment();
+                return HttpResponse.of(HttpStatus.OK);
+            }
+            final Exception e = throwable instanceof Exception ? (Exception) throwable : new RuntimeException(throwable);
+            LOG.error("Failed to write the request of size {} due to: {}", subscriber.getBytesReceived(), e.getMessage());
+            final String message = e instanceof IOException ?
+                    "Bad request data format. Needs to be " + requestBodyFormat.description + "." :
+                    e.getMessage() == null ? "" : e.getMessage();
+            return requestExceptionHandler.handleException(e, message, subscriber.getLogsWritten());
+        });
+    }
+
+    private void writeLogs(final List<JsonNode> logs) throws Exception {
+        buffer.writeAll(logs.stream().map(this::buildRecordLog).collect(Collectors.toList()), bufferWriteTimeoutInMillis);
+    }
+
+    private List<Record<Log>> decodeRecords(final LogDecoder logDecoder) throws IOException {
+        final List<Record<Log>> records = new ArrayList<>();
+        JsonNode json;
+        while (records.size() < bufferWriteBatchSize && (json = logDecoder.next()) != null) {
+            records.add(buildRecordLog(json));
+        }
+        return records;
+    }
+
+    private Record<Log> buildRecordLog(final JsonNode json) {
 
         final JacksonLog log = JacksonLog.builder()
                 .withData(json)
@@ -101,4 +194,32 @@ public class LogHTTPService {
 
         return new Record<>(log);
     }
+
+    private enum RequestBodyFormat {
+        JSON(new JsonCodec(), "json array"),
+        JSON_LINES(new JsonLinesCodec(), "json lines"),
+        MSGPACK(new MessagePackCodec(), "msgpack");
+
+        private static final String MSGPACK_SUBTYPE = "msgpack";
+        private static final String X_MSGPACK_SUBTYPE = "x-msgpack";
+
+        private final Codec<LogDecoder> codec;
+        private final String description;
+
+        RequestBodyFormat(final Codec<LogDecoder> codec, final String description) {
+            this.codec = codec;
+            this.description = description;
+        }
+
+        static RequestBodyFormat fromContentType(final MediaType contentType) {
+            if (contentType == null) {
+                return JSON;
+            } else if (contentType.is(MediaType.JSON_LINES)) {
+                return JSON_LINES;
+            } else if (MSGPACK_SUBTYPE.equals(contentType.subtype()) || X_MSGPACK_SUBTYPE.equals(contentType.subtype())) {
+                return MSGPACK;
+            }
+            return JSON;
+        }
+    }
 }
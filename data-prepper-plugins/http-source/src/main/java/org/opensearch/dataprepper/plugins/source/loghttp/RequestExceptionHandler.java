@@ -7,9 +7,11 @@ package org.opensearch.dataprepper.plugins.source.loghttp;
 
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import com.linecorp.armeria.common.HttpData;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
 import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.ResponseHeaders;
 import io.micrometer.core.instrument.Counter;
 
 import java.io.IOException;
@@ -21,6 +23,7 @@ public class RequestExceptionHandler {
     public static final String BAD_REQUESTS = "badRequests";
     public static final String REQUESTS_TOO_LARGE = "requestsTooLarge";
     public static final String INTERNAL_SERVER_ERROR = "internalServerError";
+    public static final String LOGS_WRITTEN_HEADER = "x-logs-written";
 
     private final Counter requestTimeoutsCounter;
     private final Counter badRequestsCounter;
@@ -41,17 +44,42 @@ public class RequestExceptionHandler {
 
     public HttpResponse handleException(final Exception e, final String message) {
         Objects.requireNonNull(message);
+        return HttpResponse.of(countException(e), MediaType.ANY_TYPE, message);
+    }
+
+    /**
+     * Handles the failure of a request whose logs may have been written in part. The response has the status of the
+     * failure, and the number of logs written before it is given in the {@value #LOGS_WRITTEN_HEADER} header, and in
+     * the body if any were written, so that the client does not resend the logs which were written.
+     *
+     * @param e The failure
+     * @param message The message of the failure
+     * @param logsWritten The number of logs of the request written before the failure
+     * @return The response to the request
+     */
+    public HttpResponse handleException(final Exception e, final String message, final long logsWritten) {
+        Objects.requireNonNull(message);
+        final ResponseHeaders headers = ResponseHeaders.builder(countException(e))
+                .contentType(MediaType.ANY_TYPE)
+                .add(LOGS_WRITTEN_HEADER, String.valueOf(logsWritten))
+                .build();
+        final String content = logsWritten == 0 ? message :
+                "The first " + logsWritten + " logs of the request were written before it failed: " + message;
+        return HttpResponse.of(headers, HttpData.ofUtf8(content));
+    }
+
+    private HttpStatus countException(final Exception e) {
         if (e instanceof IOException) {
             badRequestsCounter.increment();
-            return HttpResponse.of(HttpStatus.BAD_REQUEST, MediaType.ANY_TYPE, message);
+            return HttpStatus.BAD_REQUEST;
         } else if (e instanceof TimeoutException) {
             requestTimeoutsCounter.increment();
-            return HttpResponse.of(HttpStatus.REQUEST_TIMEOUT, MediaType.ANY_TYPE, message);
+            return HttpStatus.REQUEST_TIMEOUT;
         } else if (e instanceof SizeOverflowException) {
             requestsTooLargeCounter.increment();
-            return HttpResponse.of(HttpStatus.REQUEST_ENTITY_TOO_LARGE, MediaType.ANY_TYPE, message);
+            return HttpStatus.REQUEST_ENTITY_TOO_LARGE;
         }
         internalServerErrorCounter.increment();
-        return HttpResponse.of(HttpStatus.INTERNAL_SERVER_ERROR, MediaType.ANY_TYPE, message);
+        return HttpStatus.INTERNAL_SERVER_ERROR;
     }
 }
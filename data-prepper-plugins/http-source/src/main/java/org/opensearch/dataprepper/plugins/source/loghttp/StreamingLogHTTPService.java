@@ -0,0 +1,29 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.loghttp;
+
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.server.ServiceRequestContext;
+import com.linecorp.armeria.server.annotation.Post;
+
+/*
+* A HTTP service for log ingestion, which receives the requests without aggregating them, so that the content is parsed
+* as it arrives. It runs on the event loop, as the {@link LogHTTPService} only uses the BlockingTaskExecutor to decode
+* and write each chunk of the content, rather than holding a thread while the whole content is received.
+*/
+public class StreamingLogHTTPService {
+    private final LogHTTPService logHTTPService;
+
+    public StreamingLogHTTPService(final LogHTTPService logHTTPService) {
+        this.logHTTPService = logHTTPService;
+    }
+
+    @Post
+    public HttpResponse doPost(final ServiceRequestContext serviceRequestContext, final HttpRequest request) {
+        return logHTTPService.doPostStreaming(serviceRequestContext, request);
+    }
+}
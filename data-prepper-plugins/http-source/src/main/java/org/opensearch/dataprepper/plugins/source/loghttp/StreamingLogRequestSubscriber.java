@@ -0,0 +1,149 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.loghttp;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpObject;
+import org.apache.commons.io.IOUtils;
+import org.opensearch.dataprepper.plugins.source.loghttp.codec.LogChunkDecoder;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/*
+* Subscribes to the content of a streamed request and requests one chunk at a time, so that the client is held back by
+* flow control rather than by a blocked thread. Each chunk is decoded on the blocking task executor and the decoded logs
+* are written in batches of at most writeBatchSize logs before the next chunk is requested, so a full buffer stops the
+* reads. The signals are handled in order by chaining their work, as the completion of the stream may be signalled
+* while the last chunk is still being written.
+*/
+class StreamingLogRequestSubscriber implements Subscriber<HttpObject> {
+    private final LogChunkDecoder logChunkDecoder;
+    private final LogWriter logWriter;
+    private final int writeBatchSize;
+    private final Executor blockingTaskExecutor;
+    private final CompletableFuture<Void> completionFuture = new CompletableFuture<>();
+    private final List<JsonNode> pendingLogs = new ArrayList<>();
+    private Subscription subscription;
+    private CompletableFuture<Void> lastTask = CompletableFuture.completedFuture(null);
+    private long bytesReceived;
+    private long logsWritten;
+
+    StreamingLogRequestSubscriber(final LogChunkDecoder logChunkDecoder,
+                                  final LogWriter logWriter,
+                                  final int writeBatchSize,
+                                  final Executor blockingTaskExecutor) {
+        this.logChunkDecoder = logChunkDecoder;
+        this.logWriter = logWriter;
+        this.writeBatchSize = writeBatchSize;
+        this.blockingTaskExecutor = blockingTaskExecutor;
+    }
+
+    /**
+     * @return A future which completes once all the logs of the request are written, or exceptionally with the failure
+     * which ended the request. The counts are final once it completes.
+     */
+    CompletableFuture<Void> completionFuture() {
+        return completionFuture;
+    }
+
+    long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    long getLogsWritten() {
+        return logsWritten;
+    }
+
+    @Override
+    public void onSubscribe(final Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(final HttpObject httpObject) {
+        if (!(httpObject instanceof HttpData)) {
+            subscription.request(1);
+            return;
+        }
+        final HttpData chunk = (HttpData) httpObject;
+        enqueue(() -> {
+            bytesReceived += chunk.length();
+            addLogs(logChunkDecoder.decode(chunk));
+            subscription.request(1);
+        });
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        enqueue(() -> fail(throwable));
+    }
+
+    @Override
+    public void onComplete() {
+        enqueue(() -> {
+            addLogs(logChunkDecoder.end());
+            if (!pendingLogs.isEmpty()) {
+                writePendingLogs();
+            }
+            IOUtils.closeQuietly(logChunkDecoder);
+            completionFuture.complete(null);
+        });
+    }
+
+    private void addLogs(final List<JsonNode> logs) throws Exception {
+        for (final JsonNode log : logs) {
+            pendingLogs.add(log);
+            if (pendingLogs.size() == writeBatchSize) {
+                writePendingLogs();
+            }
+        }
+    }
+
+    private void writePendingLogs() throws Exception {
+        logWriter.write(pendingLogs);
+        logsWritten += pendingLogs.size();
+        pendingLogs.clear();
+    }
+
+    private void enqueue(final Task task) {
+        lastTask = lastTask.thenRunAsync(() -> {
+            if (completionFuture.isDone()) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (final Exception e) {
+                fail(e);
+            }
+        }, blockingTaskExecutor).exceptionally(throwable -> {
+            fail(throwable);
+            return null;
+        });
+    }
+
+    private void fail(final Throwable throwable) {
+        subscription.cancel();
+        IOUtils.closeQuietly(logChunkDecoder);
+        completionFuture.completeExceptionally(throwable);
+    }
+
+    @FunctionalInterface
+    interface LogWriter {
+        void write(List<JsonNode> logs) throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run() throws Exception;
+    }
+}
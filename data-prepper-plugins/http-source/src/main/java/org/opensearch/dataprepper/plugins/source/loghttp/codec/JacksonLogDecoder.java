@@ -0,0 +1,83 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.loghttp.codec;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+
+/**
+ * JacksonLogDecoder walks the tokens of a {@link JsonParser} once and reads each log object into a {@link JsonNode}
+ * directly. The logs are either the elements of a root array or a sequence of root objects.
+ * <p>
+ */
+class JacksonLogDecoder implements LogDecoder {
+    private final ObjectMapper objectMapper;
+    private final JsonParser jsonParser;
+    private final boolean inArray;
+    private JsonToken pendingToken;
+    private boolean finished;
+
+    /**
+     * @param objectMapper The mapper reading the log objects
+     * @param jsonParser The parser over the content of the request
+     * @param allowRootObjects Whether the logs may be a sequence of root objects rather than the elements of a root array
+     */
+    JacksonLogDecoder(final ObjectMapper objectMapper, final JsonParser jsonParser, final boolean allowRootObjects) throws IOException {
+        this.objectMapper = objectMapper;
+        this.jsonParser = jsonParser;
+        final JsonToken firstToken = nextRootToken();
+        inArray = firstToken == JsonToken.START_ARRAY;
+        if (!inArray) {
+            if (!allowRootObjects) {
+                throw new JsonParseException(jsonParser, "Expected an array of log objects.");
+            }
+            pendingToken = firstToken;
+        }
+    }
+
+    @Override
+    public JsonNode next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        final JsonToken token;
+        if (pendingToken != null) {
+            token = pendingToken;
+            pendingToken = null;
+        } else {
+            token = inArray ? jsonParser.nextToken() : nextRootToken();
+        }
+
+        if (inArray ? token == JsonToken.END_ARRAY : token == null) {
+            finished = true;
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(jsonParser, "Expected a log object but found " + token + ".");
+        }
+        return objectMapper.readTree(jsonParser);
+    }
+
+    private JsonToken nextRootToken() throws IOException {
+        try {
+            return jsonParser.nextToken();
+        } catch (final JsonEOFException e) {
+            // the msgpack parser signals the end of the input between root values with an exception rather than null
+            return null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        jsonParser.close();
+    }
+}
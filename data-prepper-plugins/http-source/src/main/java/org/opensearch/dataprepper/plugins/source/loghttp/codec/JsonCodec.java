@@ -5,35 +5,26 @@
 
 package org.opensearch.dataprepper.plugins.source.loghttp.codec;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linecorp.armeria.common.HttpData;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
 
 /**
- * JsonCodec parses the json array format HTTP data into List&lt;{@link String}&gt;.
- * TODO: replace output List&lt;String&gt; with List&lt;InternalModel&gt; type
+ * JsonCodec parses the json array format HTTP data into a {@link LogDecoder}, which decodes the elements of the array
+ * in a single pass over the data, or the content of a streamed request into a {@link LogChunkDecoder}.
  * <p>
  */
-public class JsonCodec implements Codec<List<String>> {
+public class JsonCodec implements Codec<LogDecoder>, StreamingCodec {
     private static final ObjectMapper mapper = new ObjectMapper();
-    private static final TypeReference<List<Map<String, Object>>> LIST_OF_MAP_TYPE_REFERENCE =
-            new TypeReference<List<Map<String, Object>>>() {};
 
     @Override
-    public List<String> parse(HttpData httpData) throws IOException {
-        List<String> jsonList = new ArrayList<>();
-        final List<Map<String, Object>> logList = mapper.readValue(httpData.toInputStream(),
-                LIST_OF_MAP_TYPE_REFERENCE);
-        for (final Map<String, Object> log: logList) {
-            final String recordString = mapper.writeValueAsString(log);
-            jsonList.add(recordString);
-        }
+    public LogDecoder parse(final HttpData httpData) throws IOException {
+        return new JacksonLogDecoder(mapper, mapper.createParser(httpData.array()), false);
+    }
 
-        return jsonList;
+    @Override
+    public LogChunkDecoder createChunkDecoder() {
+        return new NonBlockingJacksonLogDecoder(mapper, false);
     }
 }
@@ -0,0 +1,30 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.loghttp.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linecorp.armeria.common.HttpData;
+
+import java.io.IOException;
+
+/**
+ * JsonLinesCodec parses the json lines format HTTP data, one json object per line, into a {@link LogDecoder}, or the
+ * content of a streamed request into a {@link LogChunkDecoder}.
+ * <p>
+ */
+public class JsonLinesCodec implements Codec<LogDecoder>, StreamingCodec {
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Override
+    public LogDecoder parse(final HttpData httpData) throws IOException {
+        return new JacksonLogDecoder(mapper, mapper.createParser(httpData.array()), true);
+    }
+
+    @Override
+    public LogChunkDecoder createChunkDecoder() {
+        return new NonBlockingJacksonLogDecoder(mapper, true);
+    }
+}
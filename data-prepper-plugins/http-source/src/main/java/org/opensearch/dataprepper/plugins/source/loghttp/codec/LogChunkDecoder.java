@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.loghttp.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.linecorp.armeria.common.HttpData;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * LogChunkDecoder decodes the logs in the content of a HTTP request chunk by chunk, as the content is received, without
+ * ever blocking for more content. A log split across chunks is decoded once its last chunk is received.
+ * <p>
+ */
+public interface LogChunkDecoder extends Closeable {
+    /**
+     * decode the logs completed by the next chunk of the request
+     *
+     * @param chunk The next chunk of the content of the request
+     * @return The logs completed by the chunk, which may be none
+     * @throws IOException if the content is not in the format of the codec
+     */
+    List<JsonNode> decode(HttpData chunk) throws IOException;
+
+    /**
+     * decode the logs completed by the end of the request
+     *
+     * @return The logs completed by the end of the content
+     * @throws IOException if the content is not in the format of the codec, including if it ends within a log
+     */
+    List<JsonNode> end() throws IOException;
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.loghttp.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * LogDecoder decodes the logs in the content of a HTTP request one at a time, so that the logs of a request never
+ * have to be held in memory all at once.
+ * <p>
+ */
+public interface LogDecoder extends Closeable {
+    /**
+     * decode the next log of the request
+     *
+     * @return The next log, or null if there are no more logs
+     * @throws IOException if the content is not in the format of the codec
+     */
+    JsonNode next() throws IOException;
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.loghttp.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linecorp.armeria.common.HttpData;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+import java.io.IOException;
+
+/**
+ * MessagePackCodec parses the msgpack format HTTP data, either an array of maps or a sequence of maps, into a
+ * {@link LogDecoder}.
+ * <p>
+ */
+public class MessagePackCodec implements Codec<LogDecoder> {
+    private static final ObjectMapper mapper = new ObjectMapper(new MessagePackFactory());
+
+    @Override
+    public LogDecoder parse(final HttpData httpData) throws IOException {
+        return new JacksonLogDecoder(mapper, mapper.createParser(httpData.array()), true);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.loghttp.codec;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.linecorp.armeria.common.HttpData;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * NonBlockingJacksonLogDecoder feeds the chunks of the content into a non-blocking Jackson parser and copies the tokens
+ * of each log object into a {@link TokenBuffer} until the object is complete. The logs are either the elements of a root
+ * array or a sequence of root objects, as for {@link JacksonLogDecoder}.
+ * <p>
+ */
+class NonBlockingJacksonLogDecoder implements LogChunkDecoder {
+    private final ObjectMapper objectMapper;
+    private final JsonParser jsonParser;
+    private final ByteArrayFeeder byteArrayFeeder;
+    private final boolean allowRootObjects;
+    private boolean started;
+    private boolean inArray;
+    private boolean finished;
+    private TokenBuffer logTokens;
+    private int logDepth;
+
+    /**
+     * @param objectMapper The mapper creating the parser and reading the log objects
+     * @param allowRootObjects Whether the logs may be a sequence of root objects rather than the elements of a root array
+     */
+    NonBlockingJacksonLogDecoder(final ObjectMapper objectMapper, final boolean allowRootObjects) {
+        this.objectMapper = objectMapper;
+        this.allowRootObjects = allowRootObjects;
+        try {
+            jsonParser = objectMapper.createNonBlockingByteArrayParser();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byteArrayFeeder = (ByteArrayFeeder) jsonParser.getNonBlockingInputFeeder();
+    }
+
+    @Override
+    public List<JsonNode> decode(final HttpData chunk) throws IOException {
+        if (finished || chunk.isEmpty()) {
+            return Collections.emptyList();
+        }
+        byteArrayFeeder.feedInput(chunk.array(), 0, chunk.length());
+        return decodeAvailableLogs();
+    }
+
+    @Override
+    public List<JsonNode> end() throws IOException {
+        if (finished) {
+            return Collections.emptyList();
+        }
+        byteArrayFeeder.endOfInput();
+        final List<JsonNode> logs = decodeAvailableLogs();
+        if (!finished) {
+            throw new JsonEOFException(jsonParser, null, "Unexpected end of the content within a log.");
+        }
+        return logs;
+    }
+
+    private List<JsonNode> decodeAvailableLogs() throws IOException {
+        final List<JsonNode> logs = new ArrayList<>();
+        JsonToken token;
+        while (!finished && (token = jsonParser.nextToken()) != JsonToken.NOT_AVAILABLE) {
+            if (logTokens != null) {
+                logTokens.copyCurrentEvent(jsonParser);
+                if (token.isStructStart()) {
+                    logDepth++;
+                } else if (token.isStructEnd() && --logDepth == 0) {
+                    logs.add(readLog());
+                }
+            } else {
+                startLog(token);
+            }
+        }
+        return logs;
+    }
+
+    private void startLog(final JsonToken token) throws IOException {
+        if (token == null) {
+            if (inArray) {
+                throw new JsonEOFException(jsonParser, null, "Unexpected end of the content within the array of log objects.");
+            } else if (!started && !allowRootObjects) {
+                throw new JsonParseException(jsonParser, "Expected an array of log objects.");
+            }
+            finished = true;
+            return;
+        }
+        if (!started) {
+            started = true;
+            if (token == JsonToken.START_ARRAY) {
+                inArray = true;
+                return;
+            } else if (!allowRootObjects) {
+                throw new JsonParseException(jsonParser, "Expected an array of log objects.");
+            }
+        }
+        if (inArray && token == JsonToken.END_ARRAY) {
+            finished = true;
+            return;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(jsonParser, "Expected a log object but found " + token + ".");
+        }
+        logTokens = new TokenBuffer(jsonParser);
+        logTokens.copyCurrentEvent(jsonParser);
+        logDepth = 1;
+    }
+
+    private JsonNode readLog() throws IOException {
+        try (final JsonParser logParser = logTokens.asParser(objectMapper)) {
+            return objectMapper.readTree(logParser);
+        } finally {
+            logTokens = null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        jsonParser.close();
+    }
+}
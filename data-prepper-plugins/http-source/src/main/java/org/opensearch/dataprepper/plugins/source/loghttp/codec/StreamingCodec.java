@@ -0,0 +1,20 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.loghttp.codec;
+
+/**
+ * StreamingCodec is implemented by the codecs whose format can be decoded from partial content, so that the content of a
+ * streamed HTTP request is decoded by a {@link LogChunkDecoder} as it is received.
+ * <p>
+ */
+public interface StreamingCodec {
+    /**
+     * create a decoder for the content of a streamed request
+     *
+     * @return The decoder, which is fed the chunks of the content as they are received
+     */
+    LogChunkDecoder createChunkDecoder();
+}
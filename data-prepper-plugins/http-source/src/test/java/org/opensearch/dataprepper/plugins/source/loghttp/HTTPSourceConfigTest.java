@@ -50,6 +50,7 @@ public class HTTPSourceConfigTest {
         assertEquals((int)(HTTPSourceConfig.DEFAULT_REQUEST_TIMEOUT_MS * HTTPSourceConfig.BUFFER_TIMEOUT_FRACTION),
                      sourceConfig.getBufferTimeoutInMillis());
         assertEquals(CompressionOption.NONE, sourceConfig.getCompression());
+        assertEquals(false, sourceConfig.isStreamingRequests());
     }
 
     @Nested
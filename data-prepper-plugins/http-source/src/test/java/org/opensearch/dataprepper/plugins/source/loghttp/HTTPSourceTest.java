@@ -313,6 +313,44 @@ class HTTPSourceTest {
         Assertions.assertTrue(requestProcessDurationMax.getValue() > 0);
     }
 
+    @Test
+    public void testStreamingHTTPJsonResponse200() {
+        // Prepare
+        final String testData = "[{\"log\": \"somelog\"}]";
+        final int testPayloadSize = testData.getBytes().length;
+        when(sourceConfig.isStreamingRequests()).thenReturn(true);
+        HTTPSourceUnderTest = new HTTPSource(sourceConfig, pluginMetrics, pluginFactory, pipelineDescription);
+        HTTPSourceUnderTest.start(testBuffer);
+        refreshMeasurements();
+
+        // When
+        WebClient.of().execute(RequestHeaders.builder()
+                                .scheme(SessionProtocol.HTTP)
+                                .authority("127.0.0.1:2021")
+                                .method(HttpMethod.POST)
+                                .path("/log/ingest")
+                                .contentType(MediaType.JSON_UTF_8)
+                                .build(),
+                        HttpData.ofUtf8(testData))
+                .aggregate()
+                .whenComplete((i, ex) -> assertSecureResponseWithStatusCode(i, HttpStatus.OK)).join();
+
+        // Then
+        Assertions.assertFalse(testBuffer.isEmpty());
+
+        final Map.Entry<Collection<Record<Log>>, CheckpointState> result = testBuffer.read(100);
+        List<Record<Log>> records = new ArrayList<>(result.getKey());
+        Assertions.assertEquals(1, records.size());
+        Assertions.assertEquals("somelog", records.get(0).getData().get("log", String.class));
+        // Verify metrics
+        final Measurement successRequestsCount = MetricsTestUtil.getMeasurementFromList(
+                successRequestsMeasurements, Statistic.COUNT);
+        Assertions.assertEquals(1.0, successRequestsCount.getValue());
+        final Measurement payloadSizeMax = MetricsTestUtil.getMeasurementFromList(
+                payloadSizeSummaryMeasurements, Statistic.MAX);
+        Assertions.assertEquals(testPayloadSize, payloadSizeMax.getValue());
+    }
+
     @Test
     public void testHealthCheck() {
         // Prepare
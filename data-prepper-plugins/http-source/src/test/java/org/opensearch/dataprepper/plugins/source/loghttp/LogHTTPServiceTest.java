@@ -16,10 +16,12 @@ import com.linecorp.armeria.common.AggregatedHttpResponse;
 import com.linecorp.armeria.common.HttpData;
 import com.linecorp.armeria.common.HttpMethod;
 import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpRequestWriter;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
 import com.linecorp.armeria.common.MediaType;
 import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.server.ServiceRequestContext;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Timer;
@@ -31,18 +33,37 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
 import org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -80,6 +101,8 @@ class LogHTTPServiceTest {
     @Mock
     private Timer requestProcessDuration;
 
+    private Buffer<Record<Log>> blockingBuffer;
+
     private LogHTTPService logHTTPService;
 
     @BeforeEach
@@ -92,7 +115,7 @@ class LogHTTPServiceTest {
         when(pluginMetrics.counter(RequestExceptionHandler.INTERNAL_SERVER_ERROR)).thenReturn(internalServerErrorCounter);
         when(pluginMetrics.summary(LogHTTPService.PAYLOAD_SIZE)).thenReturn(payloadSizeSummary);
         when(pluginMetrics.timer(LogHTTPService.REQUEST_PROCESS_DURATION)).thenReturn(requestProcessDuration);
-        when(requestProcessDuration.record(ArgumentMatchers.<Supplier<HttpResponse>>any())).thenAnswer(
+        lenient().when(requestProcessDuration.record(ArgumentMatchers.<Supplier<HttpResponse>>any())).thenAnswer(
                 (Answer<HttpResponse>) invocation -> {
                     final Object[] args = invocation.getArguments();
                     @SuppressWarnings("unchecked")
@@ -101,7 +124,7 @@ class LogHTTPServiceTest {
                 }
         );
 
-        Buffer<Record<Log>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_CAPACITY, 8, "test-pipeline");
+        blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_CAPACITY, 8, "test-pipeline");
         logHTTPService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, blockingBuffer, pluginMetrics);
     }
 
@@ -192,6 +215,327 @@ class LogHTTPServiceTest {
         verify(requestProcessDuration, times(2)).record(ArgumentMatchers.<Supplier<HttpResponse>>any());
     }
 
+    @Test
+    public void testHTTPRequestSuccessWritesTheLogs() throws Exception {
+        // Prepare
+        AggregatedHttpRequest testRequest = generateHTTPRequest(MediaType.JSON_UTF_8,
+                HttpData.ofUtf8("[{\"log\":\"a\",\"nested\":{\"count\":1}},{\"log\":\"b\"}]"));
+
+        // When
+        AggregatedHttpResponse postResponse = logHTTPService.doPost(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.OK, postResponse.status());
+        final List<Record<Log>> records = new ArrayList<>(blockingBuffer.read(TEST_TIMEOUT_IN_MILLIS).getKey());
+        assertEquals(2, records.size());
+        assertEquals("a", records.get(0).getData().get("log", String.class));
+        assertEquals(1, records.get(0).getData().get("nested/count", Integer.class));
+        assertEquals("b", records.get(1).getData().get("log", String.class));
+    }
+
+    @Test
+    public void testHTTPJsonLinesRequestSuccess() throws Exception {
+        // Prepare
+        AggregatedHttpRequest testRequest = generateHTTPRequest(MediaType.JSON_LINES,
+                HttpData.ofUtf8("{\"log\":\"a\"}\n{\"log\":\"b\"}\n"));
+
+        // When
+        AggregatedHttpResponse postResponse = logHTTPService.doPost(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.OK, postResponse.status());
+        final List<Record<Log>> records = new ArrayList<>(blockingBuffer.read(TEST_TIMEOUT_IN_MILLIS).getKey());
+        assertEquals(2, records.size());
+        assertEquals("a", records.get(0).getData().get("log", String.class));
+        assertEquals("b", records.get(1).getData().get("log", String.class));
+        verify(successRequestsCounter, times(1)).increment();
+    }
+
+    @Test
+    public void testHTTPMessagePackRequestSuccess() throws Exception {
+        // Prepare
+        final ObjectMapper messagePackMapper = new ObjectMapper(new MessagePackFactory());
+        AggregatedHttpRequest testRequest = generateHTTPRequest(MediaType.create("application", "msgpack"),
+                HttpData.wrap(messagePackMapper.writeValueAsBytes(List.of(Map.of("log", "a"), Map.of("log", "b")))));
+
+        // When
+        AggregatedHttpResponse postResponse = logHTTPService.doPost(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.OK, postResponse.status());
+        final List<Record<Log>> records = new ArrayList<>(blockingBuffer.read(TEST_TIMEOUT_IN_MILLIS).getKey());
+        assertEquals(2, records.size());
+        assertEquals("a", records.get(0).getData().get("log", String.class));
+        assertEquals("b", records.get(1).getData().get("log", String.class));
+        verify(successRequestsCounter, times(1)).increment();
+    }
+
+    @Test
+    public void testHTTPJsonLinesRequestBadRequest() throws Exception {
+        // Prepare
+        AggregatedHttpRequest testBadRequest = generateHTTPRequest(MediaType.JSON_LINES, HttpData.ofUtf8("{\"log\":\"a\"}\n[1]\n"));
+
+        // When
+        AggregatedHttpResponse postResponse = logHTTPService.doPost(testBadRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, postResponse.status());
+        verify(successRequestsCounter, never()).increment();
+        verify(badRequestsCounter, times(1)).increment();
+    }
+
+    @Test
+    public void testHTTPRequestIsWrittenInBatches() throws Exception {
+        // Prepare
+        @SuppressWarnings("unchecked")
+        final Buffer<Record<Log>> buffer = mock(Buffer.class);
+        final LogHTTPService objectUnderTest = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, buffer, pluginMetrics, 2);
+        AggregatedHttpRequest testRequest = generateRandomValidHTTPRequest(5);
+
+        // When
+        AggregatedHttpResponse postResponse = objectUnderTest.doPost(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.OK, postResponse.status());
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<Collection<Record<Log>>> recordsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(buffer, times(3)).writeAll(recordsCaptor.capture(), anyInt());
+        assertEquals(List.of(2, 2, 1), recordsCaptor.getAllValues().stream().map(Collection::size).collect(Collectors.toList()));
+        verify(successRequestsCounter, times(1)).increment();
+    }
+
+    @Test
+    public void testHTTPRequestWithBatchSizeMultipleIsWrittenInFullBatches() throws Exception {
+        // Prepare
+        @SuppressWarnings("unchecked")
+        final Buffer<Record<Log>> buffer = mock(Buffer.class);
+        final LogHTTPService objectUnderTest = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, buffer, pluginMetrics, 2);
+        AggregatedHttpRequest testRequest = generateRandomValidHTTPRequest(4);
+
+        // When
+        AggregatedHttpResponse postResponse = objectUnderTest.doPost(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.OK, postResponse.status());
+        verify(buffer, times(2)).writeAll(anyCollection(), anyInt());
+    }
+
+    @Test
+    public void testHTTPRequestWithMalformedDataAfterTheFirstBatchIsPartiallyAccepted() throws Exception {
+        // Prepare
+        @SuppressWarnings("unchecked")
+        final Buffer<Record<Log>> buffer = mock(Buffer.class);
+        final LogHTTPService objectUnderTest = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, buffer, pluginMetrics, 2);
+        AggregatedHttpRequest testBadRequest = generateHTTPRequest(MediaType.JSON_LINES,
+                HttpData.ofUtf8("{\"log\":\"a\"}\n{\"log\":\"b\"}\n{\"log\":\"c\"}\n{"));
+
+        // When
+        AggregatedHttpResponse postResponse = objectUnderTest.doPost(testBadRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, postResponse.status());
+        assertEquals("2", postResponse.headers().get(RequestExceptionHandler.LOGS_WRITTEN_HEADER));
+        assertTrue(postResponse.contentUtf8().startsWith("The first 2 logs of the request were written"));
+        verify(buffer, times(1)).writeAll(anyCollection(), anyInt());
+        verify(badRequestsCounter, times(1)).increment();
+        verify(successRequestsCounter, never()).increment();
+    }
+
+    @Test
+    public void testHTTPRequestFailingBufferWriteStopsWriting() throws Exception {
+        // Prepare
+        @SuppressWarnings("unchecked")
+        final Buffer<Record<Log>> buffer = mock(Buffer.class);
+        doNothing().doThrow(new TimeoutException()).when(buffer).writeAll(anyCollection(), anyInt());
+        final LogHTTPService objectUnderTest = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, buffer, pluginMetrics, 2);
+        AggregatedHttpRequest testRequest = generateRandomValidHTTPRequest(5);
+
+        // When
+        AggregatedHttpResponse postResponse = objectUnderTest.doPost(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.REQUEST_TIMEOUT, postResponse.status());
+        assertEquals("2", postResponse.headers().get(RequestExceptionHandler.LOGS_WRITTEN_HEADER));
+        verify(buffer, times(2)).writeAll(anyCollection(), anyInt());
+        verify(requestTimeoutsCounter, times(1)).increment();
+        verify(successRequestsCounter, never()).increment();
+    }
+
+    @Test
+    public void testStreamingHTTPRequestSuccess() throws Exception {
+        // Prepare
+        final String content = "[{\"log\":\"a\"},{\"log\":\"b\"}]";
+        HttpRequest testRequest = HttpRequest.of(generateRequestHeaders(MediaType.JSON_UTF_8), HttpData.ofUtf8(content));
+
+        // When
+        AggregatedHttpResponse postResponse = doPostStreaming(logHTTPService, testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.OK, postResponse.status());
+        final List<Record<Log>> records = new ArrayList<>(blockingBuffer.read(TEST_TIMEOUT_IN_MILLIS).getKey());
+        assertEquals(2, records.size());
+        assertEquals("a", records.get(0).getData().get("log", String.class));
+        assertEquals("b", records.get(1).getData().get("log", String.class));
+        verify(requestsReceivedCounter, times(1)).increment();
+        verify(successRequestsCounter, times(1)).increment();
+        final ArgumentCaptor<Double> payloadLengthCaptor = ArgumentCaptor.forClass(Double.class);
+        verify(payloadSizeSummary, times(1)).record(payloadLengthCaptor.capture());
+        assertEquals(content.length(), Math.round(payloadLengthCaptor.getValue()));
+        verify(requestProcessDuration, times(1)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void testStreamingHTTPRequestBadRequest() throws Exception {
+        // Prepare
+        HttpRequest testBadRequest = HttpRequest.of(generateRequestHeaders(MediaType.JSON_UTF_8), HttpData.ofUtf8("{"));
+
+        // When
+        AggregatedHttpResponse postResponse = doPostStreaming(logHTTPService, testBadRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, postResponse.status());
+        verify(successRequestsCounter, never()).increment();
+        verify(badRequestsCounter, times(1)).increment();
+        verify(payloadSizeSummary, times(1)).record(1.0);
+        verify(requestProcessDuration, times(1)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void testStreamingHTTPRequestMessagePackIsAggregated() throws Exception {
+        // Prepare
+        final ObjectMapper messagePackMapper = new ObjectMapper(new MessagePackFactory());
+        HttpRequest testRequest = HttpRequest.of(generateRequestHeaders(MediaType.create("application", "msgpack")),
+                HttpData.wrap(messagePackMapper.writeValueAsBytes(List.of(Map.of("log", "a"), Map.of("log", "b")))));
+
+        // When
+        AggregatedHttpResponse postResponse = doPostStreaming(logHTTPService, testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.OK, postResponse.status());
+        assertEquals(2, blockingBuffer.read(TEST_TIMEOUT_IN_MILLIS).getKey().size());
+        verify(successRequestsCounter, times(1)).increment();
+        verify(requestProcessDuration, times(1)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void testStreamingHTTPRequestWritesRecordsBeforeTheContentIsComplete() throws Exception {
+        // Prepare
+        @SuppressWarnings("unchecked")
+        final Buffer<Record<Log>> buffer = mock(Buffer.class);
+        final LogHTTPService objectUnderTest = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, buffer, pluginMetrics, 2);
+        final HttpRequestWriter testRequest = HttpRequest.streaming(generateRequestHeaders(MediaType.JSON_UTF_8));
+
+        // When
+        final HttpResponse postResponse = doPostStreaming(objectUnderTest, testRequest);
+        testRequest.write(HttpData.ofUtf8("[{\"log\":\"a\"},{\"log\":\"b\"},"));
+
+        // Then
+        verify(buffer, timeout(5000)).writeAll(anyCollection(), anyInt());
+        final CompletableFuture<AggregatedHttpResponse> postResponseFuture = postResponse.aggregate();
+        assertFalse(postResponseFuture.isDone());
+
+        testRequest.write(HttpData.ofUtf8("{\"log\":\"c\"}]"));
+        testRequest.close();
+        assertEquals(HttpStatus.OK, postResponseFuture.get(5, TimeUnit.SECONDS).status());
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<Collection<Record<Log>>> recordsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(buffer, times(2)).writeAll(recordsCaptor.capture(), anyInt());
+        assertEquals(List.of(2, 1), recordsCaptor.getAllValues().stream().map(Collection::size).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testStreamingHTTPRequestDoesNotReadWhileTheBufferIsFull() throws Exception {
+        // Prepare
+        @SuppressWarnings("unchecked")
+        final Buffer<Record<Log>> buffer = mock(Buffer.class);
+        final CountDownLatch bufferHasSpace = new CountDownLatch(1);
+        doAnswer(invocation -> bufferHasSpace.await(5, TimeUnit.SECONDS)).when(buffer).writeAll(anyCollection(), anyInt());
+        final LogHTTPService objectUnderTest = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, buffer, pluginMetrics, 1);
+        final HttpRequestWriter testRequest = HttpRequest.streaming(generateRequestHeaders(MediaType.JSON_LINES));
+
+        // When
+        final HttpResponse postResponse = doPostStreaming(objectUnderTest, testRequest);
+        testRequest.write(HttpData.ofUtf8("{\"log\":\"a\"}\n"));
+        verify(buffer, timeout(5000)).writeAll(anyCollection(), anyInt());
+        final boolean secondChunkWritten = testRequest.tryWrite(HttpData.ofUtf8("{\"log\":\"b\"}\n"));
+        testRequest.close();
+
+        // Then
+        assertEquals(true, secondChunkWritten);
+        Thread.sleep(100);
+        verify(buffer, times(1)).writeAll(anyCollection(), anyInt());
+
+        bufferHasSpace.countDown();
+        assertEquals(HttpStatus.OK, postResponse.aggregate().get(5, TimeUnit.SECONDS).status());
+        verify(buffer, times(2)).writeAll(anyCollection(), anyInt());
+    }
+
+    @Test
+    public void testStreamingHTTPRequestFailingAfterAWriteIsPartiallyAccepted() throws Exception {
+        // Prepare
+        @SuppressWarnings("unchecked")
+        final Buffer<Record<Log>> buffer = mock(Buffer.class);
+        final LogHTTPService objectUnderTest = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, buffer, pluginMetrics, 2);
+        final HttpRequestWriter testRequest = HttpRequest.streaming(generateRequestHeaders(MediaType.JSON_LINES));
+        testRequest.write(HttpData.ofUtf8("{\"log\":\"a\"}\n{\"log\":\"b\"}\n{\"log\":\"c\"}\n"));
+        testRequest.write(HttpData.ofUtf8("["));
+        testRequest.close();
+
+        // When
+        AggregatedHttpResponse postResponse = doPostStreaming(objectUnderTest, testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, postResponse.status());
+        assertEquals("2", postResponse.headers().get(RequestExceptionHandler.LOGS_WRITTEN_HEADER));
+        assertTrue(postResponse.contentUtf8().startsWith("The first 2 logs of the request were written"));
+        verify(buffer, times(1)).writeAll(anyCollection(), anyInt());
+        verify(badRequestsCounter, times(1)).increment();
+        verify(successRequestsCounter, never()).increment();
+    }
+
+    @Test
+    public void testStreamingHTTPRequestFailingBufferWriteStopsReading() throws Exception {
+        // Prepare
+        @SuppressWarnings("unchecked")
+        final Buffer<Record<Log>> buffer = mock(Buffer.class);
+        doThrow(new TimeoutException()).when(buffer).writeAll(anyCollection(), anyInt());
+        final LogHTTPService objectUnderTest = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, buffer, pluginMetrics, 1);
+        final HttpRequestWriter testRequest = HttpRequest.streaming(generateRequestHeaders(MediaType.JSON_LINES));
+
+        // When
+        final HttpResponse postResponse = doPostStreaming(objectUnderTest, testRequest);
+        testRequest.write(HttpData.ofUtf8("{\"log\":\"a\"}\n"));
+
+        // Then
+        assertEquals(HttpStatus.REQUEST_TIMEOUT, postResponse.aggregate().get(5, TimeUnit.SECONDS).status());
+        testRequest.whenComplete().handle((ignored, e) -> null).get(5, TimeUnit.SECONDS);
+        assertFalse(testRequest.tryWrite(HttpData.ofUtf8("{\"log\":\"b\"}\n")));
+        verify(buffer, times(1)).writeAll(anyCollection(), anyInt());
+        verify(requestTimeoutsCounter, times(1)).increment();
+    }
+
+    private HttpResponse doPostStreaming(final LogHTTPService objectUnderTest, final HttpRequest request) {
+        return objectUnderTest.doPostStreaming(ServiceRequestContext.of(request), request);
+    }
+
+    private RequestHeaders generateRequestHeaders(final MediaType contentType) {
+        return RequestHeaders.builder()
+                .contentType(contentType)
+                .method(HttpMethod.POST)
+                .path("/log/ingest")
+                .build();
+    }
+
+    private AggregatedHttpRequest generateHTTPRequest(final MediaType contentType, final HttpData httpData)
+            throws ExecutionException, InterruptedException {
+        RequestHeaders requestHeaders = RequestHeaders.builder()
+                .contentType(contentType)
+                .method(HttpMethod.POST)
+                .path("/log/ingest")
+                .build();
+        return HttpRequest.of(requestHeaders, httpData).aggregate().get();
+    }
+
     private AggregatedHttpRequest generateRandomValidHTTPRequest(int numJson) throws JsonProcessingException,
             ExecutionException, InterruptedException {
         RequestHeaders requestHeaders = RequestHeaders.builder()
@@ -192,4 +192,37 @@ class RequestExceptionHandlerTest {
             super(message);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testHandleExceptionAfterLogsWereWritten() throws ExecutionException, InterruptedException {
+        // Prepare
+        final String testMessage = "test exception message";
+
+        // When
+        final AggregatedHttpResponse aggregatedHttpResponse = requestExceptionHandler.handleException(
+                new TimeoutException(), testMessage, 10).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.REQUEST_TIMEOUT, aggregatedHttpResponse.status());
+        assertEquals("10", aggregatedHttpResponse.headers().get(RequestExceptionHandler.LOGS_WRITTEN_HEADER));
+        assertEquals("The first 10 logs of the request were written before it failed: " + testMessage,
+                aggregatedHttpResponse.contentUtf8());
+        verify(requestTimeoutsCounter, times(1)).increment();
+    }
+
+    @Test
+    public void testHandleExceptionBeforeLogsWereWritten() throws ExecutionException, InterruptedException {
+        // Prepare
+        final String testMessage = "test exception message";
+
+        // When
+        final AggregatedHttpResponse aggregatedHttpResponse = requestExceptionHandler.handleException(
+                new IOException(), testMessage, 0).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, aggregatedHttpResponse.status());
+        assertEquals("0", aggregatedHttpResponse.headers().get(RequestExceptionHandler.LOGS_WRITTEN_HEADER));
+        assertEquals(testMessage, aggregatedHttpResponse.contentUtf8());
+        verify(badRequestsCounter, times(1)).increment();
+    }
+}
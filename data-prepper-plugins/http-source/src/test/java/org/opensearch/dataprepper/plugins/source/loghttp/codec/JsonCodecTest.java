@@ -5,30 +5,84 @@
 
 package org.opensearch.dataprepper.plugins.source.loghttp.codec;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.linecorp.armeria.common.HttpData;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class JsonCodecTest {
     private final HttpData goodTestData = HttpData.ofUtf8("[{\"a\":\"b\"}, {\"c\":\"d\"}]");
+    private final HttpData goodTestDataNested = HttpData.ofUtf8("[{\"a\":{\"b\":[1, 2.5, true, null]}}]");
+    private final HttpData goodTestDataEmptyArray = HttpData.ofUtf8("[]");
     private final HttpData badTestDataJsonLine = HttpData.ofUtf8("{\"a\":\"b\"}");
     private final HttpData badTestDataMultiJsonLines = HttpData.ofUtf8("{\"a\":\"b\"}{\"c\":\"d\"}");
     private final HttpData badTestDataNonJson = HttpData.ofUtf8("non json content");
+    private final HttpData badTestDataNonObjectElement = HttpData.ofUtf8("[{\"a\":\"b\"}, \"c\"]");
+    private final HttpData badTestDataTruncated = HttpData.ofUtf8("[{\"a\":\"b\"}, {\"c\":");
+    private final HttpData badTestDataEmpty = HttpData.ofUtf8("");
     private final JsonCodec objectUnderTest = new JsonCodec();
 
+    private static List<JsonNode> decodeAll(final LogDecoder logDecoder) throws IOException {
+        final List<JsonNode> logs = new ArrayList<>();
+        JsonNode log;
+        while ((log = logDecoder.next()) != null) {
+            logs.add(log);
+        }
+        return logs;
+    }
+
+    private static List<JsonNode> decodeByteByByte(final LogChunkDecoder logChunkDecoder, final HttpData httpData) throws IOException {
+        final List<JsonNode> logs = new ArrayList<>();
+        final byte[] content = httpData.array();
+        for (int i = 0; i < content.length; i++) {
+            logs.addAll(logChunkDecoder.decode(HttpData.wrap(content, i, 1)));
+        }
+        logs.addAll(logChunkDecoder.end());
+        return logs;
+    }
+
     @Test
     public void testParseSuccess() throws IOException {
         // When
-        List<String> res = objectUnderTest.parse(goodTestData);
+        List<JsonNode> res;
+        try (final LogDecoder logDecoder = objectUnderTest.parse(goodTestData)) {
+            res = decodeAll(logDecoder);
+            assertNull(logDecoder.next());
+        }
 
         // Then
         assertEquals(2, res.size());
-        assertEquals("{\"a\":\"b\"}", res.get(0));
+        assertEquals("{\"a\":\"b\"}", res.get(0).toString());
+        assertEquals("{\"c\":\"d\"}", res.get(1).toString());
+    }
+
+    @Test
+    public void testParseNestedSuccess() throws IOException {
+        // When
+        List<JsonNode> res;
+        try (final LogDecoder logDecoder = objectUnderTest.parse(goodTestDataNested)) {
+            res = decodeAll(logDecoder);
+        }
+
+        // Then
+        assertEquals(1, res.size());
+        assertEquals("{\"a\":{\"b\":[1,2.5,true,null]}}", res.get(0).toString());
+    }
+
+    @Test
+    public void testParseEmptyArraySuccess() throws IOException {
+        try (final LogDecoder logDecoder = objectUnderTest.parse(goodTestDataEmptyArray)) {
+            assertNull(logDecoder.next());
+        }
     }
 
     @Test
@@ -43,6 +97,102 @@ class JsonCodecTest {
 
     @Test
     public void testParseNonJsonFailure() {
-        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataNonJson));
+        assertThrows(IOException.class, () -> decodeAll(objectUnderTest.parse(badTestDataNonJson)));
+    }
+
+    @Test
+    public void testParseEmptyFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataEmpty));
+    }
+
+    @Test
+    public void testParseNonObjectElementFailure() throws IOException {
+        try (final LogDecoder logDecoder = objectUnderTest.parse(badTestDataNonObjectElement)) {
+            assertEquals("{\"a\":\"b\"}", logDecoder.next().toString());
+            assertThrows(IOException.class, logDecoder::next);
+        }
+    }
+
+    @Test
+    public void testParseTruncatedFailure() throws IOException {
+        try (final LogDecoder logDecoder = objectUnderTest.parse(badTestDataTruncated)) {
+            assertEquals("{\"a\":\"b\"}", logDecoder.next().toString());
+            assertThrows(IOException.class, logDecoder::next);
+        }
+    }
+
+    @Test
+    public void testChunkDecoderSuccess() throws IOException {
+        try (final LogChunkDecoder logChunkDecoder = objectUnderTest.createChunkDecoder()) {
+            assertEquals(Collections.emptyList(), logChunkDecoder.decode(HttpData.ofUtf8("[{\"a\":")));
+            assertEquals(List.of("{\"a\":\"b\"}", "{\"c\":\"d\"}"), toStrings(logChunkDecoder.decode(HttpData.ofUtf8("\"b\"}, {\"c\":\"d\"}, {"))));
+            assertEquals(List.of("{\"e\":{\"f\":[1]}}"), toStrings(logChunkDecoder.decode(HttpData.ofUtf8("\"e\":{\"f\":[1]}}]"))));
+            assertEquals(Collections.emptyList(), logChunkDecoder.end());
+        }
+    }
+
+    @Test
+    public void testChunkDecoderByteByByteSuccess() throws IOException {
+        try (final LogChunkDecoder logChunkDecoder = objectUnderTest.createChunkDecoder()) {
+            assertEquals(List.of("{\"a\":{\"b\":[1,2.5,true,null]}}"), toStrings(decodeByteByByte(logChunkDecoder, goodTestDataNested)));
+        }
+    }
+
+    @Test
+    public void testChunkDecoderEmptyArraySuccess() throws IOException {
+        try (final LogChunkDecoder logChunkDecoder = objectUnderTest.createChunkDecoder()) {
+            assertEquals(Collections.emptyList(), decodeByteByByte(logChunkDecoder, goodTestDataEmptyArray));
+        }
+    }
+
+    @Test
+    public void testChunkDecoderIgnoresContentAfterTheArray() throws IOException {
+        try (final LogChunkDecoder logChunkDecoder = objectUnderTest.createChunkDecoder()) {
+            assertEquals(1, logChunkDecoder.decode(HttpData.ofUtf8("[{\"a\":\"b\"}]")).size());
+            assertEquals(Collections.emptyList(), logChunkDecoder.decode(HttpData.ofUtf8("non json content")));
+            assertEquals(Collections.emptyList(), logChunkDecoder.end());
+        }
+    }
+
+    @Test
+    public void testChunkDecoderJsonLineFailure() throws IOException {
+        try (final LogChunkDecoder logChunkDecoder = objectUnderTest.createChunkDecoder()) {
+            assertThrows(IOException.class, () -> logChunkDecoder.decode(badTestDataJsonLine));
+        }
+    }
+
+    @Test
+    public void testChunkDecoderEmptyFailure() throws IOException {
+        try (final LogChunkDecoder logChunkDecoder = objectUnderTest.createChunkDecoder()) {
+            assertEquals(Collections.emptyList(), logChunkDecoder.decode(badTestDataEmpty));
+            assertThrows(IOException.class, logChunkDecoder::end);
+        }
+    }
+
+    @Test
+    public void testChunkDecoderNonObjectElementFailure() throws IOException {
+        try (final LogChunkDecoder logChunkDecoder = objectUnderTest.createChunkDecoder()) {
+            assertThrows(IOException.class, () -> logChunkDecoder.decode(badTestDataNonObjectElement));
+        }
+    }
+
+    @Test
+    public void testChunkDecoderTruncatedFailure() throws IOException {
+        try (final LogChunkDecoder logChunkDecoder = objectUnderTest.createChunkDecoder()) {
+            assertEquals(List.of("{\"a\":\"b\"}"), toStrings(logChunkDecoder.decode(badTestDataTruncated)));
+            assertThrows(IOException.class, logChunkDecoder::end);
+        }
+    }
+
+    @Test
+    public void testChunkDecoderTruncatedArrayFailure() throws IOException {
+        try (final LogChunkDecoder logChunkDecoder = objectUnderTest.createChunkDecoder()) {
+            assertEquals(List.of("{\"a\":\"b\"}"), toStrings(logChunkDecoder.decode(HttpData.ofUtf8("[{\"a\":\"b\"}"))));
+            assertThrows(IOException.class, logChunkDecoder::end);
+        }
+    }
+
+    private static List<String> toStrings(final List<JsonNode> logs) {
+        return logs.stream().map(JsonNode::toString).collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
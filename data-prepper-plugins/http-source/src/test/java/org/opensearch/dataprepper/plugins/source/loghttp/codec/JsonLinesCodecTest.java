@@ -0,0 +1,107 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.loghttp.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.linecorp.armeria.common.HttpData;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonLinesCodecTest {
+    private final HttpData goodTestData = HttpData.ofUtf8("{\"a\":\"b\"}\n{\"c\":\"d\"}\n");
+    private final HttpData goodTestDataBlankLines = HttpData.ofUtf8("\n{\"a\":\"b\"}\r\n\r\n{\"c\":\"d\"}");
+    private final HttpData goodTestDataEmpty = HttpData.ofUtf8("");
+    private final HttpData badTestDataNonObjectLine = HttpData.ofUtf8("{\"a\":\"b\"}\n\"c\"\n");
+    private final HttpData badTestDataNonJson = HttpData.ofUtf8("non json content");
+    private final JsonLinesCodec objectUnderTest = new JsonLinesCodec();
+
+    @Test
+    public void testParseSuccess() throws IOException {
+        try (final LogDecoder logDecoder = objectUnderTest.parse(goodTestData)) {
+            assertEquals("{\"a\":\"b\"}", logDecoder.next().toString());
+            assertEquals("{\"c\":\"d\"}", logDecoder.next().toString());
+            assertNull(logDecoder.next());
+            assertNull(logDecoder.next());
+        }
+    }
+
+    @Test
+    public void testParseBlankLinesSuccess() throws IOException {
+        try (final LogDecoder logDecoder = objectUnderTest.parse(goodTestDataBlankLines)) {
+            final JsonNode first = logDecoder.next();
+            final JsonNode second = logDecoder.next();
+            assertEquals("b", first.get("a").asText());
+            assertEquals("d", second.get("c").asText());
+            assertNull(logDecoder.next());
+        }
+    }
+
+    @Test
+    public void testParseEmptySuccess() throws IOException {
+        try (final LogDecoder logDecoder = objectUnderTest.parse(goodTestDataEmpty)) {
+            assertNull(logDecoder.next());
+        }
+    }
+
+    @Test
+    public void testParseNonObjectLineFailure() throws IOException {
+        try (final LogDecoder logDecoder = objectUnderTest.parse(badTestDataNonObjectLine)) {
+            assertEquals("{\"a\":\"b\"}", logDecoder.next().toString());
+            assertThrows(IOException.class, logDecoder::next);
+        }
+    }
+
+    @Test
+    public void testParseNonJsonFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataNonJson));
+    }
+
+    @Test
+    public void testChunkDecoderSuccess() throws IOException {
+        try (final LogChunkDecoder logChunkDecoder = objectUnderTest.createChunkDecoder()) {
+            final List<JsonNode> first = logChunkDecoder.decode(HttpData.ofUtf8("\n{\"a\":\"b\"}\r\n{\"c\""));
+            final List<JsonNode> second = logChunkDecoder.decode(HttpData.ofUtf8(":\"d\"}\n{\"e\":\"f\"}"));
+            final List<JsonNode> last = logChunkDecoder.end();
+
+            assertEquals(1, first.size());
+            assertEquals("b", first.get(0).get("a").asText());
+            assertEquals(2, second.size());
+            assertEquals("d", second.get(0).get("c").asText());
+            assertEquals("f", second.get(1).get("e").asText());
+            assertEquals(Collections.emptyList(), last);
+        }
+    }
+
+    @Test
+    public void testChunkDecoderEmptySuccess() throws IOException {
+        try (final LogChunkDecoder logChunkDecoder = objectUnderTest.createChunkDecoder()) {
+            assertEquals(Collections.emptyList(), logChunkDecoder.decode(goodTestDataEmpty));
+            assertEquals(Collections.emptyList(), logChunkDecoder.end());
+        }
+    }
+
+    @Test
+    public void testChunkDecoderNonObjectLineFailure() throws IOException {
+        try (final LogChunkDecoder logChunkDecoder = objectUnderTest.createChunkDecoder()) {
+            assertThrows(IOException.class, () -> logChunkDecoder.decode(badTestDataNonObjectLine));
+        }
+    }
+
+    @Test
+    public void testChunkDecoderTruncatedFailure() throws IOException {
+        try (final LogChunkDecoder logChunkDecoder = objectUnderTest.createChunkDecoder()) {
+            assertEquals(Collections.emptyList(), logChunkDecoder.decode(HttpData.ofUtf8("{\"a\":")));
+            assertThrows(IOException.class, logChunkDecoder::end);
+        }
+    }
+}
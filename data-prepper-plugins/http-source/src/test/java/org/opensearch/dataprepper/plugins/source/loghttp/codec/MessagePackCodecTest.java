@@ -0,0 +1,59 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.loghttp.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linecorp.armeria.common.HttpData;
+import org.junit.jupiter.api.Test;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MessagePackCodecTest {
+    private static final ObjectMapper MESSAGE_PACK_MAPPER = new ObjectMapper(new MessagePackFactory());
+    private final MessagePackCodec objectUnderTest = new MessagePackCodec();
+
+    @Test
+    public void testParseArraySuccess() throws IOException {
+        final HttpData testData = HttpData.wrap(MESSAGE_PACK_MAPPER.writeValueAsBytes(
+                List.of(Map.of("a", "b"), Map.of("c", Map.of("d", 1)))));
+
+        try (final LogDecoder logDecoder = objectUnderTest.parse(testData)) {
+            assertEquals("{\"a\":\"b\"}", logDecoder.next().toString());
+            assertEquals("{\"c\":{\"d\":1}}", logDecoder.next().toString());
+            assertNull(logDecoder.next());
+        }
+    }
+
+    @Test
+    public void testParseSequenceSuccess() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write(MESSAGE_PACK_MAPPER.writeValueAsBytes(Map.of("a", "b")));
+        outputStream.write(MESSAGE_PACK_MAPPER.writeValueAsBytes(Map.of("c", "d")));
+
+        try (final LogDecoder logDecoder = objectUnderTest.parse(HttpData.wrap(outputStream.toByteArray()))) {
+            assertEquals("{\"a\":\"b\"}", logDecoder.next().toString());
+            assertEquals("{\"c\":\"d\"}", logDecoder.next().toString());
+            assertNull(logDecoder.next());
+        }
+    }
+
+    @Test
+    public void testParseNonMapFailure() throws IOException {
+        final HttpData testData = HttpData.wrap(MESSAGE_PACK_MAPPER.writeValueAsBytes(List.of("a")));
+
+        try (final LogDecoder logDecoder = objectUnderTest.parse(testData)) {
+            assertThrows(IOException.class, logDecoder::next);
+        }
+    }
+}
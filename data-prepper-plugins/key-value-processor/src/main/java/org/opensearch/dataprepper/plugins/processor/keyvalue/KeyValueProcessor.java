@@ -9,6 +9,8 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
@@ -35,6 +37,8 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
     private final Pattern fieldDelimiterPattern;
     private final Pattern keyValueDelimiterPattern;
     private final Set<String> includeKeysSet = new HashSet<String>();
+    private final EventKey sourceKey;
+    private final EventKey destinationKey;
 
     @DataPrepperPluginConstructor
     public KeyValueProcessor(final PluginMetrics pluginMetrics, final KeyValueProcessorConfig keyValueProcessorConfig) {
@@ -94,6 +98,9 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
         if(keyValueProcessorConfig.getIncludeKeys() != null) {
             includeKeysSet.addAll(keyValueProcessorConfig.getIncludeKeys());
         }
+
+        sourceKey = EventKeyFactory.create(keyValueProcessorConfig.getSource());
+        destinationKey = EventKeyFactory.create(keyValueProcessorConfig.getDestination());
     }
 
     private String buildRegexFromCharacters(String s) {
@@ -131,7 +138,7 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
             final Map<String, Object> parsedMap = new HashMap<>();
             final Event recordEvent = record.getData();
 
-            final String groupsRaw = recordEvent.get(keyValueProcessorConfig.getSource(), String.class);
+            final String groupsRaw = recordEvent.get(sourceKey, String.class);
             final String[] groups = fieldDelimiterPattern.split(groupsRaw, 0);
             for(final String group : groups) {
                 final String[] terms = keyValueDelimiterPattern.split(group, 2);
@@ -165,7 +172,7 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
                 addKeyValueToMap(parsedMap, key, value);
             }
 
-            recordEvent.put(keyValueProcessorConfig.getDestination(), parsedMap);
+            recordEvent.put(destinationKey, parsedMap);
         }
 
         return records;
@@ -10,6 +10,8 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
@@ -28,6 +30,7 @@ import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
 public class AddEntryProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
     private static final Logger LOG = LoggerFactory.getLogger(AddEntryProcessor.class);
     private final List<AddEntryProcessorConfig.Entry> entries;
+    private final EventKey[] keys;
 
     private final ExpressionEvaluator expressionEvaluator;
 
@@ -35,6 +38,11 @@ public class AddEntryProcessor extends AbstractProcessor<Record<Event>, Record<E
     public AddEntryProcessor(final PluginMetrics pluginMetrics, final AddEntryProcessorConfig config, final ExpressionEvaluator expressionEvaluator) {
         super(pluginMetrics);
         this.entries = config.getEntries();
+        this.keys = new EventKey[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            final String key = entries.get(i).getKey();
+            keys[i] = key != null ? EventKeyFactory.create(key) : null;
+        }
         this.expressionEvaluator = expressionEvaluator;
     }
 
@@ -43,14 +51,15 @@ public class AddEntryProcessor extends AbstractProcessor<Record<Event>, Record<E
         for(final Record<Event> record : records) {
             final Event recordEvent = record.getData();
 
-            for(AddEntryProcessorConfig.Entry entry : entries) {
+            for(int i = 0; i < entries.size(); i++) {
+                final AddEntryProcessorConfig.Entry entry = entries.get(i);
 
                 if (Objects.nonNull(entry.getAddWhen()) && !expressionEvaluator.evaluateConditional(entry.getAddWhen(), recordEvent)) {
                     continue;
                 }
 
                 try {
-                    final String key = entry.getKey();
+                    final EventKey key = keys[i];
                     final String metadataKey = entry.getMetadataKey();
                     Object value;
                     if (!Objects.isNull(entry.getValueExpression())) {
@@ -10,6 +10,8 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
@@ -21,6 +23,8 @@ import java.util.Objects;
 @DataPrepperPlugin(name = "copy_values", pluginType = Processor.class, pluginConfigurationType = CopyValueProcessorConfig.class)
 public class CopyValueProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
     private final List<CopyValueProcessorConfig.Entry> entries;
+    private final EventKey[] fromKeys;
+    private final EventKey[] toKeys;
 
     private final ExpressionEvaluator expressionEvaluator;
 
@@ -28,6 +32,12 @@ public class CopyValueProcessor extends AbstractProcessor<Record<Event>, Record<
     public CopyValueProcessor(final PluginMetrics pluginMetrics, final CopyValueProcessorConfig config, final ExpressionEvaluator expressionEvaluator) {
         super(pluginMetrics);
         this.entries = config.getEntries();
+        this.fromKeys = new EventKey[entries.size()];
+        this.toKeys = new EventKey[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            fromKeys[i] = EventKeyFactory.create(entries.get(i).getFromKey());
+            toKeys[i] = EventKeyFactory.create(entries.get(i).getToKey());
+        }
         this.expressionEvaluator = expressionEvaluator;
     }
 
@@ -35,18 +45,22 @@ public class CopyValueProcessor extends AbstractProcessor<Record<Event>, Record<
     public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
         for(final Record<Event> record : records) {
             final Event recordEvent = record.getData();
-            for(CopyValueProcessorConfig.Entry entry : entries) {
+            for(int i = 0; i < entries.size(); i++) {
+                final CopyValueProcessorConfig.Entry entry = entries.get(i);
+                final EventKey fromKey = fromKeys[i];
+                final EventKey toKey = toKeys[i];
+
                 if (Objects.nonNull(entry.getCopyWhen()) && !expressionEvaluator.evaluateConditional(entry.getCopyWhen(), recordEvent)) {
                     continue;
                 }
 
-                if (entry.getFromKey().equals(entry.getToKey()) || !recordEvent.containsKey(entry.getFromKey())) {
+                if (entry.getFromKey().equals(entry.getToKey()) || !recordEvent.containsKey(fromKey)) {
                     continue;
                 }
 
-                if (!recordEvent.containsKey(entry.getToKey()) || entry.getOverwriteIfToKeyExists()) {
-                    final Object source = recordEvent.get(entry.getFromKey(), Object.class);
-                    recordEvent.put(entry.getToKey(), source);
+                if (!recordEvent.containsKey(toKey) || entry.getOverwriteIfToKeyExists()) {
+                    final Object source = recordEvent.get(fromKey, Object.class);
+                    recordEvent.put(toKey, source);
                 }
             }
         }
@@ -10,16 +10,19 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
 
 @DataPrepperPlugin(name = "delete_entries", pluginType = Processor.class, pluginConfigurationType = DeleteEntryProcessorConfig.class)
 public class DeleteEntryProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
-    private final String[] entries;
+    private final EventKey[] entries;
     private final String deleteWhen;
 
     private final ExpressionEvaluator expressionEvaluator;
@@ -27,7 +30,9 @@ public class DeleteEntryProcessor extends AbstractProcessor<Record<Event>, Recor
     @DataPrepperPluginConstructor
     public DeleteEntryProcessor(final PluginMetrics pluginMetrics, final DeleteEntryProcessorConfig config, final ExpressionEvaluator expressionEvaluator) {
         super(pluginMetrics);
-        this.entries = config.getWithKeys();
+        this.entries = Arrays.stream(config.getWithKeys())
+                .map(EventKeyFactory::create)
+                .toArray(EventKey[]::new);
         this.deleteWhen = config.getDeleteWhen();
         this.expressionEvaluator = expressionEvaluator;
     }
@@ -42,7 +47,7 @@ public class DeleteEntryProcessor extends AbstractProcessor<Record<Event>, Recor
             }
 
 
-            for(String entry : entries) {
+            for(final EventKey entry : entries) {
                 recordEvent.delete(entry);
             }
         }
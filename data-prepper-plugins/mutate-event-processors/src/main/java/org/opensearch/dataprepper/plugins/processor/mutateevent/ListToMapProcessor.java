@@ -15,6 +15,8 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
@@ -33,6 +35,8 @@ public class ListToMapProcessor extends AbstractProcessor<Record<Event>, Record<
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final Logger LOG = LoggerFactory.getLogger(ListToMapProcessor.class);
     private final ListToMapProcessorConfig config;
+    private final EventKey source;
+    private final EventKey target;
 
     private final ExpressionEvaluator expressionEvaluator;
 
@@ -40,6 +44,8 @@ public class ListToMapProcessor extends AbstractProcessor<Record<Event>, Record<
     public ListToMapProcessor(final PluginMetrics pluginMetrics, final ListToMapProcessorConfig config, final ExpressionEvaluator expressionEvaluator) {
         super(pluginMetrics);
         this.config = config;
+        this.source = EventKeyFactory.create(config.getSource());
+        this.target = config.getTarget() != null ? EventKeyFactory.create(config.getTarget()) : null;
         this.expressionEvaluator = expressionEvaluator;
     }
 
@@ -83,7 +89,7 @@ public class ListToMapProcessor extends AbstractProcessor<Record<Event>, Record<
     }
 
     private JsonNode getSourceNode(final Event recordEvent) {
-        final Object sourceObject = recordEvent.get(config.getSource(), Object.class);
+        final Object sourceObject = recordEvent.get(source, Object.class);
         return OBJECT_MAPPER.convertValue(sourceObject, JsonNode.class);
     }
 
@@ -127,13 +133,13 @@ public class ListToMapProcessor extends AbstractProcessor<Record<Event>, Record<
         final TypeReference<Map<String, Object>> mapTypeReference = new TypeReference<>() {};
         final Map<String, Object> targetMap = OBJECT_MAPPER.convertValue(targetNode, mapTypeReference);
 
-        final boolean doWriteToRoot = Objects.isNull(config.getTarget());
+        final boolean doWriteToRoot = Objects.isNull(target);
         if (doWriteToRoot) {
             for (final Map.Entry<String, Object> entry : targetMap.entrySet()) {
                 recordEvent.put(entry.getKey(), entry.getValue());
             }
         } else {
-            recordEvent.put(config.getTarget(), targetMap);
+            recordEvent.put(target, targetMap);
         }
     }
 
@@ -10,6 +10,8 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
@@ -21,6 +23,8 @@ import java.util.Objects;
 @DataPrepperPlugin(name = "rename_keys", pluginType = Processor.class, pluginConfigurationType = RenameKeyProcessorConfig.class)
 public class RenameKeyProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
     private final List<RenameKeyProcessorConfig.Entry> entries;
+    private final EventKey[] fromKeys;
+    private final EventKey[] toKeys;
 
     private final ExpressionEvaluator expressionEvaluator;
 
@@ -28,6 +32,12 @@ public class RenameKeyProcessor extends AbstractProcessor<Record<Event>, Record<
     public RenameKeyProcessor(final PluginMetrics pluginMetrics, final RenameKeyProcessorConfig config, final ExpressionEvaluator expressionEvaluator) {
         super(pluginMetrics);
         this.entries = config.getEntries();
+        this.fromKeys = new EventKey[entries.size()];
+        this.toKeys = new EventKey[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            fromKeys[i] = EventKeyFactory.create(entries.get(i).getFromKey());
+            toKeys[i] = EventKeyFactory.create(entries.get(i).getToKey());
+        }
         this.expressionEvaluator = expressionEvaluator;
     }
 
@@ -36,19 +46,23 @@ public class RenameKeyProcessor extends AbstractProcessor<Record<Event>, Record<
         for(final Record<Event> record : records) {
             final Event recordEvent = record.getData();
 
-            for(RenameKeyProcessorConfig.Entry entry : entries) {
+            for(int i = 0; i < entries.size(); i++) {
+                final RenameKeyProcessorConfig.Entry entry = entries.get(i);
+                final EventKey fromKey = fromKeys[i];
+                final EventKey toKey = toKeys[i];
+
                 if (Objects.nonNull(entry.getRenameWhen()) && !expressionEvaluator.evaluateConditional(entry.getRenameWhen(), recordEvent)) {
                     continue;
                 }
 
-                if(entry.getFromKey().equals(entry.getToKey()) || !recordEvent.containsKey(entry.getFromKey())) {
+                if(entry.getFromKey().equals(entry.getToKey()) || !recordEvent.containsKey(fromKey)) {
                     continue;
                 }
 
-                if (!recordEvent.containsKey(entry.getToKey()) || entry.getOverwriteIfToKeyExists()) {
-                    final Object source = recordEvent.get(entry.getFromKey(), Object.class);
-                    recordEvent.put(entry.getToKey(), source);
-                    recordEvent.delete(entry.getFromKey());
+                if (!recordEvent.containsKey(toKey) || entry.getOverwriteIfToKeyExists()) {
+                    final Object source = recordEvent.get(fromKey, Object.class);
+                    recordEvent.put(toKey, source);
+                    recordEvent.delete(fromKey);
                 }
             }
         }
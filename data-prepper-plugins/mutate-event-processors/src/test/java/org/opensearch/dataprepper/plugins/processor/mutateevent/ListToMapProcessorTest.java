@@ -211,6 +211,7 @@ class ListToMapProcessorTest {
     @Test
     public void testNoValueExtraction_when_the_when_condition_returns_false() {
         final String whenCondition = UUID.randomUUID().toString();
+        when(mockConfig.getSource()).thenReturn("mylist");
         when(mockConfig.getListToMapWhen()).thenReturn(whenCondition);
 
         final ListToMapProcessor processor = createObjectUnderTest();
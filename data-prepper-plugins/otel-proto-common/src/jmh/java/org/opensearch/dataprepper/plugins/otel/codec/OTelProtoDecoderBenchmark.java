@@ -0,0 +1,171 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.otel.codec;
+
+import com.google.protobuf.ByteString;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.resource.v1.Resource;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
+import io.opentelemetry.proto.trace.v1.Span;
+import io.opentelemetry.proto.trace.v1.Status;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes an {@link ExportTraceServiceRequest} into span events, as the otel_trace_source does for every request. The
+ * request resembles an export of an instrumented service: a few resources with a handful of resource attributes, and
+ * HTTP and database spans with their semantic convention attributes, some events and links. Both eagerly decoded spans
+ * and {@link LazyOTelSpan}s are measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class OTelProtoDecoderBenchmark {
+    private static final long START_TIME_UNIX_NANO = 1_690_000_000_123_456_789L;
+
+    @Param({"1", "4"})
+    private int resourceCount;
+
+    @Param({"50", "500"})
+    private int spansPerResource;
+
+    @Param({"false", "true"})
+    private boolean lazySpanDecoding;
+
+    private OTelProtoCodec.OTelProtoDecoder decoder;
+    private ExportTraceServiceRequest exportTraceServiceRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        decoder = new OTelProtoCodec.OTelProtoDecoder(lazySpanDecoding);
+        final Random random = new Random(42);
+        final ExportTraceServiceRequest.Builder requestBuilder = ExportTraceServiceRequest.newBuilder();
+        for (int r = 0; r < resourceCount; r++) {
+            final ScopeSpans.Builder scopeSpansBuilder = ScopeSpans.newBuilder()
+                    .setScope(InstrumentationScope.newBuilder().setName("io.opentelemetry.spring-webmvc-5.3").setVersion("1.28.0"));
+            final ByteString traceId = randomBytes(random, 16);
+            ByteString rootSpanId = ByteString.EMPTY;
+            for (int s = 0; s < spansPerResource; s++) {
+                final ByteString spanId = randomBytes(random, 8);
+                scopeSpansBuilder.addSpans(createSpan(random, traceId, spanId, rootSpanId, s));
+                if (s == 0) {
+                    rootSpanId = spanId;
+                }
+            }
+            requestBuilder.addResourceSpans(ResourceSpans.newBuilder()
+                    .setResource(Resource.newBuilder()
+                            .addAttributes(stringAttribute("service.name", "checkout-service-" + r))
+                            .addAttributes(stringAttribute("service.version", "2.4.1"))
+                            .addAttributes(stringAttribute("host.name", "ip-10-0-" + r + "-17.ec2.internal"))
+                            .addAttributes(stringAttribute("telemetry.sdk.language", "java"))
+                            .addAttributes(stringAttribute("telemetry.sdk.name", "opentelemetry"))
+                            .addAttributes(stringAttribute("telemetry.sdk.version", "1.28.0"))
+                            .addAttributes(stringAttribute("k8s.pod.name", "checkout-7d9f8b6c5-x2x7k")))
+                    .addScopeSpans(scopeSpansBuilder));
+        }
+        exportTraceServiceRequest = requestBuilder.build();
+    }
+
+    @Benchmark
+    public List<org.opensearch.dataprepper.model.trace.Span> parseExportTraceServiceRequest() {
+        return decoder.parseExportTraceServiceRequest(exportTraceServiceRequest);
+    }
+
+    /**
+     * Reads the fields which the trace processors use and writes the documents, as an otel_trace_raw pipeline with an
+     * OpenSearch sink does.
+     */
+    @Benchmark
+    public void parseAndWriteDocuments(final Blackhole blackhole) {
+        for (final org.opensearch.dataprepper.model.trace.Span span : decoder.parseExportTraceServiceRequest(exportTraceServiceRequest)) {
+            blackhole.consume(span.getTraceId());
+            blackhole.consume(span.getSpanId());
+            blackhole.consume(span.getParentSpanId());
+            blackhole.consume(span.getServiceName());
+            blackhole.consume(span.getTraceGroup());
+            blackhole.consume(span.toJsonString());
+        }
+    }
+
+    private static Span createSpan(final Random random, final ByteString traceId, final ByteString spanId,
+                                   final ByteString parentSpanId, final int index) {
+        final long startTimeUnixNano = START_TIME_UNIX_NANO + index * 1_250_000L + random.nextInt(1_000_000);
+        final Span.Builder spanBuilder = Span.newBuilder()
+                .setTraceId(traceId)
+                .setSpanId(spanId)
+                .setParentSpanId(parentSpanId)
+                .setStartTimeUnixNano(startTimeUnixNano)
+                .setEndTimeUnixNano(startTimeUnixNano + random.nextInt(50_000_000))
+                .setStatus(Status.newBuilder().setCode(index % 20 == 0 ? Status.StatusCode.STATUS_CODE_ERROR : Status.StatusCode.STATUS_CODE_UNSET));
+        if (index % 2 == 0) {
+            spanBuilder.setName("GET /api/orders/{orderId}")
+                    .setKind(Span.SpanKind.SPAN_KIND_SERVER)
+                    .addAttributes(stringAttribute("http.method", "GET"))
+                    .addAttributes(stringAttribute("http.route", "/api/orders/{orderId}"))
+                    .addAttributes(stringAttribute("http.target", "/api/orders/" + random.nextInt(100_000)))
+                    .addAttributes(stringAttribute("http.scheme", "https"))
+                    .addAttributes(intAttribute("http.status_code", index % 20 == 0 ? 500 : 200))
+                    .addAttributes(stringAttribute("net.host.name", "checkout.example.com"))
+                    .addAttributes(intAttribute("net.host.port", 8443))
+                    .addAttributes(stringAttribute("http.user_agent", "Mozilla/5.0 (X11; Linux x86_64)"));
+        } else {
+            spanBuilder.setName("SELECT orders")
+                    .setKind(Span.SpanKind.SPAN_KIND_CLIENT)
+                    .addAttributes(stringAttribute("db.system", "postgresql"))
+                    .addAttributes(stringAttribute("db.name", "orders"))
+                    .addAttributes(stringAttribute("db.operation", "SELECT"))
+                    .addAttributes(stringAttribute("db.statement", "SELECT * FROM orders WHERE id = ?"))
+                    .addAttributes(stringAttribute("net.peer.name", "orders-db.internal"))
+                    .addAttributes(intAttribute("net.peer.port", 5432))
+                    .addAttributes(KeyValue.newBuilder().setKey("db.sampled")
+                            .setValue(AnyValue.newBuilder().setBoolValue(true)).build());
+        }
+        if (index % 20 == 0) {
+            spanBuilder.addEvents(Span.Event.newBuilder()
+                    .setName("exception")
+                    .setTimeUnixNano(startTimeUnixNano + 1_000)
+                    .addAttributes(stringAttribute("exception.type", "java.io.IOException"))
+                    .addAttributes(stringAttribute("exception.message", "Connection reset by peer")));
+        }
+        if (index % 10 == 5) {
+            spanBuilder.addLinks(Span.Link.newBuilder()
+                    .setTraceId(randomBytes(random, 16))
+                    .setSpanId(randomBytes(random, 8))
+                    .addAttributes(stringAttribute("messaging.system", "kafka")));
+        }
+        return spanBuilder.build();
+    }
+
+    private static KeyValue stringAttribute(final String key, final String value) {
+        return KeyValue.newBuilder().setKey(key).setValue(AnyValue.newBuilder().setStringValue(value)).build();
+    }
+
+    private static KeyValue intAttribute(final String key, final long value) {
+        return KeyValue.newBuilder().setKey(key).setValue(AnyValue.newBuilder().setIntValue(value)).build();
+    }
+
+    private static ByteString randomBytes(final Random random, final int length) {
+        final byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return ByteString.copyFrom(bytes);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.otel.codec;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Caches the OpenSearch friendly form of attribute keys. Instrumentations send the same attribute keys with every span,
+ * log and data point, so each key is transformed once and all events share the same transformed key instance.
+ * <p>
+ * The cache stops growing at its maximum size, so that high cardinality keys cannot exhaust the heap. Keys which are
+ * not cached by then are transformed on every call.
+ */
+class AttributeKeyCache {
+    static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final Function<String, String> keyTransformation;
+    private final int maximumSize;
+    private final Map<String, String> transformedKeys;
+
+    AttributeKeyCache(final Function<String, String> keyTransformation) {
+        this(keyTransformation, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    AttributeKeyCache(final Function<String, String> keyTransformation, final int maximumSize) {
+        this.keyTransformation = keyTransformation;
+        this.maximumSize = maximumSize;
+        transformedKeys = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @param key the attribute key as sent by the instrumentation
+     * @return the transformed key
+     */
+    String transform(final String key) {
+        final String transformedKey = transformedKeys.get(key);
+        if (transformedKey != null) {
+            return transformedKey;
+        }
+
+        final String newTransformedKey = keyTransformation.apply(key);
+        if (transformedKeys.size() >= maximumSize) {
+            return newTransformedKey;
+        }
+        final String existingTransformedKey = transformedKeys.putIfAbsent(key, newTransformedKey);
+        return existingTransformedKey != null ? existingTransformedKey : newTransformedKey;
+    }
+
+    int size() {
+        return transformedKeys.size();
+    }
+}
@@ -0,0 +1,495 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.otel.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.trace.v1.Status;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.EventType;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.TraceGroupFields;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.ATTRIBUTE_KEYS;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.OTelProtoDecoder.ATTRIBUTES_KEY;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.OTelProtoDecoder.DROPPED_ATTRIBUTES_COUNT_KEY;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.OTelProtoDecoder.DROPPED_EVENTS_COUNT_KEY;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.OTelProtoDecoder.DROPPED_LINKS_COUNT_KEY;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.OTelProtoDecoder.DURATION_IN_NANOS_KEY;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.OTelProtoDecoder.END_TIME_KEY;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.OTelProtoDecoder.EVENTS_KEY;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.OTelProtoDecoder.KIND_KEY;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.OTelProtoDecoder.LINKS_KEY;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.OTelProtoDecoder.NAME_KEY;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.OTelProtoDecoder.PARENT_SPAN_ID_KEY;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.OTelProtoDecoder.SERVICE_NAME_KEY;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.OTelProtoDecoder.SPAN_ID_KEY;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.OTelProtoDecoder.START_TIME_KEY;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.OTelProtoDecoder.STATUS_CODE_KEY;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.OTelProtoDecoder.TIME_KEY;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.OTelProtoDecoder.TRACE_GROUP_FIELDS_KEY;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.OTelProtoDecoder.TRACE_GROUP_KEY;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.OTelProtoDecoder.TRACE_ID_KEY;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.OTelProtoDecoder.TRACE_STATE_KEY;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.SPAN_ATTRIBUTE_KEYS;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.STATUS_CODE;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.STATUS_MESSAGE;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.convertByteStringToString;
+
+/**
+ * A {@link JacksonSpan} which keeps the protobuf span it was decoded from, instead of writing every field into the
+ * tree of the event up front.
+ * <p>
+ * The fields which trace processors read, such as the ids, the name, the service name and the trace group, are decoded
+ * from the protobuf span when they are accessed, and the trace group fields can be set without creating the tree.
+ * {@link #toJsonString()} and {@link #writeData(JsonGenerator)} write the span straight from the protobuf span in the
+ * same form as a {@link JacksonSpan} created by {@link OTelProtoCodec.OTelProtoDecoder}. Any other access to the event
+ * data creates the tree, after which the span behaves as a {@link JacksonSpan}. The same span can be read from several
+ * threads, as when it is routed to more than one pipeline, and the tree is created only once. The span is serialized
+ * as a {@link JacksonSpan}, as when it is sent to a peer.
+ *
+ * @since 2.4
+ */
+public class LazyOTelSpan extends JacksonSpan {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final OTelProtoCodec.OTelProtoDecoder decoder;
+    private final ObjectNode commonAttributes;
+    private final String serviceName;
+
+    /**
+     * The protobuf span, until the tree of the event is created. The same span can be read by several pipelines at
+     * once, so each method reads this field once and uses the protobuf span it read, which stays valid after the tree
+     * has been created.
+     */
+    private volatile io.opentelemetry.proto.trace.v1.Span span;
+    private String traceId;
+    private String spanId;
+    private String parentSpanId;
+    /**
+     * The trace group set before the tree was created, or null if it has not been set.
+     */
+    private volatile Optional<String> traceGroup;
+    private volatile TraceGroupFields traceGroupFields;
+    private volatile Boolean hasRepeatedAttributeKeys;
+
+    LazyOTelSpan(final OTelProtoCodec.OTelProtoDecoder decoder, final io.opentelemetry.proto.trace.v1.Span span,
+                 final ObjectNode commonAttributes, final String serviceName) {
+        super(DefaultEventMetadata.builder().withEventType(EventType.TRACE.toString()).build());
+        checkArgument(!span.getTraceId().isEmpty(), TRACE_ID_KEY + " cannot be an empty string");
+        checkArgument(!span.getSpanId().isEmpty(), SPAN_ID_KEY + " cannot be an empty string");
+        checkArgument(!span.getName().isEmpty(), NAME_KEY + " cannot be an empty string");
+        this.decoder = decoder;
+        this.span = span;
+        this.commonAttributes = commonAttributes;
+        this.serviceName = serviceName;
+    }
+
+    /**
+     * The decoder and the protobuf span cannot be serialized, so the span is serialized as a {@link JacksonSpan} with
+     * the tree created from the protobuf span.
+     */
+    private Object writeReplace() {
+        return JacksonSpan.fromSpan(this);
+    }
+
+    /**
+     * @return whether the tree of the event has been created from the protobuf span
+     */
+    boolean isTreeCreated() {
+        return span == null;
+    }
+
+    /**
+     * Called at most once, while holding the lock of the event.
+     */
+    @Override
+    protected JsonNode createJsonNode() {
+        final ObjectNode spanNode = decoder.createSpanNode(span, commonAttributes, serviceName);
+        final Optional<String> traceGroup = this.traceGroup;
+        if (traceGroup != null) {
+            spanNode.put(TRACE_GROUP_KEY, traceGroup.orElse(null));
+        }
+        final TraceGroupFields traceGroupFields = this.traceGroupFields;
+        if (traceGroupFields != null) {
+            spanNode.set(TRACE_GROUP_FIELDS_KEY, OBJECT_MAPPER.valueToTree(traceGroupFields));
+        }
+        span = null;
+        return spanNode;
+    }
+
+    @Override
+    public String getTraceId() {
+        final io.opentelemetry.proto.trace.v1.Span span = this.span;
+        return span == null ? super.getTraceId() : getTraceId(span);
+    }
+
+    private String getTraceId(final io.opentelemetry.proto.trace.v1.Span span) {
+        if (traceId == null) {
+            traceId = convertByteStringToString(span.getTraceId());
+        }
+        return traceId;
+    }
+
+    @Override
+    public String getSpanId() {
+        final io.opentelemetry.proto.trace.v1.Span span = this.span;
+        return span == null ? super.getSpanId() : getSpanId(span);
+    }
+
+    private String getSpanId(final io.opentelemetry.proto.trace.v1.Span span) {
+        if (spanId == null) {
+            spanId = convertByteStringToString(span.getSpanId());
+        }
+        return spanId;
+    }
+
+    @Override
+    public String getTraceState() {
+        final io.opentelemetry.proto.trace.v1.Span span = this.span;
+        return span == null ? super.getTraceState() : span.getTraceState();
+    }
+
+    @Override
+    public String getParentSpanId() {
+        final io.opentelemetry.proto.trace.v1.Span span = this.span;
+        return span == null ? super.getParentSpanId() : getParentSpanId(span);
+    }
+
+    private String getParentSpanId(final io.opentelemetry.proto.trace.v1.Span span) {
+        if (parentSpanId == null) {
+            parentSpanId = convertByteStringToString(span.getParentSpanId());
+        }
+        return parentSpanId;
+    }
+
+    @Override
+    public String getName() {
+        final io.opentelemetry.proto.trace.v1.Span span = this.span;
+        return span == null ? super.getName() : span.getName();
+    }
+
+    @Override
+    public String getKind() {
+        final io.opentelemetry.proto.trace.v1.Span span = this.span;
+        return span == null ? super.getKind() : span.getKind().name();
+    }
+
+    @Override
+    public String getStartTime() {
+        final io.opentelemetry.proto.trace.v1.Span span = this.span;
+        return span == null ? super.getStartTime() : decoder.getStartTimeISO8601(span);
+    }
+
+    @Override
+    public String getEndTime() {
+        final io.opentelemetry.proto.trace.v1.Span span = this.span;
+        return span == null ? super.getEndTime() : decoder.getEndTimeISO8601(span);
+    }
+
+    @Override
+    public Integer getDroppedAttributesCount() {
+        final io.opentelemetry.proto.trace.v1.Span span = this.span;
+        return span == null ? super.getDroppedAttributesCount() : span.getDroppedAttributesCount();
+    }
+
+    @Override
+    public Integer getDroppedEventsCount() {
+        final io.opentelemetry.proto.trace.v1.Span span = this.span;
+        return span == null ? super.getDroppedEventsCount() : span.getDroppedEventsCount();
+    }
+
+    @Override
+    public Integer getDroppedLinksCount() {
+        final io.opentelemetry.proto.trace.v1.Span span = this.span;
+        return span == null ? super.getDroppedLinksCount() : span.getDroppedLinksCount();
+    }
+
+    @Override
+    public String getTraceGroup() {
+        final io.opentelemetry.proto.trace.v1.Span span = this.span;
+        return span == null ? super.getTraceGroup() : getTraceGroup(span);
+    }
+
+    private String getTraceGroup(final io.opentelemetry.proto.trace.v1.Span span) {
+        final Optional<String> traceGroup = this.traceGroup;
+        return traceGroup != null ? traceGroup.orElse(null) : decoder.getTraceGroup(span);
+    }
+
+    @Override
+    public Long getDurationInNanos() {
+        final io.opentelemetry.proto.trace.v1.Span span = this.span;
+        return span == null ? super.getDurationInNanos() : getDurationInNanos(span);
+    }
+
+    private static long getDurationInNanos(final io.opentelemetry.proto.trace.v1.Span span) {
+        return span.getEndTimeUnixNano() - span.getStartTimeUnixNano();
+    }
+
+    @Override
+    public TraceGroupFields getTraceGroupFields() {
+        final io.opentelemetry.proto.trace.v1.Span span = this.span;
+        if (span == null) {
+            return super.getTraceGroupFields();
+        }
+        final TraceGroupFields traceGroupFields = this.traceGroupFields;
+        return traceGroupFields != null ? traceGroupFields : decoder.getTraceGroupFields(span);
+    }
+
+    @Override
+    public String getServiceName() {
+        return isTreeCreated() ? super.getServiceName() : serviceName;
+    }
+
+    /**
+     * Synchronized with the creation of the tree, so that the trace group is either held until the tree is created or
+     * put into the tree.
+     */
+    @Override
+    public synchronized void setTraceGroup(final String traceGroup) {
+        if (isTreeCreated()) {
+            super.setTraceGroup(traceGroup);
+        } else {
+            this.traceGroup = Optional.ofNullable(traceGroup);
+        }
+    }
+
+    /**
+     * Synchronized with the creation of the tree, as {@link #setTraceGroup(String)} is.
+     */
+    @Override
+    public synchronized void setTraceGroupFields(final TraceGroupFields traceGroupFields) {
+        if (isTreeCreated() || traceGroupFields == null) {
+            super.setTraceGroupFields(traceGroupFields);
+        } else {
+            this.traceGroupFields = traceGroupFields;
+        }
+    }
+
+    /**
+     * Writes the span with the attributes at the root, as {@link JacksonSpan#toJsonString()} does.
+     */
+    @Override
+    public String toJsonString() {
+        final io.opentelemetry.proto.trace.v1.Span span = this.span;
+        if (span == null || hasRepeatedAttributeKeys(span)) {
+            return super.toJsonString();
+        }
+        final StringWriter writer = new StringWriter();
+        try (final JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(writer)) {
+            writeSpan(generator, span, true);
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to write the span " + getSpanId(span), e);
+        }
+        return writer.toString();
+    }
+
+    @Override
+    public void writeData(final JsonGenerator generator) throws IOException {
+        final io.opentelemetry.proto.trace.v1.Span span = this.span;
+        if (span == null || hasRepeatedAttributeKeys(span)) {
+            super.writeData(generator);
+            return;
+        }
+        writeSpan(generator, span, false);
+    }
+
+    /**
+     * Attributes with the same key are only written once into the tree, so a span with repeated attribute keys is
+     * written from the tree. The keys are only checked the first time the span is written.
+     */
+    private boolean hasRepeatedAttributeKeys(final io.opentelemetry.proto.trace.v1.Span span) {
+        Boolean hasRepeatedAttributeKeys = this.hasRepeatedAttributeKeys;
+        if (hasRepeatedAttributeKeys == null) {
+            hasRepeatedAttributeKeys = findRepeatedAttributeKeys(span);
+            this.hasRepeatedAttributeKeys = hasRepeatedAttributeKeys;
+        }
+        return hasRepeatedAttributeKeys;
+    }
+
+    private static boolean findRepeatedAttributeKeys(final io.opentelemetry.proto.trace.v1.Span span) {
+        if (hasRepeatedKeys(span.getAttributesList(), SPAN_ATTRIBUTE_KEYS)) {
+            return true;
+        }
+        for (final io.opentelemetry.proto.trace.v1.Span.Event event : span.getEventsList()) {
+            if (hasRepeatedKeys(event.getAttributesList(), ATTRIBUTE_KEYS)) {
+                return true;
+            }
+        }
+        for (final io.opentelemetry.proto.trace.v1.Span.Link link : span.getLinksList()) {
+            if (hasRepeatedKeys(link.getAttributesList(), ATTRIBUTE_KEYS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasRepeatedKeys(final List<KeyValue> keyValues, final AttributeKeyCache attributeKeys) {
+        if (keyValues.size() < 2) {
+            return false;
+        }
+        final Set<String> keys = new HashSet<>();
+        for (final KeyValue keyValue : keyValues) {
+            if (!keys.add(attributeKeys.transform(keyValue.getKey()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes the fields in the order in which {@link OTelProtoCodec.OTelProtoDecoder#createSpanNode} puts them into
+     * the tree.
+     *
+     * @param span the protobuf span, which is read once by the caller
+     * @param flattenAttributes whether to write the attributes at the end of the root instead of into an object
+     */
+    private void writeSpan(final JsonGenerator generator, final io.opentelemetry.proto.trace.v1.Span span,
+                           final boolean flattenAttributes) throws IOException {
+        final String endTime = decoder.getEndTimeISO8601(span);
+        final long durationInNanos = getDurationInNanos(span);
+
+        generator.writeStartObject();
+        generator.writeStringField(TRACE_ID_KEY, getTraceId(span));
+        generator.writeStringField(SPAN_ID_KEY, getSpanId(span));
+        generator.writeStringField(TRACE_STATE_KEY, span.getTraceState());
+        generator.writeStringField(PARENT_SPAN_ID_KEY, getParentSpanId(span));
+        generator.writeStringField(NAME_KEY, span.getName());
+        generator.writeStringField(KIND_KEY, span.getKind().name());
+        generator.writeStringField(SERVICE_NAME_KEY, serviceName);
+        generator.writeStringField(START_TIME_KEY, decoder.getStartTimeISO8601(span));
+        generator.writeStringField(END_TIME_KEY, endTime);
+
+        if (!flattenAttributes) {
+            generator.writeObjectFieldStart(ATTRIBUTES_KEY);
+            writeSpanAttributes(generator, span);
+            generator.writeEndObject();
+        }
+        generator.writeNumberField(DROPPED_ATTRIBUTES_COUNT_KEY, span.getDroppedAttributesCount());
+
+        generator.writeArrayFieldStart(EVENTS_KEY);
+        for (final io.opentelemetry.proto.trace.v1.Span.Event event : span.getEventsList()) {
+            generator.writeStartObject();
+            generator.writeStringField(NAME_KEY, event.getName());
+            generator.writeStringField(TIME_KEY, decoder.getTimeISO8601(event));
+            generator.writeObjectFieldStart(ATTRIBUTES_KEY);
+            writeAttributes(generator, event.getAttributesList(), ATTRIBUTE_KEYS);
+            generator.writeEndObject();
+            generator.writeNumberField(DROPPED_ATTRIBUTES_COUNT_KEY, event.getDroppedAttributesCount());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeNumberField(DROPPED_EVENTS_COUNT_KEY, span.getDroppedEventsCount());
+
+        generator.writeArrayFieldStart(LINKS_KEY);
+        for (final io.opentelemetry.proto.trace.v1.Span.Link link : span.getLinksList()) {
+            generator.writeStartObject();
+            generator.writeStringField(TRACE_ID_KEY, convertByteStringToString(link.getTraceId()));
+            generator.writeStringField(SPAN_ID_KEY, convertByteStringToString(link.getSpanId()));
+            generator.writeStringField(TRACE_STATE_KEY, link.getTraceState());
+            generator.writeObjectFieldStart(ATTRIBUTES_KEY);
+            writeAttributes(generator, link.getAttributesList(), ATTRIBUTE_KEYS);
+            generator.writeEndObject();
+            generator.writeNumberField(DROPPED_ATTRIBUTES_COUNT_KEY, link.getDroppedAttributesCount());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeNumberField(DROPPED_LINKS_COUNT_KEY, span.getDroppedLinksCount());
+
+        generator.writeStringField(TRACE_GROUP_KEY, getTraceGroup(span));
+        generator.writeNumberField(DURATION_IN_NANOS_KEY, durationInNanos);
+        generator.writeFieldName(TRACE_GROUP_FIELDS_KEY);
+        final TraceGroupFields traceGroupFields = this.traceGroupFields;
+        if (traceGroupFields != null) {
+            OBJECT_MAPPER.writeTree(generator, OBJECT_MAPPER.valueToTree(traceGroupFields));
+        } else {
+            generator.writeStartObject();
+            if (span.getParentSpanId().isEmpty()) {
+                generator.writeStringField(END_TIME_KEY, endTime);
+                generator.writeNumberField(DURATION_IN_NANOS_KEY, durationInNanos);
+                generator.writeNumberField(STATUS_CODE_KEY, span.getStatus().getCodeValue());
+            } else {
+                generator.writeNullField(END_TIME_KEY);
+                generator.writeNullField(DURATION_IN_NANOS_KEY);
+                generator.writeNullField(STATUS_CODE_KEY);
+            }
+            generator.writeEndObject();
+        }
+
+        if (flattenAttributes) {
+            writeSpanAttributes(generator, span);
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeSpanAttributes(final JsonGenerator generator, final io.opentelemetry.proto.trace.v1.Span span)
+            throws IOException {
+        writeAttributes(generator, span.getAttributesList(), SPAN_ATTRIBUTE_KEYS);
+        for (final Iterator<Map.Entry<String, JsonNode>> it = commonAttributes.fields(); it.hasNext(); ) {
+            final Map.Entry<String, JsonNode> entry = it.next();
+            generator.writeFieldName(entry.getKey());
+            writeValue(generator, entry.getValue());
+        }
+        final Status status = span.getStatus();
+        generator.writeNumberField(STATUS_CODE, status.getCodeValue());
+        if (!status.getMessage().isEmpty()) {
+            generator.writeStringField(STATUS_MESSAGE, status.getMessage());
+        }
+    }
+
+    private void writeAttributes(final JsonGenerator generator, final List<KeyValue> keyValues,
+                                 final AttributeKeyCache attributeKeys) throws IOException {
+        for (final KeyValue keyValue : keyValues) {
+            generator.writeFieldName(attributeKeys.transform(keyValue.getKey()));
+            final AnyValue value = keyValue.getValue();
+            switch (value.getValueCase()) {
+                case VALUE_NOT_SET:
+                case STRING_VALUE:
+                    generator.writeString(value.getStringValue());
+                    break;
+                case BOOL_VALUE:
+                    generator.writeBoolean(value.getBoolValue());
+                    break;
+                case INT_VALUE:
+                    generator.writeNumber(value.getIntValue());
+                    break;
+                case DOUBLE_VALUE:
+                    generator.writeNumber(value.getDoubleValue());
+                    break;
+                default:
+                    generator.writeString((String) decoder.convertAnyValue(value));
+            }
+        }
+    }
+
+    private static void writeValue(final JsonGenerator generator, final JsonNode value) throws IOException {
+        if (value.isTextual()) {
+            generator.writeString(value.textValue());
+        } else if (value.isBoolean()) {
+            generator.writeBoolean(value.booleanValue());
+        } else if (value.isLong()) {
+            generator.writeNumber(value.longValue());
+        } else if (value.isDouble()) {
+            generator.writeNumber(value.doubleValue());
+        } else {
+            OBJECT_MAPPER.writeTree(generator, value);
+        }
+    }
+}
@@ -7,6 +7,8 @@ package org.opensearch.dataprepper.plugins.otel.codec;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.protobuf.ByteString;
 import io.opentelemetry.proto.collector.logs.v1.ExportLogsServiceRequest;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
@@ -103,8 +105,33 @@ public class OTelProtoCodec {
     public static final Function<String, String> PREFIX_AND_RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT = i -> RESOURCE_ATTRIBUTES + DOT + i.replace(DOT, AT);
     public static final Function<String, String> PREFIX_AND_EXEMPLAR_ATTRIBUTES_REPLACE_DOT_WITH_AT = i -> EXEMPLAR_ATTRIBUTES + DOT + i.replace(DOT, AT);
 
+    static final AttributeKeyCache ATTRIBUTE_KEYS = new AttributeKeyCache(REPLACE_DOT_WITH_AT);
+    static final AttributeKeyCache SPAN_ATTRIBUTE_KEYS = new AttributeKeyCache(SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+    private static final AttributeKeyCache RESOURCE_ATTRIBUTE_KEYS = new AttributeKeyCache(RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+    private static final AttributeKeyCache LOG_ATTRIBUTE_KEYS = new AttributeKeyCache(PREFIX_AND_LOG_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+    private static final AttributeKeyCache METRIC_ATTRIBUTE_KEYS = new AttributeKeyCache(PREFIX_AND_METRIC_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+    private static final AttributeKeyCache EXEMPLAR_ATTRIBUTE_KEYS = new AttributeKeyCache(PREFIX_AND_EXEMPLAR_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * The ISO-8601 representation, without the zone, of the epoch second which was formatted last. Timestamps of
+     * the same request are mostly within the same second, so only their fraction of a second needs to be formatted.
+     */
+    private static volatile FormattedEpochSecond lastFormattedEpochSecond = new FormattedEpochSecond(0L, "1970-01-01T00:00:00");
+
     private static final Map<BoundsKey, double[]> EXPONENTIAL_BUCKET_BOUNDS = new ConcurrentHashMap<>();
 
+    private static class FormattedEpochSecond {
+        private final long epochSecond;
+        private final String dateTime;
+
+        private FormattedEpochSecond(final long epochSecond, final String dateTime) {
+            this.epochSecond = epochSecond;
+            this.dateTime = dateTime;
+        }
+    }
+
     static class BoundsKey {
         private final Integer scale;
         private final Sign sign;
@@ -137,8 +164,42 @@ public class OTelProtoCodec {
             return Objects.hash(scale, sign);
         }
     }
+    /**
+     * Formats the time as {@link Instant#toString()} does.
+     *
+     * @param unixNano the nanoseconds since the epoch
+     * @return the ISO-8601 representation of the time
+     */
     public static String convertUnixNanosToISO8601(final long unixNano) {
-        return Instant.ofEpochSecond(0L, unixNano).toString();
+        final long epochSecond = Math.floorDiv(unixNano, NANO_MULTIPLIER);
+        final int nanos = (int) Math.floorMod(unixNano, NANO_MULTIPLIER);
+
+        FormattedEpochSecond formattedEpochSecond = lastFormattedEpochSecond;
+        if (formattedEpochSecond.epochSecond != epochSecond) {
+            final String instant = Instant.ofEpochSecond(epochSecond).toString();
+            formattedEpochSecond = new FormattedEpochSecond(epochSecond, instant.substring(0, instant.length() - 1));
+            lastFormattedEpochSecond = formattedEpochSecond;
+        }
+
+        final StringBuilder stringBuilder = new StringBuilder(formattedEpochSecond.dateTime.length() + 11)
+                .append(formattedEpochSecond.dateTime);
+        if (nanos != 0) {
+            stringBuilder.append('.');
+            if (nanos % 1_000_000 == 0) {
+                appendZeroPadded(stringBuilder, nanos / 1_000_000, 100);
+            } else if (nanos % 1_000 == 0) {
+                appendZeroPadded(stringBuilder, nanos / 1_000, 100_000);
+            } else {
+                appendZeroPadded(stringBuilder, nanos, 100_000_000);
+            }
+        }
+        return stringBuilder.append('Z').toString();
+    }
+
+    private static void appendZeroPadded(final StringBuilder stringBuilder, final int value, final int highestDigitDivisor) {
+        for (int divisor = highestDigitDivisor; divisor > 0; divisor /= 10) {
+            stringBuilder.append((char) ('0' + value / divisor % 10));
+        }
     }
 
     public static long timeISO8601ToNanos(final String timeISO08601) {
@@ -147,9 +208,48 @@ public class OTelProtoCodec {
     }
 
     public static class OTelProtoDecoder {
+        static final String TRACE_ID_KEY = "traceId";
+        static final String SPAN_ID_KEY = "spanId";
+        static final String TRACE_STATE_KEY = "traceState";
+        static final String PARENT_SPAN_ID_KEY = "parentSpanId";
+        static final String NAME_KEY = "name";
+        static final String KIND_KEY = "kind";
+        static final String SERVICE_NAME_KEY = "serviceName";
+        static final String START_TIME_KEY = "startTime";
+        static final String END_TIME_KEY = "endTime";
+        static final String TIME_KEY = "time";
+        static final String ATTRIBUTES_KEY = "attributes";
+        static final String DROPPED_ATTRIBUTES_COUNT_KEY = "droppedAttributesCount";
+        static final String EVENTS_KEY = "events";
+        static final String DROPPED_EVENTS_COUNT_KEY = "droppedEventsCount";
+        static final String LINKS_KEY = "links";
+        static final String DROPPED_LINKS_COUNT_KEY = "droppedLinksCount";
+        static final String TRACE_GROUP_KEY = "traceGroup";
+        static final String DURATION_IN_NANOS_KEY = "durationInNanos";
+        static final String TRACE_GROUP_FIELDS_KEY = "traceGroupFields";
+        static final String STATUS_CODE_KEY = "statusCode";
+
+        private final boolean lazySpanDecoding;
+
+        public OTelProtoDecoder() {
+            this(false);
+        }
+
+        /**
+         * @param lazySpanDecoding whether to create {@link LazyOTelSpan}s, which decode the fields of the protobuf
+         *                         spans when they are accessed, instead of writing every span into an event tree
+         * @since 2.4
+         */
+        public OTelProtoDecoder(final boolean lazySpanDecoding) {
+            this.lazySpanDecoding = lazySpanDecoding;
+        }
+
         public List<Span> parseExportTraceServiceRequest(final ExportTraceServiceRequest exportTraceServiceRequest) {
-            return exportTraceServiceRequest.getResourceSpansList().stream()
-                    .flatMap(rs -> parseResourceSpans(rs).stream()).collect(Collectors.toList());
+            final List<Span> spans = new ArrayList<>();
+            for (final ResourceSpans resourceSpans : exportTraceServiceRequest.getResourceSpansList()) {
+                parseResourceSpans(resourceSpans, spans);
+            }
+            return spans;
         }
 
         public List<OpenTelemetryLog> parseExportLogsServiceRequest(final ExportLogsServiceRequest exportLogsServiceRequest) {
@@ -186,48 +286,52 @@ public class OTelProtoCodec {
         }
 
         protected List<Span> parseResourceSpans(final ResourceSpans resourceSpans) {
-            final String serviceName = getServiceName(resourceSpans.getResource()).orElse(null);
-            final Map<String, Object> resourceAttributes = getResourceAttributes(resourceSpans.getResource());
-
-            if (resourceSpans.getScopeSpansList().size() > 0) {
-                return parseScopeSpans(resourceSpans.getScopeSpansList(), serviceName, resourceAttributes);
-            }
-
-            if (resourceSpans.getInstrumentationLibrarySpansList().size() > 0) {
-                return parseInstrumentationLibrarySpans(resourceSpans.getInstrumentationLibrarySpansList(), serviceName, resourceAttributes);
-            }
-
-            LOG.debug("No spans found to parse from ResourceSpans object: {}", resourceSpans);
-            return Collections.emptyList();
+            final List<Span> spans = new ArrayList<>();
+            parseResourceSpans(resourceSpans, spans);
+            return spans;
         }
 
-        private List<Span> parseScopeSpans(final List<ScopeSpans> scopeSpansList, final String serviceName, final Map<String, Object> resourceAttributes) {
-            return scopeSpansList.stream()
-                    .map(scopeSpans -> parseSpans(scopeSpans.getSpansList(), scopeSpans.getScope(),
-                            OTelProtoCodec::getInstrumentationScopeAttributes, serviceName, resourceAttributes))
-                    .flatMap(Collection::stream)
-                    .collect(Collectors.toList());
-        }
-
-        private List<Span> parseInstrumentationLibrarySpans(final List<InstrumentationLibrarySpans> instrumentationLibrarySpansList,
-                                                            final String serviceName, final Map<String, Object> resourceAttributes) {
-            return instrumentationLibrarySpansList.stream()
-                    .map(instrumentationLibrarySpans -> parseSpans(instrumentationLibrarySpans.getSpansList(),
-                            instrumentationLibrarySpans.getInstrumentationLibrary(), this::getInstrumentationLibraryAttributes,
-                            serviceName, resourceAttributes))
-                    .flatMap(Collection::stream)
-                    .collect(Collectors.toList());
+        /**
+         * Writes the spans straight from the protobuf messages into the trees of the span events. The resource and
+         * scope attributes are converted once and then copied into the attributes of each of their spans.
+         */
+        private void parseResourceSpans(final ResourceSpans resourceSpans, final List<Span> spans) {
+            final Resource resource = resourceSpans.getResource();
+            final String serviceName = getServiceName(resource).orElse(null);
+            final ObjectNode resourceAttributes = OBJECT_MAPPER.createObjectNode();
+            putAttributes(resourceAttributes, resource.getAttributesList(), RESOURCE_ATTRIBUTE_KEYS);
+
+            if (resourceSpans.getScopeSpansCount() > 0) {
+                for (final ScopeSpans scopeSpans : resourceSpans.getScopeSpansList()) {
+                    final InstrumentationScope scope = scopeSpans.getScope();
+                    final ObjectNode commonAttributes = createCommonAttributes(resourceAttributes, scope.getName(), scope.getVersion());
+                    for (final io.opentelemetry.proto.trace.v1.Span span : scopeSpans.getSpansList()) {
+                        spans.add(parseSpan(span, commonAttributes, serviceName));
+                    }
+                }
+            } else if (resourceSpans.getInstrumentationLibrarySpansCount() > 0) {
+                for (final InstrumentationLibrarySpans instrumentationLibrarySpans : resourceSpans.getInstrumentationLibrarySpansList()) {
+                    final InstrumentationLibrary instrumentationLibrary = instrumentationLibrarySpans.getInstrumentationLibrary();
+                    final ObjectNode commonAttributes = createCommonAttributes(resourceAttributes,
+                            instrumentationLibrary.getName(), instrumentationLibrary.getVersion());
+                    for (final io.opentelemetry.proto.trace.v1.Span span : instrumentationLibrarySpans.getSpansList()) {
+                        spans.add(parseSpan(span, commonAttributes, serviceName));
+                    }
+                }
+            } else {
+                LOG.debug("No spans found to parse from ResourceSpans object: {}", resourceSpans);
+            }
         }
 
-        private <T> List<Span> parseSpans(final List<io.opentelemetry.proto.trace.v1.Span> spans, final T scope,
-                                          final Function<T, Map<String, Object>> scopeAttributesGetter,
-                                          final String serviceName, final Map<String, Object> resourceAttributes) {
-            return spans.stream()
-                    .map(span -> {
-                        final Map<String, Object> scopeAttributes = scopeAttributesGetter.apply(scope);
-                        return parseSpan(span, scopeAttributes, serviceName, resourceAttributes);
-                    })
-                    .collect(Collectors.toList());
+        private ObjectNode createCommonAttributes(final ObjectNode resourceAttributes, final String scopeName, final String scopeVersion) {
+            final ObjectNode commonAttributes = resourceAttributes.deepCopy();
+            if (!scopeName.isEmpty()) {
+                commonAttributes.put(INSTRUMENTATION_SCOPE_NAME, scopeName);
+            }
+            if (!scopeVersion.isEmpty()) {
+                commonAttributes.put(INSTRUMENTATION_SCOPE_VERSION, scopeVersion);
+            }
+            return commonAttributes;
         }
 
         protected List<OpenTelemetryLog> processLogsList(final List<LogRecord> logsList,
@@ -258,37 +362,106 @@ public class OTelProtoCodec {
                     .collect(Collectors.toList());
         }
 
-        protected Span parseSpan(final io.opentelemetry.proto.trace.v1.Span sp, final Map<String, Object> instrumentationScopeAttributes,
-                                     final String serviceName, final Map<String, Object> resourceAttributes) {
+        private Span parseSpan(final io.opentelemetry.proto.trace.v1.Span sp, final ObjectNode commonAttributes, final String serviceName) {
+            if (lazySpanDecoding) {
+                return new LazyOTelSpan(this, sp, commonAttributes, serviceName);
+            }
             return JacksonSpan.builder()
-                    .withSpanId(convertByteStringToString(sp.getSpanId()))
-                    .withTraceId(convertByteStringToString(sp.getTraceId()))
-                    .withTraceState(sp.getTraceState())
-                    .withParentSpanId(convertByteStringToString(sp.getParentSpanId()))
-                    .withName(sp.getName())
-                    .withServiceName(serviceName)
-                    .withKind(sp.getKind().name())
-                    .withStartTime(getStartTimeISO8601(sp))
-                    .withEndTime(getEndTimeISO8601(sp))
-                    .withAttributes(mergeAllAttributes(
-                            Arrays.asList(
-                                    getSpanAttributes(sp),
-                                    resourceAttributes,
-                                    instrumentationScopeAttributes,
-                                    getSpanStatusAttributes(sp.getStatus())
-                            )
-                    ))
-                    .withDroppedAttributesCount(sp.getDroppedAttributesCount())
-                    .withEvents(sp.getEventsList().stream().map(this::getSpanEvent).collect(Collectors.toList()))
-                    .withDroppedEventsCount(sp.getDroppedEventsCount())
-                    .withLinks(sp.getLinksList().stream().map(this::getLink).collect(Collectors.toList()))
-                    .withDroppedLinksCount(sp.getDroppedLinksCount())
-                    .withTraceGroup(getTraceGroup(sp))
-                    .withDurationInNanos(sp.getEndTimeUnixNano() - sp.getStartTimeUnixNano())
-                    .withTraceGroupFields(getTraceGroupFields(sp))
+                    .withData(createSpanNode(sp, commonAttributes, serviceName))
                     .build();
         }
 
+        /**
+         * Writes the span into the tree of a span event.
+         *
+         * @param commonAttributes the resource and scope attributes of the span, which are shared with the other spans
+         *                         of the scope
+         */
+        ObjectNode createSpanNode(final io.opentelemetry.proto.trace.v1.Span sp, final ObjectNode commonAttributes, final String serviceName) {
+            final String endTime = getEndTimeISO8601(sp);
+            final long durationInNanos = sp.getEndTimeUnixNano() - sp.getStartTimeUnixNano();
+
+            final ObjectNode spanNode = OBJECT_MAPPER.createObjectNode();
+            spanNode.put(TRACE_ID_KEY, convertByteStringToString(sp.getTraceId()));
+            spanNode.put(SPAN_ID_KEY, convertByteStringToString(sp.getSpanId()));
+            spanNode.put(TRACE_STATE_KEY, sp.getTraceState());
+            spanNode.put(PARENT_SPAN_ID_KEY, convertByteStringToString(sp.getParentSpanId()));
+            spanNode.put(NAME_KEY, sp.getName());
+            spanNode.put(KIND_KEY, sp.getKind().name());
+            spanNode.put(SERVICE_NAME_KEY, serviceName);
+            spanNode.put(START_TIME_KEY, getStartTimeISO8601(sp));
+            spanNode.put(END_TIME_KEY, endTime);
+
+            final ObjectNode attributes = spanNode.putObject(ATTRIBUTES_KEY);
+            putAttributes(attributes, sp.getAttributesList(), SPAN_ATTRIBUTE_KEYS);
+            attributes.setAll(commonAttributes);
+            final Status status = sp.getStatus();
+            attributes.put(STATUS_CODE, status.getCodeValue());
+            if (!status.getMessage().isEmpty()) {
+                attributes.put(STATUS_MESSAGE, status.getMessage());
+            }
+            spanNode.put(DROPPED_ATTRIBUTES_COUNT_KEY, sp.getDroppedAttributesCount());
+
+            final ArrayNode events = spanNode.putArray(EVENTS_KEY);
+            for (final io.opentelemetry.proto.trace.v1.Span.Event event : sp.getEventsList()) {
+                final ObjectNode eventNode = events.addObject();
+                eventNode.put(NAME_KEY, event.getName());
+                eventNode.put(TIME_KEY, getTimeISO8601(event));
+                putAttributes(eventNode.putObject(ATTRIBUTES_KEY), event.getAttributesList(), ATTRIBUTE_KEYS);
+                eventNode.put(DROPPED_ATTRIBUTES_COUNT_KEY, event.getDroppedAttributesCount());
+            }
+            spanNode.put(DROPPED_EVENTS_COUNT_KEY, sp.getDroppedEventsCount());
+
+            final ArrayNode links = spanNode.putArray(LINKS_KEY);
+            for (final io.opentelemetry.proto.trace.v1.Span.Link link : sp.getLinksList()) {
+                final ObjectNode linkNode = links.addObject();
+                linkNode.put(TRACE_ID_KEY, convertByteStringToString(link.getTraceId()));
+                linkNode.put(SPAN_ID_KEY, convertByteStringToString(link.getSpanId()));
+                linkNode.put(TRACE_STATE_KEY, link.getTraceState());
+                putAttributes(linkNode.putObject(ATTRIBUTES_KEY), link.getAttributesList(), ATTRIBUTE_KEYS);
+                linkNode.put(DROPPED_ATTRIBUTES_COUNT_KEY, link.getDroppedAttributesCount());
+            }
+            spanNode.put(DROPPED_LINKS_COUNT_KEY, sp.getDroppedLinksCount());
+
+            spanNode.put(TRACE_GROUP_KEY, getTraceGroup(sp));
+            spanNode.put(DURATION_IN_NANOS_KEY, durationInNanos);
+            final ObjectNode traceGroupFields = spanNode.putObject(TRACE_GROUP_FIELDS_KEY);
+            if (sp.getParentSpanId().isEmpty()) {
+                traceGroupFields.put(END_TIME_KEY, endTime);
+                traceGroupFields.put(DURATION_IN_NANOS_KEY, durationInNanos);
+                traceGroupFields.put(STATUS_CODE_KEY, status.getCodeValue());
+            } else {
+                traceGroupFields.putNull(END_TIME_KEY);
+                traceGroupFields.putNull(DURATION_IN_NANOS_KEY);
+                traceGroupFields.putNull(STATUS_CODE_KEY);
+            }
+            return spanNode;
+        }
+
+        private void putAttributes(final ObjectNode attributes, final List<KeyValue> keyValues, final AttributeKeyCache attributeKeys) {
+            for (final KeyValue keyValue : keyValues) {
+                final String key = attributeKeys.transform(keyValue.getKey());
+                final AnyValue value = keyValue.getValue();
+                switch (value.getValueCase()) {
+                    case VALUE_NOT_SET:
+                    case STRING_VALUE:
+                        attributes.put(key, value.getStringValue());
+                        break;
+                    case BOOL_VALUE:
+                        attributes.put(key, value.getBoolValue());
+                        break;
+                    case INT_VALUE:
+                        attributes.put(key, value.getIntValue());
+                        break;
+                    case DOUBLE_VALUE:
+                        attributes.put(key, value.getDoubleValue());
+                        break;
+                    default:
+                        attributes.put(key, (String) convertAnyValue(value));
+                }
+            }
+        }
+
         protected Object convertAnyValue(final AnyValue value) {
             switch (value.getValueCase()) {
                 case VALUE_NOT_SET:
@@ -314,9 +487,11 @@ public class OTelProtoCodec {
                     }
                 case KVLIST_VALUE:
                     try {
-                        return OBJECT_MAPPER.writeValueAsString(value.getKvlistValue().getValuesList().stream()
-                                .collect(Collectors.toMap(i -> REPLACE_DOT_WITH_AT.apply(i.getKey()),
-                                        i ->convertAnyValue(i.getValue()))));
+                        final Map<String, Object> values = new HashMap<>();
+                        for (final KeyValue keyValue : value.getKvlistValue().getValuesList()) {
+                            values.put(ATTRIBUTE_KEYS.transform(keyValue.getKey()), convertAnyValue(keyValue.getValue()));
+                        }
+                        return OBJECT_MAPPER.writeValueAsString(values);
                     } catch (JsonProcessingException e) {
                         throw new OTelDecodingException(e);
                     }
@@ -351,19 +526,27 @@ public class OTelProtoCodec {
         }
 
         protected Map<String, Object> getSpanAttributes(final io.opentelemetry.proto.trace.v1.Span span) {
-            return span.getAttributesList().stream().collect(Collectors.toMap(i -> SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+            return unpackAttributes(span.getAttributesList(), SPAN_ATTRIBUTE_KEYS);
         }
 
         protected Map<String, Object> getResourceAttributes(final Resource resource) {
-            return resource.getAttributesList().stream().collect(Collectors.toMap(i -> RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+            return unpackAttributes(resource.getAttributesList(), RESOURCE_ATTRIBUTE_KEYS);
         }
 
         protected Map<String, Object> getLinkAttributes(final io.opentelemetry.proto.trace.v1.Span.Link link) {
-            return link.getAttributesList().stream().collect(Collectors.toMap(i -> REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+            return unpackAttributes(link.getAttributesList(), ATTRIBUTE_KEYS);
         }
 
         protected Map<String, Object> getEventAttributes(final io.opentelemetry.proto.trace.v1.Span.Event event) {
-            return event.getAttributesList().stream().collect(Collectors.toMap(i -> REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+            return unpackAttributes(event.getAttributesList(), ATTRIBUTE_KEYS);
+        }
+
+        private Map<String, Object> unpackAttributes(final List<KeyValue> keyValues, final AttributeKeyCache attributeKeys) {
+            final Map<String, Object> attributes = new HashMap<>();
+            for (final KeyValue keyValue : keyValues) {
+                attributes.put(attributeKeys.transform(keyValue.getKey()), convertAnyValue(keyValue.getValue()));
+            }
+            return attributes;
         }
 
         /**
@@ -439,10 +622,7 @@ public class OTelProtoCodec {
         }
 
         protected Optional<String> getServiceName(final Resource resource) {
-            return resource.getAttributesList().stream().filter(
-                    keyValue -> keyValue.getKey().equals(SERVICE_NAME)
-                            && !keyValue.getValue().getStringValue().isEmpty()
-            ).findFirst().map(i -> i.getValue().getStringValue());
+            return OTelProtoCodec.getServiceName(resource);
         }
     }
 
@@ -484,16 +664,39 @@ public class OTelProtoCodec {
         protected Resource constructResource(final String serviceName, final Map<String, Object> attributes) throws UnsupportedEncodingException {
             final Resource.Builder rsBuilder = Resource.newBuilder();
             final List<KeyValue> resourceAttributes = getResourceAttributes(attributes);
-            rsBuilder.addAllAttributes(resourceAttributes);
             if (serviceName != null) {
-                final KeyValue.Builder serviceNameKeyValueBuilder = KeyValue.newBuilder()
+                final KeyValue serviceNameKeyValue = KeyValue.newBuilder()
                         .setKey(SERVICE_NAME)
-                        .setValue(objectToAnyValue(serviceName));
-                rsBuilder.addAttributes(serviceNameKeyValueBuilder);
+                        .setValue(objectToAnyValue(serviceName))
+                        .build();
+                final int serviceNameIndex = getServiceNameIndex(attributes);
+                if (serviceNameIndex != -1) {
+                    resourceAttributes.add(serviceNameIndex, serviceNameKeyValue);
+                } else {
+                    resourceAttributes.add(serviceNameKeyValue);
+                }
             }
+            rsBuilder.addAllAttributes(resourceAttributes);
             return rsBuilder.build();
         }
 
+        /**
+         * Returns the position of the service name among the resource attributes, or -1 if it is not one of them. The
+         * decoder keeps the order of the resource attributes, so the service name is encoded at the same position.
+         */
+        private int getServiceNameIndex(final Map<String, Object> attributes) {
+            int index = 0;
+            for (final String key : attributes.keySet()) {
+                if (key.startsWith(RESOURCE_ATTRIBUTES_PREFIX)) {
+                    if (key.substring(RESOURCE_ATTRIBUTES_PREFIX.length()).equals(SERVICE_NAME_ATTRIBUTE)) {
+                        return index;
+                    }
+                    index++;
+                }
+            }
+            return -1;
+        }
+
         protected List<KeyValue> getResourceAttributes(final Map<String, Object> attributes) throws UnsupportedEncodingException {
             final List<String> resourceAttributeKeys = attributes.keySet().stream()
                     .filter(key -> key.startsWith(RESOURCE_ATTRIBUTES_PREFIX)).collect(Collectors.toList());
@@ -652,8 +855,7 @@ public class OTelProtoCodec {
                 }
             case KVLIST_VALUE:
                 try {
-                    return OBJECT_MAPPER.writeValueAsString(value.getKvlistValue().getValuesList().stream()
-                            .collect(Collectors.toMap(i -> REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue()))));
+                    return OBJECT_MAPPER.writeValueAsString(unpackAttributes(value.getKvlistValue().getValuesList(), ATTRIBUTE_KEYS));
                 } catch (JsonProcessingException e) {
                     throw new RuntimeException(e);
                 }
@@ -670,8 +872,7 @@ public class OTelProtoCodec {
      * @return A Map containing all attributes of `numberDataPoint` with keys converted into an OS-friendly format
      */
     public static Map<String, Object> convertKeysOfDataPointAttributes(final NumberDataPoint numberDataPoint) {
-        return numberDataPoint.getAttributesList().stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_METRIC_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return unpackAttributes(numberDataPoint.getAttributesList(), METRIC_ATTRIBUTE_KEYS);
     }
 
     /**
@@ -683,8 +884,7 @@ public class OTelProtoCodec {
      * @return A Map containing unpacked {@link KeyValue} data
      */
     public static Map<String, Object> unpackKeyValueList(List<KeyValue> attributesList) {
-        return attributesList.stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_METRIC_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return unpackAttributes(attributesList, METRIC_ATTRIBUTE_KEYS);
     }
 
     /**
@@ -696,8 +896,7 @@ public class OTelProtoCodec {
      * @return A Map containing unpacked {@link KeyValue} data
      */
     public static Map<String, Object> unpackKeyValueListLog(List<KeyValue> attributesList) {
-        return attributesList.stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_LOG_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return unpackAttributes(attributesList, LOG_ATTRIBUTE_KEYS);
     }
 
 
@@ -710,8 +909,15 @@ public class OTelProtoCodec {
      * @return A Map containing unpacked {@link KeyValue} data
      */
     public static Map<String, Object> unpackExemplarValueList(List<KeyValue> attributesList) {
-        return attributesList.stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_EXEMPLAR_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return unpackAttributes(attributesList, EXEMPLAR_ATTRIBUTE_KEYS);
+    }
+
+    private static Map<String, Object> unpackAttributes(final List<KeyValue> attributesList, final AttributeKeyCache attributeKeys) {
+        final Map<String, Object> attributes = new HashMap<>();
+        for (final KeyValue keyValue : attributesList) {
+            attributes.put(attributeKeys.transform(keyValue.getKey()), convertAnyValue(keyValue.getValue()));
+        }
+        return attributes;
     }
 
 
@@ -752,8 +958,7 @@ public class OTelProtoCodec {
     }
 
     public static Map<String, Object> getResourceAttributes(final Resource resource) {
-        return resource.getAttributesList().stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return unpackAttributes(resource.getAttributesList(), RESOURCE_ATTRIBUTE_KEYS);
     }
 
     /**
@@ -800,10 +1005,12 @@ public class OTelProtoCodec {
     }
 
     public static Optional<String> getServiceName(final Resource resource) {
-        return resource.getAttributesList().stream()
-                .filter(keyValue -> keyValue.getKey().equals(SERVICE_NAME) && !keyValue.getValue().getStringValue().isEmpty())
-                .findFirst()
-                .map(i -> i.getValue().getStringValue());
+        for (final KeyValue keyValue : resource.getAttributesList()) {
+            if (keyValue.getKey().equals(SERVICE_NAME) && !keyValue.getValue().getStringValue().isEmpty()) {
+                return Optional.of(keyValue.getValue().getStringValue());
+            }
+        }
+        return Optional.empty();
     }
 
 
@@ -941,7 +1148,21 @@ public class OTelProtoCodec {
         return mappedBuckets;
     }
 
+    /**
+     * Encodes the bytes as lowercase hex digits, as {@link Hex#encodeHexString(byte[])} does, without copying them
+     * into a byte array first.
+     *
+     * @param bs the bytes
+     * @return the hex string
+     */
     public static String convertByteStringToString(ByteString bs) {
-        return Hex.encodeHexString(bs.toByteArray());
+        final int size = bs.size();
+        final char[] hexChars = new char[size * 2];
+        for (int i = 0; i < size; i++) {
+            final int b = bs.byteAt(i) & 0xFF;
+            hexChars[2 * i] = HEX_DIGITS[b >>> 4];
+            hexChars[2 * i + 1] = HEX_DIGITS[b & 0x0F];
+        }
+        return new String(hexChars);
     }
 }
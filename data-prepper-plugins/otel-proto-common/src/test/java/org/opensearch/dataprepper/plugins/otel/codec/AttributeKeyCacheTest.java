@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.otel.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class AttributeKeyCacheTest {
+    private final AtomicInteger transformations = new AtomicInteger();
+    private final Function<String, String> keyTransformation = key -> {
+        transformations.incrementAndGet();
+        return OTelProtoCodec.SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(key);
+    };
+
+    @Test
+    void transform_returns_the_transformed_key() {
+        final AttributeKeyCache objectUnderTest = new AttributeKeyCache(keyTransformation);
+
+        assertThat(objectUnderTest.transform("http.status_code"), equalTo("span.attributes.http@status_code"));
+        assertThat(objectUnderTest.transform("component"), equalTo("span.attributes.component"));
+    }
+
+    @Test
+    void transform_transforms_each_key_once_and_returns_the_same_instance() {
+        final AttributeKeyCache objectUnderTest = new AttributeKeyCache(keyTransformation);
+
+        final String transformedKey = objectUnderTest.transform("http.method");
+
+        assertThat(objectUnderTest.transform(new String("http.method")), sameInstance(transformedKey));
+        assertThat(transformations.get(), equalTo(1));
+        assertThat(objectUnderTest.size(), equalTo(1));
+    }
+
+    @Test
+    void transform_does_not_cache_keys_beyond_the_maximum_size() {
+        final AttributeKeyCache objectUnderTest = new AttributeKeyCache(keyTransformation, 2);
+
+        objectUnderTest.transform("a.b");
+        objectUnderTest.transform("c.d");
+        final String uncachedKey = objectUnderTest.transform("e.f");
+
+        assertThat(uncachedKey, equalTo("span.attributes.e@f"));
+        assertThat(objectUnderTest.transform("e.f"), not(sameInstance(uncachedKey)));
+        assertThat(objectUnderTest.size(), equalTo(2));
+        assertThat(transformations.get(), equalTo(4));
+    }
+}
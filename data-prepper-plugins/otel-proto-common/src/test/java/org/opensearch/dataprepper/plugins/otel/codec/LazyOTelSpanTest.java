@@ -0,0 +1,372 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.otel.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.ByteString;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.ArrayValue;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.common.v1.KeyValueList;
+import io.opentelemetry.proto.resource.v1.Resource;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
+import io.opentelemetry.proto.trace.v1.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.Span;
+import org.opensearch.dataprepper.model.trace.TraceGroupFields;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class LazyOTelSpanTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final long TIME = 1_690_000_000_123_456_789L;
+
+    private final Random random = new Random();
+    private io.opentelemetry.proto.trace.v1.Span rootSpan;
+    private io.opentelemetry.proto.trace.v1.Span childSpan;
+
+    @BeforeEach
+    void setUp() {
+        rootSpan = io.opentelemetry.proto.trace.v1.Span.newBuilder()
+                .setTraceId(randomBytes(16))
+                .setSpanId(randomBytes(8))
+                .setTraceState("state")
+                .setName("GET /orders")
+                .setKind(io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_SERVER)
+                .setStartTimeUnixNano(TIME)
+                .setEndTimeUnixNano(TIME + 1_234_567)
+                .addAttributes(stringAttribute("http.method", "GET"))
+                .addAttributes(KeyValue.newBuilder().setKey("http.status_code").setValue(AnyValue.newBuilder().setIntValue(200)))
+                .addAttributes(KeyValue.newBuilder().setKey("sampled").setValue(AnyValue.newBuilder().setBoolValue(true)))
+                .addAttributes(KeyValue.newBuilder().setKey("load").setValue(AnyValue.newBuilder().setDoubleValue(0.75)))
+                .addAttributes(KeyValue.newBuilder().setKey("tags").setValue(AnyValue.newBuilder().setArrayValue(
+                        ArrayValue.newBuilder().addValues(AnyValue.newBuilder().setStringValue("a")))))
+                .addAttributes(KeyValue.newBuilder().setKey("headers").setValue(AnyValue.newBuilder().setKvlistValue(
+                        KeyValueList.newBuilder().addValues(stringAttribute("content.type", "text/plain")))))
+                .addAttributes(stringAttribute("message", "\"quoted\"\n"))
+                .setDroppedAttributesCount(4)
+                .addEvents(io.opentelemetry.proto.trace.v1.Span.Event.newBuilder()
+                        .setName("exception")
+                        .setTimeUnixNano(TIME + 1_000)
+                        .setDroppedAttributesCount(1)
+                        .addAttributes(stringAttribute("exception.type", "IOException")))
+                .setDroppedEventsCount(2)
+                .addLinks(io.opentelemetry.proto.trace.v1.Span.Link.newBuilder()
+                        .setTraceId(randomBytes(16))
+                        .setSpanId(randomBytes(8))
+                        .setTraceState("link-state")
+                        .addAttributes(KeyValue.newBuilder().setKey("link.kind").setValue(AnyValue.newBuilder().setIntValue(3))))
+                .setDroppedLinksCount(3)
+                .setStatus(Status.newBuilder().setCode(Status.StatusCode.STATUS_CODE_ERROR).setMessage("failed"))
+                .build();
+        childSpan = rootSpan.toBuilder()
+                .setSpanId(randomBytes(8))
+                .setParentSpanId(rootSpan.getSpanId())
+                .setName("SELECT orders")
+                .setKind(io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_CLIENT)
+                .setStatus(Status.newBuilder().setCode(Status.StatusCode.STATUS_CODE_OK))
+                .build();
+    }
+
+    private ExportTraceServiceRequest createRequest(final io.opentelemetry.proto.trace.v1.Span... spans) {
+        final ScopeSpans.Builder scopeSpans = ScopeSpans.newBuilder()
+                .setScope(InstrumentationScope.newBuilder().setName("io.opentelemetry.netty").setVersion("1.0"));
+        for (final io.opentelemetry.proto.trace.v1.Span span : spans) {
+            scopeSpans.addSpans(span);
+        }
+        return ExportTraceServiceRequest.newBuilder()
+                .addResourceSpans(ResourceSpans.newBuilder()
+                        .setResource(Resource.newBuilder()
+                                .addAttributes(stringAttribute("service.name", "orders"))
+                                .addAttributes(KeyValue.newBuilder().setKey("process.pid").setValue(AnyValue.newBuilder().setIntValue(42)))
+                                .addAttributes(KeyValue.newBuilder().setKey("container").setValue(AnyValue.newBuilder().setBoolValue(false)))
+                                .addAttributes(KeyValue.newBuilder().setKey("cpu.share").setValue(AnyValue.newBuilder().setDoubleValue(0.5))))
+                        .addScopeSpans(scopeSpans))
+                .build();
+    }
+
+    private List<Span> parseLazily(final io.opentelemetry.proto.trace.v1.Span... spans) {
+        return new OTelProtoCodec.OTelProtoDecoder(true).parseExportTraceServiceRequest(createRequest(spans));
+    }
+
+    private List<Span> parseEagerly(final io.opentelemetry.proto.trace.v1.Span... spans) {
+        return new OTelProtoCodec.OTelProtoDecoder().parseExportTraceServiceRequest(createRequest(spans));
+    }
+
+    @Test
+    void decoder_with_lazy_span_decoding_creates_lazy_spans() {
+        final List<Span> spans = parseLazily(rootSpan, childSpan);
+
+        assertThat(spans.size(), equalTo(2));
+        for (final Span span : spans) {
+            assertThat(span, instanceOf(LazyOTelSpan.class));
+            assertThat(((LazyOTelSpan) span).isTreeCreated(), equalTo(false));
+        }
+        assertThat(parseEagerly(rootSpan).get(0), not(instanceOf(LazyOTelSpan.class)));
+    }
+
+    @Test
+    void getters_return_the_values_of_the_decoded_span_without_creating_the_tree() {
+        final List<Span> lazySpans = parseLazily(rootSpan, childSpan);
+        final List<Span> expectedSpans = parseEagerly(rootSpan, childSpan);
+
+        for (int i = 0; i < lazySpans.size(); i++) {
+            final Span lazySpan = lazySpans.get(i);
+            final Span expectedSpan = expectedSpans.get(i);
+            assertThat(lazySpan.getTraceId(), equalTo(expectedSpan.getTraceId()));
+            assertThat(lazySpan.getSpanId(), equalTo(expectedSpan.getSpanId()));
+            assertThat(lazySpan.getTraceState(), equalTo(expectedSpan.getTraceState()));
+            assertThat(lazySpan.getParentSpanId(), equalTo(expectedSpan.getParentSpanId()));
+            assertThat(lazySpan.getName(), equalTo(expectedSpan.getName()));
+            assertThat(lazySpan.getKind(), equalTo(expectedSpan.getKind()));
+            assertThat(lazySpan.getStartTime(), equalTo(expectedSpan.getStartTime()));
+            assertThat(lazySpan.getEndTime(), equalTo(expectedSpan.getEndTime()));
+            assertThat(lazySpan.getDroppedAttributesCount(), equalTo(expectedSpan.getDroppedAttributesCount()));
+            assertThat(lazySpan.getDroppedEventsCount(), equalTo(expectedSpan.getDroppedEventsCount()));
+            assertThat(lazySpan.getDroppedLinksCount(), equalTo(expectedSpan.getDroppedLinksCount()));
+            assertThat(lazySpan.getTraceGroup(), equalTo(expectedSpan.getTraceGroup()));
+            assertThat(lazySpan.getDurationInNanos(), equalTo(expectedSpan.getDurationInNanos()));
+            assertTraceGroupFields(lazySpan.getTraceGroupFields(), expectedSpan.getTraceGroupFields());
+            assertThat(lazySpan.getServiceName(), equalTo(expectedSpan.getServiceName()));
+            assertThat(((LazyOTelSpan) lazySpan).isTreeCreated(), equalTo(false));
+        }
+    }
+
+    @Test
+    void toJsonString_and_writeData_write_the_same_data_as_the_decoded_span() throws IOException {
+        final List<Span> lazySpans = parseLazily(rootSpan, childSpan);
+        final List<Span> expectedSpans = parseEagerly(rootSpan, childSpan);
+
+        for (int i = 0; i < lazySpans.size(); i++) {
+            final LazyOTelSpan lazySpan = (LazyOTelSpan) lazySpans.get(i);
+            final JacksonSpan expectedSpan = (JacksonSpan) expectedSpans.get(i);
+            assertThat(lazySpan.toJsonString(), equalTo(expectedSpan.toJsonString()));
+            assertThat(writeData(lazySpan), equalTo(writeData(expectedSpan)));
+            assertThat(lazySpan.isTreeCreated(), equalTo(false));
+        }
+    }
+
+    @Test
+    void other_accesses_create_the_same_tree_as_the_decoded_span() throws IOException {
+        final List<Span> lazySpans = parseLazily(rootSpan, childSpan);
+        final List<Span> expectedSpans = parseEagerly(rootSpan, childSpan);
+
+        for (int i = 0; i < lazySpans.size(); i++) {
+            final LazyOTelSpan lazySpan = (LazyOTelSpan) lazySpans.get(i);
+            final JacksonSpan expectedSpan = (JacksonSpan) expectedSpans.get(i);
+            assertThat(lazySpan.getAttributes(), equalTo(expectedSpan.getAttributes()));
+            assertThat(lazySpan.isTreeCreated(), equalTo(true));
+            assertThat(lazySpan.toMap(), equalTo(expectedSpan.toMap()));
+            assertThat(lazySpan.getEvents(), equalTo(expectedSpan.getEvents()));
+            assertThat(lazySpan.getLinks(), equalTo(expectedSpan.getLinks()));
+            assertThat(lazySpan.getTraceId(), equalTo(expectedSpan.getTraceId()));
+            assertThat(lazySpan.getParentSpanId(), equalTo(expectedSpan.getParentSpanId()));
+            assertTraceGroupFields(lazySpan.getTraceGroupFields(), expectedSpan.getTraceGroupFields());
+            assertThat(lazySpan.toJsonString(), equalTo(expectedSpan.toJsonString()));
+            assertThat(writeData(lazySpan), equalTo(writeData(expectedSpan)));
+        }
+    }
+
+    @Test
+    void setTraceGroup_and_setTraceGroupFields_are_written_without_creating_the_tree() throws IOException {
+        final LazyOTelSpan lazySpan = (LazyOTelSpan) parseLazily(childSpan).get(0);
+        final JacksonSpan expectedSpan = (JacksonSpan) parseEagerly(childSpan).get(0);
+        final TraceGroupFields traceGroupFields = DefaultTraceGroupFields.builder()
+                .withEndTime("2023-07-22T04:26:40.124691356Z")
+                .withDurationInNanos(1_234_567L)
+                .withStatusCode(2)
+                .build();
+
+        for (final Span span : List.of(lazySpan, expectedSpan)) {
+            span.setTraceGroup("GET /orders");
+            span.setTraceGroupFields(traceGroupFields);
+        }
+
+        assertThat(lazySpan.getTraceGroup(), equalTo("GET /orders"));
+        assertTraceGroupFields(lazySpan.getTraceGroupFields(), traceGroupFields);
+        assertThat(lazySpan.toJsonString(), equalTo(expectedSpan.toJsonString()));
+        assertThat(writeData(lazySpan), equalTo(writeData(expectedSpan)));
+        assertThat(lazySpan.isTreeCreated(), equalTo(false));
+
+        lazySpan.put("custom", "value");
+        expectedSpan.put("custom", "value");
+
+        assertThat(lazySpan.isTreeCreated(), equalTo(true));
+        assertThat(lazySpan.getTraceGroup(), equalTo("GET /orders"));
+        assertTraceGroupFields(lazySpan.getTraceGroupFields(), traceGroupFields);
+        assertThat(lazySpan.toJsonString(), equalTo(expectedSpan.toJsonString()));
+
+        lazySpan.setTraceGroup(null);
+        lazySpan.setTraceGroupFields(DefaultTraceGroupFields.builder().build());
+
+        assertThat(lazySpan.getTraceGroup(), nullValue());
+        assertTraceGroupFields(lazySpan.getTraceGroupFields(), DefaultTraceGroupFields.builder().build());
+    }
+
+    @Test
+    void span_with_repeated_attribute_keys_is_written_from_the_tree() throws IOException {
+        final io.opentelemetry.proto.trace.v1.Span span = rootSpan.toBuilder()
+                .addAttributes(stringAttribute("http.method", "POST"))
+                .build();
+        final LazyOTelSpan lazySpan = (LazyOTelSpan) parseLazily(span).get(0);
+        final JacksonSpan expectedSpan = (JacksonSpan) parseEagerly(span).get(0);
+
+        assertThat(lazySpan.toJsonString(), equalTo(expectedSpan.toJsonString()));
+        assertThat(writeData(lazySpan), equalTo(writeData(expectedSpan)));
+        assertThat(lazySpan.isTreeCreated(), equalTo(true));
+    }
+
+    @Test
+    void span_with_repeated_event_or_link_attribute_keys_is_written_from_the_tree() {
+        final io.opentelemetry.proto.trace.v1.Span spanWithRepeatedEventKeys = rootSpan.toBuilder()
+                .setEvents(0, rootSpan.getEvents(0).toBuilder().addAttributes(stringAttribute("exception.type", "Other")))
+                .build();
+        final io.opentelemetry.proto.trace.v1.Span spanWithRepeatedLinkKeys = rootSpan.toBuilder()
+                .setLinks(0, rootSpan.getLinks(0).toBuilder().addAttributes(stringAttribute("link.kind", "other")))
+                .build();
+
+        for (final io.opentelemetry.proto.trace.v1.Span span : List.of(spanWithRepeatedEventKeys, spanWithRepeatedLinkKeys)) {
+            final LazyOTelSpan lazySpan = (LazyOTelSpan) parseLazily(span).get(0);
+
+            assertThat(lazySpan.toJsonString(), equalTo(parseEagerly(span).get(0).toJsonString()));
+            assertThat(lazySpan.isTreeCreated(), equalTo(true));
+        }
+    }
+
+    @Test
+    void span_with_attribute_keys_which_are_the_same_after_transformation_is_written_from_the_tree() {
+        final io.opentelemetry.proto.trace.v1.Span span = rootSpan.toBuilder()
+                .addAttributes(stringAttribute("http@method", "POST"))
+                .build();
+        final LazyOTelSpan lazySpan = (LazyOTelSpan) parseLazily(span).get(0);
+
+        assertThat(lazySpan.toJsonString(), equalTo(parseEagerly(span).get(0).toJsonString()));
+        assertThat(lazySpan.isTreeCreated(), equalTo(true));
+    }
+
+    @Test
+    void span_can_be_read_while_another_thread_creates_the_tree() throws Exception {
+        final int spanCount = 2_000;
+        final io.opentelemetry.proto.trace.v1.Span[] protoSpans = new io.opentelemetry.proto.trace.v1.Span[spanCount];
+        for (int i = 0; i < spanCount; i++) {
+            protoSpans[i] = (i % 2 == 0 ? rootSpan : childSpan).toBuilder().setSpanId(randomBytes(8)).build();
+        }
+        final OTelProtoCodec.OTelProtoDecoder decoder = spy(new OTelProtoCodec.OTelProtoDecoder(true));
+        final List<Span> lazySpans = decoder.parseExportTraceServiceRequest(createRequest(protoSpans));
+        final List<Span> expectedSpans = parseEagerly(protoSpans);
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(3);
+        try {
+            final CountDownLatch startLatch = new CountDownLatch(1);
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 2; thread++) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    for (final Span lazySpan : lazySpans) {
+                        lazySpan.toMap();
+                    }
+                    return null;
+                }));
+            }
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                for (int i = 0; i < spanCount; i++) {
+                    final LazyOTelSpan lazySpan = (LazyOTelSpan) lazySpans.get(i);
+                    final JacksonSpan expectedSpan = (JacksonSpan) expectedSpans.get(i);
+                    assertThat(lazySpan.getSpanId(), equalTo(expectedSpan.getSpanId()));
+                    assertThat(lazySpan.getName(), equalTo(expectedSpan.getName()));
+                    assertThat(lazySpan.getEndTime(), equalTo(expectedSpan.getEndTime()));
+                    assertThat(lazySpan.getTraceGroup(), equalTo(expectedSpan.getTraceGroup()));
+                    assertThat(lazySpan.toJsonString(), equalTo(expectedSpan.toJsonString()));
+                    assertThat(writeData(lazySpan), equalTo(writeData(expectedSpan)));
+                }
+                return null;
+            }));
+            startLatch.countDown();
+            for (final Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        for (final Span lazySpan : lazySpans) {
+            assertThat(((LazyOTelSpan) lazySpan).isTreeCreated(), equalTo(true));
+        }
+        verify(decoder, times(spanCount)).createSpanNode(any(), any(), any());
+    }
+
+    @Test
+    void fromSpan_copies_the_data_of_the_span() {
+        final LazyOTelSpan lazySpan = (LazyOTelSpan) parseLazily(rootSpan).get(0);
+        lazySpan.setTraceGroup("group");
+
+        final JacksonSpan copy = JacksonSpan.fromSpan(lazySpan);
+        copy.setTraceGroup("changed");
+
+        assertThat(lazySpan.getTraceGroup(), equalTo("group"));
+        assertThat(copy.getTraceGroup(), equalTo("changed"));
+        assertThat(copy.getSpanId(), equalTo(lazySpan.getSpanId()));
+    }
+
+    @Test
+    void decoder_throws_for_spans_without_required_fields() {
+        assertThrows(IllegalArgumentException.class, () -> parseLazily(rootSpan.toBuilder().setTraceId(ByteString.EMPTY).build()));
+        assertThrows(IllegalArgumentException.class, () -> parseLazily(rootSpan.toBuilder().setSpanId(ByteString.EMPTY).build()));
+        assertThrows(IllegalArgumentException.class, () -> parseLazily(rootSpan.toBuilder().setName("").build()));
+    }
+
+    private static void assertTraceGroupFields(final TraceGroupFields actual, final TraceGroupFields expected) {
+        assertThat(actual.getEndTime(), equalTo(expected.getEndTime()));
+        assertThat(actual.getDurationInNanos(), equalTo(expected.getDurationInNanos()));
+        assertThat(actual.getStatusCode(), equalTo(expected.getStatusCode()));
+    }
+
+    private static String writeData(final JacksonSpan span) throws IOException {
+        final StringWriter writer = new StringWriter();
+        try (final JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(writer)) {
+            span.writeData(generator);
+        }
+        return writer.toString();
+    }
+
+    private static KeyValue stringAttribute(final String key, final String value) {
+        return KeyValue.newBuilder().setKey(key).setValue(AnyValue.newBuilder().setStringValue(value)).build();
+    }
+
+    private ByteString randomBytes(final int length) {
+        final byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return ByteString.copyFrom(bytes);
+    }
+}
@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.plugins.otel.codec;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.util.JsonFormat;
@@ -56,6 +57,8 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -165,6 +168,90 @@ public class OTelProtoCodecTest {
             assertThat(spans.size(), is(equalTo(0)));
         }
 
+        @Test
+        public void testParseExportTraceServiceRequest_createsTheSameSpansAsTheConvertedFields() throws IOException {
+            final ExportTraceServiceRequest jsonFileRequest = buildExportTraceServiceRequestFromJsonFile(TEST_REQUEST_TRACE_JSON_FILE);
+            final io.opentelemetry.proto.trace.v1.Span rootSpan = io.opentelemetry.proto.trace.v1.Span.newBuilder()
+                    .setTraceId(ByteString.copyFrom(getRandomBytes(16)))
+                    .setSpanId(ByteString.copyFrom(getRandomBytes(8)))
+                    .setName("GET /orders")
+                    .setKind(io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_SERVER)
+                    .setStartTimeUnixNano(TIME)
+                    .setEndTimeUnixNano(TIME + 1_234_567)
+                    .addAttributes(KeyValue.newBuilder().setKey("http.method").setValue(AnyValue.newBuilder().setStringValue("GET")))
+                    .addAttributes(KeyValue.newBuilder().setKey("http.status_code").setValue(AnyValue.newBuilder().setIntValue(200)))
+                    .addAttributes(KeyValue.newBuilder().setKey("sampled").setValue(AnyValue.newBuilder().setBoolValue(true)))
+                    .addAttributes(KeyValue.newBuilder().setKey("load").setValue(AnyValue.newBuilder().setDoubleValue(0.75)))
+                    .addAttributes(KeyValue.newBuilder().setKey("tags").setValue(AnyValue.newBuilder().setArrayValue(
+                            ArrayValue.newBuilder().addValues(AnyValue.newBuilder().setStringValue("a")))))
+                    .addEvents(io.opentelemetry.proto.trace.v1.Span.Event.newBuilder()
+                            .setName("exception")
+                            .setTimeUnixNano(TIME + 1_000)
+                            .setDroppedAttributesCount(1)
+                            .addAttributes(KeyValue.newBuilder().setKey("exception.type").setValue(AnyValue.newBuilder().setStringValue("IOException"))))
+                    .setDroppedEventsCount(2)
+                    .addLinks(io.opentelemetry.proto.trace.v1.Span.Link.newBuilder()
+                            .setTraceId(ByteString.copyFrom(getRandomBytes(16)))
+                            .setSpanId(ByteString.copyFrom(getRandomBytes(8)))
+                            .setTraceState("state")
+                            .addAttributes(KeyValue.newBuilder().setKey("link.kind").setValue(AnyValue.newBuilder().setIntValue(3))))
+                    .setDroppedLinksCount(3)
+                    .setDroppedAttributesCount(4)
+                    .setStatus(Status.newBuilder().setCode(Status.StatusCode.STATUS_CODE_ERROR).setMessage("failed"))
+                    .build();
+            final ExportTraceServiceRequest exportTraceServiceRequest = jsonFileRequest.toBuilder()
+                    .addResourceSpans(ResourceSpans.newBuilder()
+                            .setResource(Resource.newBuilder()
+                                    .addAttributes(KeyValue.newBuilder().setKey("service.name").setValue(AnyValue.newBuilder().setStringValue("orders"))))
+                            .addScopeSpans(ScopeSpans.newBuilder()
+                                    .setScope(InstrumentationScope.newBuilder().setName("io.opentelemetry.netty").setVersion("1.0"))
+                                    .addSpans(rootSpan)
+                                    .addSpans(rootSpan.toBuilder().setParentSpanId(rootSpan.getSpanId()).setStartTimeUnixNano(TIME + 10))))
+                    .build();
+
+            final List<Span> spans = decoderUnderTest.parseExportTraceServiceRequest(exportTraceServiceRequest);
+
+            final List<Span> expectedSpans = new ArrayList<>();
+            for (final ResourceSpans resourceSpans : exportTraceServiceRequest.getResourceSpansList()) {
+                final String serviceName = decoderUnderTest.getServiceName(resourceSpans.getResource()).orElse(null);
+                for (final ScopeSpans scopeSpans : resourceSpans.getScopeSpansList()) {
+                    for (final io.opentelemetry.proto.trace.v1.Span sp : scopeSpans.getSpansList()) {
+                        final Map<String, Object> attributes = new HashMap<>(decoderUnderTest.getSpanAttributes(sp));
+                        attributes.putAll(decoderUnderTest.getResourceAttributes(resourceSpans.getResource()));
+                        attributes.putAll(OTelProtoCodec.getInstrumentationScopeAttributes(scopeSpans.getScope()));
+                        attributes.putAll(decoderUnderTest.getSpanStatusAttributes(sp.getStatus()));
+                        expectedSpans.add(JacksonSpan.builder()
+                                .withSpanId(Hex.encodeHexString(sp.getSpanId().toByteArray()))
+                                .withTraceId(Hex.encodeHexString(sp.getTraceId().toByteArray()))
+                                .withTraceState(sp.getTraceState())
+                                .withParentSpanId(Hex.encodeHexString(sp.getParentSpanId().toByteArray()))
+                                .withName(sp.getName())
+                                .withServiceName(serviceName)
+                                .withKind(sp.getKind().name())
+                                .withStartTime(Instant.ofEpochSecond(0L, sp.getStartTimeUnixNano()).toString())
+                                .withEndTime(Instant.ofEpochSecond(0L, sp.getEndTimeUnixNano()).toString())
+                                .withAttributes(attributes)
+                                .withDroppedAttributesCount(sp.getDroppedAttributesCount())
+                                .withEvents(sp.getEventsList().stream().map(decoderUnderTest::getSpanEvent).collect(Collectors.toList()))
+                                .withDroppedEventsCount(sp.getDroppedEventsCount())
+                                .withLinks(sp.getLinksList().stream().map(decoderUnderTest::getLink).collect(Collectors.toList()))
+                                .withDroppedLinksCount(sp.getDroppedLinksCount())
+                                .withTraceGroup(decoderUnderTest.getTraceGroup(sp))
+                                .withDurationInNanos(sp.getEndTimeUnixNano() - sp.getStartTimeUnixNano())
+                                .withTraceGroupFields(decoderUnderTest.getTraceGroupFields(sp))
+                                .build());
+                    }
+                }
+            }
+
+            assertThat(spans.size(), equalTo(5));
+            assertThat(spans.size(), equalTo(expectedSpans.size()));
+            for (int i = 0; i < spans.size(); i++) {
+                assertThat(spans.get(i).toMap(), equalTo(expectedSpans.get(i).toMap()));
+                assertThat(OBJECT_MAPPER.readTree(spans.get(i).toJsonString()), equalTo(OBJECT_MAPPER.readTree(expectedSpans.get(i).toJsonString())));
+            }
+        }
+
         private void validateSpans(final List<Span> spans) {
             assertThat(spans.size(), is(equalTo(3)));
 
@@ -322,6 +409,41 @@ public class OTelProtoCodecTest {
 
         }
 
+        @Test
+        public void testParseResourceSpans_keepsTheAttributeOrderAndTheLastValueOfADuplicateKey() throws IOException {
+            final io.opentelemetry.proto.trace.v1.Span span = io.opentelemetry.proto.trace.v1.Span.newBuilder()
+                    .setTraceId(ByteString.copyFrom(getRandomBytes(16)))
+                    .setSpanId(ByteString.copyFrom(getRandomBytes(8)))
+                    .setName("test span")
+                    .setStartTimeUnixNano(TIME)
+                    .setEndTimeUnixNano(TIME + 1_000)
+                    .addAttributes(KeyValue.newBuilder().setKey("zeta").setValue(AnyValue.newBuilder().setStringValue("first")))
+                    .addAttributes(KeyValue.newBuilder().setKey("alpha").setValue(AnyValue.newBuilder().setIntValue(1)))
+                    .addAttributes(KeyValue.newBuilder().setKey("zeta").setValue(AnyValue.newBuilder().setStringValue("last")))
+                    .addAttributes(KeyValue.newBuilder().setKey("mu").setValue(AnyValue.newBuilder().setBoolValue(true)))
+                    .build();
+            final ResourceSpans resourceSpans = ResourceSpans.newBuilder()
+                    .setResource(Resource.newBuilder()
+                            .addAttributes(KeyValue.newBuilder().setKey("service.name").setValue(AnyValue.newBuilder().setStringValue("orders")))
+                            .addAttributes(KeyValue.newBuilder().setKey("host.name").setValue(AnyValue.newBuilder().setStringValue("host"))))
+                    .addScopeSpans(ScopeSpans.newBuilder().addSpans(span))
+                    .build();
+
+            final List<Span> spans = decoderUnderTest.parseResourceSpans(resourceSpans);
+
+            assertThat(spans.size(), equalTo(1));
+            final JsonNode spanNode = OBJECT_MAPPER.readTree(spans.get(0).toJsonString());
+            final List<String> attributeKeys = new ArrayList<>();
+            spanNode.fieldNames().forEachRemaining(fieldName -> {
+                if (fieldName.startsWith("span.attributes.") || fieldName.startsWith("resource.attributes.")) {
+                    attributeKeys.add(fieldName);
+                }
+            });
+            assertThat(attributeKeys, equalTo(List.of("span.attributes.zeta", "span.attributes.alpha", "span.attributes.mu",
+                    "resource.attributes.service@name", "resource.attributes.host@name")));
+            assertThat(spanNode.get("span.attributes.zeta").asText(), equalTo("last"));
+        }
+
 
         @Test
         public void testInstrumentationLibraryAttributes() {
@@ -640,6 +762,18 @@ public class OTelProtoCodecTest {
             assertThat(resource.getAttributesList().stream().noneMatch(kv -> kv.getKey().equals(OTelProtoCodec.OTelProtoEncoder.SERVICE_NAME_ATTRIBUTE)), is(true));
         }
 
+        @Test
+        public void testEncodeResourceKeepsThePositionOfTheServiceName() throws UnsupportedEncodingException {
+            final Map<String, Object> testAllAttributes = new LinkedHashMap<>();
+            testAllAttributes.put(OTelProtoCodec.OTelProtoEncoder.RESOURCE_ATTRIBUTES_PREFIX + "first", 1);
+            testAllAttributes.put("irrelevantKey", 2);
+            testAllAttributes.put(OTelProtoCodec.OTelProtoEncoder.RESOURCE_ATTRIBUTES_PREFIX + OTelProtoCodec.OTelProtoEncoder.SERVICE_NAME_ATTRIBUTE, "A");
+            testAllAttributes.put(OTelProtoCodec.OTelProtoEncoder.RESOURCE_ATTRIBUTES_PREFIX + "last", 3);
+            final Resource resource = encoderUnderTest.constructResource("test name", testAllAttributes);
+            assertThat(resource.getAttributesList().stream().map(KeyValue::getKey).collect(Collectors.toList()),
+                    equalTo(List.of("first", OTelProtoCodec.SERVICE_NAME, "last")));
+        }
+
         @Test
         public void testEncodeResourceMissingServiceName() throws UnsupportedEncodingException {
             final String testKeyRelevant = "relevantKey";
@@ -793,6 +927,31 @@ public class OTelProtoCodecTest {
         }
     }
 
+    @Test
+    public void testConvertUnixNanosToISO8601_formatsAsInstant() {
+        final long[] testUnixNanos = {0L, 1L, 999_999_999L, 1_000_000_000L, TIME, TIME + 1, TIME + 1_000, TIME + 1_000_000,
+                TIME + 120_000_000, TIME + 123_456_000, TIME + 123_456_789, TIME + 1_000_000_000L, -1L, -1_500_000_000L,
+                Long.MAX_VALUE, Long.MIN_VALUE};
+        for (final long unixNanos : testUnixNanos) {
+            assertThat(OTelProtoCodec.convertUnixNanosToISO8601(unixNanos), equalTo(Instant.ofEpochSecond(0L, unixNanos).toString()));
+        }
+        for (int i = 0; i < 1000; i++) {
+            final long unixNanos = RANDOM.nextLong();
+            assertThat(OTelProtoCodec.convertUnixNanosToISO8601(unixNanos), equalTo(Instant.ofEpochSecond(0L, unixNanos).toString()));
+        }
+    }
+
+    @Test
+    public void testConvertByteStringToString_encodesAsHex() {
+        assertThat(OTelProtoCodec.convertByteStringToString(ByteString.EMPTY), equalTo(""));
+        assertThat(OTelProtoCodec.convertByteStringToString(ByteString.copyFrom(new byte[]{0, 15, 16, 127, -128, -1})),
+                equalTo("000f107f80ff"));
+        for (int i = 0; i < 100; i++) {
+            final byte[] bytes = getRandomBytes(16);
+            assertThat(OTelProtoCodec.convertByteStringToString(ByteString.copyFrom(bytes)), equalTo(Hex.encodeHexString(bytes)));
+        }
+    }
+
     @Test
     void getValueAsDouble() {
         Assertions.assertNull(OTelProtoCodec.getValueAsDouble(NumberDataPoint.newBuilder().build()));
@@ -89,7 +89,7 @@ public class OTelTraceSource implements Source<Record<Object>> {
 
             final OTelTraceGrpcService oTelTraceGrpcService = new OTelTraceGrpcService(
                     oTelTraceSourceConfig.getRequestTimeoutInMillis(),
-                    new OTelProtoCodec.OTelProtoDecoder(),
+                    new OTelProtoCodec.OTelProtoDecoder(oTelTraceSourceConfig.isLazySpanDecoding()),
                     buffer,
                     pluginMetrics
             );
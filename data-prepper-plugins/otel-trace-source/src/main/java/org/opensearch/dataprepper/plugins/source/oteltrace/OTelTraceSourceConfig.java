@@ -31,6 +31,7 @@ public class OTelTraceSourceConfig {
     static final String ENABLE_UNFRAMED_REQUESTS = "unframed_requests";
     static final String UNAUTHENTICATED_HEALTH_CHECK = "unauthenticated_health_check";
     static final String COMPRESSION = "compression";
+    static final String LAZY_SPAN_DECODING = "lazy_span_decoding";
     static final int DEFAULT_REQUEST_TIMEOUT_MS = 10000;
     static final int DEFAULT_PORT = 21890;
     static final int DEFAULT_THREAD_COUNT = 200;
@@ -40,6 +41,7 @@ public class OTelTraceSourceConfig {
     static final boolean DEFAULT_HEALTH_CHECK = false;
     static final boolean DEFAULT_PROTO_REFLECTION_SERVICE = false;
     static final boolean DEFAULT_USE_ACM_CERT_FOR_SSL = false;
+    static final boolean DEFAULT_LAZY_SPAN_DECODING = false;
     static final int DEFAULT_ACM_CERT_ISSUE_TIME_OUT_MILLIS = 120000;
     private static final String S3_PREFIX = "s3://";
 
@@ -103,6 +105,9 @@ public class OTelTraceSourceConfig {
     @JsonProperty(COMPRESSION)
     private CompressionOption compression = CompressionOption.NONE;
 
+    @JsonProperty(LAZY_SPAN_DECODING)
+    private boolean lazySpanDecoding = DEFAULT_LAZY_SPAN_DECODING;
+
     @AssertTrue(message = "path should start with /")
     boolean isPathValid() {
         return path == null || path.startsWith("/");
@@ -220,4 +225,8 @@ public class OTelTraceSourceConfig {
     public CompressionOption getCompression() {
         return compression;
     }
+
+    public boolean isLazySpanDecoding() {
+        return lazySpanDecoding;
+    }
 }
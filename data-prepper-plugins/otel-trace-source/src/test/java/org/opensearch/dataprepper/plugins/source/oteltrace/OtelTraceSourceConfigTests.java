@@ -66,6 +66,7 @@ class OtelTraceSourceConfigTests {
         assertTrue(otelTraceSourceConfig.isSsl());
         assertNull(otelTraceSourceConfig.getSslKeyCertChainFile());
         assertNull(otelTraceSourceConfig.getSslKeyFile());
+        assertFalse(otelTraceSourceConfig.isLazySpanDecoding());
     }
 
     @Test
@@ -118,6 +119,19 @@ class OtelTraceSourceConfigTests {
         assertEquals(compressionOption, otelTraceSourceConfig.getCompression());
     }
 
+    @Test
+    void testLazySpanDecoding() {
+        // Prepare
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(OTelTraceSourceConfig.LAZY_SPAN_DECODING, true);
+
+        final PluginSetting pluginSetting = new PluginSetting(PLUGIN_NAME, settings);
+        final OTelTraceSourceConfig otelTraceSourceConfig = OBJECT_MAPPER.convertValue(pluginSetting.getSettings(), OTelTraceSourceConfig.class);
+
+        // When/Then
+        assertTrue(otelTraceSourceConfig.isLazySpanDecoding());
+    }
+
     @Test
     void testValidConfigWithoutS3CertAndKey() {
         // Prepare
@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.persistent;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventMetadata;
+import org.opensearch.dataprepper.model.event.EventType;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Converts events to and from the bytes stored in the persistent buffer. The event data and its metadata are written
+ * as a single JSON document. Trace events are restored as {@link JacksonSpan}s and all other events as
+ * {@link JacksonEvent}s, the same as the peer forwarder does.
+ */
+class EventSerializer {
+    private static final String EVENT_TYPE = "eventType";
+    private static final String TIME_RECEIVED = "timeReceived";
+    private static final String ATTRIBUTES = "attributes";
+    private static final String TAGS = "tags";
+    private static final String DATA = "data";
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {
+    };
+    private static final TypeReference<Set<String>> SET_TYPE_REFERENCE = new TypeReference<Set<String>>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
+    EventSerializer(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    byte[] serialize(final Event event) throws IOException {
+        final EventMetadata eventMetadata = event.getMetadata();
+        final ObjectNode document = objectMapper.createObjectNode();
+        document.put(EVENT_TYPE, eventMetadata.getEventType());
+        document.put(TIME_RECEIVED, eventMetadata.getTimeReceived().toString());
+        document.set(ATTRIBUTES, objectMapper.valueToTree(eventMetadata.getAttributes()));
+        document.set(TAGS, objectMapper.valueToTree(eventMetadata.getTags()));
+        document.set(DATA, objectMapper.valueToTree(event.toMap()));
+        return objectMapper.writeValueAsBytes(document);
+    }
+
+    Event deserialize(final byte[] bytes) throws IOException {
+        final JsonNode document = objectMapper.readTree(bytes);
+        final DefaultEventMetadata eventMetadata = DefaultEventMetadata.builder()
+                .withEventType(document.get(EVENT_TYPE).asText())
+                .withTimeReceived(Instant.parse(document.get(TIME_RECEIVED).asText()))
+                .withAttributes(objectMapper.convertValue(document.get(ATTRIBUTES), MAP_TYPE_REFERENCE))
+                .withTags(objectMapper.convertValue(document.get(TAGS), SET_TYPE_REFERENCE))
+                .build();
+
+        if (EventType.TRACE.toString().equalsIgnoreCase(eventMetadata.getEventType())) {
+            return JacksonSpan.builder()
+                    .withData(document.get(DATA))
+                    .withEventMetadata(eventMetadata)
+                    .build();
+        }
+        return JacksonEvent.builder()
+                .withData(document.get(DATA))
+                .withEventMetadata(eventMetadata)
+                .build();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.persistent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.AtomicDouble;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import org.opensearch.dataprepper.model.buffer.AbstractBuffer;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+import static java.lang.String.format;
+
+/**
+ * A Buffer which stores events in memory-mapped segment files on local disk, so that it can hold much more data than
+ * fits on the heap and unacknowledged events survive a restart. Records are read back in the order they were written.
+ * A checkpoint moves the durable read offset forward once every batch read before it has also been checkpointed, and
+ * segment files are deleted once all of their records are behind the durable read offset. After a restart, reading
+ * resumes from the durable read offset, so records which were read but not checkpointed are delivered again.
+ */
+@DataPrepperPlugin(name = "persistent", pluginType = Buffer.class, pluginConfigurationType = PersistentBufferConfig.class)
+public class PersistentBuffer extends AbstractBuffer<Record<Event>> {
+    private static final Logger LOG = LoggerFactory.getLogger(PersistentBuffer.class);
+    static final String BUFFER_USAGE_METRIC = "bufferUsage";
+    static final String SEGMENTS_METRIC = "segments";
+
+    private final String pipelineName;
+    private final int batchSize;
+    private final long maxSize;
+    private final SegmentedLog segmentedLog;
+    private final EventSerializer eventSerializer;
+    private final AtomicDouble bufferUsage;
+
+    @DataPrepperPluginConstructor
+    public PersistentBuffer(final PluginSetting pluginSetting, final PersistentBufferConfig persistentBufferConfig) {
+        super(pluginSetting);
+        this.pipelineName = pluginSetting.getPipelineName();
+        this.batchSize = persistentBufferConfig.getBatchSize();
+        this.maxSize = persistentBufferConfig.getMaxSize().getBytes();
+        this.segmentedLog = new SegmentedLog(
+                Paths.get(persistentBufferConfig.getPath(), pipelineName),
+                (int) persistentBufferConfig.getSegmentSize().getBytes(),
+                maxSize,
+                persistentBufferConfig.isSyncOnWrite());
+        this.eventSerializer = new EventSerializer(new ObjectMapper());
+        this.bufferUsage = pluginMetrics.gauge(BUFFER_USAGE_METRIC, new AtomicDouble());
+        pluginMetrics.gauge(SEGMENTS_METRIC, segmentedLog, SegmentedLog::getSegmentCount);
+    }
+
+    @Override
+    public void doWrite(final Record<Event> record, final int timeoutInMillis) throws TimeoutException {
+        try {
+            if (!segmentedLog.append(Collections.singletonList(serialize(record)), timeoutInMillis)) {
+                throw new TimeoutException(format("Pipeline [%s] - Buffer is full, timed out waiting for a slot",
+                        pipelineName));
+            }
+        } catch (final InterruptedException ex) {
+            LOG.error("Pipeline [{}] - Buffer is full, interrupted while waiting to write the record", pipelineName, ex);
+            throw new TimeoutException("Buffer is full, timed out waiting for a slot");
+        } catch (final SizeOverflowException ex) {
+            throw new IllegalArgumentException(ex.getMessage(), ex);
+        }
+    }
+
+    @Override
+    public void doWriteAll(final Collection<Record<Event>> records, final int timeoutInMillis) throws Exception {
+        final List<byte[]> payloads = new ArrayList<>(records.size());
+        long totalBytes = 0;
+        for (final Record<Event> record : records) {
+            final byte[] payload = serialize(record);
+            totalBytes += SegmentedLog.FRAME_HEADER_SIZE + payload.length;
+            payloads.add(payload);
+        }
+        if (totalBytes > maxSize) {
+            throw new SizeOverflowException(format("Buffer capacity too small for the number of records: %d", records.size()));
+        }
+        try {
+            if (!segmentedLog.append(payloads, timeoutInMillis)) {
+                throw new TimeoutException(
+                        format("Pipeline [%s] - Buffer does not have enough capacity left for the number of records: %d, " +
+                                "timed out waiting for slots.", pipelineName, records.size()));
+            }
+        } catch (final InterruptedException ex) {
+            LOG.error("Pipeline [{}] - Buffer does not have enough capacity left for the number of records: {}, " +
+                    "interrupted while waiting to write the records", pipelineName, records.size(), ex);
+            throw new TimeoutException(
+                    format("Pipeline [%s] - Buffer does not have enough capacity left for the number of records: %d, " +
+                            "timed out waiting for slots.", pipelineName, records.size()));
+        }
+    }
+
+    @Override
+    public Map.Entry<Collection<Record<Event>>, CheckpointState> doRead(final int timeoutInMillis) {
+        final SegmentedLog.ReadResult readResult = segmentedLog.read(batchSize, timeoutInMillis);
+        final List<Record<Event>> records = new ArrayList<>(readResult.getPayloads().size());
+        for (final byte[] payload : readResult.getPayloads()) {
+            try {
+                records.add(new Record<>(eventSerializer.deserialize(payload)));
+            } catch (final IOException e) {
+                throw new UncheckedIOException(format("Pipeline [%s] - Unable to read a record from the buffer", pipelineName), e);
+            }
+        }
+        final CheckpointState checkpointState = new SegmentCheckpointState(records.size(), readResult.getStartPosition());
+        return new AbstractMap.SimpleEntry<>(records, checkpointState);
+    }
+
+    @Override
+    public void doCheckpoint(final CheckpointState checkpointState) {
+        if (checkpointState instanceof SegmentCheckpointState) {
+            segmentedLog.commit(((SegmentCheckpointState) checkpointState).getStartPosition());
+        } else if (checkpointState.getNumRecordsToBeChecked() > 0) {
+            LOG.warn("Pipeline [{}] - Ignoring a checkpoint which was not read from this buffer", pipelineName);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return !segmentedLog.hasUnreadFrames() && getRecordsInFlight() == 0;
+    }
+
+    @Override
+    protected void postProcess(final Long recordsInBuffer) {
+        bufferUsage.set(segmentedLog.getUsage());
+    }
+
+    private byte[] serialize(final Record<Event> record) {
+        try {
+            return eventSerializer.serialize(record.getData());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(format("Pipeline [%s] - Unable to write a record to the buffer", pipelineName), e);
+        }
+    }
+}
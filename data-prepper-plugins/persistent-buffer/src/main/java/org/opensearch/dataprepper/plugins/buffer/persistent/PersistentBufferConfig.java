@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.persistent;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import org.opensearch.dataprepper.model.types.ByteCount;
+
+public class PersistentBufferConfig {
+    static final String DEFAULT_SEGMENT_SIZE = "64mb";
+    static final String DEFAULT_MAX_SIZE = "1gb";
+    static final int DEFAULT_BATCH_SIZE = 200;
+
+    @JsonProperty("path")
+    @NotEmpty
+    private String path;
+
+    @JsonProperty("segment_size")
+    private String segmentSize = DEFAULT_SEGMENT_SIZE;
+
+    @JsonProperty("max_size")
+    private String maxSize = DEFAULT_MAX_SIZE;
+
+    @JsonProperty("batch_size")
+    @Min(1)
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    @JsonProperty("sync_on_write")
+    private boolean syncOnWrite = false;
+
+    public String getPath() {
+        return path;
+    }
+
+    public ByteCount getSegmentSize() {
+        return ByteCount.parse(segmentSize);
+    }
+
+    public ByteCount getMaxSize() {
+        return ByteCount.parse(maxSize);
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public boolean isSyncOnWrite() {
+        return syncOnWrite;
+    }
+
+    @AssertTrue(message = "segment_size must be less than 2gb and no more than half of max_size")
+    boolean isSegmentSizeValid() {
+        final long segmentBytes = getSegmentSize().getBytes();
+        return segmentBytes > SegmentedLog.FRAME_HEADER_SIZE && segmentBytes <= Integer.MAX_VALUE
+                && 2 * segmentBytes <= getMaxSize().getBytes();
+    }
+}
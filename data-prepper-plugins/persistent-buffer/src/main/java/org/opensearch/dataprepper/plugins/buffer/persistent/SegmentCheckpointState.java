@@ -0,0 +1,25 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.persistent;
+
+import org.opensearch.dataprepper.model.CheckpointState;
+
+/**
+ * A {@link CheckpointState} which also remembers where in the {@link SegmentedLog} the batch was read from, so that
+ * checkpointing batches out of order never moves the durable read offset past an unprocessed batch.
+ */
+class SegmentCheckpointState extends CheckpointState {
+    private final long startPosition;
+
+    SegmentCheckpointState(final int numRecordsToBeChecked, final long startPosition) {
+        super(numRecordsToBeChecked);
+        this.startPosition = startPosition;
+    }
+
+    long getStartPosition() {
+        return startPosition;
+    }
+}
@@ -0,0 +1,435 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.persistent;
+
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only log of byte frames stored in fixed-size, memory-mapped segment files.
+ * <p>
+ * Every frame is written as a four byte payload length, a four byte CRC32 of the payload and the payload itself.
+ * The length is written last, so a frame only becomes visible to recovery once it is complete. A frame never spans
+ * two segments; when a frame does not fit in the remainder of a segment the writer rolls over to the next segment
+ * and the zero-filled remainder marks the end of the previous one.
+ * <p>
+ * Positions are logical byte offsets across all segments: segment {@code n} covers the positions
+ * {@code [n * segmentSize, (n + 1) * segmentSize)}. The log keeps three of them. The write position is where the next
+ * frame is appended, the read position is where the next read starts and the durable position is the start of the
+ * oldest frame which has been read but not yet committed. The durable position is persisted in a checkpoint file and
+ * reading resumes from it after a restart. Segments which end before the durable position are deleted and unmapped,
+ * so that neither their disk space nor their address space is held until the mapping is garbage collected.
+ */
+class SegmentedLog {
+    private static final Logger LOG = LoggerFactory.getLogger(SegmentedLog.class);
+    static final int FRAME_HEADER_SIZE = 8;
+    static final String SEGMENT_PREFIX = "segment-";
+    static final String SEGMENT_SUFFIX = ".log";
+    static final String CHECKPOINT_FILE_NAME = "checkpoint";
+    private static final int CHECKPOINT_FILE_SIZE = Long.BYTES;
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long maxSize;
+    private final boolean syncOnWrite;
+    private final TreeMap<Long, MappedByteBuffer> segments = new TreeMap<>();
+    private final TreeMap<Long, Long> uncommittedReads = new TreeMap<>();
+    private final MappedByteBuffer checkpointBuffer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private long writePosition;
+    private long readPosition;
+    private long durablePosition;
+
+    SegmentedLog(final Path directory, final int segmentSize, final long maxSize, final boolean syncOnWrite) {
+        if (segmentSize <= FRAME_HEADER_SIZE || 2L * segmentSize > maxSize) {
+            throw new IllegalArgumentException("The segment size must be greater than the frame header and no more than half the maximum size.");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSize = maxSize;
+        this.syncOnWrite = syncOnWrite;
+        try {
+            Files.createDirectories(directory);
+            checkpointBuffer = map(directory.resolve(CHECKPOINT_FILE_NAME), CHECKPOINT_FILE_SIZE);
+            openExistingSegments();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to open the persistent buffer in " + directory, e);
+        }
+        recover();
+    }
+
+    /**
+     * Appends the payloads as consecutive frames. Either all payloads are appended or, if there is not enough space
+     * before the timeout, none are.
+     *
+     * @param payloads the payloads to append
+     * @param timeoutInMillis how long to wait for space
+     * @return true if the payloads were appended, false if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting for space
+     * @throws SizeOverflowException if a payload does not fit in a segment
+     */
+    boolean append(final List<byte[]> payloads, final long timeoutInMillis) throws InterruptedException, SizeOverflowException {
+        for (final byte[] payload : payloads) {
+            if (payload.length > segmentSize - FRAME_HEADER_SIZE) {
+                throw new SizeOverflowException(String.format(
+                        "A record of %d bytes does not fit in a segment of %d bytes.", payload.length, segmentSize));
+            }
+        }
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        lock.lockInterruptibly();
+        try {
+            while (endPositionAfterAppending(payloads) - segmentStart(durablePosition) > maxSize) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = notFull.awaitNanos(remainingNanos);
+            }
+            for (final byte[] payload : payloads) {
+                writeFrame(payload);
+            }
+            if (syncOnWrite) {
+                segments.values().forEach(MappedByteBuffer::force);
+            }
+            notEmpty.signalAll();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads up to maxFrames frames from the read position, waiting up to the timeout for the first frame.
+     *
+     * @param maxFrames the maximum number of frames to read
+     * @param timeoutInMillis how long to wait for a frame
+     * @return the frames read and the position of the first one
+     */
+    ReadResult read(final int maxFrames, final long timeoutInMillis) {
+        final List<byte[]> payloads = new ArrayList<>();
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        lock.lock();
+        try {
+            while (readPosition == writePosition && remainingNanos > 0) {
+                remainingNanos = notEmpty.awaitNanos(remainingNanos);
+            }
+            final long startPosition = readPosition;
+            while (payloads.size() < maxFrames && readPosition < writePosition) {
+                final byte[] payload = readFrameAt(readPosition);
+                if (payload == null) {
+                    readPosition = nextSegmentStart(readPosition);
+                } else {
+                    payloads.add(payload);
+                    readPosition += FRAME_HEADER_SIZE + payload.length;
+                }
+            }
+            if (!payloads.isEmpty()) {
+                uncommittedReads.put(startPosition, readPosition);
+            }
+            return new ReadResult(payloads, startPosition);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Commits a range previously returned by {@link #read(int, long)}. The durable position moves forward to the
+     * start of the oldest range which is still not committed and segments before it are deleted.
+     *
+     * @param startPosition the start of the range returned by the read
+     */
+    void commit(final long startPosition) {
+        lock.lock();
+        try {
+            if (uncommittedReads.remove(startPosition) == null) {
+                return;
+            }
+            final long newDurablePosition = uncommittedReads.isEmpty() ? readPosition : uncommittedReads.firstKey();
+            if (newDurablePosition > durablePosition) {
+                durablePosition = newDurablePosition;
+                checkpointBuffer.putLong(0, durablePosition);
+                if (syncOnWrite) {
+                    checkpointBuffer.force();
+                }
+                deleteSegmentsBefore(segmentStart(durablePosition));
+                notFull.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean hasUnreadFrames() {
+        lock.lock();
+        try {
+            return readPosition < writePosition;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the bytes of disk space in use by live segments, as a percentage of the maximum size
+     */
+    double getUsage() {
+        lock.lock();
+        try {
+            return (double) (writePosition - segmentStart(durablePosition)) / maxSize * 100;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getSegmentCount() {
+        lock.lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void writeFrame(final byte[] payload) {
+        if (segmentOffset(writePosition) + FRAME_HEADER_SIZE + payload.length > segmentSize) {
+            writePosition = nextSegmentStart(writePosition);
+        }
+        final MappedByteBuffer segment = getOrCreateSegment(segmentStart(writePosition));
+        final int offset = segmentOffset(writePosition);
+        final CRC32 crc = new CRC32();
+        crc.update(payload);
+        segment.position(offset + FRAME_HEADER_SIZE);
+        segment.put(payload);
+        segment.putInt(offset + Integer.BYTES, (int) crc.getValue());
+        segment.putInt(offset, payload.length);
+        writePosition += FRAME_HEADER_SIZE + payload.length;
+    }
+
+    /**
+     * @return the payload of the frame at the position, or null if the segment has no more frames
+     */
+    private byte[] readFrameAt(final long position) {
+        final MappedByteBuffer segment = segments.get(segmentStart(position));
+        final int offset = segmentOffset(position);
+        if (segment == null || offset + FRAME_HEADER_SIZE > segmentSize) {
+            return null;
+        }
+        final int length = segment.getInt(offset);
+        if (length <= 0 || offset + FRAME_HEADER_SIZE + length > segmentSize) {
+            return null;
+        }
+        final byte[] payload = new byte[length];
+        segment.position(offset + FRAME_HEADER_SIZE);
+        segment.get(payload);
+        return payload;
+    }
+
+    private long endPositionAfterAppending(final List<byte[]> payloads) {
+        long position = writePosition;
+        for (final byte[] payload : payloads) {
+            if (segmentOffset(position) + FRAME_HEADER_SIZE + payload.length > segmentSize) {
+                position = nextSegmentStart(position);
+            }
+            position += FRAME_HEADER_SIZE + payload.length;
+        }
+        return position;
+    }
+
+    private void recover() {
+        final long checkpointedPosition = checkpointBuffer.getLong(0);
+        final long firstSegmentStart = segments.isEmpty() ? 0 : segments.firstKey();
+        durablePosition = Math.max(checkpointedPosition, firstSegmentStart);
+        deleteSegmentsBefore(segmentStart(durablePosition));
+
+        long position = durablePosition;
+        while (segments.containsKey(segmentStart(position))) {
+            final byte[] payload = readFrameAt(position);
+            if (payload == null) {
+                if (!segments.containsKey(nextSegmentStart(position))) {
+                    break;
+                }
+                position = nextSegmentStart(position);
+            } else if (!hasValidChecksum(position, payload)) {
+                LOG.warn("Found a corrupted frame at position {} in {}, discarding it and all frames after it.", position, directory);
+                break;
+            } else {
+                position += FRAME_HEADER_SIZE + payload.length;
+            }
+        }
+        writePosition = position;
+        readPosition = durablePosition;
+        discardFramesAfterWritePosition();
+        LOG.info("Opened the persistent buffer in {} with {} bytes of unacknowledged frames.", directory, writePosition - durablePosition);
+    }
+
+    private boolean hasValidChecksum(final long position, final byte[] payload) {
+        final CRC32 crc = new CRC32();
+        crc.update(payload);
+        return segments.get(segmentStart(position)).getInt(segmentOffset(position) + Integer.BYTES) == (int) crc.getValue();
+    }
+
+    private void discardFramesAfterWritePosition() {
+        final MappedByteBuffer segment = segments.get(segmentStart(writePosition));
+        if (segment != null) {
+            for (int offset = segmentOffset(writePosition); offset < segmentSize; offset++) {
+                segment.put(offset, (byte) 0);
+            }
+        }
+        final Iterator<Map.Entry<Long, MappedByteBuffer>> laterSegments =
+                segments.tailMap(segmentStart(writePosition), false).entrySet().iterator();
+        while (laterSegments.hasNext()) {
+            final Map.Entry<Long, MappedByteBuffer> laterSegment = laterSegments.next();
+            laterSegments.remove();
+            unmap(laterSegment.getValue());
+            deleteSegmentFile(laterSegment.getKey());
+        }
+    }
+
+    private void deleteSegmentsBefore(final long position) {
+        final Iterator<Map.Entry<Long, MappedByteBuffer>> olderSegments = segments.headMap(position, false).entrySet().iterator();
+        while (olderSegments.hasNext()) {
+            final Map.Entry<Long, MappedByteBuffer> olderSegment = olderSegments.next();
+            olderSegments.remove();
+            unmap(olderSegment.getValue());
+            deleteSegmentFile(olderSegment.getKey());
+        }
+    }
+
+    private void deleteSegmentFile(final long segmentStart) {
+        try {
+            Files.deleteIfExists(segmentPath(segmentStart));
+        } catch (final IOException e) {
+            LOG.error("Unable to delete the segment file {}", segmentPath(segmentStart), e);
+        }
+    }
+
+    /**
+     * Releases the mapping of a segment which is no longer used, rather than waiting for the garbage collector to.
+     * The segment must not be accessed afterwards.
+     */
+    private static void unmap(final MappedByteBuffer segment) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact((ByteBuffer) segment);
+        } catch (final Throwable e) {
+            LOG.warn("Unable to unmap a deleted segment, it will be unmapped once it is garbage collected.", e);
+        }
+    }
+
+    /**
+     * @return a handle to {@code sun.misc.Unsafe.invokeCleaner(ByteBuffer)} bound to the Unsafe instance, or null if
+     * the JVM does not provide it
+     */
+    private static MethodHandle findInvokeCleaner() {
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            LOG.warn("Unable to find a way to unmap segments, deleted segments will be unmapped once they are garbage collected.", e);
+            return null;
+        }
+    }
+
+    private MappedByteBuffer getOrCreateSegment(final long segmentStart) {
+        return segments.computeIfAbsent(segmentStart, start -> {
+            try {
+                return map(segmentPath(start), segmentSize);
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Unable to create the segment file " + segmentPath(start), e);
+            }
+        });
+    }
+
+    private void openExistingSegments() throws IOException {
+        try (final DirectoryStream<Path> segmentFiles = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (final Path segmentFile : segmentFiles) {
+                if (Files.size(segmentFile) != segmentSize) {
+                    throw new IllegalStateException(String.format(
+                            "The segment file %s does not match the configured segment size of %d bytes.", segmentFile, segmentSize));
+                }
+                final String fileName = segmentFile.getFileName().toString();
+                final long segmentIndex = Long.parseLong(
+                        fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length()));
+                segments.put(segmentIndex * segmentSize, map(segmentFile, segmentSize));
+            }
+        }
+    }
+
+    private static MappedByteBuffer map(final Path path, final int size) throws IOException {
+        try (final FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private Path segmentPath(final long segmentStart) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, segmentStart / segmentSize, SEGMENT_SUFFIX));
+    }
+
+    private long segmentStart(final long position) {
+        return position - segmentOffset(position);
+    }
+
+    private int segmentOffset(final long position) {
+        return (int) (position % segmentSize);
+    }
+
+    private long nextSegmentStart(final long position) {
+        return segmentStart(position) + segmentSize;
+    }
+
+    static class ReadResult {
+        private final List<byte[]> payloads;
+        private final long startPosition;
+
+        ReadResult(final List<byte[]> payloads, final long startPosition) {
+            this.payloads = payloads;
+            this.startPosition = startPosition;
+        }
+
+        List<byte[]> getPayloads() {
+            return payloads;
+        }
+
+        long getStartPosition() {
+            return startPosition;
+        }
+    }
+}
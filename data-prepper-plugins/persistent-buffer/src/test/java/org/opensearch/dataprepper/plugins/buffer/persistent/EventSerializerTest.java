@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.persistent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.Span;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class EventSerializerTest {
+    private final EventSerializer objectUnderTest = new EventSerializer(new ObjectMapper());
+
+    @Test
+    void deserialize_restores_data_and_metadata_of_an_event() throws IOException {
+        final Map<String, Object> data = new HashMap<>();
+        data.put("message", UUID.randomUUID().toString());
+        data.put("nested", Collections.singletonMap("count", 42));
+        final Instant timeReceived = Instant.now();
+        final Event event = JacksonEvent.builder()
+                .withData(data)
+                .withEventMetadata(DefaultEventMetadata.builder()
+                        .withEventType("event")
+                        .withTimeReceived(timeReceived)
+                        .withAttributes(Collections.singletonMap("attribute", "value"))
+                        .withTags(Collections.singleton("tag"))
+                        .build())
+                .build();
+
+        final Event deserialized = objectUnderTest.deserialize(objectUnderTest.serialize(event));
+
+        assertThat(deserialized, instanceOf(JacksonEvent.class));
+        assertThat(deserialized.toMap(), equalTo(event.toMap()));
+        assertThat(deserialized.getMetadata().getEventType(), equalTo("event"));
+        assertThat(deserialized.getMetadata().getTimeReceived(), equalTo(timeReceived));
+        assertThat(deserialized.getMetadata().getAttributes(), equalTo(Collections.singletonMap("attribute", "value")));
+        assertThat(deserialized.getMetadata().getTags(), equalTo(Collections.singleton("tag")));
+    }
+
+    @Test
+    void deserialize_restores_a_span() throws IOException {
+        final Span span = JacksonSpan.builder()
+                .withSpanId("abc")
+                .withTraceId("def")
+                .withTraceState("")
+                .withParentSpanId("")
+                .withName("name")
+                .withServiceName("service")
+                .withKind("SPAN_KIND_INTERNAL")
+                .withStartTime("2020-05-24T14:00:00Z")
+                .withEndTime("2020-05-24T14:00:01Z")
+                .withTraceGroup("")
+                .withTraceGroupFields(DefaultTraceGroupFields.builder().build())
+                .withDurationInNanos(1_000_000_000L)
+                .withAttributes(Collections.singletonMap("key", "value"))
+                .build();
+
+        final Event deserialized = objectUnderTest.deserialize(objectUnderTest.serialize(span));
+
+        assertThat(deserialized, instanceOf(JacksonSpan.class));
+        assertThat(((Span) deserialized).getTraceId(), equalTo("def"));
+        assertThat(((Span) deserialized).getAttributes(), equalTo(Collections.singletonMap("key", "value")));
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.persistent;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.types.ByteCount;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PersistentBufferTest {
+    private static final String PIPELINE_NAME = "test-pipeline";
+    private static final int BATCH_SIZE = 3;
+    private static final int WRITE_TIMEOUT = 100;
+    private static final int READ_TIMEOUT = 100;
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private PersistentBufferConfig persistentBufferConfig;
+
+    private PluginSetting pluginSetting;
+
+    @BeforeEach
+    void setUp() {
+        Metrics.globalRegistry.getRegistries().forEach(Metrics.globalRegistry::remove);
+        Metrics.globalRegistry.getMeters().forEach(Metrics.globalRegistry::remove);
+        Metrics.addRegistry(new SimpleMeterRegistry());
+
+        pluginSetting = new PluginSetting("persistent", Collections.emptyMap());
+        pluginSetting.setPipelineName(PIPELINE_NAME);
+        when(persistentBufferConfig.getPath()).thenReturn(directory.toString());
+        when(persistentBufferConfig.getBatchSize()).thenReturn(BATCH_SIZE);
+        when(persistentBufferConfig.getSegmentSize()).thenReturn(ByteCount.parse("1kb"));
+        when(persistentBufferConfig.getMaxSize()).thenReturn(ByteCount.parse("4kb"));
+    }
+
+    private PersistentBuffer createObjectUnderTest() {
+        return new PersistentBuffer(pluginSetting, persistentBufferConfig);
+    }
+
+    @Test
+    void read_returns_written_records_in_order_in_batches() throws Exception {
+        final PersistentBuffer objectUnderTest = createObjectUnderTest();
+        final List<Record<Event>> records = generateRecords(5);
+        objectUnderTest.write(records.get(0), WRITE_TIMEOUT);
+        objectUnderTest.writeAll(records.subList(1, 5), WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> firstBatch = objectUnderTest.read(READ_TIMEOUT);
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> secondBatch = objectUnderTest.read(0);
+
+        assertThat(firstBatch.getValue().getNumRecordsToBeChecked(), equalTo(BATCH_SIZE));
+        assertThat(secondBatch.getValue().getNumRecordsToBeChecked(), equalTo(2));
+        final List<Map<String, Object>> readData = new ArrayList<>();
+        firstBatch.getKey().forEach(record -> readData.add(record.getData().toMap()));
+        secondBatch.getKey().forEach(record -> readData.add(record.getData().toMap()));
+        assertThat(readData, equalTo(records.stream().map(record -> record.getData().toMap()).collect(Collectors.toList())));
+    }
+
+    @Test
+    void isEmpty_is_true_only_after_all_records_are_read_and_checkpointed() throws Exception {
+        final PersistentBuffer objectUnderTest = createObjectUnderTest();
+        assertTrue(objectUnderTest.isEmpty());
+
+        objectUnderTest.writeAll(generateRecords(2), WRITE_TIMEOUT);
+        assertFalse(objectUnderTest.isEmpty());
+
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = objectUnderTest.read(READ_TIMEOUT);
+        assertFalse(objectUnderTest.isEmpty());
+
+        objectUnderTest.checkpoint(readResult.getValue());
+        assertTrue(objectUnderTest.isEmpty());
+    }
+
+    @Test
+    void records_which_were_not_checkpointed_are_read_again_after_a_restart() throws Exception {
+        final PersistentBuffer objectUnderTest = createObjectUnderTest();
+        final List<Record<Event>> records = generateRecords(6);
+        objectUnderTest.writeAll(records, WRITE_TIMEOUT);
+        objectUnderTest.checkpoint(objectUnderTest.read(READ_TIMEOUT).getValue());
+        objectUnderTest.read(READ_TIMEOUT);
+
+        final PersistentBuffer restarted = createObjectUnderTest();
+        final Collection<Record<Event>> replayed = restarted.read(READ_TIMEOUT).getKey();
+
+        assertThat(replayed.stream().map(record -> record.getData().toMap()).collect(Collectors.toList()),
+                equalTo(records.subList(3, 6).stream().map(record -> record.getData().toMap()).collect(Collectors.toList())));
+    }
+
+    @Test
+    void write_times_out_when_the_buffer_is_full() throws Exception {
+        final PersistentBuffer objectUnderTest = createObjectUnderTest();
+        final Record<Event> record = generateRecords(1).get(0);
+        assertThrows(TimeoutException.class, () -> {
+            while (true) {
+                objectUnderTest.write(record, 0);
+            }
+        });
+        assertThrows(TimeoutException.class, () -> objectUnderTest.writeAll(Collections.singletonList(record), WRITE_TIMEOUT));
+    }
+
+    @Test
+    void writeAll_throws_SizeOverflowException_when_records_exceed_the_max_size() {
+        final PersistentBuffer objectUnderTest = createObjectUnderTest();
+
+        assertThrows(SizeOverflowException.class, () -> objectUnderTest.writeAll(generateRecords(100), WRITE_TIMEOUT));
+    }
+
+    @Test
+    void writing_a_record_larger_than_a_segment_throws_SizeOverflowException() {
+        final PersistentBuffer objectUnderTest = createObjectUnderTest();
+        final Record<Event> record = new Record<>(JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Collections.singletonMap("message", "x".repeat(2048)))
+                .build());
+
+        assertThrows(SizeOverflowException.class, () -> objectUnderTest.writeAll(Collections.singletonList(record), WRITE_TIMEOUT));
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> objectUnderTest.write(record, WRITE_TIMEOUT));
+        assertThat(exception.getCause(), instanceOf(SizeOverflowException.class));
+    }
+
+    @Test
+    void read_with_a_zero_timeout_does_not_wait_when_the_buffer_is_empty() {
+        final PersistentBuffer objectUnderTest = createObjectUnderTest();
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(objectUnderTest.read(0).getKey().isEmpty());
+        }
+
+        assertThat(System.nanoTime() - start, lessThan(TimeUnit.MILLISECONDS.toNanos(100)));
+    }
+
+    private static List<Record<Event>> generateRecords(final int count) {
+        final List<Record<Event>> records = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            records.add(new Record<>(JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Collections.singletonMap("message", UUID.randomUUID().toString()))
+                    .build()));
+        }
+        return records;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.persistent;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class SegmentedLogTest {
+    private static final int SEGMENT_SIZE = 64;
+    private static final long MAX_SIZE = 4 * SEGMENT_SIZE;
+
+    @TempDir
+    Path directory;
+
+    private SegmentedLog createObjectUnderTest() {
+        return new SegmentedLog(directory, SEGMENT_SIZE, MAX_SIZE, false);
+    }
+
+    @Test
+    void constructor_throws_if_segment_size_is_more_than_half_the_max_size() {
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedLog(directory, SEGMENT_SIZE, SEGMENT_SIZE, false));
+    }
+
+    @Test
+    void read_returns_frames_in_append_order_across_segments() throws Exception {
+        final SegmentedLog objectUnderTest = createObjectUnderTest();
+        for (int i = 0; i < 10; i++) {
+            assertTrue(objectUnderTest.append(payloads("frame-" + i), 0));
+        }
+
+        final List<String> frames = read(objectUnderTest, 100).getPayloads().stream()
+                .map(bytes -> new String(bytes, StandardCharsets.UTF_8))
+                .collect(Collectors.toList());
+
+        assertThat(frames.size(), equalTo(10));
+        assertThat(frames.get(0), equalTo("frame-0"));
+        assertThat(frames.get(9), equalTo("frame-9"));
+        assertFalse(objectUnderTest.hasUnreadFrames());
+    }
+
+    @Test
+    void read_returns_at_most_the_maximum_number_of_frames() throws Exception {
+        final SegmentedLog objectUnderTest = createObjectUnderTest();
+        objectUnderTest.append(payloads("a", "b", "c"), 0);
+
+        assertThat(read(objectUnderTest, 2).getPayloads().size(), equalTo(2));
+        assertThat(read(objectUnderTest, 2).getPayloads().size(), equalTo(1));
+        assertThat(objectUnderTest.read(2, 10).getPayloads(), empty());
+    }
+
+    @Test
+    void append_times_out_when_uncommitted_frames_fill_the_maximum_size() throws Exception {
+        final SegmentedLog objectUnderTest = createObjectUnderTest();
+        while (objectUnderTest.append(payloads("0123456789012345678901234567890123456789"), 0)) {
+        }
+        final SegmentedLog.ReadResult readResult = read(objectUnderTest, 2);
+
+        assertFalse(objectUnderTest.append(payloads("0123456789012345678901234567890123456789"), 10));
+
+        objectUnderTest.commit(readResult.getStartPosition());
+        assertTrue(objectUnderTest.append(payloads("0123456789012345678901234567890123456789"), 10));
+    }
+
+    @Test
+    void append_throws_if_a_frame_does_not_fit_in_a_segment() {
+        final SegmentedLog objectUnderTest = createObjectUnderTest();
+        final List<byte[]> payloads = Collections.singletonList(new byte[SEGMENT_SIZE]);
+
+        assertThrows(SizeOverflowException.class, () -> objectUnderTest.append(payloads, 0));
+    }
+
+    @Test
+    void commit_deletes_segments_once_all_of_their_frames_are_committed() throws Exception {
+        final SegmentedLog objectUnderTest = createObjectUnderTest();
+        for (int i = 0; i < 4; i++) {
+            objectUnderTest.append(payloads("0123456789012345678901234567890123456789"), 0);
+        }
+        assertThat(segmentFiles().size(), equalTo(4));
+
+        final SegmentedLog.ReadResult first = read(objectUnderTest, 2);
+        final SegmentedLog.ReadResult second = read(objectUnderTest, 2);
+        objectUnderTest.commit(second.getStartPosition());
+        assertThat(segmentFiles().size(), equalTo(4));
+
+        objectUnderTest.commit(first.getStartPosition());
+        assertThat(segmentFiles().size(), equalTo(1));
+        assertThat(objectUnderTest.getSegmentCount(), equalTo(1));
+    }
+
+    @Test
+    void commit_unmaps_the_deleted_segments() throws Exception {
+        final Path processMappings = Path.of("/proc/self/maps");
+        assumeTrue(Files.isReadable(processMappings));
+        final SegmentedLog objectUnderTest = createObjectUnderTest();
+        for (int i = 0; i < 4; i++) {
+            objectUnderTest.append(payloads("0123456789012345678901234567890123456789"), 0);
+        }
+        final List<Path> segmentFiles = segmentFiles();
+        assertTrue(Files.readAllLines(processMappings).stream().anyMatch(line -> line.contains(segmentFiles.get(0).toString())));
+
+        objectUnderTest.commit(read(objectUnderTest, 4).getStartPosition());
+
+        final List<String> mappings = Files.readAllLines(processMappings);
+        for (final Path deletedSegmentFile : segmentFiles.subList(0, 3)) {
+            assertFalse(mappings.stream().anyMatch(line -> line.contains(deletedSegmentFile.toString())));
+        }
+    }
+
+    @Test
+    void reopening_replays_frames_which_were_not_committed() throws Exception {
+        final SegmentedLog objectUnderTest = createObjectUnderTest();
+        objectUnderTest.append(payloads("a", "b"), 0);
+        objectUnderTest.commit(read(objectUnderTest, 1).getStartPosition());
+        read(objectUnderTest, 1);
+        objectUnderTest.append(payloads("c"), 0);
+
+        final SegmentedLog reopened = createObjectUnderTest();
+        final List<String> frames = read(reopened, 10).getPayloads().stream()
+                .map(bytes -> new String(bytes, StandardCharsets.UTF_8))
+                .collect(Collectors.toList());
+
+        assertThat(frames, equalTo(Arrays.asList("b", "c")));
+    }
+
+    @Test
+    void reopening_discards_a_corrupted_frame_and_everything_after_it() throws Exception {
+        final SegmentedLog objectUnderTest = createObjectUnderTest();
+        objectUnderTest.append(payloads("a", "b", "c"), 0);
+        final Path segmentFile = segmentFiles().get(0);
+        final byte[] bytes = Files.readAllBytes(segmentFile);
+        bytes[SegmentedLog.FRAME_HEADER_SIZE + 1 + SegmentedLog.FRAME_HEADER_SIZE] = 'x';
+        Files.write(segmentFile, bytes);
+
+        final SegmentedLog reopened = createObjectUnderTest();
+        final List<byte[]> frames = read(reopened, 10).getPayloads();
+
+        assertThat(frames.size(), equalTo(1));
+        reopened.append(payloads("d"), 0);
+        assertThat(new String(read(reopened, 10).getPayloads().get(0), StandardCharsets.UTF_8), equalTo("d"));
+    }
+
+    private static SegmentedLog.ReadResult read(final SegmentedLog segmentedLog, final int maxFrames) {
+        return segmentedLog.read(maxFrames, 0);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (final Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(SegmentedLog.SEGMENT_PREFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static List<byte[]> payloads(final String... values) {
+        return Arrays.stream(values)
+                .map(value -> value.getBytes(StandardCharsets.UTF_8))
+                .collect(Collectors.toList());
+    }
+}